@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.jmh;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.internal.synchronization.AuditProcess;
+import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
+import org.hibernate.envers.internal.synchronization.work.ModWorkUnit;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the queueing and merging of the work units of a transaction by {@link AuditProcess#addWorkUnit}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class AuditProcessBenchmark {
+	@Param({ "10", "1000" })
+	private int entities;
+
+	@Param({ "1", "5" })
+	private int updatesPerEntity;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private EnversService enversService;
+	private List<AuditWorkUnit> workUnits;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( Collections.emptyMap() );
+		enversService = BenchmarkSessionFactories.getEnversService( sessionFactory );
+		session = (SessionImplementor) sessionFactory.openSession();
+
+		final EntityPersister persister = sessionFactory.getMappingMetamodel()
+				.getEntityDescriptor( NarrowEntity.class );
+		final int nameIndex = persister.getPropertyIndex( "name" );
+		final int counterIndex = persister.getPropertyIndex( "counter" );
+
+		workUnits = new ArrayList<>( entities * updatesPerEntity );
+		for ( int update = 0; update < updatesPerEntity; update++ ) {
+			for ( long id = 1; id <= entities; id++ ) {
+				final Object[] oldState = new Object[persister.getPropertyNames().length];
+				oldState[nameIndex] = "name" + update;
+				oldState[counterIndex] = update;
+				final Object[] newState = new Object[oldState.length];
+				newState[nameIndex] = "name" + ( update + 1 );
+				newState[counterIndex] = update + 1;
+				workUnits.add(
+						new ModWorkUnit(
+								session,
+								persister.getEntityName(),
+								enversService,
+								id,
+								persister,
+								newState,
+								oldState
+						)
+				);
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public AuditProcess addWorkUnits() {
+		final AuditProcess auditProcess = new AuditProcess(
+				enversService.getConfig().getRevisionInfo().getRevisionInfoGenerator(),
+				session
+		);
+		for ( AuditWorkUnit workUnit : workUnits ) {
+			auditProcess.addWorkUnit( workUnit );
+		}
+		return auditProcess;
+	}
+}
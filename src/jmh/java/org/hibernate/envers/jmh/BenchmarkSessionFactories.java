@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.jmh;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+
+/**
+ * Builds the session factories of the benchmarks, each against its own embedded H2 database.
+ */
+final class BenchmarkSessionFactories {
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSessionFactories() {
+	}
+
+	static SessionFactoryImplementor build(Map<String, Object> settings) {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting(
+						AvailableSettings.JAKARTA_JDBC_URL,
+						"jdbc:h2:mem:envers_jmh_" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1"
+				)
+				.applySetting( AvailableSettings.JAKARTA_JDBC_USER, "sa" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, 50 )
+				.applySettings( settings )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( NarrowEntity.class )
+					.addAnnotatedClass( WideEntity.class )
+					.addAnnotatedClass( ParentEntity.class )
+					.addAnnotatedClass( ChildEntity.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	static EnversService getEnversService(SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getServiceRegistry().getService( EnversService.class );
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.jmh;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import org.hibernate.envers.Audited;
+
+/**
+ * An audited entity referenced by {@link ParentEntity}.
+ */
+@Entity
+@Audited
+public class ChildEntity {
+	@Id
+	@GeneratedValue
+	private Long id;
+
+	private String name;
+
+	public ChildEntity() {
+	}
+
+	public ChildEntity(String name) {
+		this.name = name;
+	}
+
+	public Long getId() {
+		return id;
+	}
+}
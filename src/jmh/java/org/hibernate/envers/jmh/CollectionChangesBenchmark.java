@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.jmh;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.internal.entities.mapper.ExtendedPropertyMapper;
+import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the computation of the changes of an audited collection, one element of which was replaced,
+ * depending on the size of the collection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class CollectionChangesBenchmark {
+	@Param({ "10", "100", "1000" })
+	private int size;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private ExtendedPropertyMapper propertyMapper;
+	private Long parentId;
+	private PersistentCollection<?> children;
+	private Serializable snapshot;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( Collections.emptyMap() );
+		propertyMapper = BenchmarkSessionFactories.getEnversService( sessionFactory )
+				.getEntitiesConfigurations()
+				.get( ParentEntity.class.getName() )
+				.getPropertyMapper();
+
+		final List<Long> childIds = new ArrayList<>( size + 1 );
+		sessionFactory.inTransaction( session -> {
+			final ParentEntity parent = new ParentEntity();
+			for ( int i = 0; i <= size; i++ ) {
+				final ChildEntity child = new ChildEntity( "child" + i );
+				session.persist( child );
+				childIds.add( child.getId() );
+				if ( i < size ) {
+					parent.getChildren().add( child );
+				}
+			}
+			session.persist( parent );
+			parentId = parent.getId();
+		} );
+
+		session = (SessionImplementor) sessionFactory.openSession();
+		final ParentEntity parent = session.find( ParentEntity.class, parentId );
+		children = (PersistentCollection<?>) parent.getChildren();
+		children.forceInitialization();
+		snapshot = children.getStoredSnapshot();
+
+		// replaces the first child with the child which is not in the collection
+		parent.getChildren().remove( session.find( ChildEntity.class, childIds.get( 0 ) ) );
+		parent.getChildren().add( session.find( ChildEntity.class, childIds.get( size ) ) );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<PersistentCollectionChangeData> mapCollectionChanges() {
+		return propertyMapper.mapCollectionChanges( session, "children", children, snapshot, parentId );
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.jmh;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.internal.entities.EntityInstantiator;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the creation of historical entity instances from audit rows already read from the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class EntityInstantiatorBenchmark {
+	@Param({ "NarrowEntity", "WideEntity" })
+	private String entity;
+
+	@Param({ "100" })
+	private int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private AuditReaderImplementor auditReader;
+	private EntityInstantiator entityInstantiator;
+	private String entityName;
+	private Number revision;
+	private List<Map<String, Object>> auditRows;
+
+	@Setup(Level.Trial)
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( Collections.emptyMap() );
+		final EnversService enversService = BenchmarkSessionFactories.getEnversService( sessionFactory );
+		final Configuration configuration = enversService.getConfig();
+
+		entityName = BenchmarkSessionFactories.class.getPackageName() + "." + entity;
+		sessionFactory.inTransaction( session -> {
+			for ( int i = 0; i < rows; i++ ) {
+				if ( "WideEntity".equals( entity ) ) {
+					final WideEntity wideEntity = new WideEntity();
+					wideEntity.setValues( "value" + i );
+					session.persist( wideEntity );
+				}
+				else {
+					final NarrowEntity narrowEntity = new NarrowEntity();
+					narrowEntity.setValues( "value" + i );
+					session.persist( narrowEntity );
+				}
+			}
+		} );
+
+		session = (SessionImplementor) sessionFactory.openSession();
+		auditReader = (AuditReaderImplementor) AuditReaderFactory.get( session );
+		entityInstantiator = new EntityInstantiator( enversService, auditReader );
+		revision = 1;
+		auditRows = session.createQuery(
+				"select e from " + configuration.getAuditEntityName( entityName ) + " e", Map.class
+		).getResultList().stream().map( row -> (Map<String, Object>) row ).toList();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void createInstances(Blackhole blackhole) {
+		// instances are cached per audit reader
+		auditReader.getFirstLevelCache().clear();
+		for ( Map<String, Object> auditRow : auditRows ) {
+			blackhole.consume( entityInstantiator.createInstanceFromVersionsEntity( entityName, auditRow, revision ) );
+		}
+	}
+}
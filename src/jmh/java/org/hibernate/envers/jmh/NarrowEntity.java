@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.jmh;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import org.hibernate.envers.Audited;
+
+/**
+ * An audited entity with two basic properties.
+ */
+@Entity
+@Audited
+public class NarrowEntity {
+	@Id
+	@GeneratedValue
+	private Long id;
+
+	private String name;
+
+	private int counter;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setValues(String prefix) {
+		name = prefix;
+		counter++;
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.jmh;
+
+import java.util.HashSet;
+import java.util.Set;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+
+import org.hibernate.envers.Audited;
+
+/**
+ * An audited entity owning a many-to-many set of {@link ChildEntity}.
+ */
+@Entity
+@Audited
+public class ParentEntity {
+	@Id
+	@GeneratedValue
+	private Long id;
+
+	@ManyToMany
+	private Set<ChildEntity> children = new HashSet<>();
+
+	public Long getId() {
+		return id;
+	}
+
+	public Set<ChildEntity> getChildren() {
+		return children;
+	}
+}
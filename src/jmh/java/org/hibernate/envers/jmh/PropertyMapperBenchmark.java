@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.jmh;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.internal.entities.EntityConfiguration;
+import org.hibernate.envers.internal.entities.mapper.ExtendedPropertyMapper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the mapping of the state of an updated entity to audit data, depending on the number of properties
+ * of the entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class PropertyMapperBenchmark {
+	@Param({ "NarrowEntity", "WideEntity" })
+	private String entity;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private EntityConfiguration entityConfiguration;
+	private ExtendedPropertyMapper propertyMapper;
+	private String[] propertyNames;
+	private Object[] oldState;
+	private Object[] newState;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( Collections.emptyMap() );
+		session = (SessionImplementor) sessionFactory.openSession();
+
+		final String entityName = BenchmarkSessionFactories.class.getPackageName() + "." + entity;
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( entityName );
+		entityConfiguration = BenchmarkSessionFactories.getEnversService( sessionFactory )
+				.getEntitiesConfigurations()
+				.get( entityName );
+		propertyMapper = entityConfiguration.getPropertyMapper();
+		propertyNames = persister.getPropertyNames();
+
+		oldState = new Object[propertyNames.length];
+		newState = new Object[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			oldState[i] = persister.getPropertyTypes()[i].getReturnedClass() == String.class ? "old" + i : i;
+			// only every other property changes
+			newState[i] = i % 2 == 0 ? oldState[i] : ( oldState[i] instanceof String ? "new" + i : i + 1 );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Map<String, Object> map() {
+		// the audit data of the work units
+		final Map<String, Object> data = entityConfiguration.newAuditData();
+		propertyMapper.map( session, data, propertyNames, newState, oldState );
+		return data;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.jmh;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.internal.tools.query.Parameters;
+import org.hibernate.envers.internal.tools.query.QueryBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the rendering of an audit query similar to the one used to read an entity at a revision.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class QueryBuilderBenchmark {
+	private SessionFactoryImplementor sessionFactory;
+	private Configuration configuration;
+	private String auditEntityName;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build( Collections.emptyMap() );
+		configuration = BenchmarkSessionFactories.getEnversService( sessionFactory ).getConfig();
+		auditEntityName = configuration.getAuditEntityName( WideEntity.class.getName() );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public String build() {
+		final String revisionNumberPath = configuration.getRevisionNumberPath();
+		final String originalIdPropertyName = configuration.getOriginalIdPropertyName();
+
+		final QueryBuilder queryBuilder = new QueryBuilder( auditEntityName, "e", sessionFactory );
+		final Parameters rootParameters = queryBuilder.getRootParameters();
+		rootParameters.addWhereWithParam( originalIdPropertyName + ".id", "=", 1L );
+		rootParameters.addWhereWithParam( configuration.getRevisionTypePropertyName(), "<>", 2 );
+
+		// the maximum revision at which the entity was modified, not after the given one
+		final QueryBuilder maxRevisionQuery = queryBuilder.newSubQueryBuilder( auditEntityName, "e2" );
+		maxRevisionQuery.addProjection( "max", "e2", revisionNumberPath, false );
+		final Parameters maxRevisionParameters = maxRevisionQuery.getRootParameters();
+		maxRevisionParameters.addWhereWithParam( "e2", revisionNumberPath, "<=", 10 );
+		maxRevisionParameters.addWhere( "e", originalIdPropertyName + ".id", "=", "e2", originalIdPropertyName + ".id" );
+		rootParameters.addWhere( "e", revisionNumberPath, "=", maxRevisionQuery );
+
+		final StringBuilder sb = new StringBuilder();
+		final Map<String, Object> queryParamValues = new HashMap<>();
+		queryBuilder.build( sb, queryParamValues );
+		return sb.toString();
+	}
+}
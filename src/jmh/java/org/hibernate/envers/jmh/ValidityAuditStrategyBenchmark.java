@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures transactions updating audited entities with the {@link ValidityAuditStrategy}, which closes the
+ * previous audit row of each entity by updating its revision end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class ValidityAuditStrategyBenchmark {
+	@Param({ "1", "100" })
+	private int entities;
+
+	@Param({ "false", "true" })
+	private boolean batchRevisionEndUpdates;
+
+	private SessionFactoryImplementor sessionFactory;
+	private List<Long> ids;
+	private int iteration;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactories.build(
+				Map.of(
+						EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName(),
+						EnversSettings.AUDIT_STRATEGY_VALIDITY_BATCH_REVEND_UPDATES, String.valueOf( batchRevisionEndUpdates )
+				)
+		);
+
+		ids = new ArrayList<>( entities );
+		sessionFactory.inTransaction( session -> {
+			for ( int i = 0; i < entities; i++ ) {
+				final NarrowEntity entity = new NarrowEntity();
+				entity.setValues( "initial" );
+				session.persist( entity );
+				ids.add( entity.getId() );
+			}
+		} );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void updateEntities() {
+		final String value = "update" + iteration++;
+		try (Session session = sessionFactory.openSession()) {
+			session.getTransaction().begin();
+			for ( Long id : ids ) {
+				session.find( NarrowEntity.class, id ).setValues( value );
+			}
+			session.getTransaction().commit();
+		}
+	}
+}
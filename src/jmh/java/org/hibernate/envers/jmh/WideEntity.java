@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.jmh;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+
+import org.hibernate.envers.Audited;
+
+/**
+ * An audited entity with twenty basic properties.
+ */
+@Entity
+@Audited
+public class WideEntity {
+	@Id
+	@GeneratedValue
+	private Long id;
+
+	private String field01;
+	private String field02;
+	private String field03;
+	private String field04;
+	private String field05;
+	private String field06;
+	private String field07;
+	private String field08;
+	private String field09;
+	private String field10;
+	private String field11;
+	private String field12;
+	private String field13;
+	private String field14;
+	private String field15;
+	private String field16;
+	private String field17;
+	private String field18;
+	private String field19;
+	private String field20;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setValues(String prefix) {
+		field01 = prefix + 1;
+		field02 = prefix + 2;
+		field03 = prefix + 3;
+		field04 = prefix + 4;
+		field05 = prefix + 5;
+		field06 = prefix + 6;
+		field07 = prefix + 7;
+		field08 = prefix + 8;
+		field09 = prefix + 9;
+		field10 = prefix + 10;
+		field11 = prefix + 11;
+		field12 = prefix + 12;
+		field13 = prefix + 13;
+		field14 = prefix + 14;
+		field15 = prefix + 15;
+		field16 = prefix + 16;
+		field17 = prefix + 17;
+		field18 = prefix + 18;
+		field19 = prefix + 19;
+		field20 = prefix + 20;
+	}
+}
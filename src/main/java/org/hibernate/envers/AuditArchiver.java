@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.archive.AuditArchive;
+
+/**
+ * Moves the audit rows of an entity whose validity ended at or before a given revision from its audit table to its
+ * archive table, so that the audit table only keeps the recent history.  Audit queries also read the archive table
+ * of an entity when the requested revisions may have been archived.
+ * <p>
+ * Archive tables are only mapped when {@link EnversSettings#ARCHIVE_TABLE_SUFFIX} is set, for the root entities
+ * without subclasses nor secondary tables audited with the {@code ValidityAuditStrategy}, and which are not the
+ * elements of an audited collection.  The rows of the collection tables are not archived.
+ * <p>
+ * The rows of the archive table are read by a query of their own, whose results are merged with those of the audit
+ * table.  Hence queries which are paged, ordered, aggregating, distinct or traverse relations fail with an
+ * {@link AuditException} when they would need the archive table.
+ *
+ * @since 7.1
+ */
+public class AuditArchiver {
+	private final SessionFactory sessionFactory;
+	private final AuditArchive auditArchive;
+
+	private AuditArchiver(SessionFactory sessionFactory, AuditArchive auditArchive) {
+		this.sessionFactory = sessionFactory;
+		this.auditArchive = auditArchive;
+	}
+
+	/**
+	 * @param sessionFactory The session factory of the audited entities.
+	 *
+	 * @return An archiver of the audit tables of the session factory.
+	 *
+	 * @throws AuditException If archiving is not enabled.
+	 */
+	public static AuditArchiver get(SessionFactory sessionFactory) throws AuditException {
+		final EnversService enversService = ( (SessionFactoryImplementor) sessionFactory ).getServiceRegistry()
+				.getService( EnversService.class );
+		final AuditArchive auditArchive = enversService.getAuditArchive();
+		if ( auditArchive == null ) {
+			throw new AuditException( "Archiving is not enabled, set " + EnversSettings.ARCHIVE_TABLE_SUFFIX );
+		}
+		return new AuditArchiver( sessionFactory, auditArchive );
+	}
+
+	/**
+	 * @param entityManagerFactory The entity manager factory of the audited entities.
+	 *
+	 * @return An archiver of the audit tables of the entity manager factory.
+	 *
+	 * @throws AuditException If archiving is not enabled.
+	 */
+	public static AuditArchiver get(EntityManagerFactory entityManagerFactory) throws AuditException {
+		return get( entityManagerFactory.unwrap( SessionFactory.class ) );
+	}
+
+	/**
+	 * Moves the audit rows of an entity whose validity ended at or before the given revision to its archive table.
+	 *
+	 * @param cls Class of the audited entity.
+	 * @param revision The highest revision end of the rows to move.
+	 *
+	 * @return The number of moved rows.
+	 *
+	 * @throws AuditException If the entity has no archive table.
+	 */
+	public long archive(Class<?> cls, Number revision) throws AuditException {
+		return archive( cls.getName(), revision );
+	}
+
+	/**
+	 * Moves the audit rows of an entity whose validity ended at or before the given revision to its archive table.
+	 *
+	 * @param entityName Name of the audited entity.
+	 * @param revision The highest revision end of the rows to move.
+	 *
+	 * @return The number of moved rows.
+	 *
+	 * @throws AuditException If the entity has no archive table.
+	 */
+	public long archive(String entityName, Number revision) throws AuditException {
+		return auditArchive.archive( sessionFactory, entityName, revision );
+	}
+}
@@ -370,4 +370,48 @@ public interface AuditReader {
 	 * </ul>
 	 */
 	CrossTypeRevisionChangesReader getCrossTypeRevisionChangesReader() throws AuditException;
+
+	/**
+	 * Clears the internal cache of entity instances this AuditReader has provided the caller.  Entities read
+	 * afterwards are new instances, even when read at the same revision, and the entity name of previously
+	 * provided instances can no longer be resolved using {@link #getEntityName(Object, Number, Object)}.
+	 * <p>
+	 * The size of the cache can also be bounded using {@code org.hibernate.envers.reader_cache_max_size}.
+	 * <p>
+	 * Does nothing by default, for readers which do not cache entity instances.
+	 *
+	 * @since 7.1
+	 */
+	default void clear() {
+	}
+
+	/**
+	 * @return The statistics of the internal cache of entity instances of this AuditReader.  By default, for
+	 * readers which do not cache entity instances, statistics of an empty cache which is never looked up.
+	 *
+	 * @since 7.1
+	 */
+	default AuditReaderCacheStatistics getCacheStatistics() {
+		return new AuditReaderCacheStatistics() {
+			@Override
+			public int getSize() {
+				return 0;
+			}
+
+			@Override
+			public long getHitCount() {
+				return 0;
+			}
+
+			@Override
+			public long getMissCount() {
+				return 0;
+			}
+
+			@Override
+			public long getEvictionCount() {
+				return 0;
+			}
+		};
+	}
 }
@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers;
+
+/**
+ * Statistics of the cache of historic entity instances maintained by an {@link AuditReader}.
+ *
+ * @since 7.1
+ */
+public interface AuditReaderCacheStatistics {
+	/**
+	 * @return The number of entity instances currently cached.
+	 */
+	int getSize();
+
+	/**
+	 * @return The number of lookups that found a cached entity instance.
+	 */
+	long getHitCount();
+
+	/**
+	 * @return The number of lookups that did not find a cached entity instance.
+	 */
+	long getMissCount();
+
+	/**
+	 * @return The number of entity instances evicted because the cache reached its maximum size.
+	 */
+	long getEvictionCount();
+}
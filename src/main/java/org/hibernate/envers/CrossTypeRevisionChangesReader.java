@@ -48,11 +48,8 @@ public interface CrossTypeRevisionChangesReader {
 
 	/**
 	 * Find all entities changed (added, updated and removed) in a given revision grouped by modification type.
-	 * Executes <i>mn+1</i> SQL queries, where:
-	 * <ul>
-	 * <li><i>n</i> - number of different entity classes modified within specified revision.
-	 * <li><i>m</i> - number of different revision types. See {@link RevisionType} enum.
-	 * </ul>
+	 * Executes <i>n+1</i> SQL queries, where <i>n</i> is a number of different entity classes modified within
+	 * specified revision.
 	 *
 	 * @param revision Revision number.
 	 *
@@ -65,6 +62,26 @@ public interface CrossTypeRevisionChangesReader {
 			throws IllegalStateException,
 			IllegalArgumentException;
 
+	/**
+	 * Find all entities changed (added, updated and removed) in a given range of revisions, grouped by revision and
+	 * modification type. Executes <i>n+1</i> SQL queries, where <i>n</i> is a number of different entity classes
+	 * modified within specified revisions.
+	 *
+	 * @param fromRevision First revision number of the range, inclusive.
+	 * @param toRevision Last revision number of the range, inclusive.
+	 *
+	 * @return Map containing, in ascending revision number order, the entity snapshots of each revision grouped by
+	 * modification operation (e.g. addition, update, removal).
+	 *
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 * @throws IllegalArgumentException If a revision number is {@code null}, less or equal to 0, or if the first
+	 * revision number is greater than the last one.
+	 *
+	 * @since 7.1
+	 */
+	Map<Number, Map<RevisionType, List<Object>>> findEntitiesGroupByRevisionType(Number fromRevision, Number toRevision)
+			throws IllegalStateException, IllegalArgumentException;
+
 	/**
 	 * Returns set of entity names and corresponding Java classes modified in a given revision.
 	 *
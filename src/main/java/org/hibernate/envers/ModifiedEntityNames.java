@@ -11,7 +11,12 @@ import java.lang.annotation.Target;
 
 /**
  * Marks a property which holds entity names that have been modified during each revision.
- * This annotation expects field of <code>{@literal Set<String>}</code> type.
+ * This annotation expects field of <code>{@literal Set<String>}</code> type, usually mapped as an element collection.
+ * <p>
+ * A field of {@code String} type may be annotated instead, in which case the modified entity names are stored in a
+ * single column of the revision entity, as the comma separated list of stable identifiers of the modified entity
+ * types.  The column should be long enough for the identifiers of all the entity types a revision may modify,
+ * each of them taking up to 8 characters.
  *
  * @author Lukasz Antoniak (lukasz dot antoniak at gmail dot com)
  */
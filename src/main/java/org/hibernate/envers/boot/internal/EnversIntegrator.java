@@ -5,6 +5,8 @@
 package org.hibernate.envers.boot.internal;
 
 import org.hibernate.HibernateException;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.engine.config.spi.ConfigurationService;
@@ -18,6 +20,7 @@ import org.hibernate.envers.event.spi.EnversPostUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionRemoveEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreUpdateEventListenerImpl;
+import org.hibernate.envers.internal.synchronization.writebehind.AuditWriteBehindQueue;
 import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
@@ -114,10 +117,40 @@ public class EnversIntegrator implements Integrator {
 					new EnversPreCollectionUpdateEventListenerImpl( enversService )
 			);
 		}
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Compile the state mappings of the audited entities, once their persisters exist
+		sessionFactory.addObserver( new SessionFactoryObserver() {
+			@Override
+			public void sessionFactoryCreated(SessionFactory factory) {
+				enversService.getEntitiesConfigurations().compileStateMappings(
+						( (SessionFactoryImplementor) factory ).getMappingMetamodel()
+				);
+			}
+		} );
+
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Start the audit write-behind writer, if enabled, once sessions can be opened to replay the journal
+		final AuditWriteBehindQueue writeBehindQueue = enversService.getAuditProcessManager().getWriteBehindQueue();
+		if ( writeBehindQueue != null ) {
+			sessionFactory.addObserver( new SessionFactoryObserver() {
+				@Override
+				public void sessionFactoryCreated(SessionFactory factory) {
+					writeBehindQueue.start( (SessionFactoryImplementor) factory );
+				}
+			} );
+		}
 	}
 
 	@Override
 	public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+		final EnversService enversService = serviceRegistry.getService( EnversService.class );
+		if ( enversService != null && enversService.isInitialized() ) {
+			final AuditWriteBehindQueue writeBehindQueue = enversService.getAuditProcessManager().getWriteBehindQueue();
+			if ( writeBehindQueue != null ) {
+				writeBehindQueue.stop();
+			}
+		}
 		ReflectionTools.reset();
 	}
 }
@@ -9,11 +9,14 @@ import org.hibernate.boot.spi.EffectiveMappingDefaults;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.configuration.internal.MappingCollector;
+import org.hibernate.envers.internal.archive.AuditArchive;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
+import org.hibernate.envers.internal.revisioninfo.RevisionTimeline;
 import org.hibernate.envers.internal.synchronization.AuditProcessManager;
+import org.hibernate.envers.internal.tools.query.QueryPlanCache;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.service.Service;
 import org.hibernate.service.ServiceRegistry;
@@ -71,6 +74,27 @@ public interface EnversService extends Service {
 
 	ModifiedEntityNamesReader getModifiedEntityNamesReader();
 
+	/**
+	 * @return The plans of the prepared audit queries.
+	 *
+	 * @since 7.1
+	 */
+	QueryPlanCache getQueryPlanCache();
+
+	/**
+	 * @return The in-memory revision timeline, or {@code null} if it is not enabled.
+	 *
+	 * @since 7.1
+	 */
+	RevisionTimeline getRevisionTimeline();
+
+	/**
+	 * @return The archive tables of the audited entities, or {@code null} if archiving is not enabled.
+	 *
+	 * @since 7.1
+	 */
+	AuditArchive getAuditArchive();
+
 	ClassLoaderService getClassLoaderService();
 
 	ServiceRegistry getServiceRegistry();
@@ -12,18 +12,24 @@ import org.hibernate.boot.spi.EffectiveMappingDefaults;
 import org.hibernate.boot.spi.InFlightMetadataCollector;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.envers.boot.EnversMappingException;
 import org.hibernate.envers.boot.spi.EnversMetadataBuildingContext;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.configuration.internal.EntitiesConfigurator;
 import org.hibernate.envers.configuration.internal.MappingCollector;
+import org.hibernate.envers.internal.archive.AuditArchive;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
 import org.hibernate.envers.internal.entities.PropertyData;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
+import org.hibernate.envers.internal.revisioninfo.RevisionTimeline;
 import org.hibernate.envers.internal.synchronization.AuditProcessManager;
+import org.hibernate.envers.internal.synchronization.writebehind.AuditWriteBehindQueue;
 import org.hibernate.envers.internal.tools.ReflectionTools;
+import org.hibernate.envers.internal.tools.query.QueryPlanCache;
 import org.hibernate.envers.strategy.AuditStrategy;
+import org.hibernate.envers.strategy.internal.DefaultAuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.property.access.spi.Getter;
@@ -59,6 +65,8 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 	private Configuration configuration;
 	private AuditProcessManager auditProcessManager;
 	private EntitiesConfigurations entitiesConfigurations;
+	private AuditArchive auditArchive;
+	private QueryPlanCache queryPlanCache;
 
 	@Override
 	public void configure(Map<String, Object> configurationValues) {
@@ -105,7 +113,13 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		properties.putAll( cfgService.getSettings() );
 
 		this.configuration = new Configuration( properties, this, metadataCollector );
-		this.auditProcessManager = new AuditProcessManager( configuration.getRevisionInfo().getRevisionInfoGenerator() );
+		this.queryPlanCache = new QueryPlanCache( configuration.getQueryPlanCacheMaxSize() );
+		this.auditProcessManager = new AuditProcessManager(
+				configuration.getRevisionInfo().getRevisionInfoGenerator(),
+				resolveWriteBehindQueue( configuration, classLoaderService ),
+				resolveStatelessAuditWriter( configuration ),
+				configuration.getRevisionInfo().getRevisionTimeline()
+		);
 
 		final EnversMetadataBuildingContext metadataBuildingContext = new EnversMetadataBuildingContextImpl(
 				configuration,
@@ -131,6 +145,9 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		);
 
 		this.entitiesConfigurations = new EntitiesConfigurator().configure( metadataBuildingContext );
+		if ( configuration.isArchiveEnabled() ) {
+			this.auditArchive = new AuditArchive( configuration, entitiesConfigurations );
+		}
 	}
 
 	@Override
@@ -190,6 +207,30 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		return configuration.getRevisionInfo().getModifiedEntityNamesReader();
 	}
 
+	@Override
+	public QueryPlanCache getQueryPlanCache() {
+		if ( !initialized ) {
+			throw new IllegalStateException( "Service is not yet initialized" );
+		}
+		return queryPlanCache;
+	}
+
+	@Override
+	public RevisionTimeline getRevisionTimeline() {
+		if ( !initialized ) {
+			throw new IllegalStateException( "Service is not yet initialized" );
+		}
+		return configuration.getRevisionInfo().getRevisionTimeline();
+	}
+
+	@Override
+	public AuditArchive getAuditArchive() {
+		if ( !initialized ) {
+			throw new IllegalStateException( "Service is not yet initialized" );
+		}
+		return auditArchive;
+	}
+
 	@Override
 	public ClassLoaderService getClassLoaderService() {
 		if ( !initialized ) {
@@ -206,6 +247,34 @@ public class EnversServiceImpl implements EnversService, Configurable, Stoppable
 		return serviceRegistry;
 	}
 
+	private static AuditWriteBehindQueue resolveWriteBehindQueue(
+			Configuration configuration,
+			ClassLoaderService classLoaderService) {
+		if ( !configuration.isWriteBehindEnabled() ) {
+			return null;
+		}
+		if ( !( configuration.getAuditStrategy() instanceof DefaultAuditStrategy ) ) {
+			throw new EnversMappingException(
+					"Audit write-behind is only supported with the default audit strategy, found: "
+							+ configuration.getAuditStrategyName()
+			);
+		}
+		return new AuditWriteBehindQueue( configuration, classLoaderService );
+	}
+
+	private static boolean resolveStatelessAuditWriter(Configuration configuration) {
+		if ( !configuration.isStatelessAuditWriterEnabled() ) {
+			return false;
+		}
+		if ( !( configuration.getAuditStrategy() instanceof DefaultAuditStrategy ) ) {
+			throw new EnversMappingException(
+					"The stateless audit writer is only supported with the default audit strategy, found: "
+							+ configuration.getAuditStrategyName()
+			);
+		}
+		return true;
+	}
+
 	@Override
 	public void stop() {
 		// anything to release?
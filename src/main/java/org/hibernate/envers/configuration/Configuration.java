@@ -35,6 +35,9 @@ public class Configuration {
 
 	private static final String OPERATOR_IN = "in";
 	private static final String OPERATOR_EQUALS = "=";
+	private static final String SUBQUERY_MODE_CORRELATED = "correlated";
+	private static final String SUBQUERY_MODE_GROUPED = "grouped";
+	private static final String SUBQUERY_MODE_AUTO = "auto";
 
 	private static final String DEFAULT_PREFIX = "";
 	private static final String DEFAULT_SUFFIX = "_AUD";
@@ -46,6 +49,13 @@ public class Configuration {
 	private static final String DEFAULT_REVEND_FIELD = "REVEND";
 	private static final String DEFAULT_REV_TSTMP_FIELD = "REVEND_TSTMP";
 	private static final String DEFAULT_SETORDINAL_FIELD = "SETORDINAL";
+	private static final int DEFAULT_WRITE_BEHIND_QUEUE_CAPACITY = 10000;
+	private static final int DEFAULT_WRITE_BEHIND_BATCH_SIZE = 100;
+	private static final long DEFAULT_WRITE_BEHIND_OFFER_TIMEOUT = 30000L;
+	private static final int DEFAULT_ARCHIVE_BATCH_SIZE = 1000;
+	private static final long DEFAULT_ARCHIVE_REFRESH_INTERVAL = 60000L;
+	private static final long DEFAULT_REVISION_TIMELINE_GAP_TIMEOUT = 60000L;
+	private static final int DEFAULT_QUERY_PLAN_CACHE_MAX_SIZE = 1000;
 
 	private final EnversService enversService;
 
@@ -53,6 +63,7 @@ public class Configuration {
 	private final String defaultSchemaName;
 	private final String modifiedFlagsSuffix;
 	private final String correlatedSubqueryOperator;
+	private final boolean groupedAtRevisionSubqueryEnabled;
 
 	private final Class<? extends RevisionListener> revisionListenerClass;
 
@@ -87,8 +98,27 @@ public class Configuration {
 	private final boolean revisionEndTimestampEnabled;
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
+	private final boolean revisionEndUpdateBatchingEnabled;
 	private final boolean revisionSequenceNoCache;
 
+	private final boolean writeBehindEnabled;
+	private final int writeBehindQueueCapacity;
+	private final int writeBehindBatchSize;
+	private final long writeBehindOfferTimeout;
+	private final String writeBehindJournalDirectory;
+	private final boolean statelessAuditWriterEnabled;
+	private final int readerCacheMaxSize;
+	private final int toOneBatchFetchSize;
+	private final int collectionBatchFetchSize;
+	private final boolean revisionTimelineEnabled;
+	private final long revisionTimelineRefreshInterval;
+	private final long revisionTimelineGapTimeout;
+	private final String archiveTableSuffix;
+	private final int archiveBatchSize;
+	private final long archiveRefreshInterval;
+	private final int metadataGenerationThreads;
+	private final int queryPlanCacheMaxSize;
+
 	private final Map<String, String> customAuditTableNames = new HashMap<>();
 
 	private final RevisionInfoConfiguration revisionInfo;
@@ -102,6 +132,7 @@ public class Configuration {
 		defaultSchemaName = configProps.getString( EnversSettings.DEFAULT_SCHEMA );
 
 		correlatedSubqueryOperator = resolveCorrelatedSubqueryOperator( properties );
+		groupedAtRevisionSubqueryEnabled = resolveGroupedAtRevisionSubqueryEnabled( configProps, metadata );
 
 		modifiedFlagsSuffix = configProps.getString( EnversSettings.MODIFIED_FLAG_SUFFIX, DEFAULT_MODIFIED_FLAG_SUFFIX );
 
@@ -168,6 +199,11 @@ public class Configuration {
 			revisionEndTimestampUseLegacyPlacement = true;
 		}
 
+		revisionEndUpdateBatchingEnabled = configProps.getBoolean(
+				EnversSettings.AUDIT_STRATEGY_VALIDITY_BATCH_REVEND_UPDATES,
+				false
+		);
+
 		embeddableSetOrdinalPropertyName = configProps.getString(
 				EnversSettings.EMBEDDABLE_SET_ORDINAL_FIELD_NAME,
 				DEFAULT_SETORDINAL_FIELD
@@ -177,6 +213,24 @@ public class Configuration {
 				false
 		);
 
+		writeBehindEnabled = configProps.getBoolean( EnversSettings.WRITE_BEHIND_ENABLED, false );
+		writeBehindQueueCapacity = configProps.getInt( EnversSettings.WRITE_BEHIND_QUEUE_CAPACITY, DEFAULT_WRITE_BEHIND_QUEUE_CAPACITY );
+		writeBehindBatchSize = configProps.getInt( EnversSettings.WRITE_BEHIND_BATCH_SIZE, DEFAULT_WRITE_BEHIND_BATCH_SIZE );
+		writeBehindOfferTimeout = configProps.getLong( EnversSettings.WRITE_BEHIND_OFFER_TIMEOUT, DEFAULT_WRITE_BEHIND_OFFER_TIMEOUT );
+		writeBehindJournalDirectory = configProps.getString( EnversSettings.WRITE_BEHIND_JOURNAL_DIRECTORY );
+		statelessAuditWriterEnabled = configProps.getBoolean( EnversSettings.USE_STATELESS_AUDIT_WRITER, false );
+		readerCacheMaxSize = configProps.getInt( EnversSettings.READER_CACHE_MAX_SIZE, 0 );
+		toOneBatchFetchSize = configProps.getInt( EnversSettings.TO_ONE_BATCH_FETCH_SIZE, 1 );
+		collectionBatchFetchSize = configProps.getInt( EnversSettings.COLLECTION_BATCH_FETCH_SIZE, 1 );
+		revisionTimelineEnabled = configProps.getBoolean( EnversSettings.REVISION_TIMELINE_ENABLED, false );
+		revisionTimelineRefreshInterval = configProps.getLong( EnversSettings.REVISION_TIMELINE_REFRESH_INTERVAL, 0L );
+		revisionTimelineGapTimeout = configProps.getLong( EnversSettings.REVISION_TIMELINE_GAP_TIMEOUT, DEFAULT_REVISION_TIMELINE_GAP_TIMEOUT );
+		archiveTableSuffix = configProps.getString( EnversSettings.ARCHIVE_TABLE_SUFFIX );
+		archiveBatchSize = configProps.getInt( EnversSettings.ARCHIVE_BATCH_SIZE, DEFAULT_ARCHIVE_BATCH_SIZE );
+		archiveRefreshInterval = configProps.getLong( EnversSettings.ARCHIVE_REFRESH_INTERVAL, DEFAULT_ARCHIVE_REFRESH_INTERVAL );
+		metadataGenerationThreads = configProps.getInt( EnversSettings.METADATA_GENERATION_THREADS, 1 );
+		queryPlanCacheMaxSize = configProps.getInt( EnversSettings.QUERY_PLAN_CACHE_MAX_SIZE, DEFAULT_QUERY_PLAN_CACHE_MAX_SIZE );
+
 		revisionPropertyBasePath = originalIdPropertyName + "." + revisionFieldName + ".";
 		revisionNumberPath = revisionPropertyBasePath + "id";
 
@@ -243,10 +297,86 @@ public class Configuration {
 		return revisionEndTimestampUseLegacyPlacement;
 	}
 
+	public boolean isRevisionEndUpdateBatchingEnabled() {
+		return revisionEndUpdateBatchingEnabled;
+	}
+
 	public boolean isRevisionSequenceNoCache() {
 		return revisionSequenceNoCache;
 	}
 
+	public boolean isWriteBehindEnabled() {
+		return writeBehindEnabled;
+	}
+
+	public int getWriteBehindQueueCapacity() {
+		return writeBehindQueueCapacity;
+	}
+
+	public int getWriteBehindBatchSize() {
+		return writeBehindBatchSize;
+	}
+
+	public long getWriteBehindOfferTimeout() {
+		return writeBehindOfferTimeout;
+	}
+
+	public String getWriteBehindJournalDirectory() {
+		return writeBehindJournalDirectory;
+	}
+
+	public boolean isStatelessAuditWriterEnabled() {
+		return statelessAuditWriterEnabled;
+	}
+
+	public int getReaderCacheMaxSize() {
+		return readerCacheMaxSize;
+	}
+
+	public int getToOneBatchFetchSize() {
+		return toOneBatchFetchSize;
+	}
+
+	public int getCollectionBatchFetchSize() {
+		return collectionBatchFetchSize;
+	}
+
+	public boolean isRevisionTimelineEnabled() {
+		return revisionTimelineEnabled;
+	}
+
+	public long getRevisionTimelineRefreshInterval() {
+		return revisionTimelineRefreshInterval;
+	}
+
+	public long getRevisionTimelineGapTimeout() {
+		return revisionTimelineGapTimeout;
+	}
+
+	public boolean isArchiveEnabled() {
+		return !StringTools.isEmpty( archiveTableSuffix );
+	}
+
+	public String getArchiveTableSuffix() {
+		return archiveTableSuffix;
+	}
+
+	public int getArchiveBatchSize() {
+		return archiveBatchSize;
+	}
+
+	public long getArchiveRefreshInterval() {
+		return archiveRefreshInterval;
+	}
+
+	public int getMetadataGenerationThreads() {
+		return metadataGenerationThreads;
+	}
+
+	public int getQueryPlanCacheMaxSize() {
+		return queryPlanCacheMaxSize;
+	}
+
 	public String getDefaultCatalogName() {
 		return defaultCatalogName;
 	}
@@ -259,6 +389,14 @@ public class Configuration {
 		return correlatedSubqueryOperator;
 	}
 
+	/**
+	 * @return Whether the highest revision of each entity at a revision is read by a single subquery grouped by
+	 * identifier, instead of a subquery correlated to each row.
+	 */
+	public boolean isGroupedAtRevisionSubqueryEnabled() {
+		return groupedAtRevisionSubqueryEnabled;
+	}
+
 	public String getModifiedFlagsSuffix() {
 		return modifiedFlagsSuffix;
 	}
@@ -367,6 +505,24 @@ public class Configuration {
 		return enversService;
 	}
 
+	private static boolean resolveGroupedAtRevisionSubqueryEnabled(
+			ConfigurationProperties configProps,
+			InFlightMetadataCollector metadata) {
+		final String mode = configProps.getString( EnversSettings.AT_REVISION_SUBQUERY_MODE, SUBQUERY_MODE_CORRELATED );
+		switch ( mode ) {
+			case SUBQUERY_MODE_CORRELATED:
+				return false;
+			case SUBQUERY_MODE_GROUPED:
+				return true;
+			case SUBQUERY_MODE_AUTO:
+				return metadata.getDatabase().getDialect().supportsRowValueConstructorSyntaxInInSubQuery();
+			default:
+				throw new EnversMappingException(
+						"Unknown value [" + mode + "] of setting " + EnversSettings.AT_REVISION_SUBQUERY_MODE
+				);
+		}
+	}
+
 	private static String resolveCorrelatedSubqueryOperator(Properties properties) {
 		if ( HSQLDialect.class.getName().equals( properties.get( Environment.DIALECT ) ) ) {
 			return OPERATOR_IN;
@@ -430,6 +586,14 @@ public class Configuration {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
+		long getLong(String propertyName, long defaultValue) {
+			return ConfigurationHelper.getLong( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
@@ -128,6 +128,17 @@ public interface EnversSettings {
 	 */
 	String AUDIT_STRATEGY_VALIDITY_REVEND_TIMESTAMP_LEGACY_PLACEMENT = "org.hibernate.envers.audit_strategy_validity_revend_timestamp_legacy_placement";
 
+	/**
+	 * Whether the validity audit strategy should collect all revision end updates of a transaction and
+	 * execute them as JDBC batches, one batch per audit table, rather than issuing one update statement
+	 * per audited entity.  The batch size is controlled by {@value org.hibernate.cfg.AvailableSettings#STATEMENT_BATCH_SIZE}.
+	 *
+	 * Defaults to {@code false}.
+	 *
+	 * @since 7.1
+	 */
+	String AUDIT_STRATEGY_VALIDITY_BATCH_REVEND_UPDATES = "org.hibernate.envers.audit_strategy_validity_batch_revend_updates";
+
 	/**
 	 * Name of column used for storing ordinal of the change in sets of embeddable elements. Defaults to {@literal SETORDINAL}.
 	 */
@@ -184,6 +195,195 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * Whether audit data should be written behind the business transaction.  When enabled, the audit rows of a
+	 * transaction are handed to a bounded queue on commit and written by a dedicated writer thread, in batches,
+	 * through a separate {@link org.hibernate.StatelessSession}.  Only supported with the default audit strategy.
+	 *
+	 * Defaults to {@code false}.
+	 *
+	 * @since 7.1
+	 */
+	String WRITE_BEHIND_ENABLED = "org.hibernate.envers.write_behind_enabled";
+
+	/**
+	 * The maximum number of committed revisions waiting to be written when write-behind is enabled.
+	 * Defaults to {@literal 10000}.
+	 *
+	 * @since 7.1
+	 */
+	String WRITE_BEHIND_QUEUE_CAPACITY = "org.hibernate.envers.write_behind_queue_capacity";
+
+	/**
+	 * The maximum number of revisions written by the write-behind writer in a single transaction.
+	 * Defaults to {@literal 100}.
+	 *
+	 * @since 7.1
+	 */
+	String WRITE_BEHIND_BATCH_SIZE = "org.hibernate.envers.write_behind_batch_size";
+
+	/**
+	 * The maximum number of milliseconds a committing transaction waits for room in a full write-behind queue.
+	 * Once elapsed, the revision is given up, and kept aside in the journal as failed if a journal directory is
+	 * specified, and an {@link org.hibernate.envers.exception.AuditException} is thrown after the commit of the
+	 * transaction: writing the revision right away would give it a number before the revisions still queued.
+	 * Defaults to {@literal 30000}.
+	 *
+	 * @since 7.1
+	 */
+	String WRITE_BEHIND_OFFER_TIMEOUT = "org.hibernate.envers.write_behind_offer_timeout";
+
+	/**
+	 * Directory of the local journal in which revisions are stored until they have been written by the
+	 * write-behind writer, and from which they are replayed once the session factory has been created, before
+	 * the revisions committed since.  Revisions are journaled before the business transaction completes, marked
+	 * as committed once it has, and stored along with their revision number before they are committed by the
+	 * writer, so that a revision replayed after a stop between its commit and its removal from the journal is
+	 * not written twice.  Revisions of transactions which did not complete before a stop are not replayed, and
+	 * are kept with the {@code .unconfirmed} suffix; revisions which could not be written are kept with the
+	 * {@code .failed} suffix.  When not specified, queued revisions are lost if the application stops abnormally.
+	 *
+	 * @since 7.1
+	 */
+	String WRITE_BEHIND_JOURNAL_DIRECTORY = "org.hibernate.envers.write_behind_journal_directory";
+
+	/**
+	 * Whether audit rows should be inserted through a {@link org.hibernate.StatelessSession} sharing the
+	 * connection of the audited session, rather than persisted in the audited session itself.  Audit rows
+	 * then never enter the persistence context.  Only supported by the default audit strategy.
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 7.1
+	 */
+	String USE_STATELESS_AUDIT_WRITER = "org.hibernate.envers.use_stateless_audit_writer";
+
+	/**
+	 * The maximum number of historic entity instances cached by each {@link org.hibernate.envers.AuditReader}.
+	 * Once reached, the least recently used instances are evicted.  Defaults to {@literal 0}, meaning that the
+	 * cache is unbounded.
+	 *
+	 * @since 7.1
+	 */
+	String READER_CACHE_MAX_SIZE = "org.hibernate.envers.reader_cache_max_size";
+
+	/**
+	 * The maximum number of historic entities referenced through audited *-to-one associations that are loaded
+	 * together, when the first of their proxies is initialized.  Only entities with a basic identifier are loaded
+	 * in batches.  Defaults to {@literal 1}, meaning that each proxy is loaded on its own.
+	 *
+	 * @since 7.1
+	 */
+	String TO_ONE_BATCH_FETCH_SIZE = "org.hibernate.envers.to_one_batch_fetch_size";
+
+	/**
+	 * The maximum number of historic collections of the same role and revision that are initialized together,
+	 * when the first of them is accessed.  Only collections whose owner has a basic identifier are initialized
+	 * in batches.  Defaults to {@literal 1}, meaning that each collection is initialized on its own.
+	 *
+	 * @since 7.1
+	 */
+	String COLLECTION_BATCH_FETCH_SIZE = "org.hibernate.envers.collection_batch_fetch_size";
+
+	/**
+	 * Whether the revision numbers and timestamps should be kept in memory, shared by all the audit readers of
+	 * the session factory, to resolve revision dates and the revision numbers for dates without querying the
+	 * revision table.  Defaults to {@literal false}.
+	 *
+	 * @since 7.1
+	 */
+	String REVISION_TIMELINE_ENABLED = "org.hibernate.envers.revision_timeline_enabled";
+
+	/**
+	 * The minimum number of milliseconds between two reads of the revisions committed by other nodes into the
+	 * in-memory revision timeline, which happen when a lookup cannot be answered from the timeline.  Revisions
+	 * committed through the session factory itself are always known.  Defaults to {@literal 0}, meaning that
+	 * the revision table is read on each such lookup.
+	 *
+	 * @since 7.1
+	 */
+	String REVISION_TIMELINE_REFRESH_INTERVAL = "org.hibernate.envers.revision_timeline_refresh_interval";
+
+	/**
+	 * The number of milliseconds after which a revision number missing from the in-memory revision timeline, left
+	 * by a rolled back transaction or a transaction still running on another node, is no longer expected to be
+	 * committed.  Until then, the revision numbers for dates after the missing revision are read from the revision
+	 * table.  A revision committed after its gap timed out is still read into the timeline on the following reads
+	 * of the revisions committed by other nodes.  Defaults to {@literal 60000}.
+	 *
+	 * @since 7.1
+	 */
+	String REVISION_TIMELINE_GAP_TIMEOUT = "org.hibernate.envers.revision_timeline_gap_timeout";
+
+	/**
+	 * How the {@code DefaultAuditStrategy} selects the audit rows of the entities at a revision:
+	 * <ul>
+	 *     <li>{@literal correlated}: compares the revision of each row to the highest revision of the same entity,
+	 *     read by a subquery correlated to the row.</li>
+	 *     <li>{@literal grouped}: selects the rows whose identifier and revision are among the highest revision of
+	 *     each entity, read once by a subquery grouping the audit table by identifier.  Requires the database to
+	 *     support tuples in {@code in} subqueries, and only applies to entities with a single identifier column.</li>
+	 *     <li>{@literal auto}: {@literal grouped} when the dialect supports tuples in {@code in} subqueries,
+	 *     {@literal correlated} otherwise.</li>
+	 * </ul>
+	 * Defaults to {@literal correlated}.
+	 * <p>
+	 * The grouped subquery only applies to the queries of entities at a revision which are not restricted by
+	 * identifier: finding an entity and loading relations, which read few entities, always use the correlated
+	 * subquery.
+	 *
+	 * @since 7.1
+	 */
+	String AT_REVISION_SUBQUERY_MODE = "org.hibernate.envers.at_revision_subquery_mode";
+
+	/**
+	 * The suffix appended to the audit entity and table names of the archive tables, which hold the audit rows
+	 * moved out of the audit tables by {@link org.hibernate.envers.AuditArchiver}.  Only the root entities
+	 * without subclasses nor secondary tables audited with the {@code ValidityAuditStrategy}, and which are not the
+	 * elements of an audited collection, get an archive table.  When not set, which is the default, no archive table
+	 * is mapped.
+	 * <p>
+	 * The audit queries which may read archived rows read the union of the rows of both tables, to which their
+	 * orders, paging and projections apply.
+	 *
+	 * @since 7.1
+	 */
+	String ARCHIVE_TABLE_SUFFIX = "org.hibernate.envers.archive_table_suffix";
+
+	/**
+	 * The maximum number of audit rows moved to an archive table in a single transaction.  Defaults to
+	 * {@literal 1000}.
+	 *
+	 * @since 7.1
+	 */
+	String ARCHIVE_BATCH_SIZE = "org.hibernate.envers.archive_batch_size";
+
+	/**
+	 * The minimum number of milliseconds between two reads of the highest revision archived by other nodes,
+	 * which decides whether the queries of an entity also read its archive table.  Rows archived through the
+	 * session factory itself are always known.  Defaults to {@literal 60000}.
+	 *
+	 * @since 7.1
+	 */
+	String ARCHIVE_REFRESH_INTERVAL = "org.hibernate.envers.archive_refresh_interval";
+
+	/**
+	 * The number of threads generating the first pass of the audit mappings at boot.  The entity hierarchies are
+	 * distributed between the threads, each hierarchy being generated by a single thread from its root entity down.
+	 * Defaults to {@literal 1}, meaning that all the mappings are generated by the booting thread.
+	 *
+	 * @since 7.1
+	 */
+	String METADATA_GENERATION_THREADS = "org.hibernate.envers.metadata_generation_threads";
+
+	/**
+	 * The maximum number of plans of prepared audit queries kept by a session factory, a plan being kept per name
+	 * and shape of prepared query.  Once reached, the plans of new names or shapes are rendered on each execution
+	 * instead of being kept.  Defaults to {@literal 1000}.
+	 *
+	 * @since 7.1
+	 */
+	String QUERY_PLAN_CACHE_MAX_SIZE = "org.hibernate.envers.query_plan_cache_max_size";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
@@ -4,12 +4,23 @@
  */
 package org.hibernate.envers.configuration.internal;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.hibernate.boot.jaxb.hbm.spi.JaxbHbmHibernateMapping;
+import org.hibernate.boot.jaxb.hbm.spi.JaxbHbmRootEntityType;
 import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.envers.boot.EnversMappingException;
 import org.hibernate.envers.boot.model.PersistentEntity;
 import org.hibernate.envers.boot.spi.EnversMetadataBuildingContext;
 import org.hibernate.envers.configuration.Configuration;
@@ -18,8 +29,12 @@ import org.hibernate.envers.configuration.internal.metadata.EntityMappingData;
 import org.hibernate.envers.configuration.internal.metadata.reader.AnnotationsMetadataReader;
 import org.hibernate.envers.configuration.internal.metadata.reader.ClassAuditingData;
 import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.entities.EntityConfiguration;
+import org.hibernate.envers.internal.entities.RelationDescription;
+import org.hibernate.envers.internal.entities.RelationType;
 import org.hibernate.envers.internal.tools.StringTools;
 import org.hibernate.envers.internal.tools.graph.GraphTopologicalSort;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
 import org.hibernate.mapping.PersistentClass;
 
 
@@ -60,21 +75,15 @@ public class EntitiesConfigurator {
 		// First pass
 		final Map<PersistentClass, EntityMappingData> mappings = new HashMap<>();
 		for ( ClassAuditingData auditData : classesAuditingData.getAllClassAuditedData() ) {
-			final EntityMappingData mappingData = new EntityMappingData();
 			final PersistentClass persistentClass = auditData.getPersistentClass();
-			if ( auditData.isAudited() ) {
-				if ( !StringTools.isEmpty( auditData.getAuditTable().value() ) ) {
-					final String entityName = persistentClass.getEntityName();
-					final String auditTableName = auditData.getAuditTable().value();
-					configuration.addCustomAuditTableName( entityName, auditTableName );
-				}
-				auditMetaGen.generateFirstPass( auditData, mappingData, true );
-			}
-			else {
-				auditMetaGen.generateFirstPass( auditData, mappingData, false );
+			if ( auditData.isAudited() && !StringTools.isEmpty( auditData.getAuditTable().value() ) ) {
+				final String entityName = persistentClass.getEntityName();
+				final String auditTableName = auditData.getAuditTable().value();
+				configuration.addCustomAuditTableName( entityName, auditTableName );
 			}
-			mappings.put( persistentClass, mappingData );
+			mappings.put( persistentClass, new EntityMappingData() );
 		}
+		generateFirstPass( configuration, auditMetaGen, classesAuditingData, mappings );
 
 		// Second pass
 		for ( ClassAuditingData auditingData : classesAuditingData.getAllClassAuditedData() ) {
@@ -91,6 +100,18 @@ public class EntitiesConfigurator {
 			}
 		}
 
+		// Archive tables, once the relations of all entities are known
+		final Set<String> collectionElementEntityNames = getCollectionElementEntityNames( auditMetaGen );
+		for ( ClassAuditingData auditingData : classesAuditingData.getAllClassAuditedData() ) {
+			final PersistentClass persistentClass = auditingData.getPersistentClass();
+			final EntityMappingData mappingData = mappings.get( persistentClass );
+			if ( auditingData.isAudited()
+					&& !collectionElementEntityNames.contains( persistentClass.getEntityName() )
+					&& isArchivable( configuration, persistentClass, mappingData ) ) {
+				addArchiveMapping( metadataBuildingContext, auditMetaGen, auditingData, mappingData );
+			}
+		}
+
 		// Only if there are any versioned classes
 		if ( !auditMetaGen.getAuditedEntityConfigurations().isEmpty() ) {
 			final PersistentEntity revisionInfoMapping = configuration.getRevisionInfo().getRevisionInfoMapping();
@@ -108,4 +129,132 @@ public class EntitiesConfigurator {
 				auditMetaGen.getNotAuditedEntityConfigurations()
 		);
 	}
+
+	private void generateFirstPass(
+			Configuration configuration,
+			AuditMetadataGenerator auditMetaGen,
+			ClassesAuditingData classesAuditingData,
+			Map<PersistentClass, EntityMappingData> mappings) {
+		// The first pass of a subclass reads the configuration of its superclass, so that each hierarchy is
+		// generated by a single thread, in the topological order of its classes.  Otherwise, the first pass only
+		// reads the boot model and the auditing data, both complete by now, writes to the mapping data of its own
+		// classes, the map of which is not modified anymore, and registers the entity configurations, audit entity
+		// names and joins into concurrent registries.  Relations between hierarchies are only resolved by the
+		// second pass, once all the first passes are done.
+		final Map<String, List<ClassAuditingData>> hierarchies = new LinkedHashMap<>();
+		if ( configuration.getMetadataGenerationThreads() > 1 ) {
+			for ( ClassAuditingData auditData : classesAuditingData.getAllClassAuditedData() ) {
+				hierarchies.computeIfAbsent(
+						auditData.getPersistentClass().getRootClass().getEntityName(),
+						k -> new ArrayList<>()
+				).add( auditData );
+			}
+		}
+
+		if ( hierarchies.size() <= 1 ) {
+			for ( ClassAuditingData auditData : classesAuditingData.getAllClassAuditedData() ) {
+				generateFirstPass( auditMetaGen, auditData, mappings );
+			}
+			return;
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min( configuration.getMetadataGenerationThreads(), hierarchies.size() )
+		);
+		try {
+			final List<Future<?>> hierarchyFirstPasses = new ArrayList<>( hierarchies.size() );
+			for ( List<ClassAuditingData> hierarchy : hierarchies.values() ) {
+				hierarchyFirstPasses.add( executor.submit( () -> {
+					for ( ClassAuditingData auditData : hierarchy ) {
+						generateFirstPass( auditMetaGen, auditData, mappings );
+					}
+				} ) );
+			}
+			for ( Future<?> hierarchyFirstPass : hierarchyFirstPasses ) {
+				hierarchyFirstPass.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new EnversMappingException( "Interrupted while generating the audit mappings", e );
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new EnversMappingException( e.getCause() );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void generateFirstPass(
+			AuditMetadataGenerator auditMetaGen,
+			ClassAuditingData auditData,
+			Map<PersistentClass, EntityMappingData> mappings) {
+		auditMetaGen.generateFirstPass( auditData, mappings.get( auditData.getPersistentClass() ), auditData.isAudited() );
+	}
+
+	private boolean isArchivable(Configuration configuration, PersistentClass persistentClass, EntityMappingData mappingData) {
+		// archived rows are only read back by the queries of the validity strategy, whose rows are all closed
+		return configuration.isArchiveEnabled()
+				&& configuration.getAuditStrategy() instanceof ValidityAuditStrategy
+				&& mappingData.isRootEntity()
+				&& !persistentClass.hasSubclasses()
+				&& mappingData.getMapping().getClazz().get( 0 ).getJoin().isEmpty();
+	}
+
+	/**
+	 * @return The names of the entities read as the elements of audited collections.  The collection initializors
+	 * read the audit tables of their elements directly, which therefore cannot be archived.
+	 */
+	private static Set<String> getCollectionElementEntityNames(AuditMetadataGenerator auditMetaGen) {
+		final Set<String> entityNames = new HashSet<>();
+		for ( EntityConfiguration entityConfiguration : auditMetaGen.getAuditedEntityConfigurations().values() ) {
+			for ( RelationDescription relation : entityConfiguration.getRelationDescriptions() ) {
+				if ( relation.getRelationType() == RelationType.TO_MANY_NOT_OWNING
+						|| relation.getRelationType() == RelationType.TO_MANY_MIDDLE
+						|| relation.getRelationType() == RelationType.TO_MANY_MIDDLE_NOT_OWNING ) {
+					entityNames.add( relation.getToEntityName() );
+				}
+			}
+		}
+		return entityNames;
+	}
+
+	/**
+	 * Maps the archive table of an entity, a copy of its audit table with the archive suffix.
+	 */
+	private void addArchiveMapping(
+			EnversMetadataBuildingContext metadataBuildingContext,
+			AuditMetadataGenerator auditMetaGen,
+			ClassAuditingData auditingData,
+			EntityMappingData mappingData) {
+		final Configuration configuration = metadataBuildingContext.getConfiguration();
+		final String suffix = configuration.getArchiveTableSuffix();
+
+		final EntityMappingData archiveMappingData = new EntityMappingData();
+		archiveMappingData.addMapping( mappingData.getEntityDefinition() );
+		archiveMappingData.build();
+
+		final JaxbHbmRootEntityType archiveEntity = archiveMappingData.getMapping().getClazz().get( 0 );
+		final String archiveEntityName = archiveEntity.getEntityName() + suffix;
+		archiveEntity.setName( null );
+		archiveEntity.setEntityName( archiveEntityName );
+		archiveEntity.setTable( appendSuffix( archiveEntity.getTable(), suffix ) );
+
+		metadataBuildingContext.getMappingCollector().addDocument( archiveMappingData.getMapping() );
+
+		auditMetaGen.getAuditedEntityConfigurations()
+				.get( auditingData.getPersistentClass().getEntityName() )
+				.setArchiveEntityName( archiveEntityName );
+	}
+
+	private static String appendSuffix(String tableName, String suffix) {
+		if ( tableName.endsWith( "`" ) ) {
+			return tableName.substring( 0, tableName.length() - 1 ) + suffix + "`";
+		}
+		return tableName + suffix;
+	}
 }
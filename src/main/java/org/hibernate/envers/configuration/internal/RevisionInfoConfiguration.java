@@ -6,7 +6,9 @@ package org.hibernate.envers.configuration.internal;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import jakarta.persistence.Column;
@@ -36,11 +38,14 @@ import org.hibernate.envers.internal.entities.PropertyData;
 import org.hibernate.envers.internal.entities.RevisionTimestampData;
 import org.hibernate.envers.internal.revisioninfo.DefaultRevisionInfoGenerator;
 import org.hibernate.envers.internal.revisioninfo.DefaultTrackingModifiedEntitiesRevisionInfoGenerator;
+import org.hibernate.envers.internal.revisioninfo.EntityTypeIdRegistry;
 import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoQueryCreator;
+import org.hibernate.envers.internal.revisioninfo.RevisionTimeline;
 import org.hibernate.envers.internal.revisioninfo.RevisionTimestampValueResolver;
+import org.hibernate.envers.internal.tools.ReflectionTools;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Property;
 import org.hibernate.models.spi.ClassDetails;
@@ -71,6 +76,7 @@ public class RevisionInfoConfiguration {
 	private final RevisionInfoNumberReader revisionInfoNumberReader;
 	private final RevisionInfoQueryCreator revisionInfoQueryCreator;
 	private final ModifiedEntityNamesReader modifiedEntityNamesReader;
+	private final RevisionTimeline revisionTimeline;
 	private final String revisionInfoEntityName;
 	private final PropertyData revisionInfoTimestampData;
 	private final String revisionInfoTimestampTypeName;
@@ -108,19 +114,41 @@ public class RevisionInfoConfiguration {
 		revisionInfoQueryCreator = new RevisionInfoQueryCreator(
 				resolver.revisionInfoEntityName,
 				resolver.revisionInfoIdData.getName(),
-				resolver.timestampValueResolver
+				resolver.timestampValueResolver,
+				resolver.modifiedEntityNamesData.getName(),
+				resolver.entityTypeIdRegistry != null
 		);
 
 		if ( configuration.isTrackEntitiesChanged() ) {
 			modifiedEntityNamesReader = new ModifiedEntityNamesReader(
 					resolver.revisionInfoClass,
 					resolver.modifiedEntityNamesData,
+					resolver.entityTypeIdRegistry,
 					metadata.getMetadataBuildingOptions().getServiceRegistry()
 			);
 		}
 		else {
 			modifiedEntityNamesReader = null;
 		}
+
+		if ( configuration.isRevisionTimelineEnabled() ) {
+			revisionTimeline = new RevisionTimeline(
+					resolver.revisionInfoEntityName,
+					resolver.revisionInfoIdData.getName(),
+					resolver.revisionInfoTimestampData.getName(),
+					ReflectionTools.getGetter(
+							resolver.revisionInfoClass,
+							resolver.revisionInfoTimestampData,
+							metadata.getMetadataBuildingOptions().getServiceRegistry()
+					),
+					revisionInfoNumberReader,
+					configuration.getRevisionTimelineRefreshInterval(),
+					configuration.getRevisionTimelineGapTimeout()
+			);
+		}
+		else {
+			revisionTimeline = null;
+		}
 	}
 
 	public String getRevisionInfoEntityName() {
@@ -155,6 +183,13 @@ public class RevisionInfoConfiguration {
 		return modifiedEntityNamesReader;
 	}
 
+	/**
+	 * @return The in-memory revision timeline, or {@code null} if it is not enabled.
+	 */
+	public RevisionTimeline getRevisionTimeline() {
+		return revisionTimeline;
+	}
+
 	public RootPersistentEntity getRevisionInfoMapping() {
 		return useDefaultRevisionInfoMapping ? generateDefaultRevisionInfoMapping( revisionInfoIdName ) : null;
 	}
@@ -268,6 +303,8 @@ public class RevisionInfoConfiguration {
 		private boolean revisionNumberFound;
 		private boolean revisionTimestampFound;
 		private boolean modifiedEntityNamesFound;
+		private boolean modifiedEntityNamesEncoded;
+		private EntityTypeIdRegistry entityTypeIdRegistry;
 		private String revisionInfoEntityName;
 		private Class<?> revisionInfoClass;
 		private Class<? extends RevisionListener> revisionListenerClass;
@@ -351,12 +388,16 @@ public class RevisionInfoConfiguration {
 				if ( useEntityTrackingRevisionEntity( revisionInfoClass ) ) {
 					// If tracking modified entities is enabled, custom revision info entity is a subtype
 					// of DefaultTrackingModifiedEntitiesRevisionEntity class or @ModifiedEntityNames was used
+					if ( modifiedEntityNamesEncoded ) {
+						entityTypeIdRegistry = createEntityTypeIdRegistry();
+					}
 					revisionInfoGenerator = new DefaultTrackingModifiedEntitiesRevisionInfoGenerator(
 							revisionInfoEntityName,
 							revisionInfoClass,
 							revisionListenerClass,
 							timestampValueResolver,
 							modifiedEntityNamesData,
+							entityTypeIdRegistry,
 							metadata.getMetadataBuildingOptions().getServiceRegistry()
 					);
 					configuration.setTrackEntitiesChanged( true );
@@ -514,8 +555,23 @@ public class RevisionInfoConfiguration {
 					return;
 				}
 			}
+			else if ( isAnyType( type, String.class ) ) {
+				// the modified entity names are encoded into a single column of the revision entity
+				modifiedEntityNamesData = createPropertyData( memberDetails, accessType );
+				modifiedEntityNamesFound = true;
+				modifiedEntityNamesEncoded = true;
+				return;
+			}
+
+			throwUnexpectedAnnotatedType( memberDetails, ModifiedEntityNames.class, "Set<String> or String" );
+		}
 
-			throwUnexpectedAnnotatedType( memberDetails, ModifiedEntityNames.class, "Set<String>" );
+		private EntityTypeIdRegistry createEntityTypeIdRegistry() {
+			final List<String> entityNames = new ArrayList<>();
+			for ( PersistentClass persistentClass : metadata.getEntityBindings() ) {
+				entityNames.add( persistentClass.getEntityName() );
+			}
+			return new EntityTypeIdRegistry( entityNames );
 		}
 
 		private PropertyData createPropertyData(MemberDetails memberDetails, String accessType) {
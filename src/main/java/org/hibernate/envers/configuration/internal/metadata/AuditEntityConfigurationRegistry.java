@@ -5,8 +5,8 @@
 package org.hibernate.envers.configuration.internal.metadata;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.envers.internal.entities.EntityConfiguration;
 
@@ -17,8 +17,9 @@ import org.hibernate.envers.internal.entities.EntityConfiguration;
  */
 public class AuditEntityConfigurationRegistry {
 
-	private final Map<String, EntityConfiguration> auditedEntityConfigurations = new HashMap<>();
-	private final Map<String, EntityConfiguration> notAuditedEntityConfigurations = new HashMap<>();
+	// concurrent, as the first pass of the entity hierarchies may be generated by several threads
+	private final Map<String, EntityConfiguration> auditedEntityConfigurations = new ConcurrentHashMap<>();
+	private final Map<String, EntityConfiguration> notAuditedEntityConfigurations = new ConcurrentHashMap<>();
 
 	public Map<String, EntityConfiguration> getAuditedEntityConfigurations() {
 		return Collections.unmodifiableMap( auditedEntityConfigurations );
@@ -4,8 +4,8 @@
  */
 package org.hibernate.envers.configuration.internal.metadata;
 
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.envers.boot.EnversMappingException;
 
@@ -15,7 +15,7 @@ import org.hibernate.envers.boot.EnversMappingException;
  * @author Adam Warski (adam at warski dot org)
  */
 public class AuditEntityNameRegister {
-	private final Set<String> auditEntityNames = new HashSet<>();
+	private final Set<String> auditEntityNames = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * @param auditEntityName Name of the audit entity.
@@ -32,11 +32,9 @@ public class AuditEntityNameRegister {
 	 * @param auditEntityName Name of the audit entity.
 	 */
 	public void register(String auditEntityName) {
-		if ( auditEntityNames.contains( auditEntityName ) ) {
+		if ( !auditEntityNames.add( auditEntityName ) ) {
 			throw new EnversMappingException( "The audit entity name '" + auditEntityName + "' is already registered." );
 		}
-
-		auditEntityNames.add( auditEntityName );
 	}
 
 	/**
@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.envers.AuditTable;
 import org.hibernate.envers.boot.EnversMappingException;
@@ -77,7 +78,7 @@ public final class AuditMetadataGenerator extends AbstractMetadataGenerator {
 
 		this.entityInstantiator = new PersistentEntityInstantiator( configuration );
 
-		entityJoins = new HashMap<>();
+		entityJoins = new ConcurrentHashMap<>();
 	}
 
 	private void addProperties(
@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.archive;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.entities.EntityConfiguration;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Moves the audit rows whose validity ended at or before a revision from the audit tables to the archive tables,
+ * and keeps track, per archive table, of the highest revision up to which rows may have been archived, so that
+ * queries only read the archive table of an entity when archived rows may be part of their results.
+ * <p>
+ * The rows are moved in batches, each batch being inserted into the archive table and deleted from the audit
+ * table in its own transaction.  The archived revision of a table is read from the database at most once per
+ * refresh interval, and raised before rows are moved through this session factory.
+ */
+public class AuditArchive {
+	private static final Logger log = Logger.getLogger( AuditArchive.class );
+
+	private static final String ARCHIVED_REVISION_QUERY = "select max(e.%s.id) from %s e";
+	private static final String CLOSED_ROWS_QUERY = "select e from %s e where e.%s.id <= :revision";
+	private static final String CLOSED_ROWS_QUERY_PARAMETER = "revision";
+	private static final String TYPE_KEY = "$type$";
+
+	private final Configuration configuration;
+	private final EntitiesConfigurations entitiesConfigurations;
+	private final Map<String, ArchivedRevision> archivedRevisions = new ConcurrentHashMap<>();
+
+	public AuditArchive(Configuration configuration, EntitiesConfigurations entitiesConfigurations) {
+		this.configuration = configuration;
+		this.entitiesConfigurations = entitiesConfigurations;
+	}
+
+	/**
+	 * Moves the audit rows of an entity whose validity ended at or before the given revision to its archive table.
+	 *
+	 * @param sessionFactory The session factory used to open the stateless sessions moving the rows.
+	 * @param entityName The name of the audited entity.
+	 * @param revision The highest revision end of the rows to move.
+	 *
+	 * @return The number of moved rows.
+	 *
+	 * @throws AuditException If the entity has no archive table.
+	 */
+	public long archive(SessionFactory sessionFactory, String entityName, Number revision) {
+		final String archiveEntityName = getArchiveEntityName( entityName );
+		if ( archiveEntityName == null ) {
+			throw new AuditException( "Entity [" + entityName + "] has no archive table" );
+		}
+
+		final String auditEntityName = configuration.getAuditEntityName( entityName );
+		final String closedRowsQuery = String.format(
+				Locale.ENGLISH,
+				CLOSED_ROWS_QUERY,
+				auditEntityName,
+				configuration.getRevisionEndFieldName()
+		);
+		final int batchSize = configuration.getArchiveBatchSize();
+
+		// the rows are readable from the archive table as soon as the first batch is committed
+		raiseArchivedRevision( archiveEntityName, revision );
+
+		long archivedRows = 0;
+		int batchRows;
+		do {
+			try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+				session.setJdbcBatchSize( batchSize );
+				final Transaction transaction = session.beginTransaction();
+				try {
+					final List<Map> rows = session.createSelectionQuery( closedRowsQuery, Map.class )
+							.setParameter( CLOSED_ROWS_QUERY_PARAMETER, revision )
+							.setMaxResults( batchSize )
+							.getResultList();
+					for ( Map<String, Object> row : rows ) {
+						final Map<String, Object> archivedRow = new HashMap<>( row );
+						archivedRow.put( TYPE_KEY, archiveEntityName );
+						session.insert( archiveEntityName, archivedRow );
+						session.delete( auditEntityName, row );
+					}
+					transaction.commit();
+					batchRows = rows.size();
+				}
+				catch (RuntimeException e) {
+					transaction.rollback();
+					throw e;
+				}
+			}
+			archivedRows += batchRows;
+		} while ( batchRows == batchSize );
+
+		log.debugf( "Archived %s audit rows of entity %s up to revision %s", archivedRows, entityName, revision );
+		return archivedRows;
+	}
+
+	/**
+	 * @param entityName The name of the audited entity.
+	 *
+	 * @return The name of the entity mapping the archive table of the entity, or {@code null} if it has none.
+	 */
+	public String getArchiveEntityName(String entityName) {
+		final EntityConfiguration entityConfiguration = entitiesConfigurations.get( entityName );
+		return entityConfiguration == null ? null : entityConfiguration.getArchiveEntityName();
+	}
+
+	/**
+	 * @param session The session used to read the archive table.
+	 * @param archiveEntityName The name of the entity mapping the archive table.
+	 *
+	 * @return The highest revision end of the archived rows, or {@code null} if no row is archived.
+	 */
+	public Number getArchivedRevision(Session session, String archiveEntityName) {
+		final ArchivedRevision archivedRevision = archivedRevisions.get( archiveEntityName );
+		final long now = System.currentTimeMillis();
+		if ( archivedRevision != null && now - archivedRevision.readTime < configuration.getArchiveRefreshInterval() ) {
+			return archivedRevision.revision;
+		}
+
+		final Number revision = session.createSelectionQuery(
+				String.format(
+						Locale.ENGLISH,
+						ARCHIVED_REVISION_QUERY,
+						configuration.getRevisionEndFieldName(),
+						archiveEntityName
+				),
+				Number.class
+		).getSingleResult();
+		archivedRevisions.merge(
+				archiveEntityName,
+				new ArchivedRevision( revision, now ),
+				(current, read) -> new ArchivedRevision( max( current.revision, read.revision ), read.readTime )
+		);
+		return archivedRevisions.get( archiveEntityName ).revision;
+	}
+
+	private void raiseArchivedRevision(String archiveEntityName, Number revision) {
+		archivedRevisions.merge(
+				archiveEntityName,
+				new ArchivedRevision( revision, 0L ),
+				(current, raised) -> new ArchivedRevision( max( current.revision, raised.revision ), current.readTime )
+		);
+	}
+
+	private static Number max(Number revision1, Number revision2) {
+		if ( revision1 == null ) {
+			return revision2;
+		}
+		if ( revision2 == null ) {
+			return revision1;
+		}
+		return revision1.longValue() >= revision2.longValue() ? revision1 : revision2;
+	}
+
+	private static class ArchivedRevision {
+		private final Number revision;
+		private final long readTime;
+
+		private ArchivedRevision(Number revision, long readTime) {
+			this.revision = revision;
+			this.readTime = readTime;
+		}
+	}
+}
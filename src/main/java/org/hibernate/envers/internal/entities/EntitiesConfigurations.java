@@ -11,6 +11,10 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.ComponentType;
+
 /**
  * Configuration of the user entities: property mapping of the entities, relations, inheritance.
  *
@@ -88,6 +92,38 @@ public class EntitiesConfigurations {
 		return entitiesConfigurations.size() != 0;
 	}
 
+	/**
+	 * Compiles the mapping of the state of each audited entity to its property mappers, so that the state of
+	 * the entities is mapped without resolving the mappers by property name, and registers the keys of the
+	 * audit data of each audited entity.
+	 *
+	 * @param mappingMetamodel The mapping metamodel holding the entity persisters.
+	 */
+	public void compileStateMappings(MappingMetamodel mappingMetamodel) {
+		for ( Map.Entry<String, EntityConfiguration> entry : entitiesConfigurations.entrySet() ) {
+			final EntityConfiguration entityConfiguration = entry.getValue();
+			final EntityPersister persister = mappingMetamodel.findEntityDescriptor( entry.getKey() );
+			if ( persister != null ) {
+				entityConfiguration.getPropertyMapper().compileStateMapping( persister.getPropertyNames() );
+			}
+
+			final EntityPersister auditPersister = mappingMetamodel.findEntityDescriptor(
+					entityConfiguration.getVersionsEntityName()
+			);
+			if ( auditPersister != null ) {
+				// The $type$ property holds the name of the (versions) entity
+				entityConfiguration.getAuditDataSchema().addKeys( "$type$" );
+				if ( auditPersister.getIdentifierPropertyName() != null ) {
+					entityConfiguration.getAuditDataSchema().addKeys( auditPersister.getIdentifierPropertyName() );
+				}
+				entityConfiguration.getAuditDataSchema().addKeys( auditPersister.getPropertyNames() );
+				if ( auditPersister.getIdentifierType() instanceof ComponentType originalIdType ) {
+					entityConfiguration.getOriginalIdSchema().addKeys( originalIdType.getPropertyNames() );
+				}
+			}
+		}
+	}
+
 	public RelationDescription getRelationDescription(String entityName, String propertyName) {
 		final EntityConfiguration entCfg;
 		if ( isVersioned( entityName ) ) {
@@ -12,6 +12,7 @@ import org.hibernate.envers.internal.entities.mapper.ExtendedPropertyMapper;
 import org.hibernate.envers.internal.entities.mapper.PropertyMapper;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
+import org.hibernate.envers.internal.tools.AuditDataSchema;
 
 /**
  * Runtime representation of an entity that may or may not be audited.
@@ -32,6 +33,9 @@ public class EntityConfiguration {
 	private final Map<String, RelationDescription> relations;
 	private final Map<String, ComponentDescription> components;
 	private final String parentEntityName;
+	private final AuditDataSchema auditDataSchema = new AuditDataSchema();
+	private final AuditDataSchema originalIdSchema = new AuditDataSchema();
+	private String archiveEntityName;
 
 	public EntityConfiguration(
 			String versionsEntityName,
@@ -187,6 +191,10 @@ public class EntityConfiguration {
 		return relations.get( propertyName );
 	}
 
+	public Iterable<RelationDescription> getRelationDescriptions() {
+		return relations.values();
+	}
+
 	public ComponentDescription getComponentDescription(String propertyName) {
 		return components.get( propertyName );
 	}
@@ -207,6 +215,32 @@ public class EntityConfiguration {
 		return parentEntityName;
 	}
 
+	/**
+	 * @return A new, empty map for the data of an audit row of the entity.
+	 */
+	public Map<String, Object> newAuditData() {
+		return auditDataSchema.newDataMap();
+	}
+
+	/**
+	 * @return A new, empty map for the identifier of an audit row of the entity.
+	 */
+	public Map<String, Object> newAuditOriginalId() {
+		return originalIdSchema.newDataMap();
+	}
+
+	/**
+	 * @return The name of the entity mapping the archive table of the entity, or {@code null} if the entity has
+	 * no archive table.
+	 */
+	public String getArchiveEntityName() {
+		return archiveEntityName;
+	}
+
+	public void setArchiveEntityName(String archiveEntityName) {
+		this.archiveEntityName = archiveEntityName;
+	}
+
 	/**
 	 * @return the className for the configured entity
 	 */
@@ -223,4 +257,12 @@ public class EntityConfiguration {
 	Iterable<RelationDescription> getRelationsIterator() {
 		return relations.values();
 	}
+
+	AuditDataSchema getAuditDataSchema() {
+		return auditDataSchema;
+	}
+
+	AuditDataSchema getOriginalIdSchema() {
+		return originalIdSchema;
+	}
 }
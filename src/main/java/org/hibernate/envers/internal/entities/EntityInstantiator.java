@@ -43,6 +43,26 @@ public class EntityInstantiator {
 	 *         created for collections.
 	 */
 	public Object createInstanceFromVersionsEntity(String entityName, Map versionsEntity, Number revision) {
+		return createInstanceFromVersionsEntity( entityName, versionsEntity, revision, true );
+	}
+
+	/**
+	 * Creates an entity instance based on an entry from the versions table.
+	 *
+	 * @param entityName Name of the entity, which instances should be read
+	 * @param versionsEntity An entry in the versions table, from which data should be mapped.
+	 * @param revision Revision at which this entity was read.
+	 * @param retain Whether a newly created instance should be retained by the first level cache of the reader.
+	 * Instances that are not retained are only cached while their properties are mapped.
+	 *
+	 * @return An entity instance, with versioned properties set as in the versionsEntity map, and proxies
+	 *         created for collections.
+	 */
+	public Object createInstanceFromVersionsEntity(
+			String entityName,
+			Map versionsEntity,
+			Number revision,
+			boolean retain) {
 		if ( versionsEntity == null ) {
 			return null;
 		}
@@ -67,8 +87,9 @@ public class EntityInstantiator {
 		final Object primaryKey = idMapper.mapToIdFromMap( originalId );
 
 		// Checking if the entity is in cache
-		if ( versionsReader.getFirstLevelCache().contains( entityName, revision, primaryKey ) ) {
-			return versionsReader.getFirstLevelCache().get( entityName, revision, primaryKey );
+		final Object cached = versionsReader.getFirstLevelCache().get( entityName, revision, primaryKey );
+		if ( cached != null ) {
+			return cached;
 		}
 
 		// If it is not in the cache, creating a new entity instance
@@ -93,6 +114,11 @@ public class EntityInstantiator {
 		);
 		idMapper.mapToEntityFromMap( ret, originalId );
 
+		if ( !retain ) {
+			versionsReader.getFirstLevelCache().remove( entityName, revision, primaryKey );
+			return ret;
+		}
+
 		// Put entity on entityName cache after mapping it from the map representation
 		versionsReader.getFirstLevelCache().putOnEntityNameCache( primaryKey, revision, ret, entityName );
 
@@ -5,6 +5,7 @@
 package org.hibernate.envers.internal.entities.mapper;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -262,6 +263,11 @@ public class ComponentPropertyMapper extends AbstractPropertyMapper implements C
 		return delegate.getProperties();
 	}
 
+	@Override
+	public void addAuditPropertyNames(Collection<String> auditPropertyNames) {
+		delegate.addAuditPropertyNames( auditPropertyNames );
+	}
+
 	@Override
 	public boolean hasPropertiesWithModifiedFlag() {
 		return delegate.hasPropertiesWithModifiedFlag();
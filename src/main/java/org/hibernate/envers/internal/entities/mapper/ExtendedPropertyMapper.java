@@ -18,4 +18,11 @@ public interface ExtendedPropertyMapper extends PropertyMapper, CompositeMapperB
 			String[] propertyNames,
 			Object[] newState,
 			Object[] oldState);
+
+	/**
+	 * Resolves, ahead of the first call to {@link #map}, the mapper of each index of the state of an entity.
+	 *
+	 * @param propertyNames The property names of the entity persister, as passed to {@link #map}.
+	 */
+	void compileStateMapping(String[] propertyNames);
 }
@@ -67,29 +67,6 @@ public class MultiDynamicComponentMapper extends MultiPropertyMapper {
 		return ( (Map) newObj ).get( propertyData.getBeanName() );
 	}
 
-	@Override
-	public boolean map(
-			SessionImplementor session,
-			Map<String, Object> data,
-			String[] propertyNames,
-			Object[] newState,
-			Object[] oldState) {
-		boolean ret = false;
-		for ( int i = 0; i < propertyNames.length; i++ ) {
-			final String propertyName = propertyNames[i];
-			Map<String, PropertyData> propertyDatas = getPropertyDatas();
-			if ( propertyDatas.containsKey( propertyName ) ) {
-				final PropertyMapper propertyMapper = properties.get( propertyDatas.get( propertyName ) );
-				final Object newObj = getAtIndexOrNull( newState, i );
-				final Object oldObj = getAtIndexOrNull( oldState, i );
-				ret |= propertyMapper.mapToMapFromEntity( session, data, newObj, oldObj );
-				propertyMapper.mapModifiedFlagsToMapFromEntity( session, data, newObj, oldObj );
-			}
-		}
-
-		return ret;
-	}
-
 	@Override
 	public void mapModifiedFlagsToMapFromEntity(
 			SessionImplementor session,
@@ -5,8 +5,13 @@
 package org.hibernate.envers.internal.entities.mapper;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -27,9 +32,18 @@ import org.hibernate.property.access.spi.Getter;
  * @author Chris Cranford
  */
 public class MultiPropertyMapper extends AbstractPropertyMapper implements ExtendedPropertyMapper {
+	// the number of distinct property name arrays, one per persister, whose mapping is kept
+	private static final int MAX_STATE_MAPPINGS = 16;
+	// the number of entity classes, one per subclass or proxy class, whose accessors are kept
+	private static final int MAX_ENTITY_ACCESSORS = 16;
+
 	protected final Map<PropertyData, PropertyMapper> properties;
 	private final Map<String, PropertyData> propertyDatas;
 
+	// compiled once all the properties have been added, on first use or at session factory creation
+	private volatile StateMapping[] stateMappings = new StateMapping[0];
+	private final ConcurrentMap<Class<?>, EntityAccessors> entityAccessors = new ConcurrentHashMap<>();
+
 	public MultiPropertyMapper() {
 		properties = Tools.newLinkedHashMap();
 		propertyDatas = Tools.newLinkedHashMap();
@@ -79,12 +93,11 @@ public class MultiPropertyMapper extends AbstractPropertyMapper implements Exten
 			String[] propertyNames,
 			Object[] newState,
 			Object[] oldState) {
+		final PropertyMapper[] mappers = getStateMapping( propertyNames );
 		boolean ret = false;
-		for ( int i = 0; i < propertyNames.length; i++ ) {
-			final String propertyName = propertyNames[i];
-
-			if ( propertyDatas.containsKey( propertyName ) ) {
-				final PropertyMapper propertyMapper = properties.get( propertyDatas.get( propertyName ) );
+		for ( int i = 0; i < mappers.length; i++ ) {
+			final PropertyMapper propertyMapper = mappers[i];
+			if ( propertyMapper != null ) {
 				final Object newObj = getAtIndexOrNull( newState, i );
 				final Object oldObj = getAtIndexOrNull( oldState, i );
 				ret |= propertyMapper.mapToMapFromEntity( session, data, newObj, oldObj );
@@ -95,42 +108,70 @@ public class MultiPropertyMapper extends AbstractPropertyMapper implements Exten
 		return ret;
 	}
 
+	@Override
+	public void compileStateMapping(String[] propertyNames) {
+		getStateMapping( propertyNames );
+	}
+
+	/**
+	 * @param propertyNames The property names of the persister whose state is mapped.
+	 *
+	 * @return The mapper of each state index, {@code null} for the properties which are not audited.
+	 */
+	private PropertyMapper[] getStateMapping(String[] propertyNames) {
+		final StateMapping[] mappings = stateMappings;
+		// persisters always pass the same property names array
+		for ( StateMapping mapping : mappings ) {
+			if ( mapping.propertyNames == propertyNames ) {
+				return mapping.mappers;
+			}
+		}
+
+		final PropertyMapper[] mappers = new PropertyMapper[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			final PropertyData propertyData = propertyDatas.get( propertyNames[i] );
+			if ( propertyData != null ) {
+				mappers[i] = properties.get( propertyData );
+			}
+		}
+		if ( mappings.length < MAX_STATE_MAPPINGS ) {
+			// a mapping compiled concurrently may be lost, and is then compiled again
+			final StateMapping[] newMappings = Arrays.copyOf( mappings, mappings.length + 1 );
+			newMappings[mappings.length] = new StateMapping( propertyNames, mappers );
+			stateMappings = newMappings;
+		}
+		return mappers;
+	}
+
+	private EntityAccessors getEntityAccessors(Class<?> entityClass, SessionImplementor session) {
+		final EntityAccessors accessors = entityAccessors.get( entityClass );
+		if ( accessors != null ) {
+			return accessors;
+		}
+		if ( entityAccessors.size() >= MAX_ENTITY_ACCESSORS ) {
+			return new EntityAccessors( entityClass, properties, session );
+		}
+		return entityAccessors.computeIfAbsent( entityClass, k -> new EntityAccessors( k, properties, session ) );
+	}
+
 	@Override
 	public boolean mapToMapFromEntity(
 			final SessionImplementor session,
 			final Map<String, Object> data,
 			final Object newObj,
 			final Object oldObj) {
-		boolean ret = false;
-		for ( Map.Entry<PropertyData, PropertyMapper> entry : properties.entrySet() ) {
-			final PropertyData propertyData = entry.getKey();
-			final PropertyMapper propertyMapper = entry.getValue();
-
-			// synthetic properties are not part of the entity model; therefore they should be ignored.
-			if ( propertyData.isSynthetic() ) {
-				continue;
-			}
-
-			Getter getter;
-			if ( newObj != null ) {
-				getter = ReflectionTools.getGetter(
-						newObj.getClass(),
-						propertyData,
-						session.getFactory().getServiceRegistry()
-				);
-			}
-			else if ( oldObj != null ) {
-				getter = ReflectionTools.getGetter(
-						oldObj.getClass(),
-						propertyData,
-						session.getFactory().getServiceRegistry()
-				);
-			}
-			else {
-				return false;
-			}
+		if ( newObj == null && oldObj == null ) {
+			return false;
+		}
 
-			ret |= propertyMapper.mapToMapFromEntity(
+		final EntityAccessors accessors = getEntityAccessors(
+				newObj != null ? newObj.getClass() : oldObj.getClass(),
+				session
+		);
+		boolean ret = false;
+		for ( int i = 0; i < accessors.mappers.length; i++ ) {
+			final Getter getter = accessors.getters[i];
+			ret |= accessors.mappers[i].mapToMapFromEntity(
 					session, data,
 					newObj == null ? null : getter.get( newObj ),
 					oldObj == null ? null : getter.get( oldObj )
@@ -145,35 +186,17 @@ public class MultiPropertyMapper extends AbstractPropertyMapper implements Exten
 			final Map<String, Object> data,
 			final Object newObj,
 			final Object oldObj) {
-		for ( Map.Entry<PropertyData, PropertyMapper> entry : properties.entrySet() ) {
-			final PropertyData propertyData = entry.getKey();
-			final PropertyMapper propertyMapper = entry.getValue();
-
-			// synthetic properties are not part of the entity model; therefore they should be ignored.
-			if ( propertyData.isSynthetic() ) {
-				continue;
-			}
-
-			Getter getter;
-			if ( newObj != null ) {
-				getter = ReflectionTools.getGetter(
-						newObj.getClass(),
-						propertyData,
-						session.getFactory().getServiceRegistry()
-				);
-			}
-			else if ( oldObj != null ) {
-				getter = ReflectionTools.getGetter(
-						oldObj.getClass(),
-						propertyData,
-						session.getFactory().getServiceRegistry()
-				);
-			}
-			else {
-				break;
-			}
+		if ( newObj == null && oldObj == null ) {
+			return;
+		}
 
-			propertyMapper.mapModifiedFlagsToMapFromEntity(
+		final EntityAccessors accessors = getEntityAccessors(
+				newObj != null ? newObj.getClass() : oldObj.getClass(),
+				session
+		);
+		for ( int i = 0; i < accessors.mappers.length; i++ ) {
+			final Getter getter = accessors.getters[i];
+			accessors.mappers[i].mapModifiedFlagsToMapFromEntity(
 					session, data,
 					newObj == null ? null : getter.get( newObj ),
 					oldObj == null ? null : getter.get( oldObj )
@@ -181,6 +204,13 @@ public class MultiPropertyMapper extends AbstractPropertyMapper implements Exten
 		}
 	}
 
+	@Override
+	public void addAuditPropertyNames(Collection<String> auditPropertyNames) {
+		for ( PropertyMapper mapper : properties.values() ) {
+			mapper.addAuditPropertyNames( auditPropertyNames );
+		}
+	}
+
 	@Override
 	public void mapToEntityFromMap(
 			EnversService enversService,
@@ -272,4 +302,46 @@ public class MultiPropertyMapper extends AbstractPropertyMapper implements Exten
 		}
 		return false;
 	}
+
+	private static final class StateMapping {
+		private final String[] propertyNames;
+		private final PropertyMapper[] mappers;
+
+		private StateMapping(String[] propertyNames, PropertyMapper[] mappers) {
+			this.propertyNames = propertyNames;
+			this.mappers = mappers;
+		}
+	}
+
+	/**
+	 * The mappers of the properties which are part of the entity model, along with their getters on a given class.
+	 */
+	private static final class EntityAccessors {
+		private final PropertyMapper[] mappers;
+		private final Getter[] getters;
+
+		private EntityAccessors(
+				Class<?> entityClass,
+				Map<PropertyData, PropertyMapper> properties,
+				SessionImplementor session) {
+			final List<PropertyMapper> mappers = new ArrayList<>( properties.size() );
+			final List<Getter> getters = new ArrayList<>( properties.size() );
+			for ( Map.Entry<PropertyData, PropertyMapper> entry : properties.entrySet() ) {
+				final PropertyData propertyData = entry.getKey();
+				// synthetic properties are not part of the entity model; therefore they should be ignored.
+				if ( !propertyData.isSynthetic() ) {
+					mappers.add( entry.getValue() );
+					getters.add(
+							ReflectionTools.getGetter(
+									entityClass,
+									propertyData,
+									session.getFactory().getServiceRegistry()
+							)
+					);
+				}
+			}
+			this.mappers = mappers.toArray( new PropertyMapper[0] );
+			this.getters = getters.toArray( new Getter[0] );
+		}
+	}
 }
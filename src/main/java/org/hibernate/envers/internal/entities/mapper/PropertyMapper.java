@@ -5,6 +5,7 @@
 package org.hibernate.envers.internal.entities.mapper;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -79,4 +80,13 @@ public interface PropertyMapper extends ModifiedFlagMapperSupport, DynamicCompon
 			Object oldObj);
 
 	void mapModifiedFlagsToMapForCollectionChange(String collectionPropertyName, Map<String, Object> data);
+
+	/**
+	 * Adds the names of the properties of the audit entity under which the values are stored in the audit rows.
+	 * None are added by default, for the properties whose values are not stored in the audit rows.
+	 *
+	 * @param auditPropertyNames The names of the properties of the audit entity to add to.
+	 */
+	default void addAuditPropertyNames(Collection<String> auditPropertyNames) {
+	}
 }
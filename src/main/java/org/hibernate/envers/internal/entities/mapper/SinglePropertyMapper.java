@@ -5,9 +5,12 @@
 package org.hibernate.envers.internal.entities.mapper;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.HibernateException;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -32,7 +35,12 @@ import org.hibernate.property.access.spi.SetterFieldImpl;
  * @author Chris Cranford
  */
 public class SinglePropertyMapper extends AbstractPropertyMapper implements SimpleMapperBuilder {
+	// the number of entity classes, one per subclass, whose setter is kept
+	private static final int MAX_ENTITY_SETTERS = 16;
+
 	private PropertyData propertyData;
+	// the setters of the property, by class of the entities mapped from audit data
+	private final ConcurrentMap<Class<?>, EntitySetter> entitySetters = new ConcurrentHashMap<>();
 
 	public SinglePropertyMapper(PropertyData propertyData) {
 		this.propertyData = propertyData;
@@ -68,6 +76,11 @@ public class SinglePropertyMapper extends AbstractPropertyMapper implements Simp
 		return dbLogicallyDifferent && !areEqual( newObj, oldObj );
 	}
 
+	@Override
+	public void addAuditPropertyNames(Collection<String> auditPropertyNames) {
+		auditPropertyNames.add( propertyData.getName() );
+	}
+
 	@Override
 	public void mapModifiedFlagsToMapFromEntity(
 			SessionImplementor session,
@@ -105,15 +118,11 @@ public class SinglePropertyMapper extends AbstractPropertyMapper implements Simp
 			map.put( propertyData.getBeanName(), value );
 		}
 		else {
-			final Setter setter = ReflectionTools.getSetter(
-					obj.getClass(),
-					propertyData,
-					enversService.getServiceRegistry()
-			);
+			final EntitySetter setter = getEntitySetter( obj.getClass(), enversService );
 
 			// We only set a null value if the field is not primitive. Otherwise, we leave it intact.
-			if ( value != null || !isPrimitive( setter, propertyData, obj.getClass() ) ) {
-				setter.set( obj, value );
+			if ( value != null || !setter.primitive ) {
+				setter.setter.set( obj, value );
 			}
 		}
 	}
@@ -133,6 +142,17 @@ public class SinglePropertyMapper extends AbstractPropertyMapper implements Simp
 		return data.get( propertyData.getName() );
 	}
 
+	private EntitySetter getEntitySetter(Class<?> entityClass, EnversService enversService) {
+		final EntitySetter setter = entitySetters.get( entityClass );
+		if ( setter != null ) {
+			return setter;
+		}
+		if ( entitySetters.size() >= MAX_ENTITY_SETTERS ) {
+			return new EntitySetter( entityClass, enversService );
+		}
+		return entitySetters.computeIfAbsent( entityClass, k -> new EntitySetter( k, enversService ) );
+	}
+
 	private boolean isPrimitive(Setter setter, PropertyData propertyData, Class<?> cls) {
 		if ( cls == null ) {
 			throw new HibernateException( "No field found for property: " + propertyData.getName() );
@@ -179,4 +199,14 @@ public class SinglePropertyMapper extends AbstractPropertyMapper implements Simp
 		//		This was maintained for legacy 5.2 behavior only.
 		return Objects.deepEquals( newObj, oldObj );
 	}
+
+	private final class EntitySetter {
+		private final Setter setter;
+		private final boolean primitive;
+
+		private EntitySetter(Class<?> entityClass, EnversService enversService) {
+			this.setter = ReflectionTools.getSetter( entityClass, propertyData, enversService.getServiceRegistry() );
+			this.primitive = isPrimitive( setter, propertyData, entityClass );
+		}
+	}
 }
@@ -5,6 +5,7 @@
 package org.hibernate.envers.internal.entities.mapper;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,12 @@ public class SubclassPropertyMapper extends AbstractPropertyMapper implements Ex
 		return parentDiffs || mainDiffs;
 	}
 
+	@Override
+	public void compileStateMapping(String[] propertyNames) {
+		parentMapper.compileStateMapping( propertyNames );
+		main.compileStateMapping( propertyNames );
+	}
+
 	@Override
 	public boolean mapToMapFromEntity(
 			SessionImplementor session,
@@ -145,6 +152,12 @@ public class SubclassPropertyMapper extends AbstractPropertyMapper implements Ex
 		main.add( propertyData );
 	}
 
+	@Override
+	public void addAuditPropertyNames(Collection<String> auditPropertyNames) {
+		parentMapper.addAuditPropertyNames( auditPropertyNames );
+		main.addAuditPropertyNames( auditPropertyNames );
+	}
+
 	@Override
 	public Map<PropertyData, PropertyMapper> getProperties() {
 		final Map<PropertyData, PropertyMapper> joinedProperties = new HashMap<>();
@@ -7,7 +7,6 @@ package org.hibernate.envers.internal.entities.mapper.relation;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -26,6 +25,7 @@ import org.hibernate.envers.internal.entities.mapper.AbstractPropertyMapper;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.initializor.Initializor;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.tools.AuditDataSchema;
 import org.hibernate.persister.collection.CollectionPersister;
 
 /**
@@ -42,6 +42,10 @@ public abstract class AbstractCollectionMapper<T> extends AbstractPropertyMapper
 
 	private final Constructor<? extends T> proxyConstructor;
 
+	// the keys of the audit data of the middle entity, learned from the first changes mapped
+	private final AuditDataSchema collectionChangeDataSchema = new AuditDataSchema();
+	private final AuditDataSchema collectionChangeIdSchema = new AuditDataSchema();
+
 	protected AbstractCollectionMapper(
 			Configuration configuration,
 			CommonCollectionMapperData commonCollectionMapperData,
@@ -91,7 +95,7 @@ public abstract class AbstractCollectionMapper<T> extends AbstractPropertyMapper
 	 * @return Map for holding identifier data.
 	 */
 	protected Map<String, Object> createIdMap(int ordinal) {
-		final Map<String, Object> idMap = new HashMap<>();
+		final Map<String, Object> idMap = collectionChangeIdSchema.newDataMap();
 		if ( ordinalInId ) {
 			idMap.put( configuration.getEmbeddableSetOrdinalPropertyName(), ordinal );
 		}
@@ -107,7 +111,7 @@ public abstract class AbstractCollectionMapper<T> extends AbstractPropertyMapper
 		int ordinal = 0;
 
 		for ( Object changedObj : changed ) {
-			final Map<String, Object> entityData = new HashMap<>();
+			final Map<String, Object> entityData = collectionChangeDataSchema.newDataMap();
 			final Map<String, Object> originalId = createIdMap( ordinal++ );
 			entityData.put( configuration.getOriginalIdPropertyName(), originalId );
 
@@ -7,7 +7,10 @@ package org.hibernate.envers.internal.entities.mapper.relation;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +37,7 @@ import org.hibernate.type.Type;
  */
 public class BasicCollectionMapper<T extends Collection> extends AbstractCollectionMapper<T> implements PropertyMapper {
 	protected final MiddleComponentData elementComponentData;
+	private volatile ElementIdentity elementIdentity;
 
 	public BasicCollectionMapper(
 			Configuration configuration,
@@ -123,28 +127,12 @@ public class BasicCollectionMapper<T extends Collection> extends AbstractCollect
 
 		final Set<Object> addedElements = buildCollectionChangeSet( newColl, newCollection );
 		if ( oldColl != null ) {
-			for ( Object oldEntry : oldCollection ) {
-				for ( Iterator itor = addedElements.iterator(); itor.hasNext(); ) {
-					Object newEntry = itor.next();
-					if ( isCollectionElementSame( session, collectionPersister, oldEntry, newEntry ) ) {
-						itor.remove();
-						break;
-					}
-				}
-			}
+			removeSameElements( session, collectionPersister, addedElements, oldCollection );
 		}
 
 		final Set<Object> deleteElements = buildCollectionChangeSet( oldColl, oldCollection );
 		if ( newColl != null ) {
-			for ( Object newEntry : newCollection ) {
-				for ( Iterator itor = deleteElements.iterator(); itor.hasNext(); ) {
-					Object deletedEntry = itor.next();
-					if ( isCollectionElementSame( session, collectionPersister, deletedEntry, newEntry ) ) {
-						itor.remove();
-						break;
-					}
-				}
-			}
+			removeSameElements( session, collectionPersister, deleteElements, newCollection );
 		}
 
 		addCollectionChanges( session, collectionChanges, addedElements, RevisionType.ADD, id );
@@ -153,71 +141,144 @@ public class BasicCollectionMapper<T extends Collection> extends AbstractCollect
 		return collectionChanges;
 	}
 
-	private boolean isCollectionElementSame(
+	/**
+	 * Removes from the elements one element which is the same as each of the other elements.  The elements are
+	 * hashed by their identity, so that each of the other elements is only compared to the elements with the same
+	 * hash.
+	 */
+	private void removeSameElements(
 			SessionImplementor session,
 			CollectionPersister collectionPersister,
-			Object lhs,
-			Object rhs) {
-		final Type elementType = collectionPersister.getElementType();
-
-		// If the collection element is an Entity association but the collection does not include the
-		// REVTYPE column as a part of the primary key, special care must be taken in order to assess
-		// whether the element actually changed.
-		//
-		// Previously we delegated to the element type, which for entity-based collections would be
-		// EntityType.  The EntityType#isSame method results in only a reference equality check.  This
-		// would result in both an ADD/DEL entry trying to be saved for the same entity identifier
-		// under certain circumstances.  While we generally agree with this ORM assessment, this
-		// leads to HHH-13080 which ultimately is because REVTYPE is not part of the middle entity
-		// table's primary key.
-		//
-		// For 5.x, rather than impose schema changes mid-major release, we're going to explore this
-		// compromise for now where we're going to treat EntityType-based collections in a slightly
-		// different way by delegating the equality check to the entity identifier instead.  This
-		// ultimately means that the equality check will leverage both reference and value equality
-		// since identifiers can be basic or composite types.
-		//
-		// In the end for 5.x, this means if an entity is removed from the collection and added
-		// back with the same identifier, we will treat it as a no-change for now to avoid the
-		// problem presented in HHH-13080.
-		//
-		// todo (6.0) - support REVTYPE as part of the primary key.
-		//		What we actually want to do here is to introduce a legacy compat flag that we check
-		//		when we generate the mapper that influences whether the revisionTypeInId value is
-		//		true or false.  When its set to true, we actually will treat all element types,
-		//		regardless if they're entity, embeddables, or basic types equally.
-		//
-		//		As an example, if a collection is cleared and instances are added back and it just
-		//		so happens that those instances ahve the same entity identifier but aren't reference
-		//		equal to the original collection elements, Envers will then actually treat that as
-		//		a series of DEL followed by ADD operations for those elements, which ultimately is
-		//		the right behavior.  But that only works if REVTYPE is part of the primary key so
-		//		that the tuple { owner_id, entity_id, rev, rev_type } differ for the two types of
-		//		revision type operations.
-		//
-		//		Currently the tuple is { owner_id, entity_id, rev } and so having this special
-		//		treatment is critical to avoid HHH-13080.
-		//
-		if ( elementType instanceof EntityType && !revisionTypeInId ) {
-
-			// This is a short-circuit to check for reference equality only.
-			// There is no need to delegate to the identifier if the objects are reference equal.
-			if ( elementType.isSame( lhs, rhs ) ) {
-				return true;
+			Set<Object> elements,
+			Collection otherElements) {
+		if ( elements.isEmpty() ) {
+			return;
+		}
+
+		final ElementIdentity identity = getElementIdentity( collectionPersister );
+		final Set<Object> sameElements = Collections.newSetFromMap( new IdentityHashMap<>() );
+		final Map<Integer, List<Object[]>> elementsByHash = new HashMap<>();
+		for ( Object element : elements ) {
+			final Object key = identity.getKey( session, element );
+			elementsByHash.computeIfAbsent( identity.getHashCode( key ), k -> new ArrayList<>( 1 ) )
+					.add( new Object[] { element, key } );
+		}
+
+		for ( Object otherElement : otherElements ) {
+			if ( otherElement == null ) {
+				continue;
 			}
+			final Object otherKey = identity.getKey( session, otherElement );
+			final List<Object[]> candidates = elementsByHash.get( identity.getHashCode( otherKey ) );
+			if ( candidates != null ) {
+				for ( Iterator<Object[]> itor = candidates.iterator(); itor.hasNext(); ) {
+					final Object[] candidate = itor.next();
+					if ( identity.isSame( candidate[0], candidate[1], otherElement, otherKey ) ) {
+						itor.remove();
+						sameElements.add( candidate[0] );
+						break;
+					}
+				}
+			}
+		}
+
+		// removed by reference, as the equals and hashCode of the elements may not agree with their identifiers
+		elements.removeIf( sameElements::contains );
+	}
+
+	private ElementIdentity getElementIdentity(CollectionPersister collectionPersister) {
+		ElementIdentity identity = elementIdentity;
+		if ( identity == null ) {
+			identity = new ElementIdentity( collectionPersister, revisionTypeInId );
+			elementIdentity = identity;
+		}
+		return identity;
+	}
+
+	/**
+	 * Decides whether an element of the old collection and an element of the new collection are the same.
+	 */
+	private static final class ElementIdentity {
+		private final Type elementType;
+		// the persister of the element entity, when elements are the same if their identifiers are
+		private final EntityPersister entityPersister;
+
+		private ElementIdentity(CollectionPersister collectionPersister, boolean revisionTypeInId) {
+			this.elementType = collectionPersister.getElementType();
 
-			final EntityPersister entityPersister = session.getFactory()
-					.getMappingMetamodel()
-					.getEntityDescriptor( ( (EntityType) elementType ).getAssociatedEntityName() );
+			// If the collection element is an Entity association but the collection does not include the
+			// REVTYPE column as a part of the primary key, special care must be taken in order to assess
+			// whether the element actually changed.
+			//
+			// Previously we delegated to the element type, which for entity-based collections would be
+			// EntityType.  The EntityType#isSame method results in only a reference equality check.  This
+			// would result in both an ADD/DEL entry trying to be saved for the same entity identifier
+			// under certain circumstances.  While we generally agree with this ORM assessment, this
+			// leads to HHH-13080 which ultimately is because REVTYPE is not part of the middle entity
+			// table's primary key.
+			//
+			// For 5.x, rather than impose schema changes mid-major release, we're going to explore this
+			// compromise for now where we're going to treat EntityType-based collections in a slightly
+			// different way by delegating the equality check to the entity identifier instead.  This
+			// ultimately means that the equality check will leverage both reference and value equality
+			// since identifiers can be basic or composite types.
+			//
+			// In the end for 5.x, this means if an entity is removed from the collection and added
+			// back with the same identifier, we will treat it as a no-change for now to avoid the
+			// problem presented in HHH-13080.
+			//
+			// todo (6.0) - support REVTYPE as part of the primary key.
+			//		What we actually want to do here is to introduce a legacy compat flag that we check
+			//		when we generate the mapper that influences whether the revisionTypeInId value is
+			//		true or false.  When its set to true, we actually will treat all element types,
+			//		regardless if they're entity, embeddables, or basic types equally.
+			//
+			//		As an example, if a collection is cleared and instances are added back and it just
+			//		so happens that those instances ahve the same entity identifier but aren't reference
+			//		equal to the original collection elements, Envers will then actually treat that as
+			//		a series of DEL followed by ADD operations for those elements, which ultimately is
+			//		the right behavior.  But that only works if REVTYPE is part of the primary key so
+			//		that the tuple { owner_id, entity_id, rev, rev_type } differ for the two types of
+			//		revision type operations.
+			//
+			//		Currently the tuple is { owner_id, entity_id, rev } and so having this special
+			//		treatment is critical to avoid HHH-13080.
+			//
+			if ( elementType instanceof EntityType && !revisionTypeInId ) {
+				this.entityPersister = collectionPersister.getFactory()
+						.getMappingMetamodel()
+						.getEntityDescriptor( ( (EntityType) elementType ).getAssociatedEntityName() );
+			}
+			else {
+				// for element types that aren't entities (aka embeddables/basic types), use legacy behavior.
+				this.entityPersister = null;
+			}
+		}
 
-			final Object lhsId = entityPersister.getIdentifier( lhs, session );
-			final Object rhsId = entityPersister.getIdentifier( rhs, session );
+		/**
+		 * @return The value the element is hashed and compared by: its identifier for entities, itself otherwise.
+		 */
+		Object getKey(SessionImplementor session, Object element) {
+			return entityPersister == null ? element : entityPersister.getIdentifier( element, session );
+		}
 
-			// Since the two instances aren't reference equal, delegate to identifier now.
-			return entityPersister.getIdentifierType().isSame( lhsId, rhsId );
+		int getHashCode(Object key) {
+			if ( key == null ) {
+				return 0;
+			}
+			if ( entityPersister != null ) {
+				return entityPersister.getIdentifierType().getHashCode( key );
+			}
+			// entities are only the same if they are reference equal
+			return elementType instanceof EntityType ? System.identityHashCode( key ) : elementType.getHashCode( key );
 		}
 
-		// for element types that aren't entities (aka embeddables/basic types), use legacy behavior.
-		return elementType.isSame( lhs, rhs );
+		boolean isSame(Object lhs, Object lhsKey, Object rhs, Object rhsKey) {
+			if ( entityPersister == null ) {
+				return elementType.isSame( lhs, rhs );
+			}
+			// There is no need to delegate to the identifier if the objects are reference equal.
+			return elementType.isSame( lhs, rhs ) || entityPersister.getIdentifierType().isSame( lhsKey, rhsKey );
+		}
 	}
 }
@@ -8,7 +8,6 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -138,34 +137,12 @@ public final class ListCollectionMapper extends AbstractCollectionMapper<List> i
 
 		final Set<Object> addedElements = buildCollectionChangeSet( newColl, newCollection );
 		if ( oldColl != null ) {
-			for ( int i = 0; i < oldCollection.size(); ++i ) {
-				Pair<Integer, ?> oldEntry = ((List<Pair<Integer, ?>>) oldCollection).get( i );
-				for ( Iterator itor = addedElements.iterator(); itor.hasNext(); ) {
-					Pair<Integer, ?> addedEntry = (Pair<Integer, ?>) itor.next();
-					if ( oldEntry.getFirst().equals( addedEntry.getFirst() ) ) {
-						if ( isSame( collectionPersister, oldEntry.getSecond(), addedEntry.getSecond() ) ) {
-							itor.remove();
-							break;
-						}
-					}
-				}
-			}
+			removeSameEntries( collectionPersister, addedElements, (List) newCollection, (List) oldCollection, false );
 		}
 
 		final Set<Object> deleteElements = buildCollectionChangeSet( oldColl, oldCollection );
 		if ( newColl != null ) {
-			for ( int i = 0; i < newCollection.size(); ++i ) {
-				Pair<Integer, ?> newEntry = ((List<Pair<Integer, ?>>) newCollection).get( i );
-				for ( Iterator itor = deleteElements.iterator(); itor.hasNext(); ) {
-					Pair<Integer, ?> deletedEntry = (Pair<Integer, ?>) itor.next();
-					if ( newEntry.getFirst().equals( deletedEntry.getFirst() ) ) {
-						if ( isSame( collectionPersister, deletedEntry.getSecond(), newEntry.getSecond() ) ) {
-							itor.remove();
-							break;
-						}
-					}
-				}
-			}
+			removeSameEntries( collectionPersister, deleteElements, (List) oldCollection, (List) newCollection, true );
 		}
 
 		addCollectionChanges( session, collectionChanges, addedElements, RevisionType.ADD, id );
@@ -173,4 +150,36 @@ public final class ListCollectionMapper extends AbstractCollectionMapper<List> i
 
 		return collectionChanges;
 	}
+
+	/**
+	 * Removes from the entries of a list those whose element is the same as the element at the same index of the
+	 * other list.  As each index appears once in a list, entries are compared by position, in linear time.
+	 *
+	 * @param entries The changed entries of the list, from which the unchanged entries are removed.
+	 * @param list The index/element pairs of the list.
+	 * @param otherList The index/element pairs of the other list.
+	 * @param old Whether the list is the old list.
+	 */
+	private void removeSameEntries(
+			CollectionPersister collectionPersister,
+			Set<Object> entries,
+			List<Pair<Integer, ?>> list,
+			List<Pair<Integer, ?>> otherList,
+			boolean old) {
+		if ( entries.isEmpty() ) {
+			return;
+		}
+		final int size = Math.min( list.size(), otherList.size() );
+		for ( int i = 0; i < size; ++i ) {
+			final Pair<Integer, ?> entry = list.get( i );
+			final Object element = entry.getSecond();
+			final Object otherElement = otherList.get( i ).getSecond();
+			if ( element != null && otherElement != null
+					&& ( old
+							? isSame( collectionPersister, element, otherElement )
+							: isSame( collectionPersister, otherElement, element ) ) ) {
+				entries.remove( entry );
+			}
+		}
+	}
 }
@@ -5,9 +5,13 @@
 package org.hibernate.envers.internal.entities.mapper.relation;
 
 
+import java.util.List;
+
 import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.internal.entities.mapper.id.SingleIdMapper;
 import org.hibernate.envers.internal.entities.mapper.relation.lazy.ToOneDelegateSessionImplementor;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.persister.entity.EntityPersister;
 
 /**
@@ -33,6 +37,10 @@ public final class ToOneEntityLoader {
 			// Audited relation, look up entity with Envers.
 			// When user traverses removed entities graph, do not restrict revision type of referencing objects
 			// to ADD or MOD (DEL possible). See HHH-5845.
+			if ( isBatchFetchable( enversService, entityName ) ) {
+				loadBatch( versionsReader, entityClass, entityName, entityId, revision, removed, enversService );
+			}
+			// Served from the first level cache if loaded as part of the batch.
 			return versionsReader.find( entityClass, entityName, entityId, revision, removed );
 		}
 		else {
@@ -56,10 +64,51 @@ public final class ToOneEntityLoader {
 				.getFactory()
 				.getMappingMetamodel()
 				.getEntityDescriptor( entityName );
-		return persister.createProxy(
+		final Object proxy = persister.createProxy(
 				entityId,
 				new ToOneDelegateSessionImplementor( versionsReader, entityClass, entityId, revision, removed, enversService )
 		);
+		if ( enversService.getEntitiesConfigurations().getNotVersionEntityConfiguration( entityName ) == null
+				&& isBatchFetchable( enversService, entityName ) ) {
+			versionsReader.getToOneBatchFetchQueue().addPendingId( entityName, revision, removed, entityId );
+		}
+		return proxy;
+	}
+
+	private static boolean isBatchFetchable(EnversService enversService, String entityName) {
+		// Batches are loaded using an in-list restriction, which requires a basic identifier.
+		return enversService.getConfig().getToOneBatchFetchSize() > 1
+				&& enversService.getEntitiesConfigurations().get( entityName ).getIdMapper().getClass() == SingleIdMapper.class;
+	}
+
+	/**
+	 * Loads the given entity along with other entities at the same revision referenced by uninitialized proxies,
+	 * putting all of them into the first level cache.
+	 */
+	private static void loadBatch(
+			AuditReaderImplementor versionsReader,
+			Class<?> entityClass,
+			String entityName,
+			Object entityId,
+			Number revision,
+			boolean removed,
+			EnversService enversService) {
+		if ( versionsReader.getFirstLevelCache().contains( entityName, revision, entityId ) ) {
+			return;
+		}
+		final List<Object> ids = versionsReader.getToOneBatchFetchQueue().takeBatch(
+				entityName,
+				revision,
+				removed,
+				entityId,
+				enversService.getConfig().getToOneBatchFetchSize()
+		);
+		if ( ids.size() > 1 ) {
+			// The results are put into the cache by the entity instantiator called from the query
+			versionsReader.createQuery().forEntitiesAtRevision( entityClass, entityName, revision, removed )
+					.add( AuditEntity.id().in( ids ) )
+					.getResultList();
+		}
 	}
 
 	/**
@@ -4,6 +4,7 @@
  */
 package org.hibernate.envers.internal.entities.mapper.relation;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -13,6 +14,7 @@ import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.PropertyData;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.entities.mapper.id.QueryParameterData;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.internal.tools.EntityTools;
 import org.hibernate.envers.internal.tools.query.Parameters;
@@ -68,6 +70,14 @@ public class ToOneIdMapper extends AbstractToOneMapper {
 		return checkModified( session, newObj, oldObj );
 	}
 
+	@Override
+	public void addAuditPropertyNames(Collection<String> auditPropertyNames) {
+		// the identifier of the referenced entity, under the prefixed names of its properties
+		for ( QueryParameterData parameterData : delegate.mapToQueryParametersFromId( null ) ) {
+			auditPropertyNames.add( parameterData.getProperty( null ) );
+		}
+	}
+
 	@Override
 	public void mapModifiedFlagsToMapFromEntity(
 			SessionImplementor session,
@@ -145,10 +155,8 @@ public class ToOneIdMapper extends AbstractToOneMapper {
 		final Object entityId = delegate.mapToIdFromMap( data );
 		Object value = null;
 		if ( entityId != null ) {
-			if ( versionsReader.getFirstLevelCache().contains( referencedEntityName, revision, entityId ) ) {
-				value = versionsReader.getFirstLevelCache().get( referencedEntityName, revision, entityId );
-			}
-			else {
+			value = versionsReader.getFirstLevelCache().get( referencedEntityName, revision, entityId );
+			if ( value == null ) {
 				final EntityInfo referencedEntity = getEntityInfo( enversService, referencedEntityName );
 				if ( isIgnoreNotFound( enversService, referencedEntity, data, primaryKey ) ) {
 					// Eagerly loading referenced entity to silence potential (in case of proxy)
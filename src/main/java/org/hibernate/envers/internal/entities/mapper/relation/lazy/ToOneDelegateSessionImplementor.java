@@ -7,6 +7,7 @@ package org.hibernate.envers.internal.entities.mapper.relation.lazy;
 import org.hibernate.HibernateException;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.entities.mapper.relation.ToOneEntityLoader;
+import org.hibernate.envers.internal.jfr.AuditLazyInitializationEvent;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 
 /**
@@ -42,7 +43,10 @@ public class ToOneDelegateSessionImplementor extends AbstractDelegateSessionImpl
 
 	@Override
 	public Object doImmediateLoad(String entityName) throws HibernateException {
-		return ToOneEntityLoader.loadImmediate(
+		final AuditLazyInitializationEvent event = new AuditLazyInitializationEvent();
+		event.begin();
+
+		final Object entity = ToOneEntityLoader.loadImmediate(
 				versionsReader,
 				entityClass,
 				entityName,
@@ -51,5 +55,16 @@ public class ToOneDelegateSessionImplementor extends AbstractDelegateSessionImpl
 				removed,
 				enversService
 		);
+
+		event.end();
+		if ( event.shouldCommit() ) {
+			event.associationKind = AuditLazyInitializationEvent.TO_ONE;
+			event.entityName = entityName;
+			event.identifier = String.valueOf( entityId );
+			event.revision = revision.longValue();
+			event.rows = entity == null ? 0 : 1;
+			event.commit();
+		}
+		return entity;
 	}
 }
@@ -6,28 +6,45 @@ package org.hibernate.envers.internal.entities.mapper.relation.lazy.initializor;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.internal.entities.EntityInstantiator;
 import org.hibernate.envers.internal.entities.mapper.relation.query.RelationQueryGenerator;
+import org.hibernate.envers.internal.jfr.AuditLazyInitializationEvent;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.internal.util.ReflectHelper;
 
+import org.jboss.logging.Logger;
+
 /**
  * Initializes a persistent collection.
+ * <p>
+ * When collections are fetched in batches, the initializor of the first collection accessed loads the content of
+ * other pending collections of the same role and revision, which their initializors then use.
  *
  * @author Adam Warski (adam at warski dot org)
  */
 public abstract class AbstractCollectionInitializor<T> implements Initializor<T> {
+	private static final Logger log = Logger.getLogger( AbstractCollectionInitializor.class );
+
 	private final AuditReaderImplementor versionsReader;
 	private final RelationQueryGenerator queryGenerator;
 	private final Object primaryKey;
 	protected final Number revision;
 	protected final boolean removed;
 	protected final EntityInstantiator entityInstantiator;
+	private final int batchSize;
+
+	/**
+	 * the content loaded by the batch of another initializor, if any.
+	 */
+	private List<?> loadedContent;
 
 	public AbstractCollectionInitializor(
 			EnversService enversService,
@@ -41,6 +58,12 @@ public abstract class AbstractCollectionInitializor<T> implements Initializor<T>
 		this.removed = removed;
 
 		entityInstantiator = new EntityInstantiator( enversService, versionsReader );
+
+		batchSize = queryGenerator.isBatchFetchable() ? enversService.getConfig().getCollectionBatchFetchSize() : 1;
+		if ( batchSize > 1 ) {
+			versionsReader.getCollectionBatchFetchQueue()
+					.addPendingInitializor( queryGenerator, revision, removed, primaryKey, this );
+		}
 	}
 
 	protected abstract T initializeCollection(int size);
@@ -49,8 +72,27 @@ public abstract class AbstractCollectionInitializor<T> implements Initializor<T>
 
 	@Override
 	public T initialize() {
-		final SharedSessionContractImplementor session = versionsReader.getSessionImplementor();
-		final List<?> collectionContent = queryGenerator.getQuery( session, primaryKey, revision, removed ).list();
+		final AuditLazyInitializationEvent event = new AuditLazyInitializationEvent();
+		event.begin();
+
+		final List<?> collectionContent;
+		// the number of collections loaded by the query, none when loaded by the query of another collection
+		int loadedCollections = 1;
+		if ( loadedContent != null ) {
+			collectionContent = loadedContent;
+			loadedContent = null;
+			loadedCollections = 0;
+		}
+		else if ( batchSize > 1 ) {
+			final Map<Object, AbstractCollectionInitializor<?>> batch = versionsReader.getCollectionBatchFetchQueue()
+					.takeBatch( queryGenerator, revision, removed, primaryKey, this, batchSize );
+			collectionContent = loadBatch( batch );
+			loadedCollections = batch.size();
+		}
+		else {
+			final SharedSessionContractImplementor session = versionsReader.getSessionImplementor();
+			collectionContent = queryGenerator.getQuery( session, primaryKey, revision, removed ).list();
+		}
 
 		final T collection = initializeCollection( collectionContent.size() );
 
@@ -58,9 +100,52 @@ public abstract class AbstractCollectionInitializor<T> implements Initializor<T>
 			addToCollection( collection, collectionRow );
 		}
 
+		event.end();
+		if ( event.shouldCommit() ) {
+			event.associationKind = AuditLazyInitializationEvent.COLLECTION;
+			event.identifier = String.valueOf( primaryKey );
+			event.revision = revision.longValue();
+			event.rows = collectionContent.size();
+			event.batchSize = loadedCollections;
+			event.commit();
+		}
+
 		return collection;
 	}
 
+	private List<?> loadBatch(Map<Object, AbstractCollectionInitializor<?>> batch) {
+		final SharedSessionContractImplementor session = versionsReader.getSessionImplementor();
+		if ( batch.size() == 1 ) {
+			return queryGenerator.getQuery( session, primaryKey, revision, removed ).list();
+		}
+
+		final Map<Object, List<Object>> contents = new HashMap<>();
+		for ( Object owner : batch.keySet() ) {
+			contents.put( owner, new ArrayList<>() );
+		}
+		// the rows keep the order of the query, hence any ordering of the collection role
+		for ( Object row : queryGenerator.getBatchQuery( session, batch.keySet(), revision, removed ).list() ) {
+			final List<Object> content = contents.get( queryGenerator.getReferencingId( row ) );
+			if ( content == null ) {
+				// the identifier read from the row does not equal the one of its owner, e.g. when of another type:
+				// the rows cannot be distributed, and each collection of the batch is loaded by its own query
+				log.debugf(
+						"Unable to match a batch fetched row to its owner, loading the collection of %s at revision %s alone",
+						primaryKey,
+						revision
+				);
+				return queryGenerator.getQuery( session, primaryKey, revision, removed ).list();
+			}
+			content.add( row );
+		}
+		for ( Map.Entry<Object, AbstractCollectionInitializor<?>> entry : batch.entrySet() ) {
+			if ( entry.getValue() != this ) {
+				entry.getValue().loadedContent = contents.get( entry.getKey() );
+			}
+		}
+		return contents.get( primaryKey );
+	}
+
 	/**
 	 * Creates a new object based on the specified class with the given constructor arguments.
 	 *
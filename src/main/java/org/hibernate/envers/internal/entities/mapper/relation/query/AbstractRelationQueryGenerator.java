@@ -4,7 +4,9 @@
  */
 package org.hibernate.envers.internal.entities.mapper.relation.query;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -14,6 +16,7 @@ import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.RevisionTypeType;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
 import org.hibernate.envers.internal.entities.mapper.id.QueryParameterData;
+import org.hibernate.envers.internal.entities.mapper.id.SingleIdMapper;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
@@ -22,6 +25,7 @@ import org.hibernate.query.Query;
 import org.hibernate.type.BasicType;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.DEL_REVISION_TYPE_PARAMETER;
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCING_IDS_PARAMETER;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
 
 /**
@@ -40,6 +44,8 @@ public abstract class AbstractRelationQueryGenerator implements RelationQueryGen
 
 	private String queryString;
 	private String queryRemovedString;
+	private String batchQueryString;
+	private String batchQueryRemovedString;
 
 	protected AbstractRelationQueryGenerator(
 			Configuration configuration,
@@ -57,16 +63,7 @@ public abstract class AbstractRelationQueryGenerator implements RelationQueryGen
 
 	@Override
 	public Query getQuery(SharedSessionContractImplementor session, Object primaryKey, Number revision, boolean removed) {
-		final String queryString = getQueryString( session.getFactory(), removed );
-
-		final BasicType<?> revisionType = session.getFactory()
-				.getTypeConfiguration()
-				.getBasicTypeRegistry()
-				.getRegisteredType( RevisionTypeType.class );
-
-		final Query query = session.createQuery( queryString );
-		query.setParameter( DEL_REVISION_TYPE_PARAMETER, RevisionType.DEL, revisionType );
-		query.setParameter( REVISION_PARAMETER, revision );
+		final Query query = createQuery( session, getQueryString( session.getFactory(), removed ), revision );
 
 		final IdMapper prefixIdMapper = referencingIdData.getPrefixedMapper();
 		for ( QueryParameterData paramData : prefixIdMapper.mapToQueryParametersFromId( primaryKey ) ) {
@@ -76,13 +73,67 @@ public abstract class AbstractRelationQueryGenerator implements RelationQueryGen
 		return query;
 	}
 
+	@Override
+	public boolean isBatchFetchable() {
+		// the referencing ids are bound as a single list parameter, which requires a basic identifier
+		return referencingIdData.getPrefixedMapper().getClass() == SingleIdMapper.class;
+	}
+
+	@Override
+	public Query getBatchQuery(
+			SharedSessionContractImplementor session,
+			Collection<?> primaryKeys,
+			Number revision,
+			boolean removed) {
+		final Query query = createQuery( session, getBatchQueryString( session.getFactory(), removed ), revision );
+		query.setParameterList( REFERENCING_IDS_PARAMETER, primaryKeys );
+		return query;
+	}
+
+	@Override
+	public Object getReferencingId(Object row) {
+		return referencingIdData.getPrefixedMapper().mapToIdFromMap( getReferencingIdData( row ) );
+	}
+
 	/**
 	 * Build the common aspects of a {@link QueryBuilder} used by both query and query-remove strings.
 	 *
 	 * @param sessionFactory The session factory.
+	 * @param batch Whether the query fetches the relation of several owning objects.
 	 * @return The constructed query builder instance.
 	 */
-	protected abstract QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory);
+	protected abstract QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch);
+
+	/**
+	 * Restricts the query to the relation of the owning object, or of the owning objects of a batch.
+	 *
+	 * @param parameters The parameters to add the restriction to.
+	 * @param prefix The prefix of the referencing id properties (may be null).
+	 * @param batch Whether the query fetches the relation of several owning objects.
+	 */
+	protected void addReferencingIdRestriction(Parameters parameters, String prefix, boolean batch) {
+		final IdMapper prefixIdMapper = referencingIdData.getPrefixedMapper();
+		if ( batch ) {
+			// e.id_ref_ing in :referencingids
+			final QueryParameterData paramData = prefixIdMapper.mapToQueryParametersFromId( null ).get( 0 );
+			parameters.addWhereWithNamedParam( paramData.getProperty( prefix ), "in", REFERENCING_IDS_PARAMETER );
+		}
+		else {
+			// e.id_ref_ing = :id_ref_ing
+			prefixIdMapper.addNamedIdEqualsToQuery( parameters, prefix, true );
+		}
+	}
+
+	/**
+	 * @param row A row returned by the query.
+	 *
+	 * @return The data holding the referencing id properties of the row, by default the original id of the middle
+	 * entity, which is the row itself or its first element.
+	 */
+	protected Map<?, ?> getReferencingIdData(Object row) {
+		final Map<?, ?> middleEntity = (Map<?, ?>) ( row instanceof List ? ( (List<?>) row ).get( 0 ) : row );
+		return (Map<?, ?>) middleEntity.get( configuration.getOriginalIdPropertyName() );
+	}
 
 	/**
 	 * Apply predicates used to fetch actual data.
@@ -123,25 +174,58 @@ public abstract class AbstractRelationQueryGenerator implements RelationQueryGen
 	private String getQueryString(SessionFactoryImplementor sessionFactory, boolean removed) {
 		if ( removed ) {
 			if ( queryRemovedString == null ) {
-				queryRemovedString = buildQueryRemoveString( sessionFactory );
+				queryRemovedString = buildQueryRemoveString( sessionFactory, false );
 			}
 			return queryRemovedString;
 		}
 
 		if ( queryString == null ) {
-			queryString = buildQueryString( sessionFactory );
+			queryString = buildQueryString( sessionFactory, false );
 		}
 		return queryString;
 	}
 
-	private String buildQueryString(SessionFactoryImplementor sessionFactory) {
-		final QueryBuilder builder = buildQueryBuilderCommon( sessionFactory );
+	/**
+	 * Get the batch query to be used, built and cached like the query of {@link #getQueryString}.
+	 *
+	 * @param sessionFactory The session factory.
+	 * @param removed Whether to return the removal query or non-removal query.
+	 * @return The query string to be used.
+	 */
+	private String getBatchQueryString(SessionFactoryImplementor sessionFactory, boolean removed) {
+		if ( removed ) {
+			if ( batchQueryRemovedString == null ) {
+				batchQueryRemovedString = buildQueryRemoveString( sessionFactory, true );
+			}
+			return batchQueryRemovedString;
+		}
+
+		if ( batchQueryString == null ) {
+			batchQueryString = buildQueryString( sessionFactory, true );
+		}
+		return batchQueryString;
+	}
+
+	private Query createQuery(SharedSessionContractImplementor session, String queryString, Number revision) {
+		final BasicType<?> revisionType = session.getFactory()
+				.getTypeConfiguration()
+				.getBasicTypeRegistry()
+				.getRegisteredType( RevisionTypeType.class );
+
+		final Query query = session.createQuery( queryString );
+		query.setParameter( DEL_REVISION_TYPE_PARAMETER, RevisionType.DEL, revisionType );
+		query.setParameter( REVISION_PARAMETER, revision );
+		return query;
+	}
+
+	private String buildQueryString(SessionFactoryImplementor sessionFactory, boolean batch) {
+		final QueryBuilder builder = buildQueryBuilderCommon( sessionFactory, batch );
 		applyValidPredicates( builder, builder.getRootParameters(), true );
 		return queryToString( builder );
 	}
 
-	private String buildQueryRemoveString(SessionFactoryImplementor sessionFactory) {
-		final QueryBuilder builder = buildQueryBuilderCommon( sessionFactory );
+	private String buildQueryRemoveString(SessionFactoryImplementor sessionFactory, boolean batch) {
+		final QueryBuilder builder = buildQueryBuilderCommon( sessionFactory, batch );
 		applyValidAndRemovePredicates( builder );
 		return queryToString( builder );
 	}
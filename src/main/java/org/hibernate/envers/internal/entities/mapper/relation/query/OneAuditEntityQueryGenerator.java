@@ -4,6 +4,8 @@
  */
 package org.hibernate.envers.internal.entities.mapper.relation.query;
 
+import java.util.Map;
+
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.id.AbstractCompositeIdMapper;
@@ -75,7 +77,7 @@ public final class OneAuditEntityQueryGenerator extends AbstractRelationQueryGen
 	}
 
 	@Override
-	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory) {
+	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch) {
 		// SELECT e FROM versionsEntity e
 		final QueryBuilder qb = new QueryBuilder( entityName, REFERENCED_ENTITY_ALIAS, sessionFactory );
 		qb.addProjection( null, REFERENCED_ENTITY_ALIAS, null, false );
@@ -89,7 +91,7 @@ public final class OneAuditEntityQueryGenerator extends AbstractRelationQueryGen
 		}
 		else {
 			// e.id_ref_ed = :id_ref_ed
-			referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery( qb.getRootParameters(), null, true );
+			addReferencingIdRestriction( qb.getRootParameters(), null, batch );
 		}
 
 		// ORDER BY
@@ -138,6 +140,17 @@ public final class OneAuditEntityQueryGenerator extends AbstractRelationQueryGen
 		removed.addWhereWithNamedParam( getRevisionTypePath(), false, "=", DEL_REVISION_TYPE_PARAMETER );
 	}
 
+	@Override
+	public boolean isBatchFetchable() {
+		return !multipleIdMapperKey && super.isBatchFetchable();
+	}
+
+	@Override
+	protected Map<?, ?> getReferencingIdData(Object row) {
+		// the referencing id properties belong to the referenced audit entity itself
+		return (Map<?, ?>) row;
+	}
+
 	private IdMapper getMultipleIdPrefixedMapper() {
 		final String prefix = configuration.getOriginalIdPropertyName() + "." + mappedBy + ".";
 		return referencingIdData.getOriginalMapper().prefixMappedProperties( prefix );
@@ -63,17 +63,13 @@ public final class OneEntityQueryGenerator extends AbstractRelationQueryGenerato
 	}
 
 	@Override
-	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory) {
+	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch) {
 		// SELECT ee FROM middleEntity ee
 		final QueryBuilder qb = new QueryBuilder( entityName, MIDDLE_ENTITY_ALIAS, sessionFactory );
 		qb.addProjection( null, MIDDLE_ENTITY_ALIAS, null, false );
 		// WHERE
 		// ee.originalId.id_ref_ing = :id_ref_ing
-		referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery(
-				qb.getRootParameters(),
-				configuration.getOriginalIdPropertyName(),
-				true
-		);
+		addReferencingIdRestriction( qb.getRootParameters(), configuration.getOriginalIdPropertyName(), batch );
 
 		// NOTE:
 		// No `orderBy` fragment is specified because this generator is used for
@@ -24,4 +24,5 @@ public final class QueryConstants {
 
 	public static final String REVISION_PARAMETER = "revision";
 	public static final String DEL_REVISION_TYPE_PARAMETER = "delrevisiontype";
+	public static final String REFERENCING_IDS_PARAMETER = "referencingids";
 }
@@ -4,6 +4,8 @@
  */
 package org.hibernate.envers.internal.entities.mapper.relation.query;
 
+import java.util.Collection;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.Query;
 
@@ -26,4 +28,27 @@ public interface RelationQueryGenerator {
 	 * @param removed Whether to return a query that includes the removed audit rows.
 	 */
 	Query getQuery(SharedSessionContractImplementor session, Object primaryKey, Number revision, boolean removed);
+
+	/**
+	 * @return Whether the relation of several owning objects can be fetched with a single query, using
+	 * {@link #getBatchQuery}.
+	 */
+	boolean isBatchFetchable();
+
+	/**
+	 * Return the query to fetch the relation of several owning objects at once.
+	 *
+	 * @param session The session.
+	 * @param primaryKeys The primary keys of the owning objects.
+	 * @param revision The revision to be fetched.
+	 * @param removed Whether to return a query that includes the removed audit rows.
+	 */
+	Query getBatchQuery(SharedSessionContractImplementor session, Collection<?> primaryKeys, Number revision, boolean removed);
+
+	/**
+	 * @param row A row returned by the query.
+	 *
+	 * @return The primary key of the owning object the row belongs to.
+	 */
+	Object getReferencingId(Object row);
 }
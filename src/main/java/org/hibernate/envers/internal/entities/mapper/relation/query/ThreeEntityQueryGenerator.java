@@ -102,7 +102,7 @@ public final class ThreeEntityQueryGenerator extends AbstractRelationQueryGenera
 	}
 
 	@Override
-	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory) {
+	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch) {
 		final String originalIdPropertyName = configuration.getOriginalIdPropertyName();
 		final String eeOriginalIdPropertyPath = MIDDLE_ENTITY_ALIAS + "." + originalIdPropertyName;
 		// SELECT new list(ee) FROM middleEntity ee
@@ -126,7 +126,7 @@ public final class ThreeEntityQueryGenerator extends AbstractRelationQueryGenera
 				INDEX_ENTITY_ALIAS + "." + originalIdPropertyName
 		);
 		// ee.originalId.id_ref_ing = :id_ref_ing
-		referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery( rootParameters, originalIdPropertyName, true );
+		addReferencingIdRestriction( rootParameters, originalIdPropertyName, batch );
 
 		// ORDER BY
 		// Hibernate applies @OrderBy on map elements, not the key.
@@ -72,7 +72,7 @@ public final class TwoEntityOneAuditedQueryGenerator extends AbstractRelationQue
 	}
 
 	@Override
-	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory) {
+	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch) {
 		final String originalIdPropertyName = configuration.getOriginalIdPropertyName();
 		final String eeOriginalIdPropertyPath = MIDDLE_ENTITY_ALIAS + "." + originalIdPropertyName;
 		// SELECT new list(ee) FROM middleEntity ee
@@ -86,7 +86,7 @@ public final class TwoEntityOneAuditedQueryGenerator extends AbstractRelationQue
 				rootParameters, eeOriginalIdPropertyPath, referencedIdData.getOriginalMapper(), REFERENCED_ENTITY_ALIAS
 		);
 		// ee.originalId.id_ref_ing = :id_ref_ing
-		referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery( rootParameters, originalIdPropertyName, true );
+		addReferencingIdRestriction( rootParameters, originalIdPropertyName, batch );
 		// ORDER BY
 		if ( !StringHelper.isEmpty( orderByCollectionRole ) ) {
 			qb.addOrderFragment( REFERENCED_ENTITY_ALIAS, orderByCollectionRole );
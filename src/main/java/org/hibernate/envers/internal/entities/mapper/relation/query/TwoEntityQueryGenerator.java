@@ -82,7 +82,7 @@ public final class TwoEntityQueryGenerator extends AbstractRelationQueryGenerato
 	}
 
 	@Override
-	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory) {
+	protected QueryBuilder buildQueryBuilderCommon(SessionFactoryImplementor sessionFactory, boolean batch) {
 		final String originalIdPropertyName = configuration.getOriginalIdPropertyName();
 		final String eeOriginalIdPropertyPath = MIDDLE_ENTITY_ALIAS + "." + originalIdPropertyName;
 		// SELECT new list(ee) FROM middleEntity ee
@@ -97,7 +97,7 @@ public final class TwoEntityQueryGenerator extends AbstractRelationQueryGenerato
 				REFERENCED_ENTITY_ALIAS + "." + originalIdPropertyName
 		);
 		// ee.originalId.id_ref_ing = :id_ref_ing
-		referencingIdData.getPrefixedMapper().addNamedIdEqualsToQuery( rootParameters, originalIdPropertyName, true );
+		addReferencingIdRestriction( rootParameters, originalIdPropertyName, batch );
 
 		// ORDER BY
 		if ( !StringHelper.isEmpty( orderByCollectionRole ) ) {
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted when the audit data of a transaction is written, or queued for writing, before the transaction
+ * completes.
+ */
+@Name(AuditFlushEvent.NAME)
+@Label("Audit Flush")
+@Category({ "Hibernate ORM", "Envers" })
+@Description("Writing of the audit data of a transaction")
+@StackTrace(false)
+public class AuditFlushEvent extends Event {
+	public static final String NAME = "org.hibernate.envers.AuditFlush";
+
+	@Label("Work Units")
+	@Description("The number of audit work units written")
+	public int workUnits;
+
+	@Label("Merged Work Units")
+	@Description("The number of work units merged with an earlier work unit of the same entity")
+	public int mergedWorkUnits;
+
+	@Label("Undone Work Units")
+	@Description("The number of already performed work units which had to be removed")
+	public int undoneWorkUnits;
+
+	@Label("Audit Rows")
+	@Description("The number of audit rows inserted, only known when the rows are collected before being written")
+	public int auditRows;
+
+	@Label("Write Behind")
+	@Description("Whether the audit rows were queued to be written after the transaction")
+	public boolean writeBehind;
+
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+}
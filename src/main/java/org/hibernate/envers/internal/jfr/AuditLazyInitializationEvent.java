@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted when a lazy collection or *-to-one proxy of a historical entity is initialized.
+ */
+@Name(AuditLazyInitializationEvent.NAME)
+@Label("Audit Lazy Initialization")
+@Category({ "Hibernate ORM", "Envers" })
+@Description("Initialization of a lazy historical association")
+@StackTrace(false)
+public class AuditLazyInitializationEvent extends Event {
+	public static final String NAME = "org.hibernate.envers.AuditLazyInitialization";
+
+	public static final String COLLECTION = "collection";
+	public static final String TO_ONE = "to-one";
+
+	@Label("Association Kind")
+	public String associationKind;
+
+	@Label("Entity Name")
+	@Description("The name of the referenced entity, for a *-to-one association")
+	public String entityName;
+
+	@Label("Identifier")
+	@Description("The identifier of the referenced entity or of the collection owner")
+	public String identifier;
+
+	@Label("Revision")
+	public long revision;
+
+	@Label("Rows")
+	@Description("The number of collection elements, or one if the referenced entity was found")
+	public int rows;
+
+	@Label("Batch Size")
+	@Description("The number of collections loaded by the same query, zero if loaded by another collection's query, not set for *-to-one associations")
+	public int batchSize;
+
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Emitted when the results of an audit query are listed, splitting the time spent executing the query from the
+ * time spent mapping its rows.
+ */
+@Name(AuditQueryEvent.NAME)
+@Label("Audit Query")
+@Category({ "Hibernate ORM", "Envers" })
+@Description("Execution of an audit query")
+@StackTrace(false)
+public class AuditQueryEvent extends Event {
+	public static final String NAME = "org.hibernate.envers.AuditQuery";
+
+	@Label("Entity Name")
+	public String entityName;
+
+	@Label("Query Kind")
+	public String queryKind;
+
+	@Label("Rows")
+	public int rows;
+
+	@Label("Query Execution Time")
+	@Description("The time spent executing the query and reading its rows")
+	@Timespan
+	public long queryExecutionTime;
+
+	@Label("Mapping Time")
+	@Description("The time spent creating the historical entities or projections from the rows")
+	@Timespan
+	public long mappingTime;
+
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Emitted when the validity audit strategy sets the revision end of the previous audit rows of an audited entity
+ * or collection.
+ */
+@Name(RevisionEndUpdateEvent.NAME)
+@Label("Revision End Update")
+@Category({ "Hibernate ORM", "Envers" })
+@Description("Update of the revision end of the previous audit rows")
+@StackTrace(false)
+public class RevisionEndUpdateEvent extends Event {
+	public static final String NAME = "org.hibernate.envers.RevisionEndUpdate";
+
+	@Label("Audit Entity Name")
+	public String auditEntityName;
+
+	@Label("Statements")
+	@Description("The number of update statements executed, or of rows of a JDBC batch")
+	public int statements;
+
+	@Label("Updated Rows")
+	public int updatedRows;
+
+	@Label("Batched")
+	@Description("Whether the updates were executed as a JDBC batch")
+	public boolean batched;
+
+
+	@Override
+	public String toString() {
+		return NAME;
+	}
+}
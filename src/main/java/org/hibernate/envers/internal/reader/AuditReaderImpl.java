@@ -12,6 +12,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import jakarta.persistence.NoResultException;
 
@@ -19,11 +20,13 @@ import org.hibernate.HibernateException;
 import org.hibernate.NonUniqueResultException;
 import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.AuditReaderCacheStatistics;
 import org.hibernate.envers.CrossTypeRevisionChangesReader;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.internal.revisioninfo.RevisionTimeline;
 import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.AuditQueryCreator;
@@ -46,6 +49,8 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 	private final SessionImplementor sessionImplementor;
 	private final Session session;
 	private final FirstLevelCache firstLevelCache;
+	private final ToOneBatchFetchQueue toOneBatchFetchQueue;
+	private final CollectionBatchFetchQueue collectionBatchFetchQueue;
 	private final CrossTypeRevisionChangesReader crossTypeRevisionChangesReader;
 
 	public AuditReaderImpl(
@@ -56,7 +61,9 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		this.sessionImplementor = sessionImplementor;
 		this.session = session;
 
-		firstLevelCache = new FirstLevelCache();
+		firstLevelCache = new FirstLevelCache( enversService.getConfig().getReaderCacheMaxSize() );
+		toOneBatchFetchQueue = new ToOneBatchFetchQueue( enversService.getConfig().getToOneBatchFetchSize() );
+		collectionBatchFetchQueue = new CollectionBatchFetchQueue( enversService.getConfig().getCollectionBatchFetchSize() );
 		crossTypeRevisionChangesReader = new CrossTypeRevisionChangesReaderImpl( this, enversService );
 	}
 
@@ -66,6 +73,19 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		}
 	}
 
+	@Override
+	public void clear() {
+		checkSession();
+		firstLevelCache.clear();
+		toOneBatchFetchQueue.clear();
+		collectionBatchFetchQueue.clear();
+	}
+
+	@Override
+	public AuditReaderCacheStatistics getCacheStatistics() {
+		return firstLevelCache;
+	}
+
 	@Override
 	public SessionImplementor getSessionImplementor() {
 		return sessionImplementor;
@@ -81,6 +101,16 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return firstLevelCache;
 	}
 
+	@Override
+	public ToOneBatchFetchQueue getToOneBatchFetchQueue() {
+		return toOneBatchFetchQueue;
+	}
+
+	@Override
+	public CollectionBatchFetchQueue getCollectionBatchFetchQueue() {
+		return collectionBatchFetchQueue;
+	}
+
 	@Override
 	public <T> T find(Class<T> cls, Object primaryKey, Number revision) throws
 			IllegalArgumentException, NotAuditedException, IllegalStateException {
@@ -110,8 +140,9 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		checkPositive( revision, "Entity revision" );
 		checkSession();
 
-		if ( firstLevelCache.contains( entityName, revision, primaryKey ) ) {
-			return (T) firstLevelCache.get( entityName, revision, primaryKey );
+		final Object cached = firstLevelCache.get( entityName, revision, primaryKey );
+		if ( cached != null ) {
+			return (T) cached;
 		}
 
 		Object result;
@@ -174,6 +205,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		checkPositive( revision, "Entity revision" );
 		checkSession();
 
+		final Date revisionDate = findInRevisionTimeline( timeline -> timeline.getRevisionDate( session, revision ) );
+		if ( revisionDate != null ) {
+			return revisionDate;
+		}
+
 		final Query<?> query = enversService.getRevisionInfoQueryCreator().getRevisionDateQuery( session, revision );
 
 		try {
@@ -203,6 +239,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		checkNotNull( date, "Date of revision" );
 		checkSession();
 
+		final Number revision = findInRevisionTimeline( timeline -> timeline.getRevisionNumberForDate( session, date ) );
+		if ( revision != null ) {
+			return revision;
+		}
+
 		final Query<?> query = enversService.getRevisionInfoQueryCreator().getRevisionNumberForDateQuery( session, date );
 
 		try {
@@ -223,6 +264,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		checkNotNull( date, "Date of revision" );
 		checkSession();
 
+		final Number revision = findInRevisionTimeline( timeline -> timeline.getRevisionNumberForDate( session, date ) );
+		if ( revision != null ) {
+			return revision;
+		}
+
 		final Query<?> query = enversService.getRevisionInfoQueryCreator().getRevisionNumberForDateQuery( session, date );
 
 		try {
@@ -243,6 +289,11 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		checkNotNull( date, "Date of revision" );
 		checkSession();
 
+		final Number revision = findInRevisionTimeline( timeline -> timeline.getRevisionNumberForDate( session, date ) );
+		if ( revision != null ) {
+			return revision;
+		}
+
 		final Query<?> query = enversService.getRevisionInfoQueryCreator().getRevisionNumberForDateQuery( session, date );
 
 		try {
@@ -258,6 +309,15 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		}
 	}
 
+	/**
+	 * @return The result of the lookup in the revision timeline, or {@code null} if the timeline is disabled or
+	 * cannot answer the lookup, in which case the revision table has to be queried.
+	 */
+	private <R> R findInRevisionTimeline(Function<RevisionTimeline, R> lookup) {
+		final RevisionTimeline revisionTimeline = enversService.getRevisionTimeline();
+		return revisionTimeline == null ? null : lookup.apply( revisionTimeline );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T findRevision(Class<T> revisionEntityClass, Number revision)
@@ -373,9 +433,10 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		if ( entity instanceof HibernateProxy ) {
 			entity = ( (HibernateProxy) entity ).getHibernateLazyInitializer().getImplementation();
 		}
-		if ( firstLevelCache.containsEntityName( primaryKey, revision, entity ) ) {
+		final String entityName = firstLevelCache.getFromEntityNameCache( primaryKey, revision, entity );
+		if ( entityName != null ) {
 			// it's on envers FLC!
-			return firstLevelCache.getFromEntityNameCache( primaryKey, revision, entity );
+			return entityName;
 		}
 		else {
 			throw new HibernateException(
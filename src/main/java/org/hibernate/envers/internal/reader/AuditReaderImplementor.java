@@ -19,4 +19,8 @@ public interface AuditReaderImplementor extends AuditReader {
 	Session getSession();
 
 	FirstLevelCache getFirstLevelCache();
+
+	ToOneBatchFetchQueue getToOneBatchFetchQueue();
+
+	CollectionBatchFetchQueue getCollectionBatchFetchQueue();
 }
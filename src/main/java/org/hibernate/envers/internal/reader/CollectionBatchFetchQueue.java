@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.envers.internal.entities.mapper.relation.lazy.initializor.AbstractCollectionInitializor;
+import org.hibernate.envers.internal.entities.mapper.relation.query.RelationQueryGenerator;
+import org.hibernate.envers.internal.tools.Triple;
+
+/**
+ * Keeps track, per audit reader, of the uninitialized historic collections, so that a collection being initialized
+ * can initialize other pending collections of the same role and revision with the same query.  Collections of the
+ * same role share their {@link RelationQueryGenerator}.
+ * <p>
+ * The number of pending collections is bounded, as collections may be discarded without being initialized: beyond
+ * a number of batches, the collections pending for the longest time are dropped, and then initialized by their own
+ * query if ever accessed.
+ */
+public class CollectionBatchFetchQueue {
+	/**
+	 * The number of batches of pending collections kept.
+	 */
+	private static final int MAX_PENDING_BATCHES = 64;
+
+	private final Map<Triple<RelationQueryGenerator, Number, Boolean>, Map<Object, AbstractCollectionInitializor<?>>> pendingInitializors =
+			new LinkedHashMap<>();
+	private final int maxPendingInitializors;
+	private int pendingInitializorCount;
+
+	/**
+	 * @param batchSize The maximum number of collections initialized by a query.
+	 */
+	public CollectionBatchFetchQueue(int batchSize) {
+		this.maxPendingInitializors = Math.max( batchSize, 1 ) * MAX_PENDING_BATCHES;
+	}
+
+	/**
+	 * Registers the initializor of a collection that has not been initialized yet.
+	 *
+	 * @param queryGenerator The query generator of the collection role.
+	 * @param revision The revision of the collection.
+	 * @param removed Whether the collection owner may have been removed at that revision.
+	 * @param primaryKey The identifier of the collection owner.
+	 * @param initializor The initializor of the collection.
+	 */
+	public void addPendingInitializor(
+			RelationQueryGenerator queryGenerator,
+			Number revision,
+			boolean removed,
+			Object primaryKey,
+			AbstractCollectionInitializor<?> initializor) {
+		final AbstractCollectionInitializor<?> previous = pendingInitializors
+				.computeIfAbsent( Triple.make( queryGenerator, revision, removed ), k -> new LinkedHashMap<>() )
+				.put( primaryKey, initializor );
+		if ( previous == null && ++pendingInitializorCount > maxPendingInitializors ) {
+			removeEldestPendingInitializor();
+		}
+	}
+
+	private void removeEldestPendingInitializor() {
+		final Iterator<Map<Object, AbstractCollectionInitializor<?>>> batches = pendingInitializors.values().iterator();
+		final Map<Object, AbstractCollectionInitializor<?>> eldestBatch = batches.next();
+		final Iterator<AbstractCollectionInitializor<?>> initializors = eldestBatch.values().iterator();
+		initializors.next();
+		initializors.remove();
+		pendingInitializorCount--;
+		if ( eldestBatch.isEmpty() ) {
+			batches.remove();
+		}
+	}
+
+	/**
+	 * Takes the initializors of the collections to initialize along with the given one, which is always the first
+	 * initializor of the batch.  The returned initializors are no longer pending.
+	 *
+	 * @param queryGenerator The query generator of the collection role.
+	 * @param revision The revision of the collection.
+	 * @param removed Whether the collection owner may have been removed at that revision.
+	 * @param primaryKey The identifier of the owner of the collection being initialized.
+	 * @param initializor The initializor of the collection being initialized.
+	 * @param batchSize The maximum number of initializors to return.
+	 *
+	 * @return The initializors to run, by identifier of their collection owner.
+	 */
+	public Map<Object, AbstractCollectionInitializor<?>> takeBatch(
+			RelationQueryGenerator queryGenerator,
+			Number revision,
+			boolean removed,
+			Object primaryKey,
+			AbstractCollectionInitializor<?> initializor,
+			int batchSize) {
+		final Map<Object, AbstractCollectionInitializor<?>> batch = new LinkedHashMap<>();
+		batch.put( primaryKey, initializor );
+
+		final Triple<RelationQueryGenerator, Number, Boolean> key = Triple.make( queryGenerator, revision, removed );
+		final Map<Object, AbstractCollectionInitializor<?>> initializors = pendingInitializors.get( key );
+		if ( initializors != null ) {
+			if ( initializors.remove( primaryKey, initializor ) ) {
+				pendingInitializorCount--;
+			}
+			final Iterator<Map.Entry<Object, AbstractCollectionInitializor<?>>> iterator = initializors.entrySet().iterator();
+			while ( batch.size() < batchSize && iterator.hasNext() ) {
+				final Map.Entry<Object, AbstractCollectionInitializor<?>> entry = iterator.next();
+				batch.putIfAbsent( entry.getKey(), entry.getValue() );
+				iterator.remove();
+				pendingInitializorCount--;
+			}
+			if ( initializors.isEmpty() ) {
+				pendingInitializors.remove( key );
+			}
+		}
+		return batch;
+	}
+
+	public void clear() {
+		pendingInitializors.clear();
+		pendingInitializorCount = 0;
+	}
+}
@@ -6,21 +6,25 @@ package org.hibernate.envers.internal.reader;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
-import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.CrossTypeRevisionChangesReader;
 import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.internal.revisioninfo.ModifiedEntityNamesReader;
+import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.tools.EntityTools;
+import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.criteria.internal.RevisionTypeAuditExpression;
 import org.hibernate.envers.tools.Pair;
-import org.hibernate.query.Query;
 
 import static org.hibernate.envers.internal.tools.ArgumentsTools.checkNotNull;
 import static org.hibernate.envers.internal.tools.ArgumentsTools.checkPositive;
@@ -29,8 +33,12 @@ import static org.hibernate.envers.internal.tools.ArgumentsTools.checkPositive;
  * @author Lukasz Antoniak (lukasz dot antoniak at gmail dot com)
  */
 public class CrossTypeRevisionChangesReaderImpl implements CrossTypeRevisionChangesReader {
+	private static final Comparator<Number> REVISION_NUMBER_ORDER = Comparator.comparingLong( Number::longValue );
+
 	private final AuditReaderImplementor auditReaderImplementor;
 	private final EnversService enversService;
+	// the entity names and corresponding Java classes modified in each revision, which never change once committed
+	private final Map<Long, Set<Pair<String, Class>>> entityTypesCache = new HashMap<>();
 
 	public CrossTypeRevisionChangesReaderImpl(
 			AuditReaderImplementor auditReaderImplementor,
@@ -81,15 +89,56 @@ public class CrossTypeRevisionChangesReaderImpl implements CrossTypeRevisionChan
 	public Map<RevisionType, List<Object>> findEntitiesGroupByRevisionType(Number revision)
 			throws IllegalStateException, IllegalArgumentException {
 		final Set<Pair<String, Class>> entityTypes = findEntityTypes( revision );
-		final Map<RevisionType, List<Object>> result = new HashMap<>();
-		for ( RevisionType revisionType : RevisionType.values() ) {
-			result.put( revisionType, new ArrayList<>() );
-			for ( Pair<String, Class> type : entityTypes ) {
-				final List<Object> list = auditReaderImplementor.createQuery()
-						.forEntitiesModifiedAtRevision( type.getSecond(), type.getFirst(), revision )
-						.add( new RevisionTypeAuditExpression( null, revisionType, "=" ) )
-						.getResultList();
-				result.get( revisionType ).addAll( list );
+		final Map<RevisionType, List<Object>> result = createRevisionTypeMap();
+		for ( Pair<String, Class> type : entityTypes ) {
+			// a single query per entity type, the rows being grouped by revision type in memory
+			final List<Object[]> rows = auditReaderImplementor.createQuery()
+					.forEntitiesModifiedAtRevision( type.getSecond(), type.getFirst(), revision )
+					.addProjection( AuditEntity.selectEntity( false ) )
+					.addProjection( AuditEntity.revisionType() )
+					.getResultList();
+			for ( Object[] row : rows ) {
+				result.get( (RevisionType) row[1] ).add( row[0] );
+			}
+		}
+		return result;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<Number, Map<RevisionType, List<Object>>> findEntitiesGroupByRevisionType(
+			Number fromRevision,
+			Number toRevision) throws IllegalStateException, IllegalArgumentException {
+		checkNotNull( fromRevision, "First entity revision" );
+		checkPositive( fromRevision, "First entity revision" );
+		checkNotNull( toRevision, "Last entity revision" );
+		checkPositive( toRevision, "Last entity revision" );
+		if ( fromRevision.longValue() > toRevision.longValue() ) {
+			throw new IllegalArgumentException( "First entity revision cannot be greater than last entity revision." );
+		}
+		checkSession();
+
+		final Map<Number, Set<Pair<String, Class>>> entityTypesByRevision = loadEntityTypes( fromRevision, toRevision );
+
+		final Map<Number, Map<RevisionType, List<Object>>> result = new TreeMap<>( REVISION_NUMBER_ORDER );
+		final Set<Pair<String, Class>> entityTypes = new HashSet<>();
+		for ( Map.Entry<Number, Set<Pair<String, Class>>> entry : entityTypesByRevision.entrySet() ) {
+			result.put( entry.getKey(), createRevisionTypeMap() );
+			entityTypes.addAll( entry.getValue() );
+		}
+
+		final RevisionInfoNumberReader revisionInfoNumberReader = enversService.getRevisionInfoNumberReader();
+		for ( Pair<String, Class> type : entityTypes ) {
+			// a single query per entity type for the whole range
+			final List<Object[]> rows = auditReaderImplementor.createQuery()
+					.forRevisionsOfEntity( type.getSecond(), type.getFirst(), false, true )
+					.add( AuditEntity.revisionNumber().between( fromRevision, toRevision ) )
+					.getResultList();
+			for ( Object[] row : rows ) {
+				final Number revision = revisionInfoNumberReader.getRevisionNumber( row[1] );
+				result.computeIfAbsent( revision, k -> createRevisionTypeMap() )
+						.get( (RevisionType) row[2] )
+						.add( row[0] );
 			}
 		}
 		return result;
@@ -103,35 +152,46 @@ public class CrossTypeRevisionChangesReaderImpl implements CrossTypeRevisionChan
 		checkPositive( revision, "Entity revision" );
 		checkSession();
 
-		final Session session = auditReaderImplementor.getSession();
-		final SessionImplementor sessionImplementor = auditReaderImplementor.getSessionImplementor();
+		final Set<Pair<String, Class>> cached = entityTypesCache.get( revision.longValue() );
+		if ( cached != null ) {
+			return cached;
+		}
 
-		final Set<Number> revisions = new HashSet<>( 1 );
-		revisions.add( revision );
-		final Query<?> query = enversService.getRevisionInfoQueryCreator().getRevisionsQuery( session, revisions );
-		final Object revisionInfo = query.uniqueResult();
-
-		if ( revisionInfo != null ) {
-			// If revision exists.
-			final Set<String> entityNames = enversService.getModifiedEntityNamesReader().getModifiedEntityNames( revisionInfo );
-			if ( entityNames != null ) {
-				// Generate result that contains entity names and corresponding Java classes.
-				final Set<Pair<String, Class>> result = new HashSet<>();
-				for ( String entityName : entityNames ) {
-					result.add(
-							Pair.make(
-									entityName, EntityTools.getEntityClass(
-									sessionImplementor,
-									entityName
-							)
-							)
-					);
-				}
-				return result;
+		final Set<Pair<String, Class>> result = loadEntityTypes( revision, revision ).get( revision );
+		return result != null ? result : Collections.EMPTY_SET;
+	}
+
+	/**
+	 * Reads the names of the entities modified in the given range of revisions, without loading the revision
+	 * entities, and caches the entity names and corresponding Java classes of each revision.
+	 */
+	private Map<Number, Set<Pair<String, Class>>> loadEntityTypes(Number fromRevision, Number toRevision) {
+		final List<Object[]> rows = enversService.getRevisionInfoQueryCreator()
+				.getModifiedEntityNamesQuery( auditReaderImplementor.getSession(), fromRevision, toRevision )
+				.getResultList();
+
+		final SessionImplementor sessionImplementor = auditReaderImplementor.getSessionImplementor();
+		final ModifiedEntityNamesReader modifiedEntityNamesReader = enversService.getModifiedEntityNamesReader();
+		final Map<Number, Set<Pair<String, Class>>> result = new TreeMap<>( REVISION_NUMBER_ORDER );
+		for ( Object[] row : rows ) {
+			final Set<Pair<String, Class>> entityTypes = result.computeIfAbsent( (Number) row[0], k -> new HashSet<>() );
+			for ( String entityName : modifiedEntityNamesReader.getModifiedEntityNamesFromValue( row[1] ) ) {
+				entityTypes.add( Pair.make( entityName, EntityTools.getEntityClass( sessionImplementor, entityName ) ) );
 			}
 		}
+		for ( Map.Entry<Number, Set<Pair<String, Class>>> entry : result.entrySet() ) {
+			entry.setValue( Collections.unmodifiableSet( entry.getValue() ) );
+			entityTypesCache.put( entry.getKey().longValue(), entry.getValue() );
+		}
+		return result;
+	}
 
-		return Collections.EMPTY_SET;
+	private static Map<RevisionType, List<Object>> createRevisionTypeMap() {
+		final Map<RevisionType, List<Object>> result = new EnumMap<>( RevisionType.class );
+		for ( RevisionType revisionType : RevisionType.values() ) {
+			result.put( revisionType, new ArrayList<>() );
+		}
+		return result;
 	}
 
 	private void checkSession() {
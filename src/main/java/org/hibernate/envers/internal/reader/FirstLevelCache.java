@@ -5,24 +5,27 @@
 package org.hibernate.envers.internal.reader;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
+import org.hibernate.envers.AuditReaderCacheStatistics;
 import org.hibernate.envers.internal.EnversMessageLogger;
-import org.hibernate.envers.internal.tools.Triple;
 
 import org.jboss.logging.Logger;
 
-import static org.hibernate.envers.internal.tools.Tools.newHashMap;
-import static org.hibernate.envers.internal.tools.Triple.make;
-
 /**
  * First level cache for versioned entities, versions reader-scoped. Each entity is uniquely identified by a
  * revision number and entity id.
+ * <p>
+ * Entries are indexed per entity name, revision and id, so that lookups do not allocate composite keys.  When
+ * a maximum size is given, the cache evicts entries using the clock algorithm, an approximation of LRU: each
+ * lookup marks its entry as referenced, and the eviction hand skips (and unmarks) referenced entries.
  *
  * @author Adam Warski (adam at warski dot org)
  * @author Hern&aacute;n Chanfreau
  */
-public class FirstLevelCache {
+public class FirstLevelCache implements AuditReaderCacheStatistics {
 	private static final EnversMessageLogger LOG = Logger.getMessageLogger(
 			MethodHandles.lookup(),
 			EnversMessageLogger.class,
@@ -30,28 +33,57 @@ public class FirstLevelCache {
 	);
 
 	/**
-	 * cache for resolve an object for a given id, revision and entityName.
+	 * cache for resolve an object for a given entityName, revision and id.
+	 */
+	private final Map<String, Map<Number, Map<Object, Entry>>> cache = new HashMap<>();
+
+	/**
+	 * used to resolve the entityName for a given revision, id and entity; entries sharing the revision and id
+	 * are chained.
 	 */
-	private final Map<Triple<String, Number, Object>, Object> cache;
+	private final Map<Number, Map<Object, Entry>> entityNameCache = new HashMap<>();
 
 	/**
-	 * used to resolve the entityName for a given id, revision and entity.
+	 * the clock of a bounded cache, {@code null} if the cache is unbounded.
 	 */
-	private final Map<Triple<Object, Number, Object>, String> entityNameCache;
+	private final Entry[] clock;
+	private final int[] freeSlots;
+	private int freeSlotCount;
+	private int hand;
+
+	private int size;
+	private long hitCount;
+	private long missCount;
+	private long evictionCount;
 
 	public FirstLevelCache() {
-		cache = newHashMap();
-		entityNameCache = newHashMap();
+		this( 0 );
+	}
+
+	/**
+	 * @param maxSize The maximum number of cached entities, or {@code 0} for an unbounded cache.
+	 */
+	public FirstLevelCache(int maxSize) {
+		if ( maxSize > 0 ) {
+			clock = new Entry[maxSize];
+			freeSlots = new int[maxSize];
+			resetFreeSlots();
+		}
+		else {
+			clock = null;
+			freeSlots = null;
+		}
 	}
 
 	public Object get(String entityName, Number revision, Object id) {
-		LOG.debugf(
-				"Resolving object from First Level Cache: EntityName:%s - primaryKey:%s - revision:%s",
-				entityName,
-				id,
-				revision
-		);
-		return cache.get( make( entityName, revision, id ) );
+		final Entry entry = getEntry( entityName, revision, id );
+		if ( entry == null ) {
+			missCount++;
+			return null;
+		}
+		hitCount++;
+		entry.referenced = true;
+		return entry.entity;
 	}
 
 	public void put(String entityName, Number revision, Object id, Object entity) {
@@ -61,11 +93,68 @@ public class FirstLevelCache {
 				revision,
 				entityName
 		);
-		cache.put( make( entityName, revision, id ), entity );
+		Entry entry = getEntry( entityName, revision, id );
+		if ( entry != null ) {
+			if ( entry.entity != entity ) {
+				unlinkEntityName( entry );
+				entry.entity = entity;
+			}
+			entry.referenced = true;
+			return;
+		}
+
+		entry = new Entry( entityName, revision, id, entity );
+		if ( clock != null ) {
+			// acquired before indexing the new entry, as the eviction may remove emptied index maps
+			entry.slot = acquireSlot();
+			clock[entry.slot] = entry;
+		}
+		cache.computeIfAbsent( entityName, k -> new HashMap<>() )
+				.computeIfAbsent( revision, k -> new HashMap<>() )
+				.put( id, entry );
+		size++;
 	}
 
 	public boolean contains(String entityName, Number revision, Object id) {
-		return cache.containsKey( make( entityName, revision, id ) );
+		return getEntry( entityName, revision, id ) != null;
+	}
+
+	/**
+	 * Removes an entity from the cache.
+	 *
+	 * @param entityName entity name
+	 * @param revision revision number
+	 * @param id primaryKey
+	 */
+	public void remove(String entityName, Number revision, Object id) {
+		LOG.debugf(
+				"Removing entity from First Level Cache:  - primaryKey:%s - revision:%s - entityName:%s",
+				id,
+				revision,
+				entityName
+		);
+		final Entry entry = getEntry( entityName, revision, id );
+		if ( entry != null ) {
+			removeEntry( entry );
+			if ( clock != null ) {
+				clock[entry.slot] = null;
+				freeSlots[freeSlotCount++] = entry.slot;
+			}
+		}
+	}
+
+	/**
+	 * Removes all entities from the cache.  The statistics are not reset.
+	 */
+	public void clear() {
+		cache.clear();
+		entityNameCache.clear();
+		if ( clock != null ) {
+			Arrays.fill( clock, null );
+			resetFreeSlots();
+			hand = 0;
+		}
+		size = 0;
 	}
 
 	/**
@@ -84,7 +173,16 @@ public class FirstLevelCache {
 				entity.getClass().getName(),
 				entityName
 		);
-		entityNameCache.put( make( id, revision, entity ), entityName );
+		Entry entry = getEntry( entityName, revision, id );
+		if ( entry == null || entry.entity != entity ) {
+			put( entityName, revision, id, entity );
+			entry = getEntry( entityName, revision, id );
+		}
+		if ( !entry.entityNameCached ) {
+			final Map<Object, Entry> entries = entityNameCache.computeIfAbsent( revision, k -> new HashMap<>() );
+			entry.nextWithSameId = entries.put( id, entry );
+			entry.entityNameCached = true;
+		}
 	}
 
 	/**
@@ -97,13 +195,13 @@ public class FirstLevelCache {
 	 * @return The appropriate entity name
 	 */
 	public String getFromEntityNameCache(Object id, Number revision, Object entity) {
-		LOG.debugf(
-				"Trying to resolve entityName from First Level Cache: - primaryKey:%s - revision:%s - entity:%s",
-				id,
-				revision,
-				entity
-		);
-		return entityNameCache.get( make( id, revision, entity ) );
+		// not counted as a hit or miss, which are those of the lookups of entity instances
+		final Entry entry = getEntityNameEntry( id, revision, entity );
+		if ( entry == null ) {
+			return null;
+		}
+		entry.referenced = true;
+		return entry.entityName;
 	}
 
 	/**
@@ -114,6 +212,143 @@ public class FirstLevelCache {
 	 * @return true if entityNameCache contains the triple
 	 */
 	public boolean containsEntityName(Object id, Number revision, Object entity) {
-		return entityNameCache.containsKey( make( id, revision, entity ) );
+		return getEntityNameEntry( id, revision, entity ) != null;
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount;
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	private Entry getEntry(String entityName, Number revision, Object id) {
+		final Map<Number, Map<Object, Entry>> revisions = cache.get( entityName );
+		if ( revisions == null ) {
+			return null;
+		}
+		final Map<Object, Entry> entries = revisions.get( revision );
+		return entries == null ? null : entries.get( id );
+	}
+
+	private Entry getEntityNameEntry(Object id, Number revision, Object entity) {
+		final Map<Object, Entry> entries = entityNameCache.get( revision );
+		if ( entries != null ) {
+			for ( Entry entry = entries.get( id ); entry != null; entry = entry.nextWithSameId ) {
+				if ( entry.entity.equals( entity ) ) {
+					return entry;
+				}
+			}
+		}
+		return null;
+	}
+
+	private int acquireSlot() {
+		if ( freeSlotCount > 0 ) {
+			return freeSlots[--freeSlotCount];
+		}
+
+		// the clock is full, advance the hand up to the first entry not referenced since the last pass
+		while ( clock[hand].referenced ) {
+			clock[hand].referenced = false;
+			hand = ( hand + 1 ) % clock.length;
+		}
+		final int slot = hand;
+		final Entry victim = clock[slot];
+		LOG.debugf(
+				"Evicting entity from First Level Cache:  - primaryKey:%s - revision:%s - entityName:%s",
+				victim.id,
+				victim.revision,
+				victim.entityName
+		);
+		removeEntry( victim );
+		clock[slot] = null;
+		evictionCount++;
+		hand = ( hand + 1 ) % clock.length;
+		return slot;
+	}
+
+	private void removeEntry(Entry entry) {
+		unlinkEntityName( entry );
+
+		final Map<Number, Map<Object, Entry>> revisions = cache.get( entry.entityName );
+		final Map<Object, Entry> entries = revisions.get( entry.revision );
+		entries.remove( entry.id );
+		if ( entries.isEmpty() ) {
+			revisions.remove( entry.revision );
+			if ( revisions.isEmpty() ) {
+				cache.remove( entry.entityName );
+			}
+		}
+		size--;
+	}
+
+	private void unlinkEntityName(Entry entry) {
+		if ( !entry.entityNameCached ) {
+			return;
+		}
+		entry.entityNameCached = false;
+
+		final Map<Object, Entry> entries = entityNameCache.get( entry.revision );
+		final Entry head = entries.get( entry.id );
+		if ( head == entry ) {
+			if ( entry.nextWithSameId == null ) {
+				entries.remove( entry.id );
+				if ( entries.isEmpty() ) {
+					entityNameCache.remove( entry.revision );
+				}
+			}
+			else {
+				entries.put( entry.id, entry.nextWithSameId );
+			}
+		}
+		else {
+			Entry previous = head;
+			while ( previous.nextWithSameId != entry ) {
+				previous = previous.nextWithSameId;
+			}
+			previous.nextWithSameId = entry.nextWithSameId;
+		}
+		entry.nextWithSameId = null;
+	}
+
+	private void resetFreeSlots() {
+		// slots are handed out in ascending order
+		for ( int i = 0; i < freeSlots.length; i++ ) {
+			freeSlots[i] = freeSlots.length - 1 - i;
+		}
+		freeSlotCount = freeSlots.length;
+	}
+
+	private static final class Entry {
+		private final String entityName;
+		private final Number revision;
+		private final Object id;
+		private Object entity;
+		// new entries start referenced, so that entities being mapped are not evicted by the next insertion
+		private boolean referenced = true;
+		private boolean entityNameCached;
+		private Entry nextWithSameId;
+		private int slot;
+
+		private Entry(String entityName, Number revision, Object id, Object entity) {
+			this.entityName = entityName;
+			this.revision = revision;
+			this.id = id;
+			this.entity = entity;
+		}
 	}
 }
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.reader;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.envers.internal.tools.Triple;
+
+/**
+ * Keeps track, per audit reader, of the identifiers of the uninitialized proxies of audited *-to-one
+ * associations, so that a proxy being initialized can load other pending proxies of the same entity and
+ * revision with the same query.
+ * <p>
+ * The number of pending identifiers is bounded, as proxies may be discarded without being initialized: beyond a
+ * number of batches, the identifiers pending for the longest time are dropped, and their proxies then load their
+ * entity alone if ever initialized.
+ */
+public class ToOneBatchFetchQueue {
+	/**
+	 * The number of batches of pending identifiers kept.
+	 */
+	private static final int MAX_PENDING_BATCHES = 64;
+
+	private final Map<Triple<String, Number, Boolean>, Set<Object>> pendingIds = new LinkedHashMap<>();
+	private final int maxPendingIds;
+	private int pendingIdCount;
+
+	/**
+	 * @param batchSize The maximum number of entities loaded by a query.
+	 */
+	public ToOneBatchFetchQueue(int batchSize) {
+		this.maxPendingIds = Math.max( batchSize, 1 ) * MAX_PENDING_BATCHES;
+	}
+
+	/**
+	 * Registers the identifier of a proxy that has not been initialized yet.
+	 *
+	 * @param entityName The name of the referenced entity.
+	 * @param revision The revision at which the entity is referenced.
+	 * @param removed Whether the referenced entity may have been removed at that revision.
+	 * @param id The identifier of the referenced entity.
+	 */
+	public void addPendingId(String entityName, Number revision, boolean removed, Object id) {
+		final boolean added = pendingIds
+				.computeIfAbsent( Triple.make( entityName, revision, removed ), k -> new LinkedHashSet<>() )
+				.add( id );
+		if ( added && ++pendingIdCount > maxPendingIds ) {
+			removeEldestPendingId();
+		}
+	}
+
+	private void removeEldestPendingId() {
+		final Iterator<Set<Object>> batches = pendingIds.values().iterator();
+		final Set<Object> eldestBatch = batches.next();
+		final Iterator<Object> ids = eldestBatch.iterator();
+		ids.next();
+		ids.remove();
+		pendingIdCount--;
+		if ( eldestBatch.isEmpty() ) {
+			batches.remove();
+		}
+	}
+
+	/**
+	 * Takes the identifiers to load along with the given one, which is always the first identifier of the batch.
+	 * The returned identifiers are no longer pending.
+	 *
+	 * @param entityName The name of the referenced entity.
+	 * @param revision The revision at which the entity is referenced.
+	 * @param removed Whether the referenced entity may have been removed at that revision.
+	 * @param id The identifier of the entity being loaded.
+	 * @param batchSize The maximum number of identifiers to return.
+	 *
+	 * @return The identifiers to load.
+	 */
+	public List<Object> takeBatch(String entityName, Number revision, boolean removed, Object id, int batchSize) {
+		final List<Object> batch = new ArrayList<>( batchSize );
+		batch.add( id );
+
+		final Triple<String, Number, Boolean> key = Triple.make( entityName, revision, removed );
+		final Set<Object> ids = pendingIds.get( key );
+		if ( ids != null ) {
+			if ( ids.remove( id ) ) {
+				pendingIdCount--;
+			}
+			final Iterator<Object> iterator = ids.iterator();
+			while ( batch.size() < batchSize && iterator.hasNext() ) {
+				batch.add( iterator.next() );
+				iterator.remove();
+				pendingIdCount--;
+			}
+			if ( ids.isEmpty() ) {
+				pendingIds.remove( key );
+			}
+		}
+		return batch;
+	}
+
+	public void clear() {
+		pendingIds.clear();
+		pendingIdCount = 0;
+	}
+}
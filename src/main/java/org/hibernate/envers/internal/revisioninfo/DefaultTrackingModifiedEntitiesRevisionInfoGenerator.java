@@ -27,6 +27,7 @@ import org.hibernate.service.ServiceRegistry;
 public class DefaultTrackingModifiedEntitiesRevisionInfoGenerator extends DefaultRevisionInfoGenerator {
 	private final Setter modifiedEntityNamesSetter;
 	private final Getter modifiedEntityNamesGetter;
+	private final EntityTypeIdRegistry entityTypeIdRegistry;
 
 	public DefaultTrackingModifiedEntitiesRevisionInfoGenerator(
 			String revisionInfoEntityName,
@@ -35,9 +36,33 @@ public class DefaultTrackingModifiedEntitiesRevisionInfoGenerator extends Defaul
 			RevisionTimestampValueResolver timestampValueResolver,
 			PropertyData modifiedEntityNamesData,
 			ServiceRegistry serviceRegistry) {
+		this(
+				revisionInfoEntityName,
+				revisionInfoClass,
+				listenerClass,
+				timestampValueResolver,
+				modifiedEntityNamesData,
+				null,
+				serviceRegistry
+		);
+	}
+
+	/**
+	 * @param entityTypeIdRegistry The registry encoding the modified entity names into a single string property,
+	 * or {@code null} if the property is a set of entity names.
+	 */
+	public DefaultTrackingModifiedEntitiesRevisionInfoGenerator(
+			String revisionInfoEntityName,
+			Class<?> revisionInfoClass,
+			Class<? extends RevisionListener> listenerClass,
+			RevisionTimestampValueResolver timestampValueResolver,
+			PropertyData modifiedEntityNamesData,
+			EntityTypeIdRegistry entityTypeIdRegistry,
+			ServiceRegistry serviceRegistry) {
 		super( revisionInfoEntityName, revisionInfoClass, listenerClass, timestampValueResolver, serviceRegistry );
 		modifiedEntityNamesSetter = ReflectionTools.getSetter( revisionInfoClass, modifiedEntityNamesData, serviceRegistry );
 		modifiedEntityNamesGetter = ReflectionTools.getGetter( revisionInfoClass, modifiedEntityNamesData, serviceRegistry );
+		this.entityTypeIdRegistry = entityTypeIdRegistry;
 	}
 
 	@Override
@@ -49,6 +74,15 @@ public class DefaultTrackingModifiedEntitiesRevisionInfoGenerator extends Defaul
 			RevisionType revisionType,
 			Object revisionEntity) {
 		super.entityChanged( entityClass, entityName, entityId, revisionType, revisionEntity );
+		if ( entityTypeIdRegistry != null ) {
+			final String encodedEntityNames = (String) modifiedEntityNamesGetter.get( revisionEntity );
+			final String newEncodedEntityNames = entityTypeIdRegistry.add( encodedEntityNames, entityName );
+			if ( !newEncodedEntityNames.equals( encodedEntityNames ) ) {
+				modifiedEntityNamesSetter.set( revisionEntity, newEncodedEntityNames );
+			}
+			return;
+		}
+
 		Set<String> modifiedEntityNames = (Set<String>) modifiedEntityNamesGetter.get( revisionEntity );
 		if ( modifiedEntityNames == null ) {
 			modifiedEntityNames = new HashSet<>();
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.revisioninfo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import org.hibernate.envers.boot.EnversMappingException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Assigns a stable identifier to each entity name, used to store the names of the entities modified in a revision
+ * as a single compact string on the revision entity instead of one row per entity name.
+ * <p>
+ * The identifier of an entity name is the CRC-32 checksum of the name, written in base 36, so that it does not
+ * depend on the other mapped entities nor on the order in which they are mapped.  The encoded form is the sorted,
+ * comma separated list of the identifiers of the modified entities.
+ */
+public class EntityTypeIdRegistry {
+	private static final Logger log = Logger.getLogger( EntityTypeIdRegistry.class );
+
+	private static final char SEPARATOR = ',';
+
+	private final Map<String, String> entityNamesByTypeId = new HashMap<>();
+
+	/**
+	 * @param entityNames The names of all the entities whose modifications may be tracked.
+	 *
+	 * @throws EnversMappingException If two entity names have the same identifier.
+	 */
+	public EntityTypeIdRegistry(Collection<String> entityNames) {
+		for ( String entityName : entityNames ) {
+			final String other = entityNamesByTypeId.put( getTypeId( entityName ), entityName );
+			if ( other != null && !other.equals( entityName ) ) {
+				throw new EnversMappingException(
+						String.format(
+								Locale.ENGLISH,
+								"Entity names %s and %s have the same type identifier, use a Set<String> property annotated with @ModifiedEntityNames instead",
+								other,
+								entityName
+						)
+				);
+			}
+		}
+	}
+
+	/**
+	 * @param entityName The entity name.
+	 *
+	 * @return The stable identifier of the entity name.
+	 */
+	public String getTypeId(String entityName) {
+		final CRC32 checksum = new CRC32();
+		checksum.update( entityName.getBytes( StandardCharsets.UTF_8 ) );
+		return Long.toString( checksum.getValue(), Character.MAX_RADIX );
+	}
+
+	/**
+	 * @param encodedEntityNames The encoded entity names, may be {@code null}.
+	 * @param entityName The entity name to add.
+	 *
+	 * @return The encoded entity names including the given entity name.
+	 */
+	public String add(String encodedEntityNames, String entityName) {
+		final String typeId = getTypeId( entityName );
+		if ( encodedEntityNames == null || encodedEntityNames.isEmpty() ) {
+			return typeId;
+		}
+
+		final Set<String> typeIds = new TreeSet<>( split( encodedEntityNames ) );
+		if ( !typeIds.add( typeId ) ) {
+			return encodedEntityNames;
+		}
+		return String.join( String.valueOf( SEPARATOR ), typeIds );
+	}
+
+	/**
+	 * @param encodedEntityNames The encoded entity names, may be {@code null}.
+	 *
+	 * @return The entity names, excluding those of entities which are no longer mapped.
+	 */
+	public Set<String> decode(String encodedEntityNames) {
+		final Set<String> entityNames = new LinkedHashSet<>();
+		if ( encodedEntityNames != null && !encodedEntityNames.isEmpty() ) {
+			for ( String typeId : split( encodedEntityNames ) ) {
+				final String entityName = entityNamesByTypeId.get( typeId );
+				if ( entityName != null ) {
+					entityNames.add( entityName );
+				}
+				else {
+					log.debugf( "Skipping unknown modified entity type identifier %s", typeId );
+				}
+			}
+		}
+		return entityNames;
+	}
+
+	private static Collection<String> split(String encodedEntityNames) {
+		final Set<String> typeIds = new LinkedHashSet<>();
+		int start = 0;
+		int end;
+		while ( ( end = encodedEntityNames.indexOf( SEPARATOR, start ) ) >= 0 ) {
+			typeIds.add( encodedEntityNames.substring( start, end ) );
+			start = end + 1;
+		}
+		typeIds.add( encodedEntityNames.substring( start ) );
+		return typeIds;
+	}
+}
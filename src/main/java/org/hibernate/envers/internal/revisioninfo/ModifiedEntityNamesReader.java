@@ -4,6 +4,7 @@
  */
 package org.hibernate.envers.internal.revisioninfo;
 
+import java.util.Collections;
 import java.util.Set;
 
 import org.hibernate.envers.internal.entities.PropertyData;
@@ -18,16 +19,54 @@ import org.hibernate.service.ServiceRegistry;
  */
 public class ModifiedEntityNamesReader {
 	private final Getter modifiedEntityNamesGetter;
+	private final EntityTypeIdRegistry entityTypeIdRegistry;
 
 	public ModifiedEntityNamesReader(
 			Class<?> revisionInfoClass,
 			PropertyData modifiedEntityNamesData,
 			ServiceRegistry serviceRegistry) {
+		this( revisionInfoClass, modifiedEntityNamesData, null, serviceRegistry );
+	}
+
+	/**
+	 * @param entityTypeIdRegistry The registry decoding the modified entity names from a single string property,
+	 * or {@code null} if the property is a set of entity names.
+	 */
+	public ModifiedEntityNamesReader(
+			Class<?> revisionInfoClass,
+			PropertyData modifiedEntityNamesData,
+			EntityTypeIdRegistry entityTypeIdRegistry,
+			ServiceRegistry serviceRegistry) {
 		modifiedEntityNamesGetter = ReflectionTools.getGetter( revisionInfoClass, modifiedEntityNamesData, serviceRegistry );
+		this.entityTypeIdRegistry = entityTypeIdRegistry;
 	}
 
 	@SuppressWarnings("unchecked")
 	public Set<String> getModifiedEntityNames(Object revisionEntity) {
-		return (Set<String>) modifiedEntityNamesGetter.get( revisionEntity );
+		final Object value = modifiedEntityNamesGetter.get( revisionEntity );
+		if ( entityTypeIdRegistry != null ) {
+			return entityTypeIdRegistry.decode( (String) value );
+		}
+		return (Set<String>) value;
+	}
+
+	/**
+	 * @param value A value of the modified entity names property as selected by a query: either a single entity
+	 * name, the property being a set of entity names, or the encoded entity names.
+	 *
+	 * @return The entity names.
+	 */
+	public Set<String> getModifiedEntityNamesFromValue(Object value) {
+		if ( entityTypeIdRegistry != null ) {
+			return entityTypeIdRegistry.decode( (String) value );
+		}
+		return value == null ? Collections.emptySet() : Collections.singleton( (String) value );
+	}
+
+	/**
+	 * @return Whether the modified entity names are encoded into a single string property.
+	 */
+	public boolean isEncoded() {
+		return entityTypeIdRegistry != null;
 	}
 }
@@ -25,18 +25,30 @@ public class RevisionInfoQueryCreator {
 	private static final String REVISION_NUMBER_FOR_DATE_QUERY_PARAMETER = "date";
 	private static final String REVISIONS_QUERY = "FROM %s WHERE %s IN (:revisions)";
 	private static final String REVISIONS_QUERY_PARAMETER = "revisions";
+	private static final String MODIFIED_ENTITY_NAMES_QUERY =
+			"SELECT r.%s, n FROM %s r JOIN r.%s n WHERE r.%s BETWEEN :fromRevision AND :toRevision ORDER BY r.%s";
+	private static final String ENCODED_MODIFIED_ENTITY_NAMES_QUERY =
+			"SELECT r.%s, r.%s FROM %s r WHERE r.%s BETWEEN :fromRevision AND :toRevision ORDER BY r.%s";
+	private static final String MODIFIED_ENTITY_NAMES_QUERY_FROM_PARAMETER = "fromRevision";
+	private static final String MODIFIED_ENTITY_NAMES_QUERY_TO_PARAMETER = "toRevision";
 
 	private final String revisionInfoEntityName;
 	private final String revisionInfoIdName;
 	private final RevisionTimestampValueResolver timestampValueResolver;
+	private final String modifiedEntityNamesName;
+	private final boolean modifiedEntityNamesEncoded;
 
 	public RevisionInfoQueryCreator(
 			String revisionInfoEntityName,
 			String revisionInfoIdName,
-			RevisionTimestampValueResolver timestampValueResolver) {
+			RevisionTimestampValueResolver timestampValueResolver,
+			String modifiedEntityNamesName,
+			boolean modifiedEntityNamesEncoded) {
 		this.revisionInfoEntityName = revisionInfoEntityName;
 		this.revisionInfoIdName = revisionInfoIdName;
 		this.timestampValueResolver = timestampValueResolver;
+		this.modifiedEntityNamesName = modifiedEntityNamesName;
+		this.modifiedEntityNamesEncoded = modifiedEntityNamesEncoded;
 	}
 
 	public Query<?> getRevisionDateQuery(Session session, Number revision) {
@@ -92,4 +104,34 @@ public class RevisionInfoQueryCreator {
 				String.format( Locale.ENGLISH, REVISIONS_QUERY, revisionInfoEntityName, revisionInfoIdName )
 		).setParameter( REVISIONS_QUERY_PARAMETER, revisions );
 	}
+
+	/**
+	 * Creates a query selecting the revision number and the name of each entity modified in the given range of
+	 * revisions, without loading the revision entities.  When the modified entity names are encoded, each row
+	 * holds the encoded names of a revision instead.  Only usable when modified entity names are tracked.
+	 */
+	public Query<Object[]> getModifiedEntityNamesQuery(Session session, Number fromRevision, Number toRevision) {
+		final String query = modifiedEntityNamesEncoded
+				? String.format(
+						Locale.ENGLISH,
+						ENCODED_MODIFIED_ENTITY_NAMES_QUERY,
+						revisionInfoIdName,
+						modifiedEntityNamesName,
+						revisionInfoEntityName,
+						revisionInfoIdName,
+						revisionInfoIdName
+				)
+				: String.format(
+						Locale.ENGLISH,
+						MODIFIED_ENTITY_NAMES_QUERY,
+						revisionInfoIdName,
+						revisionInfoEntityName,
+						modifiedEntityNamesName,
+						revisionInfoIdName,
+						revisionInfoIdName
+				);
+		return session.createQuery( query, Object[].class )
+				.setParameter( MODIFIED_ENTITY_NAMES_QUERY_FROM_PARAMETER, fromRevision )
+				.setParameter( MODIFIED_ENTITY_NAMES_QUERY_TO_PARAMETER, toRevision );
+	}
 }
@@ -0,0 +1,416 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.revisioninfo;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.Session;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.query.Query;
+
+/**
+ * An in-memory index of the revisions and their timestamps, shared by all the audit readers of a session
+ * factory, which resolves revision dates and revision numbers for dates without querying the revision table.
+ * <p>
+ * Revision numbers and timestamps are kept in two parallel arrays sorted by revision number, the timestamps
+ * being stored in microseconds since the epoch.  The index is loaded from the revision table on first use,
+ * extended with the revisions committed through this session factory, and extended with the revisions
+ * committed by other nodes when a lookup cannot be answered otherwise, at most once per refresh interval.
+ * Revision numbers are only searched by timestamp while the timestamps do not decrease with the revision numbers.
+ * <p>
+ * Transactions do not commit in the order of their revision numbers, and other nodes may commit revision numbers
+ * lower than the last known one.  The index therefore tracks the settled revisions, up to which no revision is
+ * missing or the missing revisions are older than the gap timeout, hence not expected to be committed anymore.
+ * Revision numbers for dates are only answered when the following revision is settled, and the refreshes read
+ * the revisions after the last settled one.  The refreshes also read the most recent gaps left in the settled
+ * revisions, so that a revision committed after its gap timed out is still added.
+ * <p>
+ * Lookups which cannot be answered from the index return {@code null}, in which case the revision table
+ * has to be queried.
+ */
+public class RevisionTimeline {
+	private static final String LOAD_QUERY = "SELECT %s, %s FROM %s ORDER BY %s";
+	private static final String REFRESH_QUERY = "SELECT %s, %s FROM %s WHERE %s > :revision%s ORDER BY %s";
+	private static final String REFRESH_QUERY_PARAMETER = "revision";
+	private static final String GAP_PREDICATE = " OR %s BETWEEN :gapLow%d AND :gapHigh%d";
+	private static final String GAP_LOW_PARAMETER = "gapLow";
+	private static final String GAP_HIGH_PARAMETER = "gapHigh";
+	// bounds the refresh query, the older gaps being left by rolled back transactions
+	private static final int MAX_REREAD_GAPS = 32;
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final String loadQuery;
+	private final String revisionInfoEntityName;
+	private final String revisionInfoIdName;
+	private final String revisionInfoTimestampName;
+	private final Getter timestampGetter;
+	private final RevisionInfoNumberReader revisionInfoNumberReader;
+	private final long refreshInterval;
+	private final long gapTimeout;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private long[] revisions = new long[INITIAL_CAPACITY];
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+	private int size;
+	// the number of leading revisions after which no revision is still expected to be committed
+	private int settled;
+	private boolean monotonic = true;
+	private boolean integerRevisions = true;
+	private boolean loaded;
+	private long lastRefresh;
+
+	public RevisionTimeline(
+			String revisionInfoEntityName,
+			String revisionInfoIdName,
+			String revisionInfoTimestampName,
+			Getter timestampGetter,
+			RevisionInfoNumberReader revisionInfoNumberReader,
+			long refreshInterval,
+			long gapTimeout) {
+		this.loadQuery = String.format(
+				Locale.ENGLISH,
+				LOAD_QUERY,
+				revisionInfoIdName,
+				revisionInfoTimestampName,
+				revisionInfoEntityName,
+				revisionInfoIdName
+		);
+		this.revisionInfoEntityName = revisionInfoEntityName;
+		this.revisionInfoIdName = revisionInfoIdName;
+		this.revisionInfoTimestampName = revisionInfoTimestampName;
+		this.timestampGetter = timestampGetter;
+		this.revisionInfoNumberReader = revisionInfoNumberReader;
+		this.refreshInterval = refreshInterval;
+		this.gapTimeout = gapTimeout;
+	}
+
+	/**
+	 * Adds a revision committed through this session factory.
+	 *
+	 * @param revisionData The revision entity.
+	 */
+	public void addRevision(Object revisionData) {
+		final Number revision = revisionInfoNumberReader.getRevisionNumber( revisionData );
+		final Object timestamp = timestampGetter.get( revisionData );
+		if ( revision != null && timestamp != null ) {
+			lock.writeLock().lock();
+			try {
+				add( revision, toEpochMicros( timestamp ) );
+				if ( loaded ) {
+					// revisions are only settled against those read from the revision table
+					settle( System.currentTimeMillis() );
+				}
+			}
+			finally {
+				lock.writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * @param session The session used to read the revision table.
+	 * @param revision The revision number.
+	 *
+	 * @return The date of the revision, or {@code null} if the revision is not in the timeline.
+	 */
+	public Date getRevisionDate(Session session, Number revision) {
+		ensureLoaded( session );
+
+		final long value = revision.longValue();
+		Date date = findRevisionDate( value );
+		// the revision may have been committed by another node, possibly before the last known one
+		if ( date == null && refresh( session, false ) ) {
+			date = findRevisionDate( value );
+		}
+		return date;
+	}
+
+	/**
+	 * @param session The session used to read the revision table.
+	 * @param date The date.
+	 *
+	 * @return The highest revision number whose timestamp is not after the given date, or {@code null} if the
+	 * timeline cannot tell.
+	 */
+	public Number getRevisionNumberForDate(Session session, Date date) {
+		return getRevisionNumberForDate( session, toEpochMicros( date ) );
+	}
+
+	public Number getRevisionNumberForDate(Session session, LocalDateTime date) {
+		return getRevisionNumberForDate( session, toEpochMicros( date ) );
+	}
+
+	public Number getRevisionNumberForDate(Session session, Instant date) {
+		return getRevisionNumberForDate( session, toEpochMicros( date ) );
+	}
+
+	/**
+	 * @return The number of revisions in the timeline.
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return size;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private Number getRevisionNumberForDate(Session session, long timestamp) {
+		ensureLoaded( session );
+
+		if ( isAfterLastTimestamp( timestamp ) ) {
+			// revisions committed by other nodes since the last refresh may be closer to the date
+			refresh( session, false );
+		}
+
+		Number revision = findRevisionNumber( timestamp );
+		if ( revision == null && refresh( session, false ) ) {
+			// revisions missing before the date may have been committed since the last refresh
+			revision = findRevisionNumber( timestamp );
+		}
+		return revision;
+	}
+
+	/**
+	 * @return The last revision whose timestamp is not after the given one, or {@code null} if a revision still
+	 * missing from the timeline may be closer to it.
+	 */
+	private Number findRevisionNumber(long timestamp) {
+		lock.readLock().lock();
+		try {
+			if ( !monotonic ) {
+				return null;
+			}
+			int low = 0;
+			int high = size - 1;
+			while ( low <= high ) {
+				final int middle = ( low + high ) >>> 1;
+				if ( timestamps[middle] <= timestamp ) {
+					low = middle + 1;
+				}
+				else {
+					high = middle - 1;
+				}
+			}
+			if ( high < 0 ) {
+				return null;
+			}
+			// a missing revision after the found one would be the answer, if its timestamp is not after the date
+			if ( high + 1 < settled || ( high == size - 1 && settled == size ) ) {
+				return toRevisionNumber( revisions[high] );
+			}
+			return null;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private Date findRevisionDate(long revision) {
+		lock.readLock().lock();
+		try {
+			final int index = Arrays.binarySearch( revisions, 0, size, revision );
+			return index < 0 ? null : new Date( Math.floorDiv( timestamps[index], 1000L ) );
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private boolean isAfterLastTimestamp(long timestamp) {
+		lock.readLock().lock();
+		try {
+			return size == 0 || timestamp >= timestamps[size - 1];
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void ensureLoaded(Session session) {
+		lock.readLock().lock();
+		try {
+			if ( loaded ) {
+				return;
+			}
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+		refresh( session, true );
+	}
+
+	/**
+	 * Reads the revisions after the last settled one, which include the revisions committed by other nodes with
+	 * numbers lower than the last known one, and the revisions committed in the most recent gaps which timed out.
+	 *
+	 * @return Whether the revision table was read.
+	 */
+	private boolean refresh(Session session, boolean force) {
+		final Long fromRevision;
+		final List<long[]> gaps;
+		lock.readLock().lock();
+		try {
+			if ( !force && System.currentTimeMillis() - lastRefresh < refreshInterval ) {
+				return false;
+			}
+			fromRevision = loaded && settled > 0 ? revisions[settled - 1] : null;
+			gaps = fromRevision == null ? null : getTimedOutGaps();
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+
+		final long now = System.currentTimeMillis();
+		final Query<Object[]> query;
+		if ( fromRevision == null ) {
+			query = session.createQuery( loadQuery, Object[].class );
+		}
+		else {
+			query = session.createQuery( getRefreshQuery( gaps.size() ), Object[].class )
+					.setParameter( REFRESH_QUERY_PARAMETER, toRevisionNumber( fromRevision ) );
+			for ( int i = 0; i < gaps.size(); i++ ) {
+				query.setParameter( GAP_LOW_PARAMETER + i, toRevisionNumber( gaps.get( i )[0] ) );
+				query.setParameter( GAP_HIGH_PARAMETER + i, toRevisionNumber( gaps.get( i )[1] ) );
+			}
+		}
+		final List<Object[]> rows = query.getResultList();
+
+		lock.writeLock().lock();
+		try {
+			for ( Object[] row : rows ) {
+				add( (Number) row[0], toEpochMicros( row[1] ) );
+			}
+			settle( now );
+			loaded = true;
+			lastRefresh = now;
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+		return true;
+	}
+
+	private String getRefreshQuery(int gapCount) {
+		final StringBuilder gapPredicates = new StringBuilder();
+		for ( int i = 0; i < gapCount; i++ ) {
+			gapPredicates.append( String.format( Locale.ENGLISH, GAP_PREDICATE, revisionInfoIdName, i, i ) );
+		}
+		return String.format(
+				Locale.ENGLISH,
+				REFRESH_QUERY,
+				revisionInfoIdName,
+				revisionInfoTimestampName,
+				revisionInfoEntityName,
+				revisionInfoIdName,
+				gapPredicates,
+				revisionInfoIdName
+		);
+	}
+
+	/**
+	 * The gaps among the settled revisions, which were settled once they timed out, the most recent first.
+	 * Must be called with the lock held.
+	 *
+	 * @return The lowest and highest missing revision numbers of each gap.
+	 */
+	private List<long[]> getTimedOutGaps() {
+		final List<long[]> gaps = new ArrayList<>();
+		for ( int i = settled - 1; i > 0 && gaps.size() < MAX_REREAD_GAPS; i-- ) {
+			if ( revisions[i] > revisions[i - 1] + 1 ) {
+				gaps.add( new long[] { revisions[i - 1] + 1, revisions[i] - 1 } );
+			}
+		}
+		return gaps;
+	}
+
+	/**
+	 * Extends the settled revisions over the following revisions, as long as no revision is missing before them
+	 * or the missing revisions are older than the gap timeout.  Must be called with the write lock held.
+	 *
+	 * @param now The time, in milliseconds since the epoch, at which the revisions were known.
+	 */
+	private void settle(long now) {
+		if ( settled == 0 && size > 0 ) {
+			settled = 1;
+		}
+		// a missing revision is not after the revision following it, when timestamps follow the revision numbers
+		final long gapTimestamp = ( now - gapTimeout ) * 1000L;
+		while ( settled < size
+				&& ( revisions[settled] == revisions[settled - 1] + 1 || timestamps[settled] < gapTimestamp ) ) {
+			settled++;
+		}
+	}
+
+	private void add(Number revisionNumber, long timestamp) {
+		final long revision = revisionNumber.longValue();
+		integerRevisions = revisionNumber instanceof Integer;
+
+		int index = size;
+		if ( size > 0 && revisions[size - 1] >= revision ) {
+			index = Arrays.binarySearch( revisions, 0, size, revision );
+			if ( index >= 0 ) {
+				// already read from the revision table
+				return;
+			}
+			index = -index - 1;
+		}
+
+		if ( size == revisions.length ) {
+			revisions = Arrays.copyOf( revisions, size * 2 );
+			timestamps = Arrays.copyOf( timestamps, size * 2 );
+		}
+		System.arraycopy( revisions, index, revisions, index + 1, size - index );
+		System.arraycopy( timestamps, index, timestamps, index + 1, size - index );
+		revisions[index] = revision;
+		timestamps[index] = timestamp;
+		size++;
+		if ( index < settled ) {
+			// a missing revision which was no longer expected
+			settled++;
+		}
+
+		if ( ( index > 0 && timestamps[index - 1] > timestamp )
+				|| ( index < size - 1 && timestamps[index + 1] < timestamp ) ) {
+			monotonic = false;
+		}
+	}
+
+	private Number toRevisionNumber(long revision) {
+		return integerRevisions ? Integer.valueOf( (int) revision ) : Long.valueOf( revision );
+	}
+
+	private static long toEpochMicros(Object timestamp) {
+		final Instant instant;
+		if ( timestamp instanceof Timestamp sqlTimestamp ) {
+			instant = sqlTimestamp.toInstant();
+		}
+		else if ( timestamp instanceof Date date ) {
+			instant = Instant.ofEpochMilli( date.getTime() );
+		}
+		else if ( timestamp instanceof LocalDateTime localDateTime ) {
+			instant = localDateTime.atZone( ZoneId.systemDefault() ).toInstant();
+		}
+		else if ( timestamp instanceof Instant ) {
+			instant = (Instant) timestamp;
+		}
+		else {
+			instant = Instant.ofEpochMilli( ( (Number) timestamp ).longValue() );
+		}
+		return Math.addExact( Math.multiplyExact( instant.getEpochSecond(), 1_000_000L ), instant.getNano() / 1_000L );
+	}
+}
@@ -4,19 +4,27 @@
  */
 package org.hibernate.envers.internal.synchronization;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
 import org.hibernate.FlushMode;
+import org.hibernate.HibernateException;
 import org.hibernate.Session;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.jfr.AuditFlushEvent;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
 import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
+import org.hibernate.envers.internal.synchronization.writebehind.AuditWriteBehindQueue;
+import org.hibernate.envers.internal.synchronization.writebehind.PendingRevision;
 import org.hibernate.envers.tools.Pair;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.jboss.logging.Logger;
 
@@ -30,18 +38,37 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final RevisionInfoGenerator revisionInfoGenerator;
 	private final SessionImplementor session;
 
-	private final LinkedList<AuditWorkUnit> workUnits;
+	private final WorkUnitQueue workUnits;
 	private final Queue<AuditWorkUnit> undoQueue;
-	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
+	// work units registered per entity name and id, avoiding a composite key per added work unit
+	private final Map<String, Map<Object, WorkUnitQueue.Entry>> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final AuditWriteBehindQueue writeBehindQueue;
+	private final boolean statelessAuditWriter;
 	private Object revisionData;
+	private boolean revisionDataWritten;
+	// evicted from the session once the transaction completes
+	private List<Object> auditDataToEvict;
+	// reported by the AuditFlushEvent
+	private int mergedWorkUnits;
+	private int collectedAuditRows;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, session, null, false );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SessionImplementor session,
+			AuditWriteBehindQueue writeBehindQueue,
+			boolean statelessAuditWriter) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.writeBehindQueue = writeBehindQueue;
+		this.statelessAuditWriter = statelessAuditWriter;
 
-		workUnits = new LinkedList<>();
+		workUnits = new WorkUnitQueue();
 		undoQueue = new LinkedList<>();
 		usedIds = new HashMap<>();
 		entityStateCache = new HashMap<>();
@@ -65,8 +92,9 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 		return entityState;
 	}
 
-	private void removeWorkUnit(AuditWorkUnit vwu) {
-		workUnits.remove( vwu );
+	private void removeWorkUnit(WorkUnitQueue.Entry entry) {
+		workUnits.remove( entry );
+		final AuditWorkUnit vwu = entry.getWorkUnit();
 		if ( vwu.isPerformed() ) {
 			// If this work unit has already been performed, it must be deleted (undone) first.
 			undoQueue.offer( vwu );
@@ -82,35 +110,74 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 				workUnits.offer( vwu );
 			}
 			else {
-				final String entityName = vwu.getEntityName();
-				final Pair<String, Object> usedIdsKey = Pair.make( entityName, entityId );
+				final Map<Object, WorkUnitQueue.Entry> entityUsedIds =
+						usedIds.computeIfAbsent( vwu.getEntityName(), entityName -> new HashMap<>() );
+				final WorkUnitQueue.Entry otherEntry = entityUsedIds.get( entityId );
 
-				if ( usedIds.containsKey( usedIdsKey ) ) {
-					final AuditWorkUnit other = usedIds.get( usedIdsKey );
+				if ( otherEntry != null ) {
+					mergedWorkUnits++;
+					final AuditWorkUnit other = otherEntry.getWorkUnit();
 					final AuditWorkUnit result = vwu.dispatch( other );
 
 					if ( result != other ) {
-						removeWorkUnit( other );
+						removeWorkUnit( otherEntry );
 
 						if ( result != null ) {
-							usedIds.put( usedIdsKey, result );
-							workUnits.offer( result );
+							entityUsedIds.put( entityId, workUnits.offer( result ) );
 						}
 						// else: a null result means that no work unit should be kept
 					}
 					// else: the result is the same as the work unit already added. No need to do anything.
 				}
 				else {
-					usedIds.put( usedIdsKey, vwu );
-					workUnits.offer( vwu );
+					entityUsedIds.put( entityId, workUnits.offer( vwu ) );
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return The revision data written by this process within the transaction, or {@code null} if no revision
+	 * data was written, or if its writing is deferred to the write-behind queue.
+	 */
+	public Object getWrittenRevisionData() {
+		return revisionDataWritten ? revisionData : null;
+	}
+
+	/**
+	 * Schedules the eviction of audit data from the session of this process, once the transaction completes.
+	 *
+	 * @param session The session in which the audit data was written or read.
+	 * @param data The audit data to evict.
+	 */
+	public void scheduleAuditDataRemoval(Session session, Object data) {
+		// audit data written by a temporary session is not in the cache of the session of this process
+		if ( session == this.session ) {
+			if ( auditDataToEvict == null ) {
+				auditDataToEvict = new ArrayList<>();
+			}
+			auditDataToEvict.add( data );
+		}
+	}
+
+	void evictAuditData(SharedSessionContractImplementor sessionImplementor) {
+		if ( auditDataToEvict != null && !sessionImplementor.isClosed() ) {
+			final Session session = (Session) sessionImplementor;
+			for ( Object data : auditDataToEvict ) {
+				try {
+					session.evict( data );
+				}
+				catch ( HibernateException ignore ) {
 				}
 			}
 		}
+		auditDataToEvict = null;
 	}
 
 	private void executeInSession(Session session) {
 		// Making sure the revision data is persisted.
 		final Object currentRevisionData = getCurrentRevisionData( session, true );
+		revisionDataWritten = true;
 
 		AuditWorkUnit vwu;
 
@@ -119,12 +186,62 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			vwu.undo( session );
 		}
 
+		if ( statelessAuditWriter ) {
+			// The audit rows reference the revision entity, which must be inserted first.
+			session.flush();
+
+			try ( StatelessAuditWriter auditWriter = new StatelessAuditWriter( (SessionImplementor) session ) ) {
+				while ( (vwu = workUnits.poll()) != null ) {
+					vwu.collectAuditData( currentRevisionData, (auditEntityName, data) -> {
+						collectedAuditRows++;
+						auditWriter.insert( auditEntityName, data );
+					} );
+					entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+				}
+			}
+			return;
+		}
+
 		while ( (vwu = workUnits.poll()) != null ) {
 			vwu.perform( session, revisionData );
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
 		}
 	}
 
+	private boolean isWriteBehind(Session session) {
+		// Write-behind is not possible once the revision data has been persisted in the session, e.g. through
+		// AuditReader#getCurrentRevision, or when previously performed work units must be undone.
+		return writeBehindQueue != null
+				&& undoQueue.isEmpty()
+				&& ( revisionData == null || !session.contains( revisionData ) );
+	}
+
+	private void scheduleWriteBehind(SessionImplementor session) {
+		final Object currentRevisionData = getCurrentRevisionData( session, false );
+		final PendingRevision pendingRevision = writeBehindQueue.createPendingRevision( currentRevisionData );
+
+		AuditWorkUnit vwu;
+		while ( (vwu = workUnits.poll()) != null ) {
+			vwu.collectAuditData( currentRevisionData, (auditEntityName, data) -> {
+				collectedAuditRows++;
+				pendingRevision.addRecord( auditEntityName, data );
+			} );
+			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+		}
+
+		// Journaled after all notifications, as listeners may still modify the revision data.
+		writeBehindQueue.prepare( pendingRevision );
+
+		( (EventSource) session ).getActionQueue().registerProcess( (success, sessionImplementor) -> {
+			if ( success ) {
+				writeBehindQueue.enqueue( pendingRevision );
+			}
+			else {
+				writeBehindQueue.discard( pendingRevision );
+			}
+		} );
+	}
+
 	public Object getCurrentRevisionData(Session session, boolean persist) {
 		// Generating the revision data if not yet generated
 		if ( revisionData == null ) {
@@ -150,6 +267,33 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			return;
 		}
 
+		final AuditFlushEvent event = new AuditFlushEvent();
+		event.begin();
+		final int workUnitCount = workUnits.size();
+		final int undoneWorkUnitCount = undoQueue.size();
+		final boolean writeBehind = isWriteBehind( session );
+		try {
+			if ( writeBehind ) {
+				scheduleWriteBehind( session );
+			}
+			else {
+				writeAuditData( session );
+			}
+		}
+		finally {
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.workUnits = workUnitCount;
+				event.mergedWorkUnits = mergedWorkUnits;
+				event.undoneWorkUnits = undoneWorkUnitCount;
+				event.auditRows = collectedAuditRows;
+				event.writeBehind = writeBehind;
+				event.commit();
+			}
+		}
+	}
+
+	private void writeAuditData(SessionImplementor session) {
 		// see: http://www.jboss.com/index.html?module=bb&op=viewtopic&p=4178431
 		if ( FlushMode.MANUAL.equals( session.getHibernateFlushMode() ) || session.isClosed() ) {
 			Session temporarySession = null;
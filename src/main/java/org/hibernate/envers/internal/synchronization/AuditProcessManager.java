@@ -13,6 +13,8 @@ import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
+import org.hibernate.envers.internal.revisioninfo.RevisionTimeline;
+import org.hibernate.envers.internal.synchronization.writebehind.AuditWriteBehindQueue;
 import org.hibernate.event.spi.EventSource;
 
 /**
@@ -21,11 +23,40 @@ import org.hibernate.event.spi.EventSource;
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final AuditWriteBehindQueue writeBehindQueue;
+	private final boolean statelessAuditWriter;
+	private final RevisionTimeline revisionTimeline;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, null, false, null );
+	}
+
+	public AuditProcessManager(
+			RevisionInfoGenerator revisionInfoGenerator,
+			AuditWriteBehindQueue writeBehindQueue,
+			boolean statelessAuditWriter,
+			RevisionTimeline revisionTimeline) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.writeBehindQueue = writeBehindQueue;
+		this.statelessAuditWriter = statelessAuditWriter;
+		this.revisionTimeline = revisionTimeline;
+	}
+
+	/**
+	 * @return The audit write-behind queue, or {@code null} if write-behind is not enabled.
+	 */
+	public AuditWriteBehindQueue getWriteBehindQueue() {
+		return writeBehindQueue;
+	}
+
+	/**
+	 * @return The audit process of the transaction of the session, or {@code null} if no audit process was started
+	 * in this transaction.
+	 */
+	public AuditProcess find(EventSource session) {
+		return auditProcesses.get( session.accessTransaction() );
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -34,7 +65,7 @@ public class AuditProcessManager {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, session, writeBehindQueue, statelessAuditWriter );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
@@ -51,7 +82,16 @@ public class AuditProcessManager {
 			session.getActionQueue().registerProcess(
 					new AfterTransactionCompletionProcess() {
 						public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
-							auditProcesses.remove( transaction );
+							final AuditProcess process = auditProcesses.remove( transaction );
+							if ( process != null ) {
+								process.evictAuditData( session );
+							}
+							if ( success && revisionTimeline != null && process != null ) {
+								final Object revisionData = process.getWrittenRevisionData();
+								if ( revisionData != null ) {
+									revisionTimeline.addRevision( revisionData );
+								}
+							}
 						}
 					}
 			);
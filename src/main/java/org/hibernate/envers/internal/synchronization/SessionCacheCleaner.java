@@ -4,19 +4,24 @@
  */
 package org.hibernate.envers.internal.synchronization;
 
-import org.hibernate.HibernateException;
 import org.hibernate.Session;
-import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.event.spi.EventSource;
 
 /**
  * Class responsible for evicting audit data entries that have been stored in the session level cache.
  * This operation increases Envers performance in case of massive entity updates without clearing persistence context.
+ * <p>
+ * The audit data scheduled for removal is kept by the audit process of the transaction, which evicts it once the
+ * transaction completes.
  *
  * @author Lukasz Antoniak (lukasz dot antoniak at gmail dot com)
  */
 public class SessionCacheCleaner {
+	// looked up with the first scheduled entry, as the cleaner is created before the service is initialized
+	private volatile AuditProcessManager auditProcessManager;
+
 	/**
 	 * Schedules audit data removal from session level cache after transaction completion. The operation is performed
 	 * regardless of commit success.
@@ -25,18 +30,22 @@ public class SessionCacheCleaner {
 	 * @param data Audit data that shall be evicted (e.g. revision data or entity snapshot)
 	 */
 	public void scheduleAuditDataRemoval(final Session session, final Object data) {
-		( (EventSource) session ).getActionQueue().registerProcess(
-				new AfterTransactionCompletionProcess() {
-					public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor sessionImplementor) {
-						if ( !sessionImplementor.isClosed() ) {
-							try {
-								( (Session) sessionImplementor ).evict( data );
-							}
-							catch ( HibernateException ignore ) {
-							}
-						}
-					}
-				}
-		);
+		// the temporary sessions writing audit data have no audit process, and are closed right after their flush
+		final AuditProcess auditProcess = getAuditProcessManager( session ).find( (EventSource) session );
+		if ( auditProcess != null ) {
+			auditProcess.scheduleAuditDataRemoval( session, data );
+		}
+	}
+
+	private AuditProcessManager getAuditProcessManager(Session session) {
+		AuditProcessManager manager = auditProcessManager;
+		if ( manager == null ) {
+			manager = ( (SharedSessionContractImplementor) session ).getFactory()
+					.getServiceRegistry()
+					.getService( EnversService.class )
+					.getAuditProcessManager();
+			auditProcessManager = manager;
+		}
+		return manager;
 	}
 }
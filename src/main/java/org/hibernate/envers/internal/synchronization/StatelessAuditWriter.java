@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.Map;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Inserts audit rows through a {@link StatelessSession} sharing the JDBC connection, and therefore the
+ * transaction, of the audited session.  Audit rows written this way never enter the persistence context
+ * of the audited session, so they are neither dirty-checked on flush nor need to be evicted afterwards.
+ */
+public class StatelessAuditWriter implements AutoCloseable {
+	private final StatelessSession statelessSession;
+
+	public StatelessAuditWriter(SessionImplementor session) {
+		this.statelessSession = session.getFactory()
+				.withStatelessOptions()
+				.connection( session.getJdbcCoordinator().getLogicalConnection().getPhysicalConnection() )
+				.tenantIdentifier( session.getTenantIdentifierValue() )
+				.openStatelessSession();
+	}
+
+	/**
+	 * Inserts a single audit row.
+	 *
+	 * @param auditEntityName The name of the audit entity.
+	 * @param data The audit data.
+	 */
+	public void insert(String auditEntityName, Map<String, Object> data) {
+		statelessSession.insert( auditEntityName, data );
+	}
+
+	@Override
+	public void close() {
+		// The connection was supplied, hence it is not closed along with the stateless session.
+		statelessSession.close();
+	}
+}
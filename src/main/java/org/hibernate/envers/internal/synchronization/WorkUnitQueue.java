@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.ArrayList;
+
+import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
+
+/**
+ * A first-in first-out queue of work units supporting removal in amortized constant time.  A removed work
+ * unit leaves a tombstone in its slot, which is skipped when polling.  The slots are compacted once the
+ * tombstones exceed half of them, so that repeatedly merged work units do not grow the queue.
+ */
+final class WorkUnitQueue {
+	private final ArrayList<Entry> slots = new ArrayList<>();
+	private int head;
+	private int size;
+
+	/**
+	 * Appends a work unit to the end of the queue.
+	 *
+	 * @param workUnit The work unit.
+	 * @return The entry of the work unit, through which it can be removed.
+	 */
+	Entry offer(AuditWorkUnit workUnit) {
+		final Entry entry = new Entry( workUnit, slots.size() );
+		slots.add( entry );
+		size++;
+		return entry;
+	}
+
+	/**
+	 * Removes the work unit of the given entry from the queue, if it has not been polled yet.
+	 *
+	 * @param entry The entry of the work unit.
+	 */
+	void remove(Entry entry) {
+		if ( entry.slot >= 0 ) {
+			slots.set( entry.slot, null );
+			entry.slot = -1;
+			size--;
+			if ( size == 0 ) {
+				reset();
+			}
+			else if ( slots.size() - size > slots.size() / 2 ) {
+				compact();
+			}
+		}
+	}
+
+	/**
+	 * @return The first work unit of the queue, or {@code null} if the queue is empty.
+	 */
+	AuditWorkUnit poll() {
+		while ( head < slots.size() ) {
+			final Entry entry = slots.get( head );
+			slots.set( head++, null );
+			if ( entry != null ) {
+				entry.slot = -1;
+				size--;
+				if ( size == 0 ) {
+					reset();
+				}
+				return entry.workUnit;
+			}
+		}
+		reset();
+		return null;
+	}
+
+	int size() {
+		return size;
+	}
+
+	private void compact() {
+		int slot = 0;
+		for ( int i = head; i < slots.size(); i++ ) {
+			final Entry entry = slots.get( i );
+			if ( entry != null ) {
+				entry.slot = slot;
+				slots.set( slot++, entry );
+			}
+		}
+		slots.subList( slot, slots.size() ).clear();
+		head = 0;
+	}
+
+	private void reset() {
+		slots.clear();
+		head = 0;
+	}
+
+	/**
+	 * A work unit registered in the queue.  The entry still references its work unit once removed or polled.
+	 */
+	static final class Entry {
+		private final AuditWorkUnit workUnit;
+		private int slot;
+
+		private Entry(AuditWorkUnit workUnit, int slot) {
+			this.workUnit = workUnit;
+			this.slot = slot;
+		}
+
+		AuditWorkUnit getWorkUnit() {
+			return workUnit;
+		}
+	}
+}
@@ -4,14 +4,15 @@
  */
 package org.hibernate.envers.internal.synchronization.work;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.internal.entities.EntityConfiguration;
 import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
 import org.hibernate.envers.strategy.AuditStrategy;
 
@@ -48,10 +49,11 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 	protected void fillDataWithId(Map<String, Object> data, Object revision) {
 		final Configuration configuration = enversService.getConfig();
 
-		final Map<String, Object> originalId = new HashMap<>();
+		final EntityConfiguration entityConfiguration = enversService.getEntitiesConfigurations().get( getEntityName() );
+		final Map<String, Object> originalId = entityConfiguration.newAuditOriginalId();
 		originalId.put( configuration.getRevisionFieldName(), revision );
 
-		final IdMapper idMapper = enversService.getEntitiesConfigurations().get( getEntityName() ).getIdMapper();
+		final IdMapper idMapper = entityConfiguration.getIdMapper();
 		idMapper.mapToMapFromId( sessionImplementor, originalId, id );
 
 		data.put( configuration.getRevisionTypePropertyName(), revisionType );
@@ -69,6 +71,14 @@ public abstract class AbstractAuditWorkUnit implements AuditWorkUnit {
 		setPerformed( data );
 	}
 
+	@Override
+	public void collectAuditData(Object revisionData, BiConsumer<String, Map<String, Object>> auditDataConsumer) {
+		auditDataConsumer.accept(
+				enversService.getConfig().getAuditEntityName( getEntityName() ),
+				generateData( revisionData )
+		);
+	}
+
 	@Override
 	public Object getEntityId() {
 		return id;
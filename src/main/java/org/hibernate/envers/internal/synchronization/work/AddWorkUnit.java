@@ -4,7 +4,6 @@
  */
 package org.hibernate.envers.internal.synchronization.work;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import org.hibernate.engine.spi.SessionImplementor;
@@ -30,7 +29,7 @@ public class AddWorkUnit extends AbstractAuditWorkUnit implements AuditWorkUnit
 			Object id, EntityPersister entityPersister, Object[] state) {
 		super( sessionImplementor, entityName, enversService, id, RevisionType.ADD );
 
-		this.data = new HashMap<>();
+		this.data = enversService.getEntitiesConfigurations().get( getEntityName() ).newAuditData();
 		this.state = state;
 		this.enversService.getEntitiesConfigurations().get( getEntityName() ).getPropertyMapper().map(
 				sessionImplementor,
@@ -5,6 +5,7 @@
 package org.hibernate.envers.internal.synchronization.work;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.hibernate.Session;
 import org.hibernate.envers.RevisionType;
@@ -42,6 +43,15 @@ public interface AuditWorkUnit extends WorkUnitMergeVisitor, WorkUnitMergeDispat
 	 */
 	Map<String, Object> generateData(Object revisionData);
 
+	/**
+	 * Provides the audit data this work unit persists when performed, without using a session.
+	 *
+	 * @param revisionData The current revision data, which will be used to populate the work unit with the correct
+	 * revision relation.
+	 * @param auditDataConsumer Accepts the audit entity name and data of each audit row.
+	 */
+	void collectAuditData(Object revisionData, BiConsumer<String, Map<String, Object>> auditDataConsumer);
+
 	/**
 	 * @return Performed modification type.
 	 */
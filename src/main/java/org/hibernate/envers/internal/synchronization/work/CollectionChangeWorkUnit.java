@@ -20,7 +20,7 @@ import org.hibernate.envers.internal.entities.mapper.PropertyMapper;
 public class CollectionChangeWorkUnit extends AbstractAuditWorkUnit implements AuditWorkUnit {
 	private Object entity;
 	private final String collectionPropertyName;
-	private final Map<String, Object> data = new HashMap<>();
+	private final Map<String, Object> data;
 
 	public CollectionChangeWorkUnit(
 			SessionImplementor session,
@@ -33,6 +33,7 @@ public class CollectionChangeWorkUnit extends AbstractAuditWorkUnit implements A
 
 		this.entity = entity;
 		this.collectionPropertyName = collectionPropertyName;
+		this.data = enversService.getEntitiesConfigurations().get( getEntityName() ).newAuditData();
 	}
 
 	@Override
@@ -4,7 +4,6 @@
  */
 package org.hibernate.envers.internal.synchronization.work;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import org.hibernate.engine.spi.SessionImplementor;
@@ -44,7 +43,7 @@ public class DelWorkUnit extends AbstractAuditWorkUnit implements AuditWorkUnit
 
 	@Override
 	public Map<String, Object> generateData(Object revisionData) {
-		final Map<String, Object> data = new HashMap<>();
+		final Map<String, Object> data = enversService.getEntitiesConfigurations().get( getEntityName() ).newAuditData();
 		fillDataWithId( data, revisionData );
 
 		if ( enversService.getConfig().isStoreDataAtDelete() ) {
@@ -4,7 +4,6 @@
  */
 package org.hibernate.envers.internal.synchronization.work;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import org.hibernate.engine.spi.SessionImplementor;
@@ -36,7 +35,7 @@ public class ModWorkUnit extends AbstractAuditWorkUnit implements AuditWorkUnit
 		this.entityPersister = entityPersister;
 		this.oldState = oldState;
 		this.newState = newState;
-		this.data = new HashMap<>();
+		this.data = enversService.getEntitiesConfigurations().get( getEntityName() ).newAuditData();
 		this.changes = enversService.getEntitiesConfigurations().get( getEntityName() ).getPropertyMapper().map(
 				sessionImplementor,
 				data,
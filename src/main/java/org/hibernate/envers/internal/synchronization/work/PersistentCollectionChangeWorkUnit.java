@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.hibernate.Session;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -82,15 +83,29 @@ public class PersistentCollectionChangeWorkUnit extends AbstractAuditWorkUnit im
 			// Setting the revision number
 			( (Map<String, Object>) persistentCollectionChangeData.getData().get( configuration.getOriginalIdPropertyName() ) )
 					.put( configuration.getRevisionFieldName(), revisionData );
+		}
 
-			auditStrategy.performCollectionChange(
-					session,
-					getEntityName(),
-					referencingPropertyName,
-					enversService,
-					persistentCollectionChangeData,
-					revisionData
-			);
+		auditStrategy.performCollectionChanges(
+				session,
+				getEntityName(),
+				referencingPropertyName,
+				configuration,
+				collectionChanges,
+				revisionData
+		);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void collectAuditData(Object revisionData, BiConsumer<String, Map<String, Object>> auditDataConsumer) {
+		final Configuration configuration = enversService.getConfig();
+
+		for ( PersistentCollectionChangeData persistentCollectionChangeData : collectionChanges ) {
+			// Setting the revision number
+			( (Map<String, Object>) persistentCollectionChangeData.getData().get( configuration.getOriginalIdPropertyName() ) )
+					.put( configuration.getRevisionFieldName(), revisionData );
+
+			auditDataConsumer.accept( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
 		}
 	}
 
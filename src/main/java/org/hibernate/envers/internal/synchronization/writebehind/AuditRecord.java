@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.synchronization.writebehind;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * A single audit row, the audit entity name along with the data to be inserted.
+ */
+public class AuditRecord implements Serializable {
+	private static final long serialVersionUID = 2413986253402765118L;
+
+	private final String entityName;
+	private final Map<String, Object> data;
+
+	public AuditRecord(String entityName, Map<String, Object> data) {
+		this.entityName = entityName;
+		this.data = data;
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+	public Map<String, Object> getData() {
+		return data;
+	}
+}
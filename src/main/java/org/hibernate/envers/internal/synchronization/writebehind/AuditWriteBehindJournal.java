@@ -0,0 +1,286 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.synchronization.writebehind;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.envers.exception.AuditException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A local, file based journal of the revisions handed to the write-behind queue.  Each revision is stored
+ * in its own file, named after a monotonically increasing sequence, so that revisions can be replayed in
+ * their original order after an abnormal stop.
+ * <p>
+ * A revision is stored as prepared before its transaction completes, and only becomes replayable once its
+ * transaction has committed, when its file is renamed.  Prepared revisions found on recovery belong to
+ * transactions whose outcome is unknown: they are not replayed, but kept aside as unconfirmed.  The file of a
+ * revision is stored again with its revision number before the revision is committed by the writer, so that
+ * a revision which was written but not yet removed from the journal is not written twice.  Revisions which
+ * cannot be written are kept aside as failed.
+ */
+public class AuditWriteBehindJournal {
+	private static final Logger log = Logger.getLogger( AuditWriteBehindJournal.class );
+
+	private static final String PREPARED_SUFFIX = ".prepared";
+	private static final String JOURNAL_SUFFIX = ".revision";
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+	private static final String CORRUPT_SUFFIX = ".corrupt";
+	private static final String UNCONFIRMED_SUFFIX = ".unconfirmed";
+	private static final String FAILED_SUFFIX = ".failed";
+
+	private final Path directory;
+	private final ClassLoaderService classLoaderService;
+	private final AtomicLong sequence = new AtomicLong();
+
+	public AuditWriteBehindJournal(Path directory, ClassLoaderService classLoaderService) {
+		this.directory = directory;
+		this.classLoaderService = classLoaderService;
+		try {
+			Files.createDirectories( directory );
+		}
+		catch (IOException e) {
+			throw new AuditException( "Unable to create the write-behind journal directory " + directory, e );
+		}
+	}
+
+	/**
+	 * Stores the given revision in the journal as prepared, before its transaction completes.  The revision is not
+	 * replayed until {@link #commit committed}.
+	 *
+	 * @param pendingRevision The revision to store.
+	 * @return {@code true} if the revision has been stored, {@code false} if the revision could not be stored
+	 * because it contains values that are not serializable.
+	 */
+	public boolean append(PendingRevision pendingRevision) {
+		final String fileName = String.format( Locale.ROOT, "%019d", sequence.incrementAndGet() );
+		final Path journalFile = directory.resolve( fileName + PREPARED_SUFFIX );
+		try {
+			store( pendingRevision, journalFile );
+			pendingRevision.setJournalFile( journalFile );
+			return true;
+		}
+		catch (NotSerializableException e) {
+			log.warnf(
+					"Unable to journal revision, value of type [%s] is not serializable; the revision will not survive an abnormal stop",
+					e.getMessage()
+			);
+			return false;
+		}
+		catch (IOException e) {
+			throw new AuditException( "Unable to write the write-behind journal file " + journalFile, e );
+		}
+	}
+
+	/**
+	 * Marks the given revision as replayable, once its transaction has committed.
+	 *
+	 * @param pendingRevision The revision of the committed transaction.
+	 */
+	public void commit(PendingRevision pendingRevision) {
+		final Path journalFile = pendingRevision.getJournalFile();
+		if ( journalFile != null ) {
+			final Path committedFile = withSuffix( journalFile, JOURNAL_SUFFIX );
+			try {
+				Files.move( journalFile, committedFile, StandardCopyOption.ATOMIC_MOVE );
+				pendingRevision.setJournalFile( committedFile );
+			}
+			catch (IOException e) {
+				throw new AuditException( "Unable to commit the write-behind journal file " + journalFile, e );
+			}
+		}
+	}
+
+	/**
+	 * Keeps the given revision aside as failed, as it could not be written.  Failed revisions are not replayed.
+	 *
+	 * @param pendingRevision The revision which could not be written.
+	 * @return The file of the failed revision, or {@code null} if the revision was not journaled.
+	 */
+	public Path fail(PendingRevision pendingRevision) {
+		final Path journalFile = pendingRevision.getJournalFile();
+		if ( journalFile == null ) {
+			return null;
+		}
+		final Path failedFile = withSuffix( journalFile, FAILED_SUFFIX );
+		try {
+			Files.move( journalFile, failedFile, StandardCopyOption.ATOMIC_MOVE );
+			pendingRevision.setJournalFile( null );
+			return failedFile;
+		}
+		catch (IOException e) {
+			log.warnf( e, "Unable to keep write-behind journal file %s as failed", journalFile );
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the given revision again, once written but before its transaction commits, so that the journal
+	 * records its revision number.
+	 *
+	 * @param pendingRevision The revision to store again.
+	 */
+	public void update(PendingRevision pendingRevision) {
+		final Path journalFile = pendingRevision.getJournalFile();
+		if ( journalFile != null ) {
+			try {
+				store( pendingRevision, journalFile );
+			}
+			catch (IOException e) {
+				throw new AuditException( "Unable to write the write-behind journal file " + journalFile, e );
+			}
+		}
+	}
+
+	private void store(PendingRevision pendingRevision, Path journalFile) throws IOException {
+		final Path temporaryFile = journalFile.resolveSibling( journalFile.getFileName() + TEMPORARY_SUFFIX );
+		try {
+			try ( FileOutputStream fileStream = new FileOutputStream( temporaryFile.toFile() );
+					ObjectOutputStream objectStream = new ObjectOutputStream( fileStream ) ) {
+				objectStream.writeObject( pendingRevision );
+				objectStream.flush();
+				fileStream.getFD().sync();
+			}
+			Files.move( temporaryFile, journalFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING );
+		}
+		catch (IOException e) {
+			deleteQuietly( temporaryFile );
+			throw e;
+		}
+	}
+
+	/**
+	 * Removes the given revision from the journal, once written or when its transaction did not commit.
+	 *
+	 * @param pendingRevision The revision to remove.
+	 */
+	public void remove(PendingRevision pendingRevision) {
+		final Path journalFile = pendingRevision.getJournalFile();
+		if ( journalFile != null ) {
+			deleteQuietly( journalFile );
+			pendingRevision.setJournalFile( null );
+		}
+	}
+
+	/**
+	 * Reads all committed revisions remaining in the journal, in the order in which they were stored.  The
+	 * revisions of transactions which did not complete before the stop are kept aside as unconfirmed.
+	 *
+	 * @return The committed revisions that have not been removed from the journal.
+	 */
+	public List<PendingRevision> recover() {
+		final List<Path> journalFiles = new ArrayList<>();
+		try ( DirectoryStream<Path> stream = Files.newDirectoryStream( directory ) ) {
+			for ( Path file : stream ) {
+				final String fileName = file.getFileName().toString();
+				final int suffixIndex = fileName.indexOf( '.' );
+				if ( suffixIndex > 0 ) {
+					// the sequence goes on after all the files, including those kept aside
+					try {
+						sequence.accumulateAndGet( Long.parseLong( fileName.substring( 0, suffixIndex ) ), Math::max );
+					}
+					catch (NumberFormatException ignore) {
+					}
+				}
+				if ( fileName.endsWith( JOURNAL_SUFFIX ) ) {
+					journalFiles.add( file );
+				}
+				else if ( fileName.endsWith( PREPARED_SUFFIX ) ) {
+					// the transaction may not have committed, the revision must not be replayed
+					final Path unconfirmedFile = withSuffix( file, UNCONFIRMED_SUFFIX );
+					log.warnf(
+							"Write-behind journal file %s belongs to a transaction which did not complete before the stop, it is kept as %s and not replayed",
+							file,
+							unconfirmedFile
+					);
+					try {
+						Files.move( file, unconfirmedFile );
+					}
+					catch (IOException e) {
+						log.warnf( e, "Unable to keep write-behind journal file %s as unconfirmed", file );
+					}
+				}
+				else if ( fileName.endsWith( TEMPORARY_SUFFIX ) ) {
+					// the revision was not journaled, or the previous state of the file was kept
+					deleteQuietly( file );
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new AuditException( "Unable to read the write-behind journal directory " + directory, e );
+		}
+		journalFiles.sort( null );
+
+		final List<PendingRevision> pendingRevisions = new ArrayList<>( journalFiles.size() );
+		for ( Path journalFile : journalFiles ) {
+			final String fileName = journalFile.getFileName().toString();
+			try ( InputStream fileStream = Files.newInputStream( journalFile );
+					ObjectInputStream objectStream = new ClassLoaderServiceObjectInputStream( fileStream ) ) {
+				final PendingRevision pendingRevision = (PendingRevision) objectStream.readObject();
+				pendingRevision.setJournalFile( journalFile );
+				pendingRevisions.add( pendingRevision );
+			}
+			catch (IOException | ClassNotFoundException | ClassCastException e) {
+				log.errorf( e, "Unable to read write-behind journal file %s, it will be skipped", journalFile );
+				try {
+					Files.move( journalFile, journalFile.resolveSibling( fileName + CORRUPT_SUFFIX ) );
+				}
+				catch (IOException ignore) {
+				}
+			}
+		}
+		return pendingRevisions;
+	}
+
+	private static Path withSuffix(Path file, String suffix) {
+		final String fileName = file.getFileName().toString();
+		return file.resolveSibling( fileName.substring( 0, fileName.indexOf( '.' ) ) + suffix );
+	}
+
+	private static void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists( file );
+		}
+		catch (IOException e) {
+			log.warnf( e, "Unable to delete write-behind journal file %s", file );
+		}
+	}
+
+	/**
+	 * Resolves the classes of the journaled values, such as the revision entity, using the application class loaders.
+	 */
+	private class ClassLoaderServiceObjectInputStream extends ObjectInputStream {
+		public ClassLoaderServiceObjectInputStream(InputStream in) throws IOException {
+			super( in );
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			try {
+				return classLoaderService.classForName( desc.getName() );
+			}
+			catch (ClassLoadingException e) {
+				return super.resolveClass( desc );
+			}
+		}
+	}
+}
@@ -0,0 +1,482 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.synchronization.writebehind;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.exception.AuditException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A bounded queue of committed revisions whose audit data is written behind the business transactions
+ * by a single writer thread, in batches, using a {@link StatelessSession} of its own.
+ * <p>
+ * Revision numbers are assigned when revisions are written, so revisions are always written in the order
+ * in which their transactions committed: a committing transaction waits for room in a full queue, which
+ * provides back-pressure, and only writes its revision itself once the writer has stopped and the revisions
+ * queued before it have been written.  The wait is bounded: once it elapses, the revision is given up as
+ * failed and an {@link AuditException} is thrown.  When a journal directory is configured, revisions are
+ * journaled before their transaction completes, marked as committed once it has, and replayed on start.
+ * <p>
+ * A batch which cannot be written is retried a bounded number of times, then its revisions are written one
+ * by one, so that a revision which cannot be written, e.g. because of a constraint violation, is given up as
+ * failed without holding back the others.
+ */
+public class AuditWriteBehindQueue implements AuditWriteBehindStatistics {
+	private static final Logger log = Logger.getLogger( AuditWriteBehindQueue.class );
+
+	private static final long POLL_INTERVAL_MILLIS = 100L;
+	private static final long RETRY_DELAY_MILLIS = 1000L;
+	private static final int MAX_BATCH_ATTEMPTS = 3;
+	private static final long OFFER_WARNING_INTERVAL_MILLIS = 1000L;
+	private static final long STOP_TIMEOUT_MILLIS = 30000L;
+
+	private final String revisionEntityName;
+	private final BlockingQueue<PendingRevision> queue;
+	private final AuditWriteBehindJournal journal;
+	private final int batchSize;
+	private final long offerTimeout;
+
+	private final AtomicLong enqueuedCount = new AtomicLong();
+	private final AtomicLong writtenCount = new AtomicLong();
+	private final AtomicLong synchronousWriteCount = new AtomicLong();
+	private final AtomicLong failedBatchCount = new AtomicLong();
+	private final AtomicLong recoveredCount = new AtomicLong();
+	private final AtomicLong failedRevisionCount = new AtomicLong();
+	// the number of revisions of the journal not yet handed to the writer
+	private final AtomicInteger replayDepth = new AtomicInteger();
+
+	// guards the transitions of running against the revisions being queued
+	private final ReadWriteLock stateLock = new ReentrantReadWriteLock();
+
+	private volatile SessionFactoryImplementor sessionFactory;
+	private volatile boolean running;
+	private volatile List<PendingRevision> inFlight = Collections.emptyList();
+	private volatile Thread writer;
+
+	public AuditWriteBehindQueue(Configuration configuration, ClassLoaderService classLoaderService) {
+		this.revisionEntityName = configuration.getRevisionInfo().getRevisionInfoEntityName();
+		this.queue = new ArrayBlockingQueue<>( configuration.getWriteBehindQueueCapacity() );
+		this.batchSize = Math.max( 1, configuration.getWriteBehindBatchSize() );
+		this.offerTimeout = configuration.getWriteBehindOfferTimeout();
+
+		final String journalDirectory = configuration.getWriteBehindJournalDirectory();
+		this.journal = journalDirectory == null
+				? null
+				: new AuditWriteBehindJournal( Paths.get( journalDirectory ), classLoaderService );
+	}
+
+	/**
+	 * Starts the writer, which first replays the revisions that remained in the journal.  Must be called once
+	 * the session factory has been created, as revisions are written through sessions of its own.
+	 *
+	 * @param sessionFactory The session factory used to open the writer's sessions.
+	 */
+	public synchronized void start(SessionFactoryImplementor sessionFactory) {
+		if ( running ) {
+			return;
+		}
+		awaitWriterStopped();
+		this.sessionFactory = sessionFactory;
+
+		final List<PendingRevision> recovered = journal == null
+				? Collections.emptyList()
+				: journal.recover();
+		if ( !recovered.isEmpty() ) {
+			log.infof( "Replaying %s audit revisions from the write-behind journal", recovered.size() );
+		}
+		replayDepth.set( recovered.size() );
+
+		stateLock.writeLock().lock();
+		try {
+			running = true;
+		}
+		finally {
+			stateLock.writeLock().unlock();
+		}
+		writer = new Thread( () -> drain( recovered ), "envers-write-behind" );
+		writer.setDaemon( true );
+		writer.start();
+	}
+
+	/**
+	 * Stops the writer, waiting for the queued revisions to be written.
+	 */
+	public synchronized void stop() {
+		if ( !running ) {
+			return;
+		}
+		// no revision is queued once the writer has been told to stop, see offer
+		stateLock.writeLock().lock();
+		try {
+			running = false;
+		}
+		finally {
+			stateLock.writeLock().unlock();
+		}
+		try {
+			writer.join( STOP_TIMEOUT_MILLIS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if ( writer.isAlive() || !queue.isEmpty() ) {
+			log.warnf( "Stopped the audit write-behind writer with %s revisions not yet written", getQueueDepth() );
+		}
+	}
+
+	/**
+	 * Creates the pending revision of a transaction.
+	 *
+	 * @param revisionData The revision entity of the transaction.
+	 * @return The pending revision, to which the audit rows of the transaction shall be added.
+	 */
+	public PendingRevision createPendingRevision(Object revisionData) {
+		return new PendingRevision( revisionEntityName, revisionData );
+	}
+
+	/**
+	 * Prepares the given revision before its transaction completes, storing it in the journal if any.  The
+	 * revision is only replayed on start once {@link #enqueue enqueued}, after the commit of its transaction.
+	 *
+	 * @param pendingRevision The revision of the completing transaction.
+	 */
+	public void prepare(PendingRevision pendingRevision) {
+		if ( journal != null ) {
+			journal.append( pendingRevision );
+		}
+	}
+
+	/**
+	 * Hands the given revision to the writer once its transaction has committed, marking it as committed in
+	 * the journal if any, and waiting for room in the queue at most for the offer timeout.  Once the writer has
+	 * stopped, the revision is written by the calling thread, after the revisions queued before it.
+	 *
+	 * @param pendingRevision The revision of the committed transaction.
+	 *
+	 * @throws AuditException If the queue remained full for the offer timeout, the revision being given up as
+	 * failed.
+	 */
+	public void enqueue(PendingRevision pendingRevision) {
+		enqueuedCount.incrementAndGet();
+		if ( journal != null ) {
+			journal.commit( pendingRevision );
+		}
+		if ( offer( pendingRevision ) ) {
+			return;
+		}
+
+		log.debug( "Audit write-behind writer is stopped, writing the revision synchronously" );
+		writeSynchronously( pendingRevision );
+		synchronousWriteCount.incrementAndGet();
+	}
+
+	/**
+	 * @return {@code true} if the revision has been queued, {@code false} if the writer is stopped.
+	 */
+	private boolean offer(PendingRevision pendingRevision) {
+		final long deadline = System.currentTimeMillis() + offerTimeout;
+		boolean interrupted = false;
+		try {
+			while ( true ) {
+				final long remaining = deadline - System.currentTimeMillis();
+				// the read lock prevents the writer from being stopped between the check and the offer, which
+				// would leave the revision in the queue
+				stateLock.readLock().lock();
+				try {
+					if ( !running ) {
+						return false;
+					}
+					if ( queue.offer(
+							pendingRevision,
+							Math.max( 0L, Math.min( remaining, OFFER_WARNING_INTERVAL_MILLIS ) ),
+							TimeUnit.MILLISECONDS
+					) ) {
+						return true;
+					}
+				}
+				catch (InterruptedException e) {
+					// the revision of a committed transaction must still be written, and in order
+					interrupted = true;
+					continue;
+				}
+				finally {
+					stateLock.readLock().unlock();
+				}
+				if ( System.currentTimeMillis() >= deadline ) {
+					// writing the revision now would give it a number before the revisions still queued
+					fail( pendingRevision, null );
+					throw new AuditException(
+							"Audit write-behind queue remained full for " + offerTimeout + " ms (lag: " + getLag()
+									+ " ms), the revision of the committed transaction could not be queued"
+					);
+				}
+				log.warnf(
+						"Audit write-behind queue is full, waiting for the writer (lag: %s ms)",
+						getLag()
+				);
+			}
+		}
+		finally {
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Writes the given revision once the writer has stopped, preceded by the revisions the writer left in the
+	 * queue, so that revision numbers keep following the order of the commits.
+	 */
+	private synchronized void writeSynchronously(PendingRevision pendingRevision) {
+		awaitWriterStopped();
+		final List<PendingRevision> revisions = new ArrayList<>( queue.size() + 1 );
+		queue.drainTo( revisions );
+		revisions.add( pendingRevision );
+		for ( int start = 0; start < revisions.size(); start += batchSize ) {
+			write( revisions.subList( start, Math.min( start + batchSize, revisions.size() ) ) );
+		}
+	}
+
+	private void awaitWriterStopped() {
+		final Thread writer = this.writer;
+		if ( writer == null || writer == Thread.currentThread() ) {
+			return;
+		}
+		boolean interrupted = false;
+		while ( writer.isAlive() ) {
+			try {
+				writer.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if ( interrupted ) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Discards the given revision because its transaction did not commit.
+	 *
+	 * @param pendingRevision The revision of the rolled back transaction.
+	 */
+	public void discard(PendingRevision pendingRevision) {
+		if ( journal != null ) {
+			journal.remove( pendingRevision );
+		}
+	}
+
+	/**
+	 * Writes the revisions replayed from the journal, then the queued revisions, as the former were committed
+	 * first.  Batches that fail are retried, so that no revision is written ahead of an older one, then written
+	 * one revision at a time, the revisions which still fail being given up.
+	 */
+	private void drain(List<PendingRevision> recovered) {
+		final Iterator<PendingRevision> replay = recovered.iterator();
+		List<PendingRevision> batch = new ArrayList<>( batchSize );
+		boolean replaying = false;
+		int attempts = 0;
+		while ( running || replay.hasNext() || !queue.isEmpty() || !batch.isEmpty() ) {
+			try {
+				if ( batch.isEmpty() ) {
+					replaying = replay.hasNext();
+					if ( replaying ) {
+						while ( replay.hasNext() && batch.size() < batchSize ) {
+							batch.add( replay.next() );
+						}
+						replayDepth.addAndGet( -batch.size() );
+					}
+					else {
+						final PendingRevision first = queue.poll( POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS );
+						if ( first == null ) {
+							continue;
+						}
+						batch.add( first );
+						queue.drainTo( batch, batchSize - 1 );
+					}
+					inFlight = batch;
+				}
+
+				attempts++;
+				if ( attempts <= MAX_BATCH_ATTEMPTS ) {
+					write( batch );
+					( replaying ? recoveredCount : writtenCount ).addAndGet( batch.size() );
+				}
+				else {
+					writeOneByOne( batch, replaying );
+				}
+				inFlight = Collections.emptyList();
+				batch = new ArrayList<>( batchSize );
+				attempts = 0;
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (RuntimeException e) {
+				failedBatchCount.incrementAndGet();
+				if ( !running ) {
+					// the revisions stay in the journal, if any, and are replayed on the next start
+					log.errorf( e, "Unable to write %s audit revisions while stopping", batch.size() );
+					return;
+				}
+				log.warnf( e, "Unable to write %s audit revisions, attempt %s of %s", batch.size(), attempts, MAX_BATCH_ATTEMPTS );
+				try {
+					Thread.sleep( RETRY_DELAY_MILLIS );
+				}
+				catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	private void writeOneByOne(List<PendingRevision> batch, boolean replaying) {
+		for ( PendingRevision pendingRevision : batch ) {
+			try {
+				write( Collections.singletonList( pendingRevision ) );
+				( replaying ? recoveredCount : writtenCount ).incrementAndGet();
+			}
+			catch (RuntimeException e) {
+				fail( pendingRevision, e );
+			}
+		}
+	}
+
+	/**
+	 * Gives up the given revision, which is kept aside in the journal if any.
+	 */
+	private void fail(PendingRevision pendingRevision, RuntimeException cause) {
+		failedRevisionCount.incrementAndGet();
+		final Path failedFile = journal == null ? null : journal.fail( pendingRevision );
+		if ( failedFile != null ) {
+			log.errorf( cause, "Unable to write an audit revision, it is kept in the write-behind journal as %s", failedFile );
+		}
+		else {
+			log.errorf(
+					cause,
+					"Unable to write an audit revision of %s audit rows, it is lost",
+					pendingRevision.getRecords().size()
+			);
+		}
+	}
+
+	private void write(List<PendingRevision> batch) {
+		final SessionFactoryImplementor sessionFactory = this.sessionFactory;
+		if ( sessionFactory == null ) {
+			throw new AuditException( "Audit write-behind queue has not been started" );
+		}
+
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				for ( PendingRevision pendingRevision : batch ) {
+					if ( isWritten( session, pendingRevision ) ) {
+						log.debugf(
+								"Audit revision %s of the write-behind journal was already written",
+								pendingRevision.getRevisionId()
+						);
+						continue;
+					}
+					pendingRevision.writeTo( session );
+					if ( journal != null ) {
+						// the revision number identifies the revision, should the journal be replayed after a
+						// stop between the commit and the removal of the revision from the journal
+						journal.update( pendingRevision );
+					}
+				}
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+
+		if ( journal != null ) {
+			for ( PendingRevision pendingRevision : batch ) {
+				journal.remove( pendingRevision );
+			}
+		}
+	}
+
+	private boolean isWritten(StatelessSession session, PendingRevision pendingRevision) {
+		// revision numbers of rolled back transactions are not reused
+		return pendingRevision.getRevisionId() != null
+				&& session.get( revisionEntityName, pendingRevision.getRevisionId() ) != null;
+	}
+
+	@Override
+	public int getQueueDepth() {
+		return queue.size() + inFlight.size() + replayDepth.get();
+	}
+
+	@Override
+	public long getLag() {
+		long oldest = Long.MAX_VALUE;
+		final List<PendingRevision> inFlight = this.inFlight;
+		if ( !inFlight.isEmpty() ) {
+			oldest = inFlight.get( 0 ).getTimestamp();
+		}
+		final PendingRevision head = queue.peek();
+		if ( head != null ) {
+			oldest = Math.min( oldest, head.getTimestamp() );
+		}
+		return oldest == Long.MAX_VALUE ? 0L : Math.max( 0L, System.currentTimeMillis() - oldest );
+	}
+
+	@Override
+	public long getEnqueuedCount() {
+		return enqueuedCount.get();
+	}
+
+	@Override
+	public long getWrittenCount() {
+		return writtenCount.get();
+	}
+
+	@Override
+	public long getSynchronousWriteCount() {
+		return synchronousWriteCount.get();
+	}
+
+	@Override
+	public long getFailedBatchCount() {
+		return failedBatchCount.get();
+	}
+
+	@Override
+	public long getRecoveredCount() {
+		return recoveredCount.get();
+	}
+
+	@Override
+	public long getFailedRevisionCount() {
+		return failedRevisionCount.get();
+	}
+}
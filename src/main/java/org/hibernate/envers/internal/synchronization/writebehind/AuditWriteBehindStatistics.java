@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.synchronization.writebehind;
+
+/**
+ * Statistics of the audit write-behind queue.
+ */
+public interface AuditWriteBehindStatistics {
+	/**
+	 * @return The number of committed revisions waiting to be written, including those being written.
+	 */
+	int getQueueDepth();
+
+	/**
+	 * @return The age, in milliseconds, of the oldest revision waiting to be written, or {@code 0} if none.
+	 */
+	long getLag();
+
+	/**
+	 * @return The number of revisions handed to the queue.
+	 */
+	long getEnqueuedCount();
+
+	/**
+	 * @return The number of revisions written by the writer.
+	 */
+	long getWrittenCount();
+
+	/**
+	 * @return The number of revisions written by the committing thread because the writer was stopped.
+	 */
+	long getSynchronousWriteCount();
+
+	/**
+	 * @return The number of attempts to write a batch which failed.
+	 */
+	long getFailedBatchCount();
+
+	/**
+	 * @return The number of revisions replayed from the journal on start.
+	 */
+	long getRecoveredCount();
+
+	/**
+	 * @return The number of revisions given up because they could not be written, or could not be queued in
+	 * time.  These revisions are kept aside in the journal, if any.
+	 */
+	long getFailedRevisionCount();
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.synchronization.writebehind;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * The revision entity and audit rows of a committed transaction, waiting to be written.
+ */
+public class PendingRevision implements Serializable {
+	private static final long serialVersionUID = -3264187604722718357L;
+
+	private final String revisionEntityName;
+	private final Object revisionData;
+	private final List<AuditRecord> records = new ArrayList<>();
+	private final long timestamp;
+	// the number of the revision, once it has been assigned by writing the revision entity
+	private Object revisionId;
+
+	private transient Path journalFile;
+
+	public PendingRevision(String revisionEntityName, Object revisionData) {
+		this.revisionEntityName = revisionEntityName;
+		this.revisionData = revisionData;
+		this.timestamp = System.currentTimeMillis();
+	}
+
+	public void addRecord(String entityName, Map<String, Object> data) {
+		records.add( new AuditRecord( entityName, data ) );
+	}
+
+	public List<AuditRecord> getRecords() {
+		return records;
+	}
+
+	public Object getRevisionData() {
+		return revisionData;
+	}
+
+	/**
+	 * @return The time, in milliseconds since the epoch, at which the revision was created.
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * @return The number of the revision if it has been written, possibly by a transaction which did not commit,
+	 * {@code null} otherwise.
+	 */
+	public Object getRevisionId() {
+		return revisionId;
+	}
+
+	public void setRevisionId(Object revisionId) {
+		this.revisionId = revisionId;
+	}
+
+	Path getJournalFile() {
+		return journalFile;
+	}
+
+	void setJournalFile(Path journalFile) {
+		this.journalFile = journalFile;
+	}
+
+	/**
+	 * Inserts the revision entity followed by all audit rows using the given session.  The audit rows
+	 * reference the revision entity instance, hence the revision entity must be inserted first.
+	 *
+	 * @param session The stateless session.
+	 */
+	void writeTo(StatelessSession session) {
+		session.insert( revisionEntityName, revisionData );
+		final SharedSessionContractImplementor sessionImplementor = (SharedSessionContractImplementor) session;
+		revisionId = sessionImplementor.getEntityPersister( revisionEntityName, revisionData )
+				.getIdentifier( revisionData, sessionImplementor );
+		for ( AuditRecord record : records ) {
+			session.insert( record.getEntityName(), record.getData() );
+		}
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.tools;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The audit data of one audit row, stored in an array indexed by the slots of the keys in an
+ * {@link AuditDataSchema} shared by all the rows of the same audit entity, instead of one entry object per key.
+ * <p>
+ * The map does not support {@code null} keys, and is not thread-safe.  It is serialized as a {@link HashMap}, for
+ * instance when journaled by the write-behind queue, as the schema is not serializable.
+ */
+public class AuditDataMap extends AbstractMap<String, Object> implements Serializable {
+	private static final long serialVersionUID = -2790419527212846571L;
+
+	// the value of a key mapped to null, as a null slot is a key which is not mapped
+	private static final Object NULL_VALUE = new Object();
+
+	private final transient AuditDataSchema schema;
+	private transient Object[] values;
+	private transient int size;
+	private transient int modCount;
+
+	AuditDataMap(AuditDataSchema schema) {
+		this.schema = schema;
+		this.values = new Object[schema.size()];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		final int slot = schema.getSlot( key );
+		return slot >= 0 && slot < values.length && values[slot] != null;
+	}
+
+	@Override
+	public Object get(Object key) {
+		final int slot = schema.getSlot( key );
+		return slot >= 0 && slot < values.length ? unmask( values[slot] ) : null;
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		final int slot = schema.getOrAddSlot( key );
+		if ( slot >= values.length ) {
+			values = Arrays.copyOf( values, Math.max( schema.size(), slot + 1 ) );
+		}
+		final Object previous = values[slot];
+		values[slot] = value == null ? NULL_VALUE : value;
+		if ( previous == null ) {
+			size++;
+			modCount++;
+		}
+		return unmask( previous );
+	}
+
+	@Override
+	public Object remove(Object key) {
+		final int slot = schema.getSlot( key );
+		if ( slot < 0 || slot >= values.length ) {
+			return null;
+		}
+		final Object previous = values[slot];
+		if ( previous != null ) {
+			values[slot] = null;
+			size--;
+			modCount++;
+		}
+		return unmask( previous );
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill( values, null );
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public void clear() {
+				AuditDataMap.this.clear();
+			}
+
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+				return new EntryIterator();
+			}
+		};
+	}
+
+	private Object writeReplace() {
+		return new HashMap<>( this );
+	}
+
+	private static Object unmask(Object value) {
+		return value == NULL_VALUE ? null : value;
+	}
+
+	private final class EntryIterator implements Iterator<Entry<String, Object>> {
+		private int expectedModCount = modCount;
+		private int next = nextSlot( 0 );
+		private int current = -1;
+
+		@Override
+		public boolean hasNext() {
+			return next < values.length;
+		}
+
+		@Override
+		public Entry<String, Object> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( next >= values.length ) {
+				throw new NoSuchElementException();
+			}
+			current = next;
+			next = nextSlot( next + 1 );
+			return new SlotEntry( current );
+		}
+
+		@Override
+		public void remove() {
+			if ( current < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			values[current] = null;
+			size--;
+			current = -1;
+			modCount++;
+			expectedModCount = modCount;
+		}
+
+		private int nextSlot(int slot) {
+			while ( slot < values.length && values[slot] == null ) {
+				slot++;
+			}
+			return slot;
+		}
+	}
+
+	private final class SlotEntry implements Entry<String, Object> {
+		private final int slot;
+
+		private SlotEntry(int slot) {
+			this.slot = slot;
+		}
+
+		@Override
+		public String getKey() {
+			return schema.getKey( slot );
+		}
+
+		@Override
+		public Object getValue() {
+			return unmask( values[slot] );
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			final Object previous = values[slot];
+			if ( previous == null ) {
+				throw new IllegalStateException( "The entry was removed" );
+			}
+			values[slot] = value == null ? NULL_VALUE : value;
+			return unmask( previous );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Map.Entry<?, ?> entry
+					&& getKey().equals( entry.getKey() )
+					&& Objects.equals( getValue(), entry.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode() ^ Objects.hashCode( getValue() );
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.tools;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The keys of the audit data of one audit entity, each assigned to a fixed slot of the {@link AuditDataMap}
+ * instances created from the schema.
+ * <p>
+ * The keys are usually registered once the session factory is created, from the persister of the audit entity.
+ * A key which is not yet registered is given the next slot when first put in a map, so that the schema of the
+ * data of a collection's middle entity is learned from the first row mapped.  Slots are never reassigned.
+ */
+public class AuditDataSchema {
+	private volatile Slots slots = Slots.EMPTY;
+
+	/**
+	 * @return A new, empty map of audit data.
+	 */
+	public Map<String, Object> newDataMap() {
+		return new AuditDataMap( this );
+	}
+
+	/**
+	 * Registers keys, which have not been registered yet.
+	 *
+	 * @param keys The keys.
+	 */
+	public void addKeys(String... keys) {
+		for ( String key : keys ) {
+			getOrAddSlot( key );
+		}
+	}
+
+	/**
+	 * @return The number of registered keys.
+	 */
+	public int size() {
+		return slots.keys.length;
+	}
+
+	int getSlot(Object key) {
+		return key instanceof String ? slots.find( key ) : -1;
+	}
+
+	int getOrAddSlot(String key) {
+		final int slot = slots.find( Objects.requireNonNull( key ) );
+		return slot >= 0 ? slot : addSlot( key );
+	}
+
+	String getKey(int slot) {
+		return slots.keys[slot];
+	}
+
+	private synchronized int addSlot(String key) {
+		final Slots current = slots;
+		final int slot = current.find( key );
+		if ( slot >= 0 ) {
+			return slot;
+		}
+		slots = current.with( key );
+		return current.keys.length;
+	}
+
+	/**
+	 * An immutable open addressing table of the slot of each key, replaced as a whole when a key is added.
+	 */
+	private static final class Slots {
+		private static final Slots EMPTY = new Slots( new String[0] );
+
+		private final String[] keys;
+		// the slot of the key + 1, 0 for an empty entry
+		private final int[] table;
+		private final int mask;
+
+		private Slots(String[] keys) {
+			this.keys = keys;
+			int capacity = 4;
+			while ( capacity < keys.length * 2 ) {
+				capacity <<= 1;
+			}
+			this.table = new int[capacity];
+			this.mask = capacity - 1;
+			for ( int slot = 0; slot < keys.length; slot++ ) {
+				int index = index( keys[slot] );
+				while ( table[index] != 0 ) {
+					index = ( index + 1 ) & mask;
+				}
+				table[index] = slot + 1;
+			}
+		}
+
+		private int find(Object key) {
+			int index = index( key );
+			int entry;
+			while ( ( entry = table[index] ) != 0 ) {
+				final String candidate = keys[entry - 1];
+				if ( candidate == key || candidate.equals( key ) ) {
+					return entry - 1;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		private int index(Object key) {
+			final int hash = key.hashCode();
+			return ( hash ^ ( hash >>> 16 ) ) & mask;
+		}
+
+		private Slots with(String key) {
+			final String[] newKeys = Arrays.copyOf( keys, keys.length + 1 );
+			newKeys[keys.length] = key;
+			return new Slots( newKeys );
+		}
+	}
+}
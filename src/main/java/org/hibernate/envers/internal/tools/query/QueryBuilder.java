@@ -5,18 +5,20 @@
 package org.hibernate.envers.internal.tools.query;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import jakarta.persistence.criteria.JoinType;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.function.OrderByFragmentFunction;
@@ -31,6 +33,7 @@ import org.hibernate.envers.query.criteria.internal.CriteriaTools;
 import org.hibernate.envers.query.order.NullPrecedence;
 import org.hibernate.envers.tools.Pair;
 import org.hibernate.internal.util.QuotingHelper;
+import org.hibernate.query.MutationQuery;
 import org.hibernate.query.Query;
 import org.hibernate.type.BasicType;
 
@@ -40,6 +43,10 @@ import org.hibernate.type.BasicType;
  * @author Adam Warski (adam at warski dot org)
  */
 public class QueryBuilder {
+	// the alias of the union of two entities, and the prefix of the names of its columns, see toUnionQueryPlan
+	private static final String UNION_ALIAS = "_u";
+	private static final String UNION_COLUMN_PREFIX = "_c";
+
 	private final String entityName;
 	private final String alias;
 
@@ -68,13 +75,17 @@ public class QueryBuilder {
 	/**
 	 * A list of complete projection definitions: either a sole property name, or a function(property name).
 	 */
-	private final List<String> projections;
-	/**
-	 * Values of parameters used in projections.
-	 */
-	private final Map<String, Object> projectionQueryParamValues;
+	private final List<Projection> projections;
 
 	private final List<Pair<String, String>> orderFragments;
+	/**
+	 * A list of group by expressions.
+	 */
+	private final List<String> groupBys;
+	/**
+	 * Whether a projection selects distinct values.
+	 */
+	private boolean distinctProjection;
 
 	private final SessionFactoryImplementor sessionFactory;
 
@@ -111,8 +122,8 @@ public class QueryBuilder {
 		froms = new ArrayList<>();
 		orders = new ArrayList<>();
 		projections = new ArrayList<>();
-		projectionQueryParamValues = new HashMap<>();
 		orderFragments = new ArrayList<>();
+		groupBys = new ArrayList<>();
 
 		addFrom( entityName, alias, true );
 	}
@@ -132,8 +143,9 @@ public class QueryBuilder {
 		froms = new ArrayList<>( other.froms );
 		orders = new ArrayList<>( other.orders );
 		projections = new ArrayList<>( other.projections );
-		projectionQueryParamValues = new HashMap<>( other.projectionQueryParamValues );
 		orderFragments = new ArrayList<>( other.orderFragments );
+		groupBys = new ArrayList<>( other.groupBys );
+		distinctProjection = other.distinctProjection;
 	}
 
 	public QueryBuilder deepCopy() {
@@ -205,17 +217,21 @@ public class QueryBuilder {
 		orderFragments.add( Pair.make( alias, orderByCollectionRole ) );
 	}
 
+	/**
+	 * Groups the selected rows by a property.
+	 *
+	 * @param alias Alias of the entity of the property.
+	 * @param propertyName Name of the property.
+	 */
+	public void addGroupBy(String alias, String propertyName) {
+		groupBys.add( alias + "." + propertyName );
+	}
+
 	public void addProjection(String function, String alias, String propertyName, boolean distinct) {
-		final String effectivePropertyName = propertyName == null ? "" : ".".concat( propertyName );
-		if ( function == null ) {
-			projections.add( (distinct ? "distinct " : "") + alias + effectivePropertyName );
-		}
-		else {
-			projections.add(
-					function + "(" + (distinct ? "distinct " : "") + alias +
-					effectivePropertyName + ")"
-			);
-		}
+		distinctProjection |= distinct;
+		projections.add(
+				new PathProjection( function, propertyName == null ? alias : alias + "." + propertyName, distinct )
+		);
 	}
 
 	public void addProjection(
@@ -223,21 +239,47 @@ public class QueryBuilder {
 			Map<String, String> aliasToEntityNameMap,
 			Map<String, String> aliasToComponentPropertyNameMap,
 			AuditFunction function) {
-		final StringBuilder expression = new StringBuilder();
+		projections.add(
+				(expression, queryParamValues, pathRenderer) -> appendFunctionArgument(
+						configuration,
+						aliasToEntityNameMap,
+						aliasToComponentPropertyNameMap,
+						paramCounter,
+						queryParamValues,
+						alias,
+						expression,
+						function,
+						pathRenderer
+				)
+		);
+	}
+
+	protected static void appendFunctionArgument(
+			Configuration configuration,
+			Map<String, String> aliasToEntityNameMap,
+			Map<String, String> aliasToComponentPropertyNameMap,
+			MutableInteger paramCounter,
+			Map<String, Object> queryParamValues,
+			String alias,
+			StringBuilder expression,
+			Object argument) {
 		appendFunctionArgument(
 				configuration,
 				aliasToEntityNameMap,
 				aliasToComponentPropertyNameMap,
 				paramCounter,
-				projectionQueryParamValues,
+				queryParamValues,
 				alias,
 				expression,
-				function
+				argument,
+				UnaryOperator.identity()
 		);
-		projections.add( expression.toString() );
 	}
 
-	protected static void appendFunctionArgument(
+	/**
+	 * Appends a function argument, each property it reads being rendered by the given path renderer.
+	 */
+	private static void appendFunctionArgument(
 			Configuration configuration,
 			Map<String, String> aliasToEntityNameMap,
 			Map<String, String> aliasToComponentPropertyNameMap,
@@ -245,7 +287,8 @@ public class QueryBuilder {
 			Map<String, Object> queryParamValues,
 			String alias,
 			StringBuilder expression,
-			Object argument) {
+			Object argument,
+			UnaryOperator<String> pathRenderer) {
 		if ( argument instanceof AuditFunction ) {
 			AuditFunction function = (AuditFunction) argument;
 			expression.append( function.getFunction() ).append( '(' );
@@ -262,7 +305,8 @@ public class QueryBuilder {
 						queryParamValues,
 						alias,
 						expression,
-						innerArg
+						innerArg,
+						pathRenderer
 				);
 				first = false;
 			}
@@ -286,25 +330,19 @@ public class QueryBuilder {
 				throw new HibernateException( "Cannot add id property as function argument when id property is not a single column property" );
 			}
 			String propertyName = parameters.get( 0 ).getProperty( prefix );
-			if ( idAlias != null ) {
-				expression.append( idAlias ).append( '.' );
-			}
-			expression.append( propertyName );
+			expression.append( pathRenderer.apply( idAlias == null ? propertyName : idAlias + '.' + propertyName ) );
 		}
 		else if ( argument instanceof AuditProperty ) {
 			AuditProperty<?> property = (AuditProperty<?>) argument;
 			String propertyAlias = property.getAlias( alias );
-			if ( propertyAlias != null ) {
-				expression.append( propertyAlias ).append( '.' );
-			}
 			String propertyPrefix = CriteriaTools.determineComponentPropertyPrefix(
 					configuration.getEnversService(),
 					aliasToEntityNameMap,
 					aliasToComponentPropertyNameMap,
 					propertyAlias
 			);
-			String propertyName = property.getPropertyNameGetter().get( configuration );
-			expression.append( propertyPrefix.concat( propertyName ) );
+			String propertyName = propertyPrefix.concat( property.getPropertyNameGetter().get( configuration ) );
+			expression.append( pathRenderer.apply( propertyAlias == null ? propertyName : propertyAlias + '.' + propertyName ) );
 		}
 		else {
 			String queryParam = "_p" + paramCounter.getAndIncrease();
@@ -322,40 +360,16 @@ public class QueryBuilder {
 	 */
 	public void build(StringBuilder sb, Map<String, Object> queryParamValues) {
 		sb.append( "select " );
-		if ( projections.size() > 0 ) {
-			// all projections separated with commas
-			StringTools.append( sb, projections.iterator(), ", " );
-		}
-		else {
-			// all aliases separated with commas
-			StringTools.append( sb, getSelectAliasList().iterator(), ", " );
-		}
-		queryParamValues.putAll( projectionQueryParamValues );
-		sb.append( " from " );
-		// all from entities with aliases
-		boolean first = true;
-		for (final JoinParameter joinParameter : froms) {
-			joinParameter.appendJoin( first, sb, queryParamValues );
-			first = false;
-		}
+		appendSelection( sb, queryParamValues, UnaryOperator.identity() );
+		appendFrom( sb, queryParamValues, entityName );
 		// where part - rootParameters
-		first = true;
-		for (final Parameters params : parameters) {
-			if (!params.isEmpty()) {
-				if (first) {
-					sb.append( " where " );
-					first = false;
-				}
-				else {
-					sb.append( " and " );
-				}
-				params.build( sb, queryParamValues );
-			}
-		}
+		appendWhere( sb, queryParamValues );
+		// group by
+		appendGroupBy( sb, UnaryOperator.identity() );
 		// orders
 		if ( !orders.isEmpty() ) {
 			sb.append( " order by " );
-			StringTools.append( sb, getOrderList().iterator(), ", " );
+			StringTools.append( sb, getOrderList( UnaryOperator.identity() ).iterator(), ", " );
 		}
 		else if ( !orderFragments.isEmpty() ) {
 			sb.append( " order by " );
@@ -377,6 +391,72 @@ public class QueryBuilder {
 		}
 	}
 
+	/**
+	 * Appends the projections, or the selected aliases if there is none, each property or entity they read being
+	 * rendered by the given path renderer.
+	 */
+	private void appendSelection(StringBuilder sb, Map<String, Object> queryParamValues, UnaryOperator<String> pathRenderer) {
+		if ( projections.size() > 0 ) {
+			// all projections separated with commas
+			boolean first = true;
+			for ( Projection projection : projections ) {
+				if ( !first ) {
+					sb.append( ", " );
+				}
+				projection.append( sb, queryParamValues, pathRenderer );
+				first = false;
+			}
+		}
+		else {
+			// all aliases separated with commas
+			StringTools.append( sb, getSelectAliasList().iterator(), ", " );
+		}
+	}
+
+	/**
+	 * Appends the from clause, the main entity being read from the given entity.
+	 */
+	private void appendFrom(StringBuilder sb, Map<String, Object> queryParamValues, String mainEntityName) {
+		sb.append( " from " );
+		// all from entities with aliases
+		final JoinParameter mainFrom = froms.get( 0 );
+		new CrossJoinParameter( mainEntityName, mainFrom.getAlias(), mainFrom.isSelect() )
+				.appendJoin( true, sb, queryParamValues );
+		for ( JoinParameter joinParameter : froms.subList( 1, froms.size() ) ) {
+			joinParameter.appendJoin( false, sb, queryParamValues );
+		}
+	}
+
+	private void appendGroupBy(StringBuilder sb, UnaryOperator<String> pathRenderer) {
+		if ( !groupBys.isEmpty() ) {
+			sb.append( " group by " );
+			boolean first = true;
+			for ( String groupBy : groupBys ) {
+				if ( !first ) {
+					sb.append( ", " );
+				}
+				sb.append( pathRenderer.apply( groupBy ) );
+				first = false;
+			}
+		}
+	}
+
+	private void appendWhere(StringBuilder sb, Map<String, Object> queryParamValues) {
+		boolean first = true;
+		for (final Parameters params : parameters) {
+			if (!params.isEmpty()) {
+				if (first) {
+					sb.append( " where " );
+					first = false;
+				}
+				else {
+					sb.append( " and " );
+				}
+				params.build( sb, queryParamValues );
+			}
+		}
+	}
+
 	private List<String> getSelectAliasList() {
 		final List<String> aliasList = new ArrayList<>();
 		for ( JoinParameter from : froms ) {
@@ -392,29 +472,163 @@ public class QueryBuilder {
 		return alias;
 	}
 
-	private List<String> getOrderList() {
+	private List<String> getOrderList(UnaryOperator<String> pathRenderer) {
 		final List<String> orderList = new ArrayList<>();
 		for ( OrderByClause orderByClause : orders ) {
-			orderList.add( orderByClause.renderToHql() );
+			orderList.add( orderByClause.renderToHql( pathRenderer.apply( orderByClause.getPath() ) ) );
 		}
 		return orderList;
 	}
 
 	public Query toQuery(Session session) {
+		return toQueryPlan().createQuery( session, Collections.emptyMap() );
+	}
+
+	/**
+	 * Renders the query, so that queries of the same shape can be created without building it again.
+	 *
+	 * @return The rendered query.
+	 */
+	public QueryPlan toQueryPlan() {
 		final StringBuilder querySb = new StringBuilder();
 		final Map<String, Object> queryParamValues = new HashMap<>();
 
 		build( querySb, queryParamValues );
 
-		final Query query = session.createQuery( querySb.toString() );
-		for ( Map.Entry<String, Object> paramValue : queryParamValues.entrySet() ) {
-			if ( paramValue.getValue() instanceof RevisionType ) {
-				// this is needed when the ClassicQueryTranslatorFactory is used
-				query.setParameter( paramValue.getKey(), paramValue.getValue(), revisionType );
+		return new QueryPlan( querySb.toString(), queryParamValues, revisionType );
+	}
+
+	/**
+	 * Renders the query reading the main entity from the union of its rows and of the rows of another entity
+	 * mapping the same properties, such as the archive table of an audit table.  The projections, groups, orders
+	 * and paging of the query apply to the union, as they would to the rows of a single entity.
+	 * <p>
+	 * The union selects the entities or projections of the query, along with the values it is ordered by, which are
+	 * left out of the results.  When the query applies functions to the rows or groups them, the union instead
+	 * selects the properties read by the projections, groups and orders, from which the query selects.
+	 *
+	 * @param unionEntityName The name of the entity whose rows are read along with those of the main entity.
+	 *
+	 * @return The rendered query.
+	 */
+	public QueryPlan toUnionQueryPlan(String unionEntityName) {
+		final StringBuilder querySb = new StringBuilder();
+		final Map<String, Object> queryParamValues = new HashMap<>();
+
+		if ( hasFunctionProjection() || !groupBys.isEmpty() ) {
+			// the union selects each property read by the query once, as a column of the rows of the union
+			final Map<String, String> columns = new LinkedHashMap<>();
+			final UnaryOperator<String> columnRenderer = path -> columns.computeIfAbsent(
+					path,
+					p -> UNION_ALIAS + "." + UNION_COLUMN_PREFIX + columns.size()
+			);
+			final StringBuilder selection = new StringBuilder();
+			appendSelection( selection, queryParamValues, columnRenderer );
+			final StringBuilder groupBy = new StringBuilder();
+			appendGroupBy( groupBy, columnRenderer );
+			final List<String> orderList = getOrderList( columnRenderer );
+
+			final StringBuilder unionSelection = new StringBuilder();
+			int column = 0;
+			for ( String path : columns.keySet() ) {
+				if ( column > 0 ) {
+					unionSelection.append( ", " );
+				}
+				unionSelection.append( path ).append( " as " ).append( UNION_COLUMN_PREFIX ).append( column++ );
 			}
-			else {
-				query.setParameter( paramValue.getKey(), paramValue.getValue() );
+
+			querySb.append( "select " ).append( selection ).append( " from (" );
+			appendUnion( querySb, queryParamValues, unionEntityName, unionSelection.toString(), " union all " );
+			querySb.append( ") " ).append( UNION_ALIAS ).append( groupBy );
+			if ( !orderList.isEmpty() ) {
+				querySb.append( " order by " );
+				StringTools.append( querySb, orderList.iterator(), ", " );
+			}
+			return new QueryPlan( querySb.toString(), queryParamValues, revisionType );
+		}
+
+		// the union selects the values the query is ordered by after the selection of the query, and is ordered by
+		// their positions
+		final StringBuilder unionSelection = new StringBuilder();
+		appendSelection( unionSelection, queryParamValues, UnaryOperator.identity() );
+		final int selectionSize = projections.isEmpty() ? getSelectAliasList().size() : projections.size();
+		final List<String> orderList = new ArrayList<>();
+		for ( OrderByClause orderByClause : orders ) {
+			unionSelection.append( ", " ).append( orderByClause.getPath() );
+			orderList.add( orderByClause.renderToHql( String.valueOf( selectionSize + orderList.size() + 1 ) ) );
+		}
+
+		// a union of distinct values only keeps the rows which are distinct across both entities
+		appendUnion(
+				querySb,
+				queryParamValues,
+				unionEntityName,
+				unionSelection.toString(),
+				distinctProjection ? " union " : " union all "
+		);
+		if ( !orderList.isEmpty() ) {
+			querySb.append( " order by " );
+			StringTools.append( querySb, orderList.iterator(), ", " );
+		}
+		return new QueryPlan( querySb.toString(), queryParamValues, revisionType, selectionSize );
+	}
+
+	private boolean hasFunctionProjection() {
+		for ( Projection projection : projections ) {
+			if ( projection.hasFunction() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Appends the union of the rows of the main entity and of the given entity, restricted by the "where"
+	 * parameters.
+	 */
+	private void appendUnion(
+			StringBuilder sb,
+			Map<String, Object> queryParamValues,
+			String unionEntityName,
+			String selection,
+			String union) {
+		sb.append( "select " ).append( selection );
+		appendFrom( sb, queryParamValues, entityName );
+		appendWhere( sb, queryParamValues );
+		sb.append( union ).append( "select " ).append( selection );
+		appendFrom( sb, queryParamValues, unionEntityName );
+		appendWhere( sb, queryParamValues );
+	}
+
+	/**
+	 * Creates an update query for the main entity of this builder, restricted by the "where" parameters.
+	 * Additional from elements, projections and orders are not taken into account.
+	 *
+	 * @param session Session used to create the query.
+	 * @param assignments Names of the properties of the main entity to update, mapped to their new values.
+	 *
+	 * @return The update query.
+	 */
+	public MutationQuery toUpdateQuery(Session session, Map<String, Object> assignments) {
+		final StringBuilder querySb = new StringBuilder();
+		final Map<String, Object> queryParamValues = new HashMap<>();
+
+		querySb.append( "update " ).append( entityName ).append( ' ' ).append( alias ).append( " set " );
+		boolean first = true;
+		for ( Map.Entry<String, Object> assignment : assignments.entrySet() ) {
+			if ( !first ) {
+				querySb.append( ", " );
 			}
+			final String queryParam = "_p" + paramCounter.getAndIncrease();
+			queryParamValues.put( queryParam, assignment.getValue() );
+			querySb.append( alias ).append( '.' ).append( assignment.getKey() ).append( " = :" ).append( queryParam );
+			first = false;
+		}
+		appendWhere( querySb, queryParamValues );
+
+		final MutationQuery query = session.createMutationQuery( querySb.toString() );
+		for ( Map.Entry<String, Object> paramValue : queryParamValues.entrySet() ) {
+			query.setParameter( paramValue.getKey(), paramValue.getValue() );
 		}
 		return query;
 	}
@@ -492,6 +706,45 @@ public class QueryBuilder {
 
 	}
 
+	private interface Projection {
+		/**
+		 * Appends the projection, each property or entity it reads being rendered by the given path renderer.
+		 */
+		void append(StringBuilder sb, Map<String, Object> queryParamValues, UnaryOperator<String> pathRenderer);
+
+		default boolean hasFunction() {
+			return true;
+		}
+	}
+
+	private static class PathProjection implements Projection {
+		private final String function;
+		private final String path;
+		private final boolean distinct;
+
+		public PathProjection(String function, String path, boolean distinct) {
+			this.function = function;
+			this.path = path;
+			this.distinct = distinct;
+		}
+
+		@Override
+		public void append(StringBuilder sb, Map<String, Object> queryParamValues, UnaryOperator<String> pathRenderer) {
+			if ( function == null ) {
+				sb.append( distinct ? "distinct " : "" ).append( pathRenderer.apply( path ) );
+			}
+			else {
+				sb.append( function ).append( '(' ).append( distinct ? "distinct " : "" )
+						.append( pathRenderer.apply( path ) ).append( ')' );
+			}
+		}
+
+		@Override
+		public boolean hasFunction() {
+			return function != null;
+		}
+	}
+
 	private static class OrderByClause {
 		private String alias;
 		private String propertyName;
@@ -505,9 +758,16 @@ public class QueryBuilder {
 			this.nullPrecedence = nullPrecedence;
 		}
 
-		public String renderToHql() {
+		public String getPath() {
+			return alias + "." + propertyName;
+		}
+
+		/**
+		 * @param expression The expression rendering the ordered property.
+		 */
+		public String renderToHql(String expression) {
 			StringBuilder hql = new StringBuilder();
-			hql.append( alias ).append( "." ).append( propertyName ).append( " " );
+			hql.append( expression ).append( " " );
 			hql.append( ascending ? "asc" : "desc" );
 			if ( nullPrecedence != null ) {
 				if ( NullPrecedence.FIRST.equals( nullPrecedence ) ) {
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.tools.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.query.AuditQueryParameter;
+import org.hibernate.query.Query;
+import org.hibernate.type.BasicType;
+
+/**
+ * A query rendered by a {@link QueryBuilder}: the HQL text, along with the values of its parameters.  A parameter
+ * whose value is an {@link AuditQueryParameter} is a slot, whose value is bound each time a query is created
+ * from the plan; a plan is therefore independent of any session, and can be reused by all of them.
+ */
+public final class QueryPlan {
+	private final String queryString;
+	private final List<Binding> bindings;
+	private final BasicType<?> revisionType;
+	// the number of select items returned, the following ones being left out of the results, or -1 for all of them
+	private final int selectionSize;
+
+	QueryPlan(String queryString, Map<String, Object> queryParamValues, BasicType<?> revisionType) {
+		this( queryString, queryParamValues, revisionType, -1 );
+	}
+
+	QueryPlan(String queryString, Map<String, Object> queryParamValues, BasicType<?> revisionType, int selectionSize) {
+		this.queryString = queryString;
+		this.revisionType = revisionType;
+		this.selectionSize = selectionSize;
+
+		bindings = new ArrayList<>( queryParamValues.size() );
+		for ( Map.Entry<String, Object> paramValue : queryParamValues.entrySet() ) {
+			bindings.add( new Binding( paramValue.getKey(), paramValue.getValue() ) );
+		}
+	}
+
+	public String getQueryString() {
+		return queryString;
+	}
+
+	/**
+	 * @return A description of the plan, equal for two plans only if they create the same queries: the query
+	 * string, along with the name of each slot and the type and value of each other parameter.
+	 */
+	public String getShape() {
+		final StringBuilder shape = new StringBuilder( queryString );
+		final List<Binding> sortedBindings = new ArrayList<>( bindings );
+		sortedBindings.sort( Comparator.comparing( binding -> binding.name ) );
+		for ( Binding binding : sortedBindings ) {
+			shape.append( '\n' ).append( binding.name ).append( " = " );
+			if ( binding.value instanceof AuditQueryParameter ) {
+				shape.append( ':' ).append( ( (AuditQueryParameter<?>) binding.value ).getName() );
+			}
+			else if ( binding.value == null ) {
+				shape.append( "null" );
+			}
+			else {
+				shape.append( binding.value.getClass().getName() ).append( ' ' ).append( binding.value );
+			}
+		}
+		return shape.toString();
+	}
+
+	/**
+	 * Creates a query from the plan.
+	 *
+	 * @param session Session used to create the query.
+	 * @param parameterValues Values of the parameter slots, by name.
+	 *
+	 * @return The query, whose parameters are all bound.
+	 */
+	public Query createQuery(Session session, Map<String, Object> parameterValues) {
+		final Query query = session.createQuery( queryString );
+		if ( selectionSize >= 0 ) {
+			query.setTupleTransformer(
+					(tuple, aliases) -> selectionSize == 1 ? tuple[0] : Arrays.copyOf( tuple, selectionSize )
+			);
+		}
+		for ( Binding binding : bindings ) {
+			Object value = binding.value;
+			if ( value instanceof AuditQueryParameter ) {
+				final String name = ( (AuditQueryParameter<?>) value ).getName();
+				if ( !parameterValues.containsKey( name ) ) {
+					throw new AuditException( "No value bound for the audit query parameter [" + name + "]" );
+				}
+				value = parameterValues.get( name );
+			}
+
+			if ( value instanceof RevisionType ) {
+				// this is needed when the ClassicQueryTranslatorFactory is used
+				query.setParameter( binding.name, value, revisionType );
+			}
+			else {
+				query.setParameter( binding.name, value );
+			}
+		}
+		return query;
+	}
+
+	private static final class Binding {
+		private final String name;
+		private final Object value;
+
+		private Binding(String name, Object value) {
+			this.name = name;
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.internal.tools.query;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * The plans of prepared audit queries, by name and shape of query.  Shared by all the sessions of a session factory.
+ * <p>
+ * The names and shapes of the prepared queries of an application are a bounded set, so that plans are never evicted:
+ * once the maximum size is reached, the plans of new names or shapes are rendered on each execution instead.
+ */
+public final class QueryPlanCache {
+	private final ConcurrentMap<String, QueryPlan> plans = new ConcurrentHashMap<>();
+	private final int maxSize;
+
+	public QueryPlanCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * @param name The name of the prepared query.
+	 * @param shape The description of the structure of the query, which tells apart the plans of different queries
+	 * prepared with the same name.
+	 * @param planBuilder Renders the plan, if there is no plan for the name and shape yet.
+	 *
+	 * @return The plan of the query.
+	 */
+	public QueryPlan getQueryPlan(String name, String shape, Supplier<QueryPlan> planBuilder) {
+		final String key = name + '\n' + shape;
+		final QueryPlan plan = plans.get( key );
+		if ( plan != null ) {
+			return plan;
+		}
+		if ( plans.size() >= maxSize ) {
+			return planBuilder.get();
+		}
+		return plans.computeIfAbsent( key, k -> planBuilder.get() );
+	}
+
+	public int size() {
+		return plans.size();
+	}
+}
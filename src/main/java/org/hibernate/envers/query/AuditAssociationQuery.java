@@ -60,6 +60,9 @@ public interface AuditAssociationQuery<Q extends AuditQuery> extends AuditQuery
 	@Override
 	AuditAssociationQuery<Q> setTimeout(int timeout);
 
+	@Override
+	AuditAssociationQuery<Q> setFetchSize(int fetchSize);
+
 	@Override
 	AuditAssociationQuery<Q> setLockMode(LockMode lockMode);
 
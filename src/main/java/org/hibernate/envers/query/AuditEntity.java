@@ -246,4 +246,18 @@ public class AuditEntity {
 	public static AuditCriterion entityType(final String alias, final String entityName) {
 		return new EntityTypeAuditExpression( alias, entityName );
 	}
+
+	/**
+	 * Create a slot for a value of a prepared query, bound each time the query is executed.
+	 *
+	 * @param name the name of the parameter, unique within the query
+	 * @param type the type of the values bound to the parameter
+	 * @return the parameter, to be used in place of the value of a criterion
+	 *
+	 * @see AuditQueryCreator#prepare(String, java.util.function.Function)
+	 * @since 7.1
+	 */
+	public static <T> AuditQueryParameter<T> parameter(String name, Class<T> type) {
+		return new AuditQueryParameter<>( name, type );
+	}
 }
@@ -5,6 +5,7 @@
 package org.hibernate.envers.query;
 
 import java.util.List;
+import java.util.stream.Stream;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.NonUniqueResultException;
 import jakarta.persistence.criteria.JoinType;
@@ -24,6 +25,19 @@ import org.hibernate.envers.query.projection.AuditProjection;
 public interface AuditQuery {
 	List getResultList() throws AuditException;
 
+	/**
+	 * Executes the query and returns its results as a stream.  The rows are read from the underlying JDBC
+	 * cursor and mapped to their results as the stream is consumed, rather than all at once.  Entities read
+	 * through the stream are not retained by the first level cache of the audit reader.
+	 * <p>
+	 * The returned stream holds database resources and must be closed, e.g. using try-with-resources.
+	 *
+	 * @return The stream of query results.
+	 *
+	 * @since 7.1
+	 */
+	Stream getResultStream() throws AuditException;
+
 	Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException;
 
 	AuditAssociationQuery<? extends AuditQuery> traverseRelation(String associationName, JoinType joinType);
@@ -62,6 +76,17 @@ public interface AuditQuery {
 
 	AuditQuery setTimeout(int timeout);
 
+	/**
+	 * Sets the JDBC fetch size hint, i.e. the number of rows fetched per round-trip, mostly useful in
+	 * combination with {@link #getResultStream()}.
+	 *
+	 * @param fetchSize The fetch size hint.
+	 * @return this object
+	 *
+	 * @since 7.1
+	 */
+	AuditQuery setFetchSize(int fetchSize);
+
 	AuditQuery setLockMode(LockMode lockMode);
 
 	String getAlias();
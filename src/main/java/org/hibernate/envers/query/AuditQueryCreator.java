@@ -4,12 +4,16 @@
  */
 package org.hibernate.envers.query;
 
+import java.util.function.Function;
+
 import org.hibernate.Incubating;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.query.internal.impl.EntitiesAtRevisionQuery;
 import org.hibernate.envers.query.internal.impl.EntitiesModifiedAtRevisionQuery;
+import org.hibernate.envers.query.internal.impl.EntityChangesBetweenRevisionsQuery;
+import org.hibernate.envers.query.internal.impl.PreparedAuditQueryImpl;
 import org.hibernate.envers.query.internal.impl.RevisionsOfEntityQuery;
 
 import static org.hibernate.envers.internal.tools.ArgumentsTools.checkNotNull;
@@ -140,6 +144,81 @@ public class AuditQueryCreator {
 		return new EntitiesModifiedAtRevisionQuery( enversService, auditReaderImplementor, c, revision );
 	}
 
+	/**
+	 * Creates a query, which selects the net changes of the entities modified after a revision and up to another
+	 * one.  Only the audit rows of the modified entities at both revisions are read; unless the entity did not exist
+	 * at both revisions, the result contains a four-element array per entity:
+	 * <ol>
+	 * <li>the entity instance at {@code fromRevision}, or {@code null} if it did not exist then</li>
+	 * <li>the entity instance at {@code toRevision}, or {@code null} if it did not exist then</li>
+	 * <li>the net type of the change (an enum instance of class {@link org.hibernate.envers.RevisionType})</li>
+	 * <li>the names of the changed properties: those whose audited values differ between the two states, or whose
+	 * modified flag is set in one of the revisions when their values are not stored in the audit rows</li>
+	 * </ol>
+	 * The conditions select entities rather than audit rows: an entity is part of the results if its state at one
+	 * of both revisions matches them.  Projections and association queries are not supported.
+	 *
+	 * @param c Class of the entities for which to query.
+	 * @param fromRevision Revision of the first state, excluded from the changes.
+	 * @param toRevision Revision of the last state, included in the changes.
+	 *
+	 * @return A query for the changes of the entities between the revisions, to which conditions on the states of
+	 *         the entities can be added and which can then be executed.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	public AuditQuery forEntityChangesBetweenRevisions(Class<?> c, Number fromRevision, Number toRevision) {
+		checkNotNull( fromRevision, "From revision" );
+		checkNotNull( toRevision, "To revision" );
+		checkPositive( toRevision, "To revision" );
+		c = getTargetClassIfProxied( c );
+		checkEntityAudited( c.getName() );
+		return new EntityChangesBetweenRevisionsQuery(
+				enversService,
+				auditReaderImplementor,
+				c,
+				fromRevision,
+				toRevision
+		);
+	}
+
+	/**
+	 * Creates a query, which selects the net changes of the entities modified after a revision and up to another
+	 * one.
+	 *
+	 * @param c Class of the entities for which to query.
+	 * @param entityName Name of the entity (if it can't be guessed basing on the {@code c}).
+	 * @param fromRevision Revision of the first state, excluded from the changes.
+	 * @param toRevision Revision of the last state, included in the changes.
+	 *
+	 * @return A query for the changes of the entities between the revisions, to which conditions on the states of
+	 *         the entities can be added and which can then be executed.
+	 *
+	 * @see #forEntityChangesBetweenRevisions(Class, Number, Number)
+	 * @since 7.1
+	 */
+	@Incubating
+	public AuditQuery forEntityChangesBetweenRevisions(
+			Class<?> c,
+			String entityName,
+			Number fromRevision,
+			Number toRevision) {
+		checkNotNull( fromRevision, "From revision" );
+		checkNotNull( toRevision, "To revision" );
+		checkPositive( toRevision, "To revision" );
+		c = getTargetClassIfProxied( c );
+		checkEntityAudited( entityName );
+		return new EntityChangesBetweenRevisionsQuery(
+				enversService,
+				auditReaderImplementor,
+				c,
+				entityName,
+				fromRevision,
+				toRevision
+		);
+	}
+
 	/**
 	 * Creates a query, which selects the revisions, at which the given entity was modified.
 	 * Unless an explicit projection is set, the result will be a list of three-element arrays, containing:
@@ -340,6 +419,28 @@ public class AuditQueryCreator {
 		);
 	}
 
+	/**
+	 * Creates a prepared query, whose plan is kept per name and rendered query.  The plan is shared by all the
+	 * audit readers of the session factory, so that subsequent executions of the same query only bind the values
+	 * of their parameters.
+	 * <p>
+	 * Values that differ from one execution to the other should be given as {@link AuditEntity#parameter
+	 * parameters}: any other value of the definition is part of the rendered query, so that each of its values
+	 * gets a plan of its own.
+	 *
+	 * @param name Name of the query, which groups the plans of its definitions.
+	 * @param definition Creates the query to prepare, using this query creator.
+	 *
+	 * @return A prepared query, which can be executed many times with different parameter values.
+	 *
+	 * @since 7.1
+	 */
+	@Incubating
+	public PreparedAuditQuery prepare(String name, Function<AuditQueryCreator, AuditQuery> definition) {
+		checkNotNull( name, "Query name" );
+		return new PreparedAuditQueryImpl( name, definition.apply( this ) );
+	}
+
 	private void checkEntityAudited(String entityName) {
 		if ( !auditReaderImplementor.isEntityNameAudited( entityName ) ) {
 			throw new NotAuditedException(
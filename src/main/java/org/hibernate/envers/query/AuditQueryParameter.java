@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.query;
+
+/**
+ * A named slot for a value of a {@link PreparedAuditQuery}, used in place of the value of a criterion and bound
+ * each time the query is executed.  Slots can be used by criteria which pass their value to the query unchanged,
+ * such as the comparisons of a property or of a basic identifier.
+ *
+ * @param <T> The type of the values bound to the slot.
+ *
+ * @see AuditEntity#parameter(String, Class)
+ * @since 7.1
+ */
+public final class AuditQueryParameter<T> {
+	private final String name;
+	private final Class<T> type;
+
+	AuditQueryParameter(String name, Class<T> type) {
+		this.name = name;
+		this.type = type;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Class<T> getType() {
+		return type;
+	}
+
+	@Override
+	public String toString() {
+		return ":" + name;
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.query;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.NonUniqueResultException;
+
+import org.hibernate.envers.exception.AuditException;
+
+/**
+ * An audit query whose plan is kept once rendered, and reused by all its executions, which only bind the values
+ * of its {@link AuditQueryParameter parameters}.
+ *
+ * @see AuditQueryCreator#prepare(String, java.util.function.Function)
+ * @since 7.1
+ */
+public interface PreparedAuditQuery {
+	/**
+	 * Binds the value of a parameter.
+	 *
+	 * @param parameter The parameter.
+	 * @param value The value of the parameter.
+	 * @param <T> The type of the value.
+	 * @return this object
+	 */
+	<T> PreparedAuditQuery setParameter(AuditQueryParameter<T> parameter, T value);
+
+	/**
+	 * Binds the value of a parameter.
+	 *
+	 * @param name The name of the parameter.
+	 * @param value The value of the parameter.
+	 * @return this object
+	 */
+	PreparedAuditQuery setParameter(String name, Object value);
+
+	List getResultList() throws AuditException;
+
+	Stream getResultStream() throws AuditException;
+
+	Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException;
+}
@@ -25,6 +25,10 @@ public class IdentifierEqAuditExpression extends AbstractAtomicExpression {
 		this.equals = equals;
 	}
 
+	public boolean isEquals() {
+		return equals;
+	}
+
 	@Override
 	protected void addToQuery(
 			EnversService enversService,
@@ -8,6 +8,8 @@ import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
+import org.hibernate.envers.query.criteria.AuditId;
+import org.hibernate.envers.query.internal.property.EntityPropertyName;
 import org.hibernate.envers.query.internal.property.PropertyNameGetter;
 
 /**
@@ -23,6 +25,15 @@ public class InAuditExpression extends AbstractAtomicExpression {
 		this.values = values;
 	}
 
+	/**
+	 * @return Whether the values are identifiers of the entity, as created by {@code AuditEntity.id().in(...)}.
+	 */
+	public boolean isOnIdentifier() {
+		// the name of an entity property does not depend on the configuration
+		return propertyNameGetter instanceof EntityPropertyName
+				&& AuditId.IDENTIFIER_PLACEHOLDER.equals( propertyNameGetter.get( null ) );
+	}
+
 	@Override
 	protected void addToQuery(
 			EnversService enversService,
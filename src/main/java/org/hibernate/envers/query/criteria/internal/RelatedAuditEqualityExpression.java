@@ -31,6 +31,10 @@ public class RelatedAuditEqualityExpression extends AbstractAtomicExpression {
 		this.equals = equals;
 	}
 
+	public boolean isEquals() {
+		return equals;
+	}
+
 	@Override
 	protected void addToQuery(
 			EnversService enversService,
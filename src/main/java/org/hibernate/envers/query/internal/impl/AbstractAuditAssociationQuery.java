@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Stream;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.NonUniqueResultException;
 import jakarta.persistence.criteria.JoinType;
@@ -140,6 +141,11 @@ public abstract class AbstractAuditAssociationQuery<Q extends AuditQueryImplemen
 		return parent.getResultList();
 	}
 
+	@Override
+	public Stream getResultStream() throws AuditException {
+		return parent.getResultStream();
+	}
+
 	@Override
 	public Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException {
 		return parent.getSingleResult();
@@ -285,6 +291,12 @@ public abstract class AbstractAuditAssociationQuery<Q extends AuditQueryImplemen
 		return this;
 	}
 
+	@Override
+	public AbstractAuditAssociationQuery<Q> setFetchSize(int fetchSize) {
+		parent.setFetchSize( fetchSize );
+		return this;
+	}
+
 	@Override
 	public AbstractAuditAssociationQuery<Q> setLockMode(LockMode lockMode) {
 		parent.setLockMode( lockMode );
@@ -573,4 +585,14 @@ public abstract class AbstractAuditAssociationQuery<Q extends AuditQueryImplemen
 		parent.registerProjection( entityName, projection );
 	}
 
+	@Override
+	public void setQueryPlanName(String queryPlanName) {
+		parent.setQueryPlanName( queryPlanName );
+	}
+
+	@Override
+	public void setParameterValues(Map<String, Object> parameterValues) {
+		parent.setParameterValues( parameterValues );
+	}
+
 }
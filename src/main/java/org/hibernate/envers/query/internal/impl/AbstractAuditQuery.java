@@ -5,9 +5,11 @@
 package org.hibernate.envers.query.internal.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.NonUniqueResultException;
@@ -18,12 +20,16 @@ import org.hibernate.FlushMode;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
+import org.hibernate.envers.internal.archive.AuditArchive;
 import org.hibernate.envers.internal.entities.EntityConfiguration;
 import org.hibernate.envers.internal.entities.EntityInstantiator;
+import org.hibernate.envers.internal.jfr.AuditQueryEvent;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
+import org.hibernate.envers.internal.tools.query.QueryPlan;
 import org.hibernate.envers.query.AuditAssociationQuery;
 import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.criteria.AuditCriterion;
@@ -31,6 +37,7 @@ import org.hibernate.envers.query.criteria.internal.CriteriaTools;
 import org.hibernate.envers.query.order.AuditOrder;
 import org.hibernate.envers.query.projection.AuditProjection;
 import org.hibernate.envers.tools.Pair;
+import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.query.Query;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
@@ -41,6 +48,8 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
  * @author Chris Cranford
  */
 public abstract class AbstractAuditQuery implements AuditQueryImplementor {
+	private static final String ARCHIVE_QUERY_PLAN_SUFFIX = "#archive";
+
 	protected EntityInstantiator entityInstantiator;
 	protected List<AuditCriterion> criterions;
 
@@ -53,6 +62,11 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 
 	protected boolean hasOrder;
 
+	private String queryPlanName;
+	private Map<String, Object> parameterValues = Collections.emptyMap();
+	// the time spent executing the query while an AuditQueryEvent is recorded, negative otherwise
+	private long queryExecutionNanos = -1;
+
 	protected final EnversService enversService;
 	protected final AuditReaderImplementor versionsReader;
 
@@ -96,23 +110,162 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 	}
 
 	protected Query buildQuery() {
-		Query query = qb.toQuery( versionsReader.getSessionImplementor() );
+		return createQuery( getQueryPlan( getArchiveEntityNameToRead() ) );
+	}
+
+	private Query createQuery(QueryPlan queryPlan) {
+		Query query = queryPlan.createQuery( versionsReader.getSessionImplementor(), parameterValues );
 		setQueryProperties( query );
+		bindQueryParameters( query );
 		return query;
 	}
 
+	/**
+	 * Binds the parameters of the query which are not part of the query builder.
+	 */
+	protected void bindQueryParameters(Query query) {
+	}
+
+	/**
+	 * Adds the restrictions of the query to the query builder, before it is rendered.
+	 */
+	protected abstract void prepareQueryBuilder();
+
+	/**
+	 * @param archiveEntityName The name of the entity mapping the archive table, whose rows are read along with
+	 * those of the audit table, or {@code null} if only the audit table is read.
+	 */
+	private QueryPlan getQueryPlan(String archiveEntityName) {
+		prepareQueryBuilder();
+		final QueryPlan queryPlan = archiveEntityName == null
+				? qb.toQueryPlan()
+				: qb.toUnionQueryPlan( archiveEntityName );
+		if ( queryPlanName == null ) {
+			return queryPlan;
+		}
+		// the rendered query tells apart the definitions prepared with the same name, down to the properties,
+		// operators, orders and values they capture
+		return enversService.getQueryPlanCache().getQueryPlan(
+				archiveEntityName == null ? queryPlanName : queryPlanName + ARCHIVE_QUERY_PLAN_SUFFIX,
+				queryPlan.getShape(),
+				() -> queryPlan
+		);
+	}
+
+	/**
+	 * @return The name of the entity mapping the archive table of the queried entity if archived rows may be part
+	 * of the results, in which case the query reads the union of the rows of both tables, {@code null} otherwise.
+	 */
+	private String getArchiveEntityNameToRead() {
+		final AuditArchive auditArchive = enversService.getAuditArchive();
+		if ( auditArchive == null ) {
+			return null;
+		}
+		final String archiveEntityName = auditArchive.getArchiveEntityName( entityName );
+		if ( archiveEntityName == null ) {
+			return null;
+		}
+		final Number archivedRevision = auditArchive.getArchivedRevision(
+				versionsReader.getSessionImplementor(),
+				archiveEntityName
+		);
+		if ( archivedRevision == null || !mayReadArchivedRows( archivedRevision ) ) {
+			return null;
+		}
+		return archiveEntityName;
+	}
+
+	/**
+	 * @param archivedRevision The highest revision end of the archived rows of the entity.
+	 *
+	 * @return Whether archived rows may be part of the results of the query.
+	 */
+	protected boolean mayReadArchivedRows(Number archivedRevision) {
+		return true;
+	}
+
+	@Override
+	public void setQueryPlanName(String queryPlanName) {
+		this.queryPlanName = queryPlanName;
+	}
+
+	@Override
+	public void setParameterValues(Map<String, Object> parameterValues) {
+		this.parameterValues = parameterValues;
+	}
+
 	protected List buildAndExecuteQuery() {
 		Query query = buildQuery();
 
-		return query.list();
+		return executeQuery( query );
+	}
+
+	protected List executeQuery(Query query) {
+		return list( query );
 	}
 
-	public abstract List list() throws AuditException;
+	protected Stream executeStream(Query query) {
+		return query.getResultStream();
+	}
+
+	private List list(Query query) {
+		if ( queryExecutionNanos < 0 ) {
+			return query.list();
+		}
+		final long start = System.nanoTime();
+		try {
+			return query.list();
+		}
+		finally {
+			queryExecutionNanos += System.nanoTime() - start;
+		}
+	}
+
+	public List list() throws AuditException {
+		final AuditQueryEvent event = new AuditQueryEvent();
+		if ( !event.isEnabled() ) {
+			return listResults();
+		}
+
+		event.begin();
+		final long start = System.nanoTime();
+		queryExecutionNanos = 0;
+		int rows = 0;
+		try {
+			final List results = listResults();
+			rows = results.size();
+			return results;
+		}
+		finally {
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.entityName = entityName;
+				event.queryKind = getClass().getSimpleName();
+				event.rows = rows;
+				event.queryExecutionTime = queryExecutionNanos;
+				event.mappingTime = System.nanoTime() - start - queryExecutionNanos;
+				event.commit();
+			}
+			queryExecutionNanos = -1;
+		}
+	}
+
+	/**
+	 * Executes the query and maps its results.
+	 */
+	protected abstract List listResults() throws AuditException;
+
+	public abstract Stream stream() throws AuditException;
 
 	public List getResultList() throws AuditException {
 		return list();
 	}
 
+	@Override
+	public Stream getResultStream() throws AuditException {
+		return stream();
+	}
+
 	public Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException {
 		List result = list();
 
@@ -212,6 +365,7 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 	private FlushMode flushMode;
 	private CacheMode cacheMode;
 	private Integer timeout;
+	private Integer fetchSize;
 	private LockOptions lockOptions = new LockOptions( LockMode.NONE );
 
 	public AuditQuery setMaxResults(int maxResults) {
@@ -254,6 +408,11 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 		return this;
 	}
 
+	public AuditQuery setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+		return this;
+	}
+
 	/**
 	 * Set lock mode
 	 *
@@ -306,6 +465,9 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 		if ( timeout != null ) {
 			query.setTimeout( timeout );
 		}
+		if ( fetchSize != null ) {
+			query.setFetchSize( fetchSize );
+		}
 		if ( lockOptions != null && lockOptions.getLockMode() != LockMode.NONE ) {
 			query.setLockMode( REFERENCED_ENTITY_ALIAS, lockOptions.getLockMode() );
 		}
@@ -315,35 +477,7 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 		final List result = new ArrayList( queryResult.size() );
 		if ( hasProjection() ) {
 			for (final Object qr : queryResult) {
-				if ( projections.size() == 1 ) {
-					// qr is the value of the projection itself
-					final Pair<String, AuditProjection> projection = projections.get( 0 );
-					result.add(
-							projection.getSecond().convertQueryResult(
-									enversService,
-									entityInstantiator,
-									projection.getFirst(),
-									revision,
-									qr
-							)
-					);
-				}
-				else {
-					// qr is an array where each of its components holds the value of corresponding projection
-					Object[] qresults = (Object[]) qr;
-					Object[] tresults = new Object[qresults.length];
-					for ( int i = 0; i < qresults.length; i++ ) {
-						final Pair<String, AuditProjection> projection = projections.get( i );
-						tresults[i] = projection.getSecond().convertQueryResult(
-								enversService,
-								entityInstantiator,
-								projection.getFirst(),
-								revision,
-								qresults[i]
-						);
-					}
-					result.add( tresults );
-				}
+				result.add( applyProjection( qr, revision ) );
 			}
 		}
 		else {
@@ -352,6 +486,70 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 		return result;
 	}
 
+	protected Stream applyProjections(final Stream queryResult, final Number revision) {
+		if ( hasProjection() ) {
+			return queryResult.map( qr -> applyProjection( qr, revision ) );
+		}
+		return queryResult.map( qr -> createStreamedInstance( entityName, (Map) qr, revision ) );
+	}
+
+	private Object applyProjection(final Object qr, final Number revision) {
+		if ( projections.size() == 1 ) {
+			// qr is the value of the projection itself
+			final Pair<String, AuditProjection> projection = projections.get( 0 );
+			return projection.getSecond().convertQueryResult(
+					enversService,
+					entityInstantiator,
+					projection.getFirst(),
+					revision,
+					qr
+			);
+		}
+
+		// qr is an array where each of its components holds the value of corresponding projection
+		Object[] qresults = (Object[]) qr;
+		Object[] tresults = new Object[qresults.length];
+		for ( int i = 0; i < qresults.length; i++ ) {
+			final Pair<String, AuditProjection> projection = projections.get( i );
+			tresults[i] = projection.getSecond().convertQueryResult(
+					enversService,
+					entityInstantiator,
+					projection.getFirst(),
+					revision,
+					qresults[i]
+			);
+		}
+		return tresults;
+	}
+
+	/**
+	 * Creates the entity instance of a streamed audit row.  Neither the audit row nor the instance are retained
+	 * by the session or the first level cache, so that the memory used by a stream does not grow with the
+	 * number of rows read.
+	 */
+	protected Object createStreamedInstance(String entityName, Map versionsEntity, Number revision) {
+		final Object entity = entityInstantiator.createInstanceFromVersionsEntity( entityName, versionsEntity, revision, false );
+		versionsReader.getSessionImplementor().evict( versionsEntity );
+		return entity;
+	}
+
+	protected Number getRevisionNumber(Map versionsEntity) {
+		Configuration configuration = enversService.getConfig();
+
+		String originalId = configuration.getOriginalIdPropertyName();
+		String revisionPropertyName = configuration.getRevisionFieldName();
+
+		Object revisionInfoObject = ( (Map) versionsEntity.get( originalId ) ).get( revisionPropertyName );
+
+		if ( revisionInfoObject instanceof HibernateProxy ) {
+			return (Number) ( (HibernateProxy) revisionInfoObject ).getHibernateLazyInitializer().getInternalIdentifier();
+		}
+		else {
+			// Not a proxy - must be read from cache or with a join
+			return enversService.getRevisionInfoNumberReader().getRevisionNumber( revisionInfoObject );
+		}
+	}
+
 	protected EntityConfiguration getEntityConfiguration() {
 		return enversService.getEntitiesConfigurations().get( entityName );
 	}
@@ -4,6 +4,8 @@
  */
 package org.hibernate.envers.query.internal.impl;
 
+import java.util.Map;
+
 import org.hibernate.Incubating;
 import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.projection.AuditProjection;
@@ -16,4 +18,15 @@ interface AuditQueryImplementor extends AuditQuery {
 
 	void registerProjection(final String entityName, final AuditProjection projection);
 
+	/**
+	 * Makes the query a prepared query: its rendered form is kept under the given name, and reused by every
+	 * query of the same name.
+	 */
+	void setQueryPlanName(String queryPlanName);
+
+	/**
+	 * Sets the values bound to the parameter slots of a prepared query, by name.
+	 */
+	void setParameterValues(Map<String, Object> parameterValues);
+
 }
@@ -6,6 +6,7 @@ package org.hibernate.envers.query.internal.impl;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import jakarta.persistence.criteria.JoinType;
 
@@ -18,6 +19,11 @@ import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.query.AuditAssociationQuery;
 import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.hibernate.envers.query.criteria.internal.IdentifierEqAuditExpression;
+import org.hibernate.envers.query.criteria.internal.InAuditExpression;
+import org.hibernate.envers.query.criteria.internal.RelatedAuditEqualityExpression;
+import org.hibernate.envers.query.criteria.internal.RelatedAuditInExpression;
+import org.hibernate.envers.strategy.internal.DefaultAuditStrategy;
 import org.hibernate.query.Query;
 
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
@@ -53,7 +59,33 @@ public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
 		this.includeDeletions = includeDeletions;
 	}
 
-	public List list() {
+	@Override
+	protected List listResults() {
+		return applyProjections( executeQuery( buildQuery() ), revision );
+	}
+
+	@Override
+	public Stream stream() {
+		return applyProjections( executeStream( buildQuery() ), revision );
+	}
+
+	@Override
+	protected void bindQueryParameters(Query query) {
+		// add named parameter (used for ValidityAuditStrategy and association queries)
+		Collection<String> params = query.getParameterMetadata().getNamedParameterNames();
+		if ( params.contains( REVISION_PARAMETER ) ) {
+			query.setParameter( REVISION_PARAMETER, revision );
+		}
+	}
+
+	@Override
+	protected boolean mayReadArchivedRows(Number archivedRevision) {
+		// archived rows were valid at the revision only if their validity ended after it
+		return revision.longValue() < archivedRevision.longValue();
+	}
+
+	@Override
+	protected void prepareQueryBuilder() {
 		/*
 		 * The query that we need to create:
 		 *   SELECT new list(e) FROM versionsReferencedEntity e
@@ -85,20 +117,22 @@ public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
 
 		// (selecting e entities at revision :revision)
 		// --> based on auditStrategy (see above)
-		enversService.getAuditStrategy().addEntityAtRevisionRestriction(
-				configuration,
-				qb,
-				qb.getRootParameters(),
-				revisionPropertyPath,
-				configuration.getRevisionEndFieldName(),
-				true,
-				referencedIdData,
-				revisionPropertyPath,
-				originalIdPropertyName,
-				REFERENCED_ENTITY_ALIAS,
-				REFERENCED_ENTITY_ALIAS_DEF_AUD_STR,
-				true
-		);
+		if ( !addGroupedEntityAtRevisionRestriction( configuration, referencedIdData ) ) {
+			enversService.getAuditStrategy().addEntityAtRevisionRestriction(
+					configuration,
+					qb,
+					qb.getRootParameters(),
+					revisionPropertyPath,
+					configuration.getRevisionEndFieldName(),
+					true,
+					referencedIdData,
+					revisionPropertyPath,
+					originalIdPropertyName,
+					REFERENCED_ENTITY_ALIAS,
+					REFERENCED_ENTITY_ALIAS_DEF_AUD_STR,
+					true
+			);
+		}
 
 		if ( configuration.isFindByRevisionExactMatch() ) {
 			// When EnversSettings#FIND_BY_REVISION_EXACT_MATCH is true, this forces this condition
@@ -126,15 +160,50 @@ public class EntitiesAtRevisionQuery extends AbstractAuditQuery {
 		for ( AbstractAuditAssociationQuery<?> associationQuery : associationQueries ) {
 			associationQuery.addCriterionToQuery( versionsReader );
 		}
+	}
 
-		Query query = buildQuery();
-		// add named parameter (used for ValidityAuditStrategy and association queries)
-		Collection<String> params = query.getParameterMetadata().getNamedParameterNames();
-		if ( params.contains( REVISION_PARAMETER ) ) {
-			query.setParameter( REVISION_PARAMETER, revision );
+	/**
+	 * Selects the entities at the revision with a single grouped subquery when enabled, unless the query is restricted
+	 * to some identifiers, as when finding entities or loading relations: grouping all the entities would then cost
+	 * more than searching the highest revision of the few selected ones.
+	 *
+	 * @return Whether the restriction was added.
+	 */
+	private boolean addGroupedEntityAtRevisionRestriction(Configuration configuration, MiddleIdData referencedIdData) {
+		if ( !configuration.isGroupedAtRevisionSubqueryEnabled()
+				|| !( enversService.getAuditStrategy() instanceof DefaultAuditStrategy ) ) {
+			return false;
+		}
+		for ( AuditCriterion criterion : criterions ) {
+			if ( isIdentifierRestriction( criterion ) ) {
+				return false;
+			}
+		}
+		return ( (DefaultAuditStrategy) enversService.getAuditStrategy() ).addGroupedEntityAtRevisionRestriction(
+				qb,
+				qb.getRootParameters(),
+				configuration.getRevisionNumberPath(),
+				true,
+				referencedIdData,
+				configuration.getRevisionNumberPath(),
+				configuration.getOriginalIdPropertyName(),
+				REFERENCED_ENTITY_ALIAS,
+				REFERENCED_ENTITY_ALIAS_DEF_AUD_STR,
+				true
+		);
+	}
+
+	private static boolean isIdentifierRestriction(AuditCriterion criterion) {
+		if ( criterion instanceof IdentifierEqAuditExpression identifierEqAuditExpression ) {
+			return identifierEqAuditExpression.isEquals();
+		}
+		else if ( criterion instanceof RelatedAuditEqualityExpression relatedAuditEqualityExpression ) {
+			return relatedAuditEqualityExpression.isEquals();
+		}
+		else if ( criterion instanceof InAuditExpression inAuditExpression ) {
+			return inAuditExpression.isOnIdentifier();
 		}
-		List queryResult = query.list();
-		return applyProjections( queryResult, revision );
+		return criterion instanceof RelatedAuditInExpression;
 	}
 
 	@Override
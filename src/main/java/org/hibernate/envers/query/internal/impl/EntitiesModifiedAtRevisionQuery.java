@@ -6,6 +6,7 @@ package org.hibernate.envers.query.internal.impl;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import jakarta.persistence.criteria.JoinType;
 
@@ -52,7 +53,32 @@ public class EntitiesModifiedAtRevisionQuery extends AbstractAuditQuery {
 	}
 
 	@Override
-	public List list() {
+	protected List listResults() {
+		return applyProjections( executeQuery( buildQuery() ), revision );
+	}
+
+	@Override
+	public Stream stream() {
+		return applyProjections( executeStream( buildQuery() ), revision );
+	}
+
+	@Override
+	protected void bindQueryParameters(Query query) {
+		// add named parameter (used for ValidityAuditStrategy and association queries)
+		Collection<String> params = query.getParameterMetadata().getNamedParameterNames();
+		if ( params.contains( REVISION_PARAMETER ) ) {
+			query.setParameter( REVISION_PARAMETER, revision );
+		}
+	}
+
+	@Override
+	protected boolean mayReadArchivedRows(Number archivedRevision) {
+		// archived rows were modified at the revision only if their validity ended after it
+		return revision.longValue() < archivedRevision.longValue();
+	}
+
+	@Override
+	protected void prepareQueryBuilder() {
 		/*
 		 * The query that we need to create:
 		 *   SELECT new list(e) FROM versionsReferencedEntity e
@@ -61,7 +87,7 @@ public class EntitiesModifiedAtRevisionQuery extends AbstractAuditQuery {
 		 * e.revision = :revision
 		 */
 		String revisionPropertyPath = enversService.getConfig().getRevisionNumberPath();
-		qb.getRootParameters().addWhereWithParam( revisionPropertyPath, "=", revision );
+		qb.getRootParameters().addWhereWithNamedParam( revisionPropertyPath, "=", REVISION_PARAMETER );
 
 		// all specified conditions
 		for ( AuditCriterion criterion : criterions ) {
@@ -79,15 +105,6 @@ public class EntitiesModifiedAtRevisionQuery extends AbstractAuditQuery {
 		for ( AbstractAuditAssociationQuery<?> associationQuery : associationQueries ) {
 			associationQuery.addCriterionToQuery( versionsReader );
 		}
-
-		Query query = buildQuery();
-		// add named parameter (used for ValidityAuditStrategy and association queries)
-		Collection<String> params = query.getParameterMetadata().getNamedParameterNames();
-		if ( params.contains( REVISION_PARAMETER ) ) {
-			query.setParameter( REVISION_PARAMETER, revision );
-		}
-		List queryResult = query.list();
-		return applyProjections( queryResult, revision );
 	}
 
 	@Override
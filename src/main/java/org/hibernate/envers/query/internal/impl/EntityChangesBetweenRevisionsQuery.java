@@ -0,0 +1,381 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.query.internal.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import jakarta.persistence.criteria.JoinType;
+
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.entities.PropertyData;
+import org.hibernate.envers.internal.entities.mapper.PropertyMapper;
+import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
+import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.tools.query.Parameters;
+import org.hibernate.envers.internal.tools.query.QueryBuilder;
+import org.hibernate.envers.query.AuditAssociationQuery;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.AuditQuery;
+import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.hibernate.query.Query;
+
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
+import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
+
+/**
+ * Selects the net changes of the entities between two revisions: for each entity changed in a revision after the
+ * first revision and up to the second one, its state at both revisions, the net revision type and the names of the
+ * changed properties.  Only the audit rows of the changed entities at both revisions are read, with a single query;
+ * the changes of the properties with modified flags are read from their flags, with a query per such property.
+ * <p>
+ * The criteria select entities rather than audit rows: an entity is part of the results if its state at one of
+ * both revisions matches them.
+ *
+ * @see org.hibernate.envers.query.AuditQueryCreator#forEntityChangesBetweenRevisions(Class, Number, Number)
+ */
+public class EntityChangesBetweenRevisionsQuery extends AbstractAuditQuery {
+	private static final String FROM_REVISION_PARAMETER = "fromrevision";
+	private static final String TO_REVISION_PARAMETER = "torevision";
+
+	private final Class<?> cls;
+	private final Number fromRevision;
+	private final Number toRevision;
+
+	public EntityChangesBetweenRevisionsQuery(
+			EnversService enversService,
+			AuditReaderImplementor versionsReader,
+			Class<?> cls,
+			Number fromRevision,
+			Number toRevision) {
+		super( enversService, versionsReader, cls );
+		this.cls = cls;
+		this.fromRevision = fromRevision;
+		this.toRevision = toRevision;
+	}
+
+	public EntityChangesBetweenRevisionsQuery(
+			EnversService enversService,
+			AuditReaderImplementor versionsReader,
+			Class<?> cls,
+			String entityName,
+			Number fromRevision,
+			Number toRevision) {
+		super( enversService, versionsReader, cls, entityName );
+		this.cls = cls;
+		this.fromRevision = fromRevision;
+		this.toRevision = toRevision;
+	}
+
+	@Override
+	protected List listResults() {
+		if ( hasProjection() ) {
+			throw new AuditException( "Projections are not supported by queries of entity changes between revisions" );
+		}
+
+		// the rows of an entity at both revisions, in the order of its first row
+		final Map<Object, List<Map>> rowsById = new LinkedHashMap<>();
+		final String originalIdPropertyName = enversService.getConfig().getOriginalIdPropertyName();
+		for ( Object row : executeQuery( buildQuery() ) ) {
+			final Map versionsEntity = (Map) row;
+			final Object id = getEntityConfiguration().getIdMapper()
+					.mapToIdFromMap( (Map) versionsEntity.get( originalIdPropertyName ) );
+			rowsById.computeIfAbsent( id, k -> new ArrayList<>( 2 ) ).add( versionsEntity );
+		}
+
+		final Map<PropertyData, List<String>> auditPropertyNames = getAuditPropertyNames();
+		final Map<String, Set<Object>> modifiedIdsByProperty = new HashMap<>();
+		final List result = new ArrayList( rowsById.size() );
+		for ( Map.Entry<Object, List<Map>> entry : rowsById.entrySet() ) {
+			final Object[] changes = getChanges(
+					entry.getKey(),
+					entry.getValue(),
+					auditPropertyNames,
+					modifiedIdsByProperty
+			);
+			if ( changes != null ) {
+				result.add( changes );
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Stream stream() {
+		// the rows of an entity must all be read before its changes are known
+		return listResults().stream();
+	}
+
+	/**
+	 * @return The changes of an entity from its audit rows, or {@code null} if it did not exist at both revisions.
+	 */
+	private Object[] getChanges(
+			Object id,
+			List<Map> rows,
+			Map<PropertyData, List<String>> auditPropertyNames,
+			Map<String, Set<Object>> modifiedIdsByProperty) {
+		// the row at the second revision follows the one at the first revision, if any
+		rows.sort( Comparator.comparingLong( row -> getRevisionNumber( row ).longValue() ) );
+
+		final Map firstRow = rows.get( 0 );
+		final Map lastRow = rows.get( rows.size() - 1 );
+		final Map fromRow = getRevisionNumber( firstRow ).longValue() <= fromRevision.longValue() && !isDeleted( firstRow )
+				? firstRow
+				: null;
+		final Map toRow = isDeleted( lastRow ) ? null : lastRow;
+		if ( fromRow == null && toRow == null ) {
+			return null;
+		}
+
+		final RevisionType revisionType;
+		if ( fromRow == null ) {
+			revisionType = RevisionType.ADD;
+		}
+		else if ( toRow == null ) {
+			revisionType = RevisionType.DEL;
+		}
+		else {
+			revisionType = RevisionType.MOD;
+		}
+
+		return new Object[] {
+				fromRow == null
+						? null
+						: entityInstantiator.createInstanceFromVersionsEntity( entityName, fromRow, fromRevision ),
+				toRow == null
+						? null
+						: entityInstantiator.createInstanceFromVersionsEntity( entityName, toRow, toRevision ),
+				revisionType,
+				getChangedPropertyNames( id, fromRow, toRow, auditPropertyNames, modifiedIdsByProperty )
+		};
+	}
+
+	private boolean isDeleted(Map versionsEntity) {
+		return versionsEntity.get( enversService.getConfig().getRevisionTypePropertyName() ) == RevisionType.DEL;
+	}
+
+	/**
+	 * @return The names of the properties of the audit entity under which the values of each property are stored,
+	 * none for the properties whose values are not stored in the audit rows.
+	 */
+	private Map<PropertyData, List<String>> getAuditPropertyNames() {
+		final Map<PropertyData, List<String>> auditPropertyNames = new HashMap<>();
+		for ( Map.Entry<PropertyData, PropertyMapper> entry
+				: getEntityConfiguration().getPropertyMapper().getProperties().entrySet() ) {
+			final List<String> names = new ArrayList<>();
+			entry.getValue().addAuditPropertyNames( names );
+			auditPropertyNames.put( entry.getKey(), names );
+		}
+		return auditPropertyNames;
+	}
+
+	/**
+	 * The properties with modified flags are changed if their flag is set in one of the changes, and the other
+	 * properties if their audited values differ between the two states.  All the properties are changed when the
+	 * entity was added or removed.
+	 */
+	private Set<String> getChangedPropertyNames(
+			Object id,
+			Map fromRow,
+			Map toRow,
+			Map<PropertyData, List<String>> auditPropertyNames,
+			Map<String, Set<Object>> modifiedIdsByProperty) {
+		final Set<String> changedPropertyNames = new HashSet<>();
+		for ( Map.Entry<PropertyData, List<String>> entry : auditPropertyNames.entrySet() ) {
+			final PropertyData propertyData = entry.getKey();
+			final String propertyName = propertyData.getName();
+			if ( fromRow == null || toRow == null ) {
+				changedPropertyNames.add( propertyName );
+			}
+			else if ( propertyData.isUsingModifiedFlag() ) {
+				if ( modifiedIdsByProperty.computeIfAbsent( propertyName, this::getModifiedIds ).contains( id ) ) {
+					changedPropertyNames.add( propertyName );
+				}
+			}
+			else if ( isChanged( entry.getValue(), fromRow, toRow ) ) {
+				changedPropertyNames.add( propertyName );
+			}
+		}
+		return changedPropertyNames;
+	}
+
+	/**
+	 * @return The identifiers of the entities whose property is flagged as modified by one of the changes.
+	 */
+	private Set<Object> getModifiedIds(String propertyName) {
+		return new HashSet<>(
+				versionsReader.createQuery()
+						.forRevisionsOfEntity( cls, entityName, true, true )
+						.addProjection( AuditEntity.id() )
+						.add( AuditEntity.revisionNumber().gt( fromRevision ) )
+						.add( AuditEntity.revisionNumber().le( toRevision ) )
+						.add( AuditEntity.property( propertyName ).hasChanged() )
+						.getResultList()
+		);
+	}
+
+	/**
+	 * @return Whether one of the audited values of a property differs between the rows.
+	 */
+	private static boolean isChanged(List<String> auditPropertyNames, Map fromRow, Map toRow) {
+		for ( String auditPropertyName : auditPropertyNames ) {
+			if ( !Objects.deepEquals( fromRow.get( auditPropertyName ), toRow.get( auditPropertyName ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	protected void bindQueryParameters(Query query) {
+		Collection<String> params = query.getParameterMetadata().getNamedParameterNames();
+		if ( params.contains( REVISION_PARAMETER ) ) {
+			query.setParameter( REVISION_PARAMETER, fromRevision );
+		}
+		query.setParameter( FROM_REVISION_PARAMETER, fromRevision );
+		query.setParameter( TO_REVISION_PARAMETER, toRevision );
+	}
+
+	@Override
+	protected boolean mayReadArchivedRows(Number archivedRevision) {
+		// archived rows are only read for the state of the entities at the first revision
+		return fromRevision.longValue() < archivedRevision.longValue();
+	}
+
+	@Override
+	protected void prepareQueryBuilder() {
+		/*
+		 * The query that we need to create:
+		 *   SELECT e FROM versionsReferencedEntity e
+		 *   WHERE
+		 * (the rows of the entities at both revisions, see addStateRestriction) AND
+		 * (the entities with a row at one of both revisions matching all specified conditions)
+		 *     0 < (SELECT count(c) FROM versionsReferencedEntity c WHERE c.id = e.id AND
+		 *       (the rows of the entities at both revisions, on the "c" entity) AND
+		 *       (all specified conditions, transformed, on the "c" entity))
+		 */
+		final Configuration configuration = enversService.getConfig();
+		final String originalIdPropertyName = configuration.getOriginalIdPropertyName();
+
+		final MiddleIdData referencedIdData = new MiddleIdData(
+				configuration,
+				getEntityConfiguration().getIdMappingData(),
+				null,
+				entityName,
+				true
+		);
+
+		addStateRestriction( qb.getRootParameters(), REFERENCED_ENTITY_ALIAS, referencedIdData );
+
+		if ( !criterions.isEmpty() ) {
+			// restricting the rows themselves would change the states and the changes of the entities
+			final String criteriaAlias = qb.generateAlias();
+			aliasToEntityNameMap.put( criteriaAlias, entityName );
+			final QueryBuilder criteriaQb = qb.newSubQueryBuilder( versionsEntityName, criteriaAlias );
+			criteriaQb.addProjection( "count", criteriaAlias, null, false );
+			referencedIdData.getOriginalMapper().addIdsEqualToQuery(
+					criteriaQb.getRootParameters(),
+					REFERENCED_ENTITY_ALIAS + "." + originalIdPropertyName,
+					criteriaAlias + "." + originalIdPropertyName
+			);
+			addStateRestriction( criteriaQb.getRootParameters(), criteriaAlias, referencedIdData );
+			for ( AuditCriterion criterion : criterions ) {
+				criterion.addToQuery(
+						enversService,
+						versionsReader,
+						aliasToEntityNameMap,
+						aliasToComponentPropertyNameMap,
+						criteriaAlias,
+						criteriaQb,
+						criteriaQb.getRootParameters()
+				);
+			}
+			qb.getRootParameters().addWhere( null, "0", "<", criteriaQb );
+		}
+	}
+
+	/**
+	 * Restricts the rows to those of the entities changed between the revisions, at both revisions:
+	 * <p>
+	 * {@code (e.revision > :fromRevision AND e.revision = (SELECT max(e3.revision) ... WHERE
+	 * e3.revision <= :toRevision AND e3.id = e.id)) OR (:fromRevision < (SELECT max(e4.revision) ... WHERE
+	 * e4.revision <= :toRevision AND e4.id = e.id) AND (selecting e entities at revision :fromRevision))}
+	 */
+	private void addStateRestriction(Parameters parameters, String alias, MiddleIdData referencedIdData) {
+		final Configuration configuration = enversService.getConfig();
+		final String revisionPropertyPath = configuration.getRevisionNumberPath();
+		final Parameters stateParameters = parameters.addSubParameters( Parameters.OR );
+
+		// the row at the second revision, when changed after the first one
+		final Parameters toParameters = stateParameters.addSubParameters( Parameters.AND );
+		toParameters.addWhereWithNamedParam( revisionPropertyPath, ">", FROM_REVISION_PARAMETER );
+		toParameters.addWhere( revisionPropertyPath, true, "=", getLastChangeQueryBuilder( alias, referencedIdData ) );
+
+		// the row at the first revision, when changed after it
+		final Parameters fromParameters = stateParameters.addSubParameters( Parameters.AND );
+		fromParameters.addWhere(
+				null,
+				":" + FROM_REVISION_PARAMETER,
+				"<",
+				getLastChangeQueryBuilder( alias, referencedIdData )
+		);
+		enversService.getAuditStrategy().addEntityAtRevisionRestriction(
+				configuration,
+				qb,
+				fromParameters,
+				revisionPropertyPath,
+				configuration.getRevisionEndFieldName(),
+				true,
+				referencedIdData,
+				revisionPropertyPath,
+				configuration.getOriginalIdPropertyName(),
+				alias,
+				qb.generateAlias(),
+				true
+		);
+	}
+
+	/**
+	 * @return {@code SELECT max(e3.revision) FROM versionsReferencedEntity e3 WHERE e3.revision <= :toRevision AND
+	 * e3.id = e.id}
+	 */
+	private QueryBuilder getLastChangeQueryBuilder(String alias, MiddleIdData referencedIdData) {
+		final Configuration configuration = enversService.getConfig();
+		final String revisionPropertyPath = configuration.getRevisionNumberPath();
+		final String originalIdPropertyName = configuration.getOriginalIdPropertyName();
+
+		final String changeAlias = qb.generateAlias();
+		final QueryBuilder lastChangeQb = qb.newSubQueryBuilder( versionsEntityName, changeAlias );
+		lastChangeQb.addProjection( "max", changeAlias, revisionPropertyPath, false );
+		lastChangeQb.getRootParameters().addWhereWithNamedParam( revisionPropertyPath, "<=", TO_REVISION_PARAMETER );
+		referencedIdData.getOriginalMapper().addIdsEqualToQuery(
+				lastChangeQb.getRootParameters(),
+				alias + "." + originalIdPropertyName,
+				changeAlias + "." + originalIdPropertyName
+		);
+		return lastChangeQb;
+	}
+
+	@Override
+	public AuditAssociationQuery<? extends AuditQuery> traverseRelation(
+			String associationName,
+			JoinType joinType,
+			String alias,
+			AuditCriterion onClauseCriterion) {
+		throw new AuditException( "Audit association queries are not supported by queries of entity changes between revisions" );
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.envers.query.internal.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import jakarta.persistence.NoResultException;
+import jakarta.persistence.NonUniqueResultException;
+
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.query.AuditQuery;
+import org.hibernate.envers.query.AuditQueryParameter;
+import org.hibernate.envers.query.PreparedAuditQuery;
+
+/**
+ * A prepared query, executing an audit query of a named shape with the bound parameter values.
+ */
+public class PreparedAuditQueryImpl implements PreparedAuditQuery {
+	private final AuditQuery query;
+	private final Map<String, Object> parameterValues = new HashMap<>();
+
+	public PreparedAuditQueryImpl(String name, AuditQuery query) {
+		if ( !( query instanceof AuditQueryImplementor ) ) {
+			throw new AuditException( "Unsupported audit query type: " + query.getClass().getName() );
+		}
+		this.query = query;
+
+		final AuditQueryImplementor queryImplementor = (AuditQueryImplementor) query;
+		queryImplementor.setQueryPlanName( name );
+		queryImplementor.setParameterValues( parameterValues );
+	}
+
+	@Override
+	public <T> PreparedAuditQuery setParameter(AuditQueryParameter<T> parameter, T value) {
+		return setParameter( parameter.getName(), value );
+	}
+
+	@Override
+	public PreparedAuditQuery setParameter(String name, Object value) {
+		parameterValues.put( name, value );
+		return this;
+	}
+
+	@Override
+	public List getResultList() throws AuditException {
+		return query.getResultList();
+	}
+
+	@Override
+	public Stream getResultStream() throws AuditException {
+		return query.getResultStream();
+	}
+
+	@Override
+	public Object getSingleResult() throws AuditException, NonUniqueResultException, NoResultException {
+		return query.getSingleResult();
+	}
+}
@@ -7,15 +7,20 @@ package org.hibernate.envers.query.internal.impl;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REFERENCED_ENTITY_ALIAS;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import jakarta.persistence.criteria.JoinType;
 
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.envers.RevisionType;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
@@ -27,7 +32,6 @@ import org.hibernate.envers.internal.reader.AuditReaderImplementor;
 import org.hibernate.envers.query.AuditAssociationQuery;
 import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.criteria.AuditCriterion;
-import org.hibernate.proxy.HibernateProxy;
 
 /**
  * @author Adam Warski (adam at warski dot org)
@@ -106,26 +110,18 @@ public class RevisionsOfEntityQuery extends AbstractAuditQuery {
 		return query;
 	}
 
-	private Number getRevisionNumber(Map versionsEntity) {
-		Configuration configuration = enversService.getConfig();
-
-		String originalId = configuration.getOriginalIdPropertyName();
-		String revisionPropertyName = configuration.getRevisionFieldName();
-
-		Object revisionInfoObject = ( (Map) versionsEntity.get( originalId ) ).get( revisionPropertyName );
+	@Override
+	protected List listResults() throws AuditException {
+		return getQueryResults();
+	}
 
-		if ( revisionInfoObject instanceof HibernateProxy ) {
-			return (Number) ( (HibernateProxy) revisionInfoObject ).getHibernateLazyInitializer().getInternalIdentifier();
-		}
-		else {
-			// Not a proxy - must be read from cache or with a join
-			return enversService.getRevisionInfoNumberReader().getRevisionNumber( revisionInfoObject );
-		}
+	@Override
+	public Stream stream() throws AuditException {
+		return getQueryResultStream();
 	}
 
-	@SuppressWarnings({"unchecked", "rawtypes"})
 	@Override
-	public List list() throws AuditException {
+	protected void prepareQueryBuilder() {
 		Configuration configuration = enversService.getConfig();
 
 		/*
@@ -173,8 +169,6 @@ public class RevisionsOfEntityQuery extends AbstractAuditQuery {
 					false
 			);
 		}
-
-		return getQueryResults();
 	}
 
 	private boolean isEntityUsingModifiedFlags() {
@@ -218,7 +212,7 @@ public class RevisionsOfEntityQuery extends AbstractAuditQuery {
 			if ( selectEntitiesOnly ) {
 				for ( Object row : queryResults ) {
 					final Map versionsEntity = (Map) row;
-					entities.add( getQueryResultRowValue( versionsEntity, null, getEntityName() ) );
+					entities.add( getQueryResultRowValue( versionsEntity, null, getEntityName(), false ) );
 				}
 			}
 			else {
@@ -226,17 +220,74 @@ public class RevisionsOfEntityQuery extends AbstractAuditQuery {
 					final Object[] rowArray = (Object[]) row;
 					final Map versionsEntity = (Map) rowArray[ 0 ];
 					final Object revisionData = rowArray[ 1 ];
-					entities.add( getQueryResultRowValue( versionsEntity, revisionData, getEntityName() ) );
+					entities.add( getQueryResultRowValue( versionsEntity, revisionData, getEntityName(), false ) );
 				}
 			}
 			return entities;
 		}
 	}
 
-	private Object getQueryResultRowValue(Map versionsData, Object revisionData, String entityName) {
+	private Stream getQueryResultStream() {
+		if ( hasProjection() ) {
+			return executeStream( buildQuery() );
+		}
+		else if ( selectEntitiesOnly ) {
+			return executeStream( buildQuery() )
+					.map( row -> getQueryResultRowValue( (Map) row, null, getEntityName(), true ) );
+		}
+
+		// read before the query is executed, so that the revision entities loaded by the stream can be told apart
+		final Set<Object> managedRevisionEntities = getManagedRevisionEntities();
+		final Stream<?> queryResults = executeStream( buildQuery() );
+		if ( selectRevisionInfoOnly ) {
+			return queryResults.map( row -> {
+				final Object[] rowArray = (Object[]) row;
+				versionsReader.getSessionImplementor().evict( rowArray[ 0 ] );
+				evictStreamedRevisionInfo( rowArray[ 1 ], managedRevisionEntities );
+				return rowArray[ 1 ];
+			} );
+		}
+		else {
+			return queryResults.map( row -> {
+				final Object[] rowArray = (Object[]) row;
+				final Object result = getQueryResultRowValue( (Map) rowArray[ 0 ], rowArray[ 1 ], getEntityName(), true );
+				evictStreamedRevisionInfo( rowArray[ 1 ], managedRevisionEntities );
+				return result;
+			} );
+		}
+	}
+
+	/**
+	 * @return The revision entities managed by the session, which are left managed when streamed.
+	 */
+	private Set<Object> getManagedRevisionEntities() {
+		final String revisionInfoEntityName = enversService.getConfig().getRevisionInfo().getRevisionInfoEntityName();
+		final Set<Object> managedRevisionEntities = Collections.newSetFromMap( new IdentityHashMap<>() );
+		final PersistenceContext persistenceContext = versionsReader.getSessionImplementor().getPersistenceContextInternal();
+		for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+			if ( revisionInfoEntityName.equals( entry.getValue().getEntityName() ) ) {
+				managedRevisionEntities.add( entry.getKey() );
+			}
+		}
+		return managedRevisionEntities;
+	}
+
+	/**
+	 * Evicts the revision entity of a streamed row, unless it was managed by the session before the query, so that
+	 * the session does not accumulate the rows of the stream, as for the streamed entities.
+	 */
+	private void evictStreamedRevisionInfo(Object revisionEntity, Set<Object> managedRevisionEntities) {
+		if ( !managedRevisionEntities.contains( revisionEntity ) ) {
+			versionsReader.getSessionImplementor().evict( revisionEntity );
+		}
+	}
+
+	private Object getQueryResultRowValue(Map versionsData, Object revisionData, String entityName, boolean streamed) {
 		final Number revision = getRevisionNumber( versionsData );
 
-		final Object entity = entityInstantiator.createInstanceFromVersionsEntity( entityName, versionsData, revision );
+		final Object entity = streamed
+				? createStreamedInstance( entityName, versionsData, revision )
+				: entityInstantiator.createInstanceFromVersionsEntity( entityName, versionsData, revision );
 		if ( selectEntitiesOnly ) {
 			return entity;
 		}
@@ -4,6 +4,8 @@
  */
 package org.hibernate.envers.strategy;
 
+import java.util.List;
+
 import org.hibernate.Session;
 import org.hibernate.envers.boot.internal.EnversService;
 import org.hibernate.envers.configuration.Configuration;
@@ -78,4 +80,30 @@ public interface AuditStrategy extends org.hibernate.envers.strategy.spi.AuditSt
 				revision
 		);
 	}
+
+	/**
+	 * Perform the persistence of audited data for all changes of a single collection ("middle" entity).
+	 * <p>
+	 * Each change is delegated to {@link #performCollectionChange(Session, String, String, EnversService, PersistentCollectionChangeData, Object)}
+	 * so that strategies overriding the deprecated variant keep their behavior.
+	 */
+	@Override
+	default void performCollectionChanges(
+			Session session,
+			String entityName,
+			String propertyName,
+			Configuration configuration,
+			List<PersistentCollectionChangeData> persistentCollectionChanges,
+			Object revision) {
+		for ( PersistentCollectionChangeData persistentCollectionChangeData : persistentCollectionChanges ) {
+			performCollectionChange(
+					session,
+					entityName,
+					propertyName,
+					configuration.getEnversService(),
+					persistentCollectionChangeData,
+					revision
+			);
+		}
+	}
 }
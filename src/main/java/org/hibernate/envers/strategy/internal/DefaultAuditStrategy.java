@@ -4,9 +4,13 @@
  */
 package org.hibernate.envers.strategy.internal;
 
+import java.util.List;
+
 import org.hibernate.Session;
 import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
+import org.hibernate.envers.internal.entities.mapper.id.QueryParameterData;
+import org.hibernate.envers.internal.entities.mapper.id.SingleIdMapper;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
@@ -97,6 +101,57 @@ public class DefaultAuditStrategy implements AuditStrategy {
 		parameters.addWhere( revisionProperty, addAlias, subqueryOperator, maxERevQb );
 	}
 
+	/**
+	 * Restricts the entities to their highest revision with a subquery which is not correlated to the rows of the
+	 * outer query, so that the audit table is grouped once instead of being searched for each row:
+	 * <p>
+	 * {@code (e.id, e.revision) in (SELECT e2.id, max(e2.revision) ... GROUP BY e2.id)}
+	 * <p>
+	 * As all the entities are grouped whatever the other restrictions of the query, this only pays off for queries
+	 * reading many entities, hence is not used by {@link #addEntityAtRevisionRestriction}: queries opt in by calling
+	 * this method instead, when {@link Configuration#isGroupedAtRevisionSubqueryEnabled()}.
+	 *
+	 * @return {@code false} if the entity does not have a single identifier column, in which case no restriction
+	 * is added.
+	 *
+	 * @see #addEntityAtRevisionRestriction
+	 */
+	public boolean addGroupedEntityAtRevisionRestriction(
+			QueryBuilder rootQueryBuilder,
+			Parameters parameters,
+			String revisionProperty,
+			boolean addAlias,
+			MiddleIdData idData,
+			String revisionPropertyPath,
+			String originalIdPropertyName,
+			String alias1,
+			String alias2,
+			boolean inclusive) {
+		if ( !( idData.getOriginalMapper() instanceof SingleIdMapper ) ) {
+			return false;
+		}
+		// only the name of the identifier property is of interest
+		final List<QueryParameterData> idParameters = idData.getOriginalMapper().mapToQueryParametersFromId( null );
+		if ( idParameters.size() != 1 ) {
+			return false;
+		}
+		final String idPropertyPath = idParameters.get( 0 ).getProperty( originalIdPropertyName );
+
+		// SELECT e2.id, max(e2.revision) FROM versionsReferencedEntity e2
+		final QueryBuilder maxERevQb = rootQueryBuilder.newSubQueryBuilder( idData.getAuditEntityName(), alias2 );
+		maxERevQb.addProjection( null, alias2, idPropertyPath, false );
+		maxERevQb.addProjection( "max", alias2, revisionPropertyPath, false );
+		// WHERE e2.revision <= :revision
+		maxERevQb.getRootParameters().addWhereWithNamedParam( revisionPropertyPath, inclusive ? "<=" : "<", REVISION_PARAMETER );
+		// GROUP BY e2.id
+		maxERevQb.addGroupBy( alias2, idPropertyPath );
+
+		final String left = "(" + alias1 + "." + idPropertyPath + ", "
+				+ ( addAlias ? alias1 + "." + revisionProperty : revisionProperty ) + ")";
+		parameters.addWhere( null, left, "in", maxERevQb );
+		return true;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -6,17 +6,24 @@ package org.hibernate.envers.strategy.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.FlushMode;
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -30,6 +37,7 @@ import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
+import org.hibernate.envers.internal.jfr.RevisionEndUpdateEvent;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
@@ -79,6 +87,11 @@ import static org.hibernate.envers.internal.entities.mapper.relation.query.Query
  * @author Chris Cranford
  */
 public class ValidityAuditStrategy implements AuditStrategy {
+	/**
+	 * The maximum number of collection elements whose previous rows are closed using a single update statement.
+	 */
+	private static final int MAX_COLLECTION_CHANGE_CHUNK_SIZE = 500;
+
 	/**
 	 * getter for the revision entity field annotated with @RevisionTimestamp
 	 */
@@ -86,6 +99,8 @@ public class ValidityAuditStrategy implements AuditStrategy {
 
 	private final SessionCacheCleaner sessionCacheCleaner;
 
+	private final Map<Session, RevisionEndUpdateBatch> revisionEndUpdateBatches = new ConcurrentHashMap<>();
+
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
 	}
@@ -171,48 +186,47 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			// When re-using identifiers, an ADD may legitimately find no previous row to close.
+			final boolean allowNoPreviousRow = reuseEntityIdentifier && revisionType == RevisionType.ADD;
+			if ( configuration.isRevisionEndUpdateBatchingEnabled() ) {
+				// Defer the UPDATE statement so that it is executed as part of a JDBC batch along with all
+				// other revision end updates of this transaction, still after the INSERT has been flushed.
+				getRevisionEndUpdateBatch( session ).add(
+						new RevisionEndUpdate( entityName, auditedEntityName, configuration, id, revision, allowNoPreviousRow )
 				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
+			}
+			else {
+				// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
+				( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
+					final RevisionEndUpdate update = new RevisionEndUpdate(
+							entityName,
+							auditedEntityName,
+							configuration,
+							id,
+							revision,
+							allowNoPreviousRow
 					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
+					final RevisionEndUpdateEvent event = new RevisionEndUpdateEvent();
+					event.begin();
+					int statements = 0;
+					int updatedRows = 0;
+					for ( UpdateContext context : getUpdateContexts( update, sessionImplementor ) ) {
+						final int rowCount = executeUpdate( sessionImplementor, context );
+						statements++;
+						updatedRows += rowCount;
+						verifyRevisionEndUpdate( update, rowCount );
 					}
-				}
-			} );
+					event.end();
+					if ( event.shouldCommit() ) {
+						event.auditEntityName = auditedEntityName;
+						event.statements = statements;
+						event.updatedRows = updatedRows;
+						event.commit();
+					}
+				} );
+			}
 		}
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
@@ -235,21 +249,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		final Map<String, Object> originalId = (Map<String, Object>) persistentCollectionChangeData.getData().get(
 				originalIdPropName
 		);
-		final String revisionFieldName = configuration.getRevisionFieldName();
-		final String revisionTypePropName = configuration.getRevisionTypePropertyName();
-		final String ordinalPropName = configuration.getEmbeddableSetOrdinalPropertyName();
-
-		// Adding a parameter for each id component, except the rev number and type.
-		for ( Map.Entry<String, Object> originalIdEntry : originalId.entrySet() ) {
-			if ( !revisionFieldName.equals( originalIdEntry.getKey() )
-					&& !revisionTypePropName.equals( originalIdEntry.getKey() )
-					&& !ordinalPropName.equals( originalIdEntry.getKey() ) ) {
-				qb.getRootParameters().addWhereWithParam(
-						originalIdPropName + "." + originalIdEntry.getKey(),
-						true, "=", originalIdEntry.getValue()
-				);
-			}
-		}
+		addOriginalIdWhereConditions( configuration, qb.getRootParameters(), originalId );
 
 		if ( isNonIdentifierWhereConditionsRequired( entityName, propertyName, (SessionImplementor) session ) ) {
 			addNonIdentifierWhereConditions( qb, persistentCollectionChangeData.getData(), originalIdPropName );
@@ -273,6 +273,60 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * For this implementation, the open rows of all changed elements are closed using one update statement
+	 * per chunk of elements rather than locking and re-persisting each previous row individually.  This is
+	 * only possible when the rows can be identified by their original identifier; when non-identifier
+	 * columns are required to identify a row (e.g. embeddable elements), each change is processed as per
+	 * {@link #performCollectionChange(Session, String, String, Configuration, PersistentCollectionChangeData, Object)}.
+	 */
+	@Override
+	public void performCollectionChanges(
+			Session session,
+			String entityName,
+			String propertyName,
+			Configuration configuration,
+			List<PersistentCollectionChangeData> persistentCollectionChanges,
+			Object revision) {
+		if ( persistentCollectionChanges.isEmpty() ) {
+			return;
+		}
+
+		if ( isNonIdentifierWhereConditionsRequired( entityName, propertyName, (SessionImplementor) session ) ) {
+			for ( PersistentCollectionChangeData persistentCollectionChangeData : persistentCollectionChanges ) {
+				performCollectionChange(
+						session,
+						entityName,
+						propertyName,
+						configuration,
+						persistentCollectionChangeData,
+						revision
+				);
+			}
+			return;
+		}
+
+		// Update the last revision of all changed elements.
+		// HHH-5967: with collections, the same element can be added and removed multiple times. So even if it's an
+		// ADD, we may need to update the last revision.
+		final Map<String, List<PersistentCollectionChangeData>> changesByEntityName = new LinkedHashMap<>();
+		for ( PersistentCollectionChangeData persistentCollectionChangeData : persistentCollectionChanges ) {
+			changesByEntityName.computeIfAbsent( persistentCollectionChangeData.getEntityName(), k -> new ArrayList<>() )
+					.add( persistentCollectionChangeData );
+		}
+		for ( Map.Entry<String, List<PersistentCollectionChangeData>> entry : changesByEntityName.entrySet() ) {
+			updateLastRevisions( session, configuration, entry.getKey(), entry.getValue(), revision );
+		}
+
+		// Save the audit data
+		for ( PersistentCollectionChangeData persistentCollectionChangeData : persistentCollectionChanges ) {
+			session.persist( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
+			sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -347,6 +401,41 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return (RevisionType) ( (Map<String, Object>) data ).get( configuration.getRevisionTypePropertyName() );
 	}
 
+	/**
+	 * Get the revision end update batch of the given session, registering it with the session's action
+	 * queue when this is the first revision end update of the transaction.
+	 *
+	 * @param session the session
+	 * @return the batch collecting the revision end updates of the session, never {@code null}.
+	 */
+	private RevisionEndUpdateBatch getRevisionEndUpdateBatch(Session session) {
+		RevisionEndUpdateBatch batch = revisionEndUpdateBatches.get( session );
+		if ( batch == null ) {
+			// No worries about registering a session twice - a transaction is single thread
+			batch = new RevisionEndUpdateBatch( session );
+			revisionEndUpdateBatches.put( session, batch );
+
+			final ActionQueue actionQueue = ( (EventSource) session ).getActionQueue();
+			actionQueue.registerProcess( (BeforeTransactionCompletionProcess) batch );
+			actionQueue.registerProcess( (AfterTransactionCompletionProcess) batch );
+		}
+		return batch;
+	}
+
+	private void verifyRevisionEndUpdate(RevisionEndUpdate update, int rows) {
+		if ( rows != 1 && !update.isAllowNoPreviousRow() ) {
+			throw new AuditException(
+					String.format(
+							Locale.ENGLISH,
+							"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+							update.getAuditEntityName(),
+							update.getId(),
+							rows
+					)
+			);
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private void updateLastRevision(
 			Session session,
@@ -381,6 +470,110 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 	}
 
+	/**
+	 * Sets the end revision of the open rows of the given middle entity changes using set-based update
+	 * statements, each restricted to a chunk of the changed elements' original identifiers:
+	 * <p>
+	 * {@code update middle e set e.endRevision = :revision where e.endRevision is null and ((e.originalId.k1 = :k1 and ...) or ...)}
+	 */
+	@SuppressWarnings("unchecked")
+	private void updateLastRevisions(
+			Session session,
+			Configuration configuration,
+			String auditedEntityName,
+			List<PersistentCollectionChangeData> persistentCollectionChanges,
+			Object revision) {
+		final SessionImplementor sessionImplementor = (SessionImplementor) session;
+		final String originalIdPropName = configuration.getOriginalIdPropertyName();
+
+		final Map<String, Object> assignments = new LinkedHashMap<>();
+		assignments.put( configuration.getRevisionEndFieldName(), revision );
+		if ( configuration.isRevisionEndTimestampEnabled() ) {
+			// Determine the value of the revision property annotated with @RevisionTimestamp
+			final Object revEndTimestampObj = this.revisionTimestampGetter.get( revision );
+			assignments.put(
+					configuration.getRevisionEndTimestampFieldName(),
+					getRevEndTimestampValue( configuration, revEndTimestampObj )
+			);
+		}
+
+		final Map<String, Object> firstOriginalId = (Map<String, Object>) persistentCollectionChanges.get( 0 )
+				.getData()
+				.get( originalIdPropName );
+		final int chunkSize = getCollectionChangeChunkSize( sessionImplementor, firstOriginalId.size() );
+
+		final RevisionEndUpdateEvent event = new RevisionEndUpdateEvent();
+		event.begin();
+		int statements = 0;
+		int updatedRows = 0;
+		for ( int start = 0; start < persistentCollectionChanges.size(); start += chunkSize ) {
+			final QueryBuilder qb = new QueryBuilder( auditedEntityName, MIDDLE_ENTITY_ALIAS, sessionImplementor.getFactory() );
+			addEndRevisionNullRestriction( configuration, qb.getRootParameters() );
+
+			final Parameters elementParameters = qb.getRootParameters().addSubParameters( Parameters.OR );
+			final int end = Math.min( start + chunkSize, persistentCollectionChanges.size() );
+			for ( PersistentCollectionChangeData persistentCollectionChangeData : persistentCollectionChanges.subList( start, end ) ) {
+				final Map<String, Object> originalId = (Map<String, Object>) persistentCollectionChangeData.getData()
+						.get( originalIdPropName );
+				addOriginalIdWhereConditions(
+						configuration,
+						elementParameters.addSubParameters( Parameters.AND ),
+						originalId
+				);
+			}
+
+			updatedRows += qb.toUpdateQuery( session, assignments ).setHibernateFlushMode( FlushMode.MANUAL ).executeUpdate();
+			statements++;
+		}
+		event.end();
+		if ( event.shouldCommit() ) {
+			event.auditEntityName = auditedEntityName;
+			event.statements = statements;
+			event.updatedRows = updatedRows;
+			event.commit();
+		}
+	}
+
+	private void addOriginalIdWhereConditions(
+			Configuration configuration,
+			Parameters parameters,
+			Map<String, Object> originalId) {
+		final String originalIdPropName = configuration.getOriginalIdPropertyName();
+		final String revisionFieldName = configuration.getRevisionFieldName();
+		final String revisionTypePropName = configuration.getRevisionTypePropertyName();
+		final String ordinalPropName = configuration.getEmbeddableSetOrdinalPropertyName();
+
+		// Adding a parameter for each id component, except the rev number and type.
+		for ( Map.Entry<String, Object> originalIdEntry : originalId.entrySet() ) {
+			if ( !revisionFieldName.equals( originalIdEntry.getKey() )
+					&& !revisionTypePropName.equals( originalIdEntry.getKey() )
+					&& !ordinalPropName.equals( originalIdEntry.getKey() ) ) {
+				parameters.addWhereWithParam(
+						originalIdPropName + "." + originalIdEntry.getKey(),
+						true, "=", originalIdEntry.getValue()
+				);
+			}
+		}
+	}
+
+	/**
+	 * Get the number of collection elements whose open rows are closed by a single update statement, keeping the
+	 * number of bound parameters within the limit supported by the dialect.
+	 *
+	 * @param session the session
+	 * @param parametersPerElement the number of parameters needed to identify a single element
+	 * @return the number of elements per update statement
+	 */
+	private int getCollectionChangeChunkSize(SessionImplementor session, int parametersPerElement) {
+		final int parameterCountLimit = session.getJdbcServices().getDialect().getParameterCountLimit();
+		if ( parameterCountLimit > 0 ) {
+			// leave room for the revision end assignments
+			final int chunkSize = ( parameterCountLimit - 2 ) / Math.max( parametersPerElement, 1 );
+			return Math.max( 1, Math.min( chunkSize, MAX_COLLECTION_CHANGE_CHUNK_SIZE ) );
+		}
+		return MAX_COLLECTION_CHANGE_CHUNK_SIZE;
+	}
+
 	private Date convertRevEndTimestampToDate(Object revEndTimestampObj) {
 		// convert to a java.util.Date
 		if ( revEndTimestampObj instanceof Date ) {
@@ -487,6 +680,97 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		);
 	}
 
+	/**
+	 * Executes the given {@link UpdateContext} instances, all sharing the same SQL statement, as a JDBC batch
+	 * within the scope of the specified session.  The statement is executed every {@code batchSize} rows and
+	 * each row's update count is verified against its associated {@link RevisionEndUpdate}.
+	 *
+	 * @param session the session
+	 * @param sql the update statement shared by all contexts
+	 * @param contexts the update contexts to be executed
+	 * @param updates the revision end updates associated with each context, by position
+	 * @param batchSize the maximum number of rows per JDBC batch
+	 */
+	private void executeBatch(
+			SessionImplementor session,
+			String sql,
+			List<UpdateContext> contexts,
+			List<RevisionEndUpdate> updates,
+			int batchSize) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+
+		final RevisionEndUpdateEvent event = new RevisionEndUpdateEvent();
+		event.begin();
+		int updatedRows = 0;
+		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+		try {
+			int batchStart = 0;
+			for ( int i = 0; i < contexts.size(); i++ ) {
+				int index = 1;
+				for ( QueryParameterBinding binding : contexts.get( i ).getBindings() ) {
+					index += binding.bind( index, statement, session );
+				}
+				statement.addBatch();
+
+				if ( i + 1 - batchStart == batchSize || i + 1 == contexts.size() ) {
+					final int[] rowCounts = statement.executeBatch();
+					for ( int j = 0; j < rowCounts.length; j++ ) {
+						// Some drivers can only report that the statement succeeded, not how many rows it modified.
+						if ( rowCounts[j] != Statement.SUCCESS_NO_INFO ) {
+							updatedRows += rowCounts[j];
+							verifyRevisionEndUpdate( updates.get( batchStart + j ), rowCounts[j] );
+						}
+					}
+					batchStart = i + 1;
+				}
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not execute revision end update batch",
+					sql
+			);
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+
+			event.end();
+			if ( event.shouldCommit() ) {
+				event.auditEntityName = updates.get( 0 ).getAuditEntityName();
+				event.statements = contexts.size();
+				event.updatedRows = updatedRows;
+				event.batched = true;
+				event.commit();
+			}
+		}
+	}
+
+	private List<UpdateContext> getUpdateContexts(RevisionEndUpdate update, SessionImplementor session) {
+		final List<UpdateContext> contexts = getUpdateContexts(
+				update.getEntityName(),
+				update.getAuditEntityName(),
+				session,
+				update.getConfiguration(),
+				update.getId(),
+				update.getRevision()
+		);
+
+		if ( contexts.isEmpty() ) {
+			throw new AuditException(
+					String.format(
+							Locale.ENGLISH,
+							"Failed to build update contexts for entity %s and id %s",
+							update.getAuditEntityName(),
+							update.getId()
+					)
+			);
+		}
+
+		return contexts;
+	}
+
 	private List<UpdateContext> getUpdateContexts(
 			String entityName,
 			String auditEntityName,
@@ -657,6 +941,115 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getMappedTableDetails().getTableName();
 	}
 
+	/**
+	 * Describes the revision end update required for a single audited entity row.
+	 */
+	private static class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditEntityName;
+		private final Configuration configuration;
+		private final Object id;
+		private final Object revision;
+		private final boolean allowNoPreviousRow;
+
+		public RevisionEndUpdate(
+				String entityName,
+				String auditEntityName,
+				Configuration configuration,
+				Object id,
+				Object revision,
+				boolean allowNoPreviousRow) {
+			this.entityName = entityName;
+			this.auditEntityName = auditEntityName;
+			this.configuration = configuration;
+			this.id = id;
+			this.revision = revision;
+			this.allowNoPreviousRow = allowNoPreviousRow;
+		}
+
+		public String getEntityName() {
+			return entityName;
+		}
+
+		public String getAuditEntityName() {
+			return auditEntityName;
+		}
+
+		public Configuration getConfiguration() {
+			return configuration;
+		}
+
+		public Object getId() {
+			return id;
+		}
+
+		public Object getRevision() {
+			return revision;
+		}
+
+		public boolean isAllowNoPreviousRow() {
+			return allowNoPreviousRow;
+		}
+	}
+
+	/**
+	 * Collects the revision end updates of a session and executes them before transaction completion,
+	 * grouped by update statement so that each audit table (including joined and union subclass tables)
+	 * is updated using JDBC batches.
+	 */
+	private class RevisionEndUpdateBatch implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+		private final Session owner;
+		private final List<RevisionEndUpdate> updates = new ArrayList<>();
+
+		public RevisionEndUpdateBatch(Session owner) {
+			this.owner = owner;
+		}
+
+		public void add(RevisionEndUpdate update) {
+			updates.add( update );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor session) {
+			revisionEndUpdateBatches.remove( owner );
+			if ( updates.isEmpty() ) {
+				return;
+			}
+
+			// Group the update contexts by statement, preserving the order in which they were registered.
+			final Map<String, List<UpdateContext>> contextsBySql = new LinkedHashMap<>();
+			final Map<String, List<RevisionEndUpdate>> updatesBySql = new HashMap<>();
+			for ( RevisionEndUpdate update : updates ) {
+				for ( UpdateContext context : getUpdateContexts( update, session ) ) {
+					final String sql = context.toStatementString();
+					contextsBySql.computeIfAbsent( sql, k -> new ArrayList<>() ).add( context );
+					updatesBySql.computeIfAbsent( sql, k -> new ArrayList<>() ).add( update );
+				}
+			}
+			updates.clear();
+
+			final int batchSize = getBatchSize( session );
+			for ( Map.Entry<String, List<UpdateContext>> entry : contextsBySql.entrySet() ) {
+				executeBatch( session, entry.getKey(), entry.getValue(), updatesBySql.get( entry.getKey() ), batchSize );
+			}
+		}
+
+		@Override
+		public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+			// Guards against leaking the batch when the transaction fails before the updates are executed.
+			revisionEndUpdateBatches.remove( owner );
+		}
+
+		private int getBatchSize(SessionImplementor session) {
+			final Integer sessionBatchSize = session.getJdbcBatchSize();
+			final int batchSize = sessionBatchSize != null
+					? sessionBatchSize
+					: session.getFactory().getSessionFactoryOptions().getJdbcBatchSize();
+			// Batching is explicitly requested, so without a configured size execute everything in a single batch.
+			return batchSize > 0 ? batchSize : Integer.MAX_VALUE;
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
@@ -4,6 +4,8 @@
  */
 package org.hibernate.envers.strategy.spi;
 
+import java.util.List;
+
 import org.hibernate.Incubating;
 import org.hibernate.Session;
 import org.hibernate.envers.configuration.Configuration;
@@ -85,6 +87,40 @@ public interface AuditStrategy {
 			PersistentCollectionChangeData persistentCollectionChangeData,
 			Object revision);
 
+	/**
+	 * Perform the persistence of audited data for all changes of a single collection ("middle" entity) of
+	 * an owning entity.  Implementations may use this to process the changes as a set rather than per
+	 * element, by default each change is delegated to
+	 * {@link #performCollectionChange(Session, String, String, Configuration, PersistentCollectionChangeData, Object)}.
+	 *
+	 * @param session Session, which can be used to persist the data.
+	 * @param entityName Name of the entity, in which the audited change happens.
+	 * @param propertyName The name of the property holding the persistent collection
+	 * @param configuration audit configuration
+	 * @param persistentCollectionChanges Collection change data to be persisted, all for the same owner and role.
+	 * @param revision Current revision data
+	 *
+	 * @since 7.1
+	 */
+	default void performCollectionChanges(
+			Session session,
+			String entityName,
+			String propertyName,
+			Configuration configuration,
+			List<PersistentCollectionChangeData> persistentCollectionChanges,
+			Object revision) {
+		for ( PersistentCollectionChangeData persistentCollectionChangeData : persistentCollectionChanges ) {
+			performCollectionChange(
+					session,
+					entityName,
+					propertyName,
+					configuration,
+					persistentCollectionChangeData,
+					revision
+			);
+		}
+	}
+
 	/**
 	 * Update the rootQueryBuilder with an extra WHERE clause to restrict the revision for a two-entity relation.
 	 * This WHERE clause depends on the AuditStrategy.
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.entities.reventity.trackmodifiedentities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.envers.ModifiedEntityNames;
+import org.hibernate.envers.RevisionEntity;
+import org.hibernate.envers.RevisionNumber;
+import org.hibernate.envers.RevisionTimestamp;
+
+/**
+ * Sample revision entity that stores the modified entity names encoded in a single column, using the
+ * {@link ModifiedEntityNames} annotation on a string property.
+ */
+@Entity
+@Table(name = "EncodedTrackRevInfo")
+@GenericGenerator(name = "EnversTestingRevisionGenerator",
+				strategy = "org.hibernate.id.enhanced.TableGenerator",
+				parameters = {
+						@Parameter(name = "table_name", value = "REVISION_GENERATOR"),
+						@Parameter(name = "initial_value", value = "1"),
+						@Parameter(name = "increment_size", value = "1"),
+						@Parameter(name = "prefer_entity_table_as_segment_value", value = "true")
+				}
+)
+@RevisionEntity
+public class EncodedTrackingRevisionEntity {
+	@Id
+	@GeneratedValue(generator = "EnversTestingRevisionGenerator")
+	@RevisionNumber
+	private int customId;
+
+	@RevisionTimestamp
+	private long customTimestamp;
+
+	@Column(name = "ENTITYTYPES")
+	@ModifiedEntityNames
+	private String entityTypes;
+
+	public int getCustomId() {
+		return customId;
+	}
+
+	public void setCustomId(int customId) {
+		this.customId = customId;
+	}
+
+	public long getCustomTimestamp() {
+		return customTimestamp;
+	}
+
+	public void setCustomTimestamp(long customTimestamp) {
+		this.customTimestamp = customTimestamp;
+	}
+
+	public String getEntityTypes() {
+		return entityTypes;
+	}
+
+	public void setEntityTypes(String entityTypes) {
+		this.entityTypes = entityTypes;
+	}
+
+	@Override
+	public String toString() {
+		return "EncodedTrackingRevisionEntity(customId = " + customId + ", customTimestamp = " + customTimestamp + ", entityTypes=" + entityTypes + ")";
+	}
+}
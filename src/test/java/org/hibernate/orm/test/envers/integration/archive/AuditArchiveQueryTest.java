@@ -0,0 +1,220 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.archive;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.AuditArchiver;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the queries reading archived rows read the union of the rows of the archive and audit tables, to which
+ * the orders, paging and projections of the queries apply.
+ */
+public class AuditArchiveQueryTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.ARCHIVE_TABLE_SUFFIX, "_ARCH" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity te1 = new StrTestEntity( "b1" );
+		em.persist( te1 );
+		id1 = te1.getId();
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		final StrTestEntity te2 = new StrTestEntity( "a1" );
+		em.persist( te2 );
+		id2 = te2.getId();
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id2 ).setStr( "a2" );
+		em.getTransaction().commit();
+
+		// Revision 4
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id2 ).setStr( "a3" );
+		em.getTransaction().commit();
+		em.close();
+
+		// the rows of revisions 2 and 3 are archived, those of revisions 1 and 4 stay in the audit table
+		assertEquals( 2, AuditArchiver.get( entityManagerFactory() ).archive( StrTestEntity.class, 4 ) );
+	}
+
+	@Test
+	public void testRevisionsOfEntitiesInRevisionOrder() {
+		final List<StrTestEntity> entities = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrTestEntity.class, true, true )
+				.getResultList();
+		assertEquals( Arrays.asList( "b1", "a1", "a2", "a3" ), getStrs( entities.stream() ) );
+	}
+
+	@Test
+	public void testStreamedRevisionsOfEntitiesInRevisionOrder() {
+		try ( Stream<StrTestEntity> entities = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrTestEntity.class, true, true )
+				.getResultStream() ) {
+			assertEquals( Arrays.asList( "b1", "a1", "a2", "a3" ), getStrs( entities ) );
+		}
+	}
+
+	@Test
+	public void testRevisionsOfEntitiesWithRevisionDataInRevisionOrder() {
+		final List<Object[]> rows = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrTestEntity.class, false, true )
+				.getResultList();
+		assertEquals(
+				Arrays.asList( "b1", "a1", "a2", "a3" ),
+				getStrs( rows.stream().map( row -> (StrTestEntity) row[0] ) )
+		);
+	}
+
+	@Test
+	public void testRevisions() {
+		assertEquals( Arrays.asList( 1 ), getAuditReader().getRevisions( StrTestEntity.class, id1 ) );
+		assertEquals( Arrays.asList( 2, 3, 4 ), getAuditReader().getRevisions( StrTestEntity.class, id2 ) );
+	}
+
+	@Test
+	public void testPropertyProjectionAtRevision() {
+		assertEquals(
+				new HashSet<>( Arrays.asList( "b1", "a2" ) ),
+				new HashSet<>(
+						getAuditReader().createQuery().forEntitiesAtRevision( StrTestEntity.class, 3 )
+								.addProjection( AuditEntity.property( "str" ) )
+								.getResultList()
+				)
+		);
+	}
+
+	@Test
+	public void testOrderedQueryOfArchivedRows() {
+		assertEquals(
+				Arrays.asList( "a2", "b1" ),
+				getStrs(
+						getAuditReader().createQuery().forEntitiesAtRevision( StrTestEntity.class, 3 )
+								.addOrder( AuditEntity.property( "str" ).asc() )
+								.getResultList()
+								.stream()
+				)
+		);
+	}
+
+	@Test
+	public void testPagedQueryOfArchivedRows() {
+		assertEquals(
+				Arrays.asList( "a3", "a2" ),
+				getStrs(
+						getAuditReader().createQuery().forRevisionsOfEntity( StrTestEntity.class, true, true )
+								.addOrder( AuditEntity.revisionNumber().desc() )
+								.setMaxResults( 2 )
+								.getResultList()
+								.stream()
+				)
+		);
+		assertEquals(
+				Arrays.asList( "a2", "a1" ),
+				getStrs(
+						getAuditReader().createQuery().forRevisionsOfEntity( StrTestEntity.class, true, true )
+								.addOrder( AuditEntity.revisionNumber().desc() )
+								.setFirstResult( 1 )
+								.setMaxResults( 2 )
+								.getResultList()
+								.stream()
+				)
+		);
+	}
+
+	@Test
+	public void testOrderedProjectionsWithRevisionDataOfArchivedRows() {
+		final List<Object[]> rows = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrTestEntity.class, false, true )
+				.addOrder( AuditEntity.property( "str" ).desc() )
+				.getResultList();
+		assertEquals(
+				Arrays.asList( "b1", "a3", "a2", "a1" ),
+				getStrs( rows.stream().map( row -> (StrTestEntity) row[0] ) )
+		);
+	}
+
+	@Test
+	public void testAggregatingQueryOfArchivedRows() {
+		assertEquals(
+				4,
+				( (Number) getAuditReader().createQuery().forRevisionsOfEntity( StrTestEntity.class, true, true )
+						.addProjection( AuditEntity.revisionNumber().max() )
+						.getSingleResult() ).intValue()
+		);
+		assertEquals(
+				3,
+				( (Number) getAuditReader().createQuery().forRevisionsOfEntity( StrTestEntity.class, true, true )
+						.add( AuditEntity.id().eq( id2 ) )
+						.addProjection( AuditEntity.revisionNumber().count() )
+						.getSingleResult() ).intValue()
+		);
+	}
+
+	@Test
+	public void testDistinctQueryOfArchivedRows() {
+		final List<?> strs = getAuditReader().createQuery().forRevisionsOfEntity( StrTestEntity.class, true, true )
+				.addProjection( AuditEntity.property( "str" ).distinct() )
+				.addOrder( AuditEntity.property( "str" ).asc() )
+				.getResultList();
+		assertEquals( Arrays.asList( "a1", "a2", "a3", "b1" ), strs );
+	}
+
+	@Test
+	public void testOrderedQueryOfRecentRows() {
+		// revision 4 is not before the archived revision, hence only the audit table is read
+		assertEquals(
+				Arrays.asList( "a3", "b1" ),
+				getStrs(
+						getAuditReader().createQuery().forEntitiesAtRevision( StrTestEntity.class, 4 )
+								.addOrder( AuditEntity.property( "str" ).asc() )
+								.getResultList()
+								.stream()
+				)
+		);
+	}
+
+	private static List<String> getStrs(Stream<?> entities) {
+		return entities.map( entity -> ( (StrTestEntity) entity ).getStr() ).collect( Collectors.toList() );
+	}
+}
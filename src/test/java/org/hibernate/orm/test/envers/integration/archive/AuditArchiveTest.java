@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.archive;
+
+import java.util.Arrays;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.AuditArchiver;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the closed audit rows moved to the archive table are still read by the audit queries.
+ */
+public class AuditArchiveTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.ARCHIVE_TABLE_SUFFIX, "_ARCH" );
+		options.put( EnversSettings.ARCHIVE_BATCH_SIZE, "1" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity te = new StrTestEntity( "x" );
+		em.persist( te );
+		id = te.getId();
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id ).setStr( "y" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id ).setStr( "z" );
+		em.getTransaction().commit();
+		em.close();
+
+		final AuditArchiver archiver = AuditArchiver.get( entityManagerFactory() );
+		assertEquals( 0, archiver.archive( StrTestEntity.class, 1 ) );
+		assertEquals( 2, archiver.archive( StrTestEntity.class, 3 ) );
+	}
+
+	@Test
+	public void testAuditTableKeepsOpenRows() {
+		final EntityManager em = getEntityManager();
+		assertEquals(
+				1L,
+				em.createQuery( "select count(e) from " + StrTestEntity.class.getName() + "_AUD e" ).getSingleResult()
+		);
+		assertEquals(
+				2L,
+				em.createQuery( "select count(e) from " + StrTestEntity.class.getName() + "_AUD_ARCH e" ).getSingleResult()
+		);
+		em.close();
+	}
+
+	@Test
+	public void testHistoryOfId() {
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, id, 1 ).getStr() );
+		assertEquals( "y", getAuditReader().find( StrTestEntity.class, id, 2 ).getStr() );
+		assertEquals( "z", getAuditReader().find( StrTestEntity.class, id, 3 ).getStr() );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+	}
+
+	@Test
+	public void testModifiedAtRevision() {
+		assertEquals(
+				1,
+				getAuditReader().createQuery().forEntitiesModifiedAtRevision( StrTestEntity.class, 2 )
+						.getResultList()
+						.size()
+		);
+	}
+
+	@Test(expected = AuditException.class)
+	public void testPagedQueryOfArchivedRows() {
+		getAuditReader().createQuery().forRevisionsOfEntity( StrTestEntity.class, true, true )
+				.add( AuditEntity.id().eq( id ) )
+				.setMaxResults( 10 )
+				.getResultList();
+	}
+}
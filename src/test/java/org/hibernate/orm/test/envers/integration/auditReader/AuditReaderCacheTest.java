@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.auditReader;
+
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderCacheStatistics;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the bounded cache of historic entity instances of an {@link AuditReader}.
+ */
+public class AuditReaderCacheTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+	private Integer id3;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.READER_CACHE_MAX_SIZE, "2" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrTestEntity entity1 = new StrTestEntity( "a" );
+		StrTestEntity entity2 = new StrTestEntity( "b" );
+		StrTestEntity entity3 = new StrTestEntity( "c" );
+		em.persist( entity1 );
+		em.persist( entity2 );
+		em.persist( entity3 );
+		em.getTransaction().commit();
+		em.close();
+
+		id1 = entity1.getId();
+		id2 = entity2.getId();
+		id3 = entity3.getId();
+	}
+
+	@Test
+	public void testEviction() {
+		final AuditReader auditReader = AuditReaderFactory.get( getEntityManager() );
+		final AuditReaderCacheStatistics statistics = auditReader.getCacheStatistics();
+
+		final StrTestEntity entity1 = auditReader.find( StrTestEntity.class, id1, 1 );
+		assertSame( entity1, auditReader.find( StrTestEntity.class, id1, 1 ) );
+		auditReader.find( StrTestEntity.class, id2, 1 );
+		auditReader.find( StrTestEntity.class, id3, 1 );
+
+		assertEquals( 2, statistics.getSize() );
+		assertEquals( 1, statistics.getEvictionCount() );
+		assertEquals( "a", auditReader.find( StrTestEntity.class, id1, 1 ).getStr() );
+	}
+
+	@Test
+	public void testClear() {
+		final AuditReader auditReader = AuditReaderFactory.get( getEntityManager() );
+
+		final StrTestEntity entity1 = auditReader.find( StrTestEntity.class, id1, 1 );
+		assertEquals( StrTestEntity.class.getName(), auditReader.getEntityName( id1, 1, entity1 ) );
+
+		auditReader.clear();
+		assertEquals( 0, auditReader.getCacheStatistics().getSize() );
+
+		final StrTestEntity reloaded = auditReader.find( StrTestEntity.class, id1, 1 );
+		assertNotSame( entity1, reloaded );
+		assertEquals( entity1, reloaded );
+	}
+
+	@Test
+	public void testEntityNameLookupsNotCounted() {
+		final AuditReader auditReader = AuditReaderFactory.get( getEntityManager() );
+		final AuditReaderCacheStatistics statistics = auditReader.getCacheStatistics();
+
+		final StrTestEntity entity1 = auditReader.find( StrTestEntity.class, id1, 1 );
+		auditReader.find( StrTestEntity.class, id1, 1 );
+		final long hitCount = statistics.getHitCount();
+		final long missCount = statistics.getMissCount();
+
+		assertEquals( StrTestEntity.class.getName(), auditReader.getEntityName( id1, 1, entity1 ) );
+		assertEquals( hitCount, statistics.getHitCount() );
+		assertEquals( missCount, statistics.getMissCount() );
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.hibernate.envers.internal.reader.CollectionBatchFetchQueue;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the collections pending for the longest time are dropped from a bounded batch fetch queue.
+ */
+public class CollectionBatchFetchQueueTest {
+	@Test
+	public void testEldestPendingCollectionsAreDropped() {
+		// at most 64 batches of 2 collections are kept
+		final CollectionBatchFetchQueue queue = new CollectionBatchFetchQueue( 2 );
+		for ( int i = 0; i < 200; i++ ) {
+			queue.addPendingInitializor( null, 1, false, i, null );
+		}
+
+		assertEquals(
+				Arrays.asList( 199, 72 ),
+				new ArrayList<>( queue.takeBatch( null, 1, false, 199, null, 2 ).keySet() )
+		);
+		assertEquals(
+				Arrays.asList( 0, 73 ),
+				new ArrayList<>( queue.takeBatch( null, 1, false, 0, null, 2 ).keySet() )
+		);
+
+		queue.clear();
+		assertEquals( Arrays.asList( 74 ), new ArrayList<>( queue.takeBatch( null, 1, false, 74, null, 2 ).keySet() ) );
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.collection;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwnedEntity;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwningEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefEdEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefIngEntity;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that historic collections of the same role and revision are initialized in batches.
+ */
+public class CollectionBatchFetchTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 5;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetRefEdEntity.class, SetRefIngEntity.class, SetOwningEntity.class, SetOwnedEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.COLLECTION_BATCH_FETCH_SIZE, "3" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final SetRefEdEntity ed = new SetRefEdEntity( i, "ed" + i );
+			em.persist( ed );
+			// owner i references i entities
+			for ( int j = 0; j < i; j++ ) {
+				em.persist( new SetRefIngEntity( 100 * ( i + 1 ) + j, "ing" + j, ed ) );
+			}
+
+			final SetOwningEntity owning = new SetOwningEntity( i, "owning" + i );
+			owning.setReferences( new HashSet<>() );
+			for ( int j = 0; j < i; j++ ) {
+				final SetOwnedEntity owned = new SetOwnedEntity( 100 * ( i + 1 ) + j, "owned" + j );
+				em.persist( owned );
+				owning.getReferences().add( owned );
+			}
+			em.persist( owning );
+		}
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testOneToManyBatch() {
+		final AuditReader auditReader = AuditReaderFactory.get( getEntityManager() );
+		final List<SetRefEdEntity> eds = auditReader.createQuery()
+				.forEntitiesAtRevision( SetRefEdEntity.class, 1 )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+		assertEquals( ENTITY_COUNT, eds.size() );
+
+		final Statistics statistics = getStatistics();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			assertEquals( i, eds.get( i ).getReffering().size() );
+		}
+
+		// batches of 3 and 2 collections
+		assertEquals( 2, statistics.getQueryExecutionCount() );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testManyToManyBatch() {
+		final AuditReader auditReader = AuditReaderFactory.get( getEntityManager() );
+		final List<SetOwningEntity> owners = auditReader.createQuery()
+				.forEntitiesAtRevision( SetOwningEntity.class, 1 )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+		assertEquals( ENTITY_COUNT, owners.size() );
+
+		final Statistics statistics = getStatistics();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			assertEquals( i, owners.get( i ).getReferences().size() );
+		}
+
+		// batches of 3 and 2 collections
+		assertEquals( 2, statistics.getQueryExecutionCount() );
+	}
+
+	private Statistics getStatistics() {
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+}
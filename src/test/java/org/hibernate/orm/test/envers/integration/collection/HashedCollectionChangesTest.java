@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.collection;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.junit.Test;
+
+import org.hibernate.testing.orm.junit.JiraKey;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the changes of large collections, which are compared through hashed lookups: elements are only compared to
+ * the elements with the same hash, the identifier of the entity elements, so that detached copies of entities which
+ * do not override {@code equals} are still the same elements (HHH-13080).
+ */
+@JiraKey(value = "HHH-13080")
+public class HashedCollectionChangesTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ITEMS = 20;
+
+	@Audited
+	@Entity(name = "HashedOwner")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		@ManyToMany
+		@JoinTable(name = "HashedOwner_Item",
+				joinColumns = @JoinColumn(name = "owner_id"),
+				inverseJoinColumns = @JoinColumn(name = "item_id"))
+		private Set<Item> items = new HashSet<>();
+
+		@ElementCollection
+		@CollectionTable(name = "HashedOwner_Tag", joinColumns = @JoinColumn(name = "owner_id"))
+		@Column(name = "tag")
+		private Set<String> tags = new HashSet<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Set<Item> getItems() {
+			return items;
+		}
+
+		public Set<String> getTags() {
+			return tags;
+		}
+	}
+
+	// equals and hashCode are not overridden: detached copies are not equal to the managed instances
+	@Audited
+	@Entity(name = "HashedItem")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Owner.class, Item.class };
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final Owner owner = new Owner( 1 );
+		for ( int i = 1; i <= ITEMS; i++ ) {
+			final Item item = new Item( i, "item" + i );
+			em.persist( item );
+			owner.getItems().add( item );
+			owner.getTags().add( "tag" + i );
+		}
+		em.persist( owner );
+		em.getTransaction().commit();
+		em.clear();
+
+		// detached copies of all the items
+		final List<Item> detachedItems = new ArrayList<>();
+		for ( int i = 1; i <= ITEMS; i++ ) {
+			detachedItems.add( new Item( i, "item" + i ) );
+		}
+
+		// Revision 2 - replacing the elements by equivalent copies, except the first one, and adding a new one
+		em.getTransaction().begin();
+		final Item newItem = new Item( ITEMS + 1, "item" + ( ITEMS + 1 ) );
+		em.persist( newItem );
+		final Owner loaded = em.find( Owner.class, 1 );
+		loaded.getItems().clear();
+		loaded.getItems().addAll( detachedItems.subList( 1, ITEMS ) );
+		loaded.getItems().add( newItem );
+		loaded.getTags().clear();
+		for ( int i = 2; i <= ITEMS + 1; i++ ) {
+			loaded.getTags().add( new String( "tag" + i ) );
+		}
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Test
+	public void testOnlyChangedEntityElementsAreAudited() {
+		assertEquals(
+				setOf( "1:DEL", "21:ADD" ),
+				getChanges( "select item_id, REVTYPE from HashedOwner_Item_AUD where REV = 2" )
+		);
+	}
+
+	@Test
+	public void testOnlyChangedBasicElementsAreAudited() {
+		assertEquals(
+				setOf( "tag1:DEL", "tag21:ADD" ),
+				getChanges( "select tag, REVTYPE from HashedOwner_Tag_AUD where REV = 2" )
+		);
+	}
+
+	@Test
+	public void testHistoryOfCollections() {
+		final Owner ver1 = getAuditReader().find( Owner.class, 1, 1 );
+		final Owner ver2 = getAuditReader().find( Owner.class, 1, 2 );
+
+		assertEquals( ITEMS, ver1.getItems().size() );
+		final Set<Integer> ids = new TreeSet<>();
+		for ( Item item : ver2.getItems() ) {
+			ids.add( item.getId() );
+		}
+		final Set<Integer> expectedIds = new TreeSet<>();
+		for ( int i = 2; i <= ITEMS + 1; i++ ) {
+			expectedIds.add( i );
+		}
+		assertEquals( expectedIds, ids );
+		assertEquals( ITEMS, ver2.getTags().size() );
+	}
+
+	private Set<String> getChanges(String sql) {
+		final EntityManager em = getEntityManager();
+		try {
+			final Set<String> changes = new HashSet<>();
+			for ( Object row : em.createNativeQuery( sql ).getResultList() ) {
+				final Object[] columns = (Object[]) row;
+				// numeric columns may be read as any Number, depending on the database
+				final Object element = columns[0] instanceof Number number ? number.intValue() : columns[0];
+				final RevisionType revisionType = RevisionType.fromRepresentation( ( (Number) columns[1] ).byteValue() );
+				changes.add( element + ":" + revisionType );
+			}
+			return changes;
+		}
+		finally {
+			em.close();
+		}
+	}
+
+	private static Set<String> setOf(String... values) {
+		return new HashSet<>( List.of( values ) );
+	}
+}
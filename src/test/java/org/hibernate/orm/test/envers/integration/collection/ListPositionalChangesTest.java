@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+
+import org.hibernate.envers.Audited;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the middle table rows written for inserts into and reorderings of an indexed list, whose entries are
+ * compared with the entry at the same position: each position whose element changed gets a row deleting the old
+ * element and a row adding the new one, and the unchanged positions get no row.
+ */
+public class ListPositionalChangesTest extends BaseEnversJPAFunctionalTestCase {
+	@Audited
+	@Entity(name = "PositionalList")
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		@ElementCollection
+		@CollectionTable(name = "PositionalList_Item", joinColumns = @JoinColumn(name = "owner_id"))
+		@Column(name = "item_value")
+		@OrderColumn(name = "item_index")
+		private List<String> items = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public List<String> getItems() {
+			return items;
+		}
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Owner.class };
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final Owner owner = new Owner( 1 );
+			owner.getItems().addAll( Arrays.asList( "a", "b", "c" ) );
+			entityManager.persist( owner );
+		} );
+
+		// Revision 2 - inserting in the middle shifts the following elements
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( Owner.class, 1 ).getItems().add( 1, "x" );
+		} );
+
+		// Revision 3 - swapping the first and last elements leaves the middle ones in place
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			Collections.swap( entityManager.find( Owner.class, 1 ).getItems(), 0, 3 );
+		} );
+
+		// Revision 4 - appending only adds the last position
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( Owner.class, 1 ).getItems().add( "d" );
+		} );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3, 4 ), getAuditReader().getRevisions( Owner.class, 1 ) );
+	}
+
+	@Test
+	public void testInsertRows() {
+		assertEquals( setOf( "0:a:ADD", "1:b:ADD", "2:c:ADD" ), getChanges( 1 ) );
+		assertEquals( setOf( "1:b:DEL", "1:x:ADD", "2:c:DEL", "2:b:ADD", "3:c:ADD" ), getChanges( 2 ) );
+		assertEquals( setOf( "4:d:ADD" ), getChanges( 4 ) );
+	}
+
+	@Test
+	public void testReorderRows() {
+		assertEquals( setOf( "0:a:DEL", "0:c:ADD", "3:c:DEL", "3:a:ADD" ), getChanges( 3 ) );
+	}
+
+	@Test
+	public void testHistoryOfList() {
+		assertEquals( Arrays.asList( "a", "b", "c" ), getAuditReader().find( Owner.class, 1, 1 ).getItems() );
+		assertEquals( Arrays.asList( "a", "x", "b", "c" ), getAuditReader().find( Owner.class, 1, 2 ).getItems() );
+		assertEquals( Arrays.asList( "c", "x", "b", "a" ), getAuditReader().find( Owner.class, 1, 3 ).getItems() );
+		assertEquals( Arrays.asList( "c", "x", "b", "a", "d" ), getAuditReader().find( Owner.class, 1, 4 ).getItems() );
+	}
+
+	/**
+	 * @return The rows of the middle table written at the revision, as index, element and revision type.
+	 */
+	private Set<String> getChanges(int revision) {
+		final EntityManager em = getEntityManager();
+		try {
+			final Set<String> changes = new HashSet<>();
+			final List<?> rows = em.createNativeQuery(
+					"select item_index, item_value, REVTYPE from PositionalList_Item_AUD where REV = :rev"
+			).setParameter( "rev", revision ).getResultList();
+			for ( Object row : rows ) {
+				final Object[] columns = (Object[]) row;
+				// numeric columns may be read as any Number, depending on the database
+				changes.add(
+						( (Number) columns[0] ).intValue() + ":" + columns[1] + ":"
+								+ RevisionType.fromRepresentation( ( (Number) columns[2] ).byteValue() )
+				);
+			}
+			return changes;
+		}
+		finally {
+			em.close();
+		}
+	}
+
+	private static Set<String> setOf(String... values) {
+		return new HashSet<>( Arrays.asList( values ) );
+	}
+}
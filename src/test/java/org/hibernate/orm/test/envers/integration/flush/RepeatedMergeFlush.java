@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.flush;
+
+import java.util.Arrays;
+import java.util.List;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.FlushMode;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Checks the audit rows of entities which are changed and flushed many times within a transaction, so that their
+ * work units are merged over and over while the work units of other entities stay queued in between.
+ */
+public class RepeatedMergeFlush extends AbstractFlushTest {
+	private static final int CHANGES = 100;
+
+	private Integer id1;
+	private Integer id2;
+	private Integer id3;
+	private Integer id4;
+
+	public FlushMode getFlushMode() {
+		return FlushMode.MANUAL;
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+
+		StrTestEntity first = new StrTestEntity( "a" );
+		StrTestEntity second = new StrTestEntity( "b" );
+		em.persist( first );
+		em.persist( second );
+		em.flush();
+
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+
+		first = em.find( StrTestEntity.class, first.getId() );
+		second = em.find( StrTestEntity.class, second.getId() );
+		final StrTestEntity added = new StrTestEntity( "c" );
+		em.persist( added );
+		em.flush();
+
+		for ( int i = 1; i <= CHANGES; i++ ) {
+			first.setStr( "a" + i );
+			em.flush();
+			added.setStr( "c" + i );
+			em.flush();
+			second.setStr( "b" + i );
+			em.flush();
+		}
+
+		final StrTestEntity removed = new StrTestEntity( "d" );
+		em.persist( removed );
+		em.flush();
+		removed.setStr( "d1" );
+		em.flush();
+		em.remove( removed );
+		em.flush();
+
+		em.getTransaction().commit();
+
+		id1 = first.getId();
+		id2 = second.getId();
+		id3 = added.getId();
+		id4 = removed.getId();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, id1 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, id2 ) );
+		assertEquals( Arrays.asList( 2 ), getAuditReader().getRevisions( StrTestEntity.class, id3 ) );
+		assertEquals( Arrays.asList(), getAuditReader().getRevisions( StrTestEntity.class, id4 ) );
+	}
+
+	@Test
+	public void testHistoryOfIds() {
+		assertEquals( new StrTestEntity( "a" + CHANGES, id1 ), getAuditReader().find( StrTestEntity.class, id1, 2 ) );
+		assertEquals( new StrTestEntity( "b" + CHANGES, id2 ), getAuditReader().find( StrTestEntity.class, id2, 2 ) );
+		assertEquals( new StrTestEntity( "c" + CHANGES, id3 ), getAuditReader().find( StrTestEntity.class, id3, 2 ) );
+		assertNull( getAuditReader().find( StrTestEntity.class, id4, 2 ) );
+	}
+
+	@Test
+	public void testRevisionTypes() {
+		@SuppressWarnings("unchecked") List<Object[]> results =
+				getAuditReader().createQuery()
+						.forRevisionsOfEntity( StrTestEntity.class, false, true )
+						.add( AuditEntity.revisionNumber().eq( 2 ) )
+						.addOrder( AuditEntity.id().asc() )
+						.getResultList();
+
+		assertEquals( 3, results.size() );
+		assertEquals( RevisionType.MOD, results.get( 0 )[2] );
+		assertEquals( RevisionType.MOD, results.get( 1 )[2] );
+		assertEquals( RevisionType.ADD, results.get( 2 )[2] );
+	}
+}
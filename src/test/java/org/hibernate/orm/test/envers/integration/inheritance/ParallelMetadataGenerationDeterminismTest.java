@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.inheritance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.entities.EntitiesConfigurations;
+import org.hibernate.envers.internal.entities.RelationDescription;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.Selectable;
+import org.hibernate.orm.test.envers.entities.StrIntTestEntity;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwnedEntity;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwningEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefEdEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefIngEntity;
+import org.hibernate.orm.test.envers.integration.inheritance.joined.relation.ChildIngEntity;
+import org.hibernate.orm.test.envers.integration.inheritance.joined.relation.ParentIngEntity;
+import org.hibernate.orm.test.envers.integration.inheritance.joined.relation.ReferencedEntity;
+import org.hibernate.orm.test.envers.integration.inheritance.tableperclass.ChildEntity;
+import org.hibernate.orm.test.envers.integration.inheritance.tableperclass.ParentEntity;
+
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Checks that the audit mappings and entity configurations generated by several threads are the same as those
+ * generated by the booting thread alone.
+ * <p>
+ * The first pass of each hierarchy is generated by a single thread, in topological order, and only writes to the
+ * {@code EntityMappingData} of its own classes and to the concurrent registries of entity configurations, audit
+ * entity names and joins; the annotation reading and the second pass, which resolve relations across hierarchies,
+ * run on the booting thread once all the first passes are done.
+ */
+public class ParallelMetadataGenerationDeterminismTest {
+	private static final Class<?>[] ANNOTATED_CLASSES = {
+			ParentIngEntity.class,
+			ChildIngEntity.class,
+			ReferencedEntity.class,
+			ParentEntity.class,
+			ChildEntity.class,
+			SetRefEdEntity.class,
+			SetRefIngEntity.class,
+			SetOwningEntity.class,
+			SetOwnedEntity.class,
+			StrIntTestEntity.class
+	};
+
+	@Test
+	public void testParallelGenerationMatchesSerialGeneration() {
+		final Map<String, String> serialMappings = describeAuditMappings( 1 );
+		assertFalse( serialMappings.isEmpty() );
+
+		// repeated, as a race would not show up on each run
+		for ( int i = 0; i < 5; i++ ) {
+			assertEquals( serialMappings, describeAuditMappings( 4 ) );
+		}
+	}
+
+	/**
+	 * @return The description of the audit entity bindings and of the relations of the audited entities, by name.
+	 */
+	private static Map<String, String> describeAuditMappings(int threads) {
+		final StandardServiceRegistry ssr = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( EnversSettings.METADATA_GENERATION_THREADS, threads )
+				.build();
+		try {
+			final MetadataSources sources = new MetadataSources( ssr );
+			for ( Class<?> annotatedClass : ANNOTATED_CLASSES ) {
+				sources.addAnnotatedClass( annotatedClass );
+			}
+			final Metadata metadata = sources.buildMetadata();
+			final EntitiesConfigurations entitiesConfigurations = ssr.getService( EnversService.class )
+					.getEntitiesConfigurations();
+
+			final Map<String, String> descriptions = new TreeMap<>();
+			for ( PersistentClass persistentClass : metadata.getEntityBindings() ) {
+				final String entityName = persistentClass.getEntityName();
+				final String auditedEntityName = entitiesConfigurations.getEntityNameForVersionsEntityName( entityName );
+				if ( auditedEntityName != null ) {
+					descriptions.put( entityName, describeBinding( persistentClass ) );
+					descriptions.put(
+							auditedEntityName,
+							describeRelations( entitiesConfigurations.get( auditedEntityName ).getRelationDescriptions() )
+					);
+				}
+			}
+			return descriptions;
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( ssr );
+		}
+	}
+
+	private static String describeBinding(PersistentClass persistentClass) {
+		final Map<String, List<String>> columns = new TreeMap<>();
+		for ( Property property : persistentClass.getPropertyClosure() ) {
+			final List<String> propertyColumns = new ArrayList<>();
+			for ( Selectable selectable : property.getSelectables() ) {
+				propertyColumns.add( selectable.getText() );
+			}
+			columns.put( property.getName(), propertyColumns );
+		}
+		return persistentClass.getTable().getName()
+				+ " extends " + ( persistentClass.getSuperclass() == null ? null : persistentClass.getSuperclass().getEntityName() )
+				+ " " + columns;
+	}
+
+	private static String describeRelations(Iterable<RelationDescription> relations) {
+		final Map<String, String> descriptions = new TreeMap<>();
+		for ( RelationDescription relation : relations ) {
+			descriptions.put(
+					relation.getFromPropertyName(),
+					relation.getRelationType() + " " + relation.getToEntityName() + " " + relation.getMappedByPropertyName()
+			);
+		}
+		return descriptions.toString();
+	}
+}
@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.inheritance.joined.relation;
+
+import java.util.Map;
+
+import org.hibernate.envers.configuration.EnversSettings;
+
+/**
+ * Runs the polymorphic collection tests with the audit mappings of the entity hierarchies generated by several
+ * threads.
+ */
+public class PolymorphicCollectionParallelMetadataGenerationTest extends PolymorphicCollection {
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.METADATA_GENERATION_THREADS, 2 );
+	}
+}
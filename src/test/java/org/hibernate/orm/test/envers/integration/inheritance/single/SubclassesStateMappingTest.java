@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.inheritance.single;
+
+import java.util.Arrays;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import org.hibernate.envers.Audited;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the state mappings compiled for each persister of a hierarchy, and the accessors of the properties of the
+ * root entity on each of its subclasses, when the entities of several subclasses are written and read in turn.
+ */
+public class SubclassesStateMappingTest extends BaseEnversJPAFunctionalTestCase {
+	@Audited
+	@Entity(name = "MappedParent")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class Parent {
+		@Id
+		private Integer id;
+		private String data;
+		private int number;
+
+		public Parent() {
+		}
+
+		public Parent(Integer id, String data, int number) {
+			this.id = id;
+			this.data = data;
+			this.number = number;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getData() {
+			return data;
+		}
+
+		public void setData(String data) {
+			this.data = data;
+		}
+
+		public int getNumber() {
+			return number;
+		}
+
+		public void setNumber(int number) {
+			this.number = number;
+		}
+	}
+
+	@Audited
+	@Entity(name = "MappedChildA")
+	public static class ChildA extends Parent {
+		private String a;
+
+		public ChildA() {
+		}
+
+		public ChildA(Integer id, String data, int number, String a) {
+			super( id, data, number );
+			this.a = a;
+		}
+
+		public String getA() {
+			return a;
+		}
+
+		public void setA(String a) {
+			this.a = a;
+		}
+	}
+
+	@Audited
+	@Entity(name = "MappedChildB")
+	public static class ChildB extends Parent {
+		private Long b;
+
+		public ChildB() {
+		}
+
+		public ChildB(Integer id, String data, int number, Long b) {
+			super( id, data, number );
+			this.b = b;
+		}
+
+		public Long getB() {
+			return b;
+		}
+
+		public void setB(Long b) {
+			this.b = b;
+		}
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Parent.class, ChildA.class, ChildB.class };
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		em.persist( new Parent( 1, "p", 1 ) );
+		em.persist( new ChildA( 2, "a", 2, "a1" ) );
+		em.persist( new ChildB( 3, "b", 3, 1L ) );
+		em.getTransaction().commit();
+
+		// Revision 2 - the properties of the root entity and of the subclasses, in turn
+		em.getTransaction().begin();
+		final ChildA childA = em.find( ChildA.class, 2 );
+		final ChildB childB = em.find( ChildB.class, 3 );
+		final Parent parent = em.find( Parent.class, 1 );
+		childA.setData( "a2" );
+		childB.setB( 2L );
+		parent.setNumber( 10 );
+		childA.setA( "a2" );
+		childB.setData( "b2" );
+		em.getTransaction().commit();
+
+		// Revision 3 - only the subclasses
+		em.getTransaction().begin();
+		em.find( ChildB.class, 3 ).setNumber( 30 );
+		em.find( ChildA.class, 2 ).setNumber( 20 );
+		em.getTransaction().commit();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( Parent.class, 1 ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( ChildA.class, 2 ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( ChildB.class, 3 ) );
+	}
+
+	@Test
+	public void testHistoryOfEntitiesReadInTurn() {
+		for ( int revision = 1; revision <= 3; revision++ ) {
+			final ChildA childA = getAuditReader().find( ChildA.class, 2, revision );
+			final Parent parent = getAuditReader().find( Parent.class, 1, revision );
+			final ChildB childB = getAuditReader().find( ChildB.class, 3, revision );
+
+			assertEquals( "p", parent.getData() );
+			assertEquals( revision == 1 ? 1 : 10, parent.getNumber() );
+
+			assertEquals( revision == 1 ? "a" : "a2", childA.getData() );
+			assertEquals( revision == 3 ? 20 : 2, childA.getNumber() );
+			assertEquals( revision == 1 ? "a1" : "a2", childA.getA() );
+
+			assertEquals( revision == 1 ? "b" : "b2", childB.getData() );
+			assertEquals( revision == 3 ? 30 : 3, childB.getNumber() );
+			assertEquals( Long.valueOf( revision == 1 ? 1L : 2L ), childB.getB() );
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.jfr.AuditFlushEvent;
+import org.hibernate.envers.internal.jfr.AuditQueryEvent;
+import org.hibernate.envers.internal.jfr.RevisionEndUpdateEvent;
+import org.hibernate.envers.strategy.internal.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the flight recorder events of the audit write and read paths are emitted while recording.
+ */
+public class AuditEventsTest extends BaseEnversJPAFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+	}
+
+	@Test
+	public void testEvents() throws Exception {
+		final List<RecordedEvent> events;
+		try (Recording recording = new Recording()) {
+			recording.enable( AuditFlushEvent.NAME );
+			recording.enable( RevisionEndUpdateEvent.NAME );
+			recording.enable( AuditQueryEvent.NAME );
+			recording.start();
+
+			final EntityManager em = getEntityManager();
+			em.getTransaction().begin();
+			final StrTestEntity entity = new StrTestEntity( "x" );
+			em.persist( entity );
+			em.getTransaction().commit();
+
+			em.getTransaction().begin();
+			em.find( StrTestEntity.class, entity.getId() ).setStr( "y" );
+			em.getTransaction().commit();
+
+			getAuditReader().createQuery().forRevisionsOfEntity( StrTestEntity.class, true, false ).getResultList();
+			em.close();
+
+			recording.stop();
+			final Path file = Files.createTempFile( "envers", ".jfr" );
+			try {
+				recording.dump( file );
+				events = RecordingFile.readAllEvents( file );
+			}
+			finally {
+				Files.delete( file );
+			}
+		}
+
+		final List<RecordedEvent> flushEvents = getEvents( events, AuditFlushEvent.NAME );
+		assertEquals( 2, flushEvents.size() );
+		assertEquals( 1, flushEvents.get( 0 ).getInt( "workUnits" ) );
+
+		final List<RecordedEvent> revisionEndUpdateEvents = getEvents( events, RevisionEndUpdateEvent.NAME );
+		assertEquals( 1, revisionEndUpdateEvents.size() );
+		assertEquals( 1, revisionEndUpdateEvents.get( 0 ).getInt( "updatedRows" ) );
+
+		final List<RecordedEvent> queryEvents = getEvents( events, AuditQueryEvent.NAME );
+		assertEquals( 1, queryEvents.size() );
+		assertEquals( StrTestEntity.class.getName(), queryEvents.get( 0 ).getString( "entityName" ) );
+		assertEquals( 2, queryEvents.get( 0 ).getInt( "rows" ) );
+		assertTrue( queryEvents.get( 0 ).getLong( "queryExecutionTime" ) > 0 );
+	}
+
+	private static List<RecordedEvent> getEvents(List<RecordedEvent> events, String name) {
+		return events.stream().filter( event -> event.getEventType().getName().equals( name ) ).toList();
+	}
+}
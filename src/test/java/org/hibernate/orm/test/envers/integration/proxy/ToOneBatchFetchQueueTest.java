@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.proxy;
+
+import java.util.Arrays;
+
+import org.hibernate.envers.internal.reader.ToOneBatchFetchQueue;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the identifiers pending for the longest time are dropped from a bounded batch fetch queue.
+ */
+public class ToOneBatchFetchQueueTest {
+	@Test
+	public void testEldestPendingIdsAreDropped() {
+		// at most 64 batches of 3 identifiers are kept, across entities and revisions
+		final ToOneBatchFetchQueue queue = new ToOneBatchFetchQueue( 3 );
+		for ( int i = 0; i < 100; i++ ) {
+			queue.addPendingId( "Entity", 1, false, i );
+		}
+		for ( int i = 0; i < 100; i++ ) {
+			queue.addPendingId( "Entity", 2, false, i );
+		}
+
+		// 8 identifiers of the first revision were dropped
+		assertEquals( Arrays.asList( 99, 8, 9 ), queue.takeBatch( "Entity", 1, false, 99, 3 ) );
+		assertEquals( Arrays.asList( 0, 1, 2 ), queue.takeBatch( "Entity", 2, false, 0, 3 ) );
+
+		queue.clear();
+		assertEquals( Arrays.asList( 10 ), queue.takeBatch( "Entity", 1, false, 10, 3 ) );
+	}
+}
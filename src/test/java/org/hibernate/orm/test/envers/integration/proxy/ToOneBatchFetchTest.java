@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.proxy;
+
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefEdEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefIngEntity;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the proxies of audited *-to-one associations at the same revision are initialized in batches.
+ */
+public class ToOneBatchFetchTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 5;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.TO_ONE_BATCH_FETCH_SIZE, "3" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final SetRefEdEntity ed = new SetRefEdEntity( i, "ed" + i );
+			em.persist( ed );
+			em.persist( new SetRefIngEntity( 100 + i, "ing" + i, ed ) );
+		}
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testBatchedInitialization() {
+		final AuditReader auditReader = AuditReaderFactory.get( getEntityManager() );
+		final List<SetRefIngEntity> ings = auditReader.createQuery()
+				.forEntitiesAtRevision( SetRefIngEntity.class, 1 )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultList();
+		assertEquals( ENTITY_COUNT, ings.size() );
+
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			assertEquals( "ed" + i, ings.get( i ).getReference().getData() );
+		}
+
+		// batches of 3 and 2 entities
+		assertEquals( 2, statistics.getQueryExecutionCount() );
+	}
+}
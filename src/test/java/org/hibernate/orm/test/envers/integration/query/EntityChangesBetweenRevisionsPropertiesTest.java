@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.Collections;
+import java.util.List;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+
+import org.hibernate.envers.Audited;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the names of the changed properties of the entity changes between revisions, for a property whose name
+ * prefixes the name of another one, and for a property with a modified flag which is changed back to its value.
+ */
+public class EntityChangesBetweenRevisionsPropertiesTest extends BaseEnversJPAFunctionalTestCase {
+	@Audited
+	@Entity(name = "ChangedProperties")
+	public static class ChangedProperties {
+		@Id
+		private Integer id;
+		private String a;
+		private String a_b;
+		@Audited(withModifiedFlag = true)
+		private String flagged;
+
+		public ChangedProperties() {
+		}
+
+		public ChangedProperties(Integer id, String a, String a_b, String flagged) {
+			this.id = id;
+			this.a = a;
+			this.a_b = a_b;
+			this.flagged = flagged;
+		}
+
+		public void setA_b(String a_b) {
+			this.a_b = a_b;
+		}
+
+		public void setFlagged(String flagged) {
+			this.flagged = flagged;
+		}
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { ChangedProperties.class };
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		em.persist( new ChangedProperties( 1, "a", "x", "f" ) );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( ChangedProperties.class, 1 ).setA_b( "y" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.find( ChangedProperties.class, 1 ).setFlagged( "g" );
+		em.getTransaction().commit();
+
+		// Revision 4 - back to the value at revision 2
+		em.getTransaction().begin();
+		em.find( ChangedProperties.class, 1 ).setFlagged( "f" );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testPropertyPrefixingAnotherProperty() {
+		assertEquals( Collections.singleton( "a_b" ), getChangedPropertyNames( 1, 2 ) );
+	}
+
+	@Test
+	public void testPropertyWithModifiedFlag() {
+		assertEquals( Collections.singleton( "flagged" ), getChangedPropertyNames( 2, 4 ) );
+	}
+
+	private Object getChangedPropertyNames(int fromRevision, int toRevision) {
+		final List results = getAuditReader().createQuery()
+				.forEntityChangesBetweenRevisions( ChangedProperties.class, fromRevision, toRevision )
+				.getResultList();
+		assertEquals( 1, results.size() );
+		return ( (Object[]) results.get( 0 ) )[3];
+	}
+}
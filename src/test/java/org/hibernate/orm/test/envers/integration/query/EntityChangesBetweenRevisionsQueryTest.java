@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrIntTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class EntityChangesBetweenRevisionsQueryTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+	private Integer id3;
+	private Integer id4;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] {StrIntTestEntity.class};
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrIntTestEntity ent1 = new StrIntTestEntity( "a", 1 );
+		StrIntTestEntity ent2 = new StrIntTestEntity( "b", 2 );
+		StrIntTestEntity ent3 = new StrIntTestEntity( "c", 3 );
+		em.persist( ent1 );
+		em.persist( ent2 );
+		em.persist( ent3 );
+		em.getTransaction().commit();
+		id1 = ent1.getId();
+		id2 = ent2.getId();
+		id3 = ent3.getId();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrIntTestEntity.class, id1 ).setStr1( "x" );
+		em.remove( em.find( StrIntTestEntity.class, id2 ) );
+		StrIntTestEntity ent4 = new StrIntTestEntity( "d", 4 );
+		em.persist( ent4 );
+		em.getTransaction().commit();
+		id4 = ent4.getId();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.find( StrIntTestEntity.class, id1 ).setNumber( 10 );
+		em.find( StrIntTestEntity.class, id3 ).setStr1( "y" );
+		em.getTransaction().commit();
+
+		// Revision 4
+		em.getTransaction().begin();
+		em.find( StrIntTestEntity.class, id3 ).setStr1( "c" );
+		StrIntTestEntity ent5 = new StrIntTestEntity( "e", 5 );
+		em.persist( ent5 );
+		em.getTransaction().commit();
+
+		// Revision 5
+		em.getTransaction().begin();
+		em.remove( em.find( StrIntTestEntity.class, ent5.getId() ) );
+		em.getTransaction().commit();
+
+		em.close();
+	}
+
+	@Test
+	public void testChangesBetweenFirstRevisions() {
+		final Map<Integer, Object[]> changes = getChanges( 1, 3 );
+		assertEquals( 4, changes.size() );
+
+		assertArrayEquals(
+				new Object[] {
+						new StrIntTestEntity( "a", 1, id1 ),
+						new StrIntTestEntity( "x", 10, id1 ),
+						RevisionType.MOD,
+						new HashSet<>( Arrays.asList( "str1", "number" ) )
+				},
+				changes.get( id1 )
+		);
+		assertArrayEquals(
+				new Object[] { new StrIntTestEntity( "b", 2, id2 ), null, RevisionType.DEL, allProperties() },
+				changes.get( id2 )
+		);
+		assertArrayEquals(
+				new Object[] {
+						new StrIntTestEntity( "c", 3, id3 ),
+						new StrIntTestEntity( "y", 3, id3 ),
+						RevisionType.MOD,
+						Collections.singleton( "str1" )
+				},
+				changes.get( id3 )
+		);
+		assertArrayEquals(
+				new Object[] { null, new StrIntTestEntity( "d", 4, id4 ), RevisionType.ADD, allProperties() },
+				changes.get( id4 )
+		);
+	}
+
+	@Test
+	public void testUnchangedEntitiesAreExcluded() {
+		final Map<Integer, Object[]> changes = getChanges( 2, 3 );
+		assertEquals( new HashSet<>( Arrays.asList( id1, id3 ) ), changes.keySet() );
+		assertEquals( Collections.singleton( "number" ), changes.get( id1 )[3] );
+	}
+
+	@Test
+	public void testRestoredEntity() {
+		final Map<Integer, Object[]> changes = getChanges( 1, 4 );
+		assertEquals( RevisionType.MOD, changes.get( id3 )[2] );
+		assertEquals( changes.get( id3 )[0], changes.get( id3 )[1] );
+		assertEquals( Collections.emptySet(), changes.get( id3 )[3] );
+	}
+
+	@Test
+	public void testEntityAddedAndRemovedBetweenRevisionsIsExcluded() {
+		assertEquals( Collections.singleton( id3 ), getChanges( 3, 5 ).keySet() );
+	}
+
+	@Test
+	public void testChangesWithCriterion() {
+		final List results = getAuditReader().createQuery()
+				.forEntityChangesBetweenRevisions( StrIntTestEntity.class, 1, 3 )
+				.add( AuditEntity.id().eq( id1 ) )
+				.getResultList();
+		assertEquals( 1, results.size() );
+		assertEquals( new StrIntTestEntity( "x", 10, id1 ), ( (Object[]) results.get( 0 ) )[1] );
+	}
+
+	@Test
+	public void testChangesWithPropertyCriterion() {
+		// the criterion selects the entity by its state at the second revision, not the rows of its changes
+		final List results = getAuditReader().createQuery()
+				.forEntityChangesBetweenRevisions( StrIntTestEntity.class, 1, 3 )
+				.add( AuditEntity.property( "str1" ).eq( "x" ) )
+				.getResultList();
+		assertEquals( 1, results.size() );
+		assertArrayEquals(
+				new Object[] {
+						new StrIntTestEntity( "a", 1, id1 ),
+						new StrIntTestEntity( "x", 10, id1 ),
+						RevisionType.MOD,
+						allProperties()
+				},
+				(Object[]) results.get( 0 )
+		);
+
+		// or by its state at the first revision
+		final List removed = getAuditReader().createQuery()
+				.forEntityChangesBetweenRevisions( StrIntTestEntity.class, 1, 3 )
+				.add( AuditEntity.property( "str1" ).eq( "b" ) )
+				.getResultList();
+		assertEquals( 1, removed.size() );
+		assertEquals( RevisionType.DEL, ( (Object[]) removed.get( 0 ) )[2] );
+	}
+
+	private Map<Integer, Object[]> getChanges(int fromRevision, int toRevision) {
+		final List results = getAuditReader().createQuery()
+				.forEntityChangesBetweenRevisions( StrIntTestEntity.class, fromRevision, toRevision )
+				.getResultList();
+		final Map<Integer, Object[]> changes = new HashMap<>();
+		for ( Object result : results ) {
+			final Object[] row = (Object[]) result;
+			final StrIntTestEntity entity = (StrIntTestEntity) ( row[1] != null ? row[1] : row[0] );
+			changes.put( entity.getId(), row );
+		}
+		return changes;
+	}
+
+	private static Set<String> allProperties() {
+		return new HashSet<>( Arrays.asList( "str1", "number" ) );
+	}
+}
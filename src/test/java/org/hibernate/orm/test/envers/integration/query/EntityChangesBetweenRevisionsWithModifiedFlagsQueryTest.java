@@ -0,0 +1,20 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.Map;
+
+import org.hibernate.envers.configuration.EnversSettings;
+
+/**
+ * Runs the queries of entity changes between revisions with modified flags, which must not change the net changes.
+ */
+public class EntityChangesBetweenRevisionsWithModifiedFlagsQueryTest extends EntityChangesBetweenRevisionsQueryTest {
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.GLOBAL_WITH_MODIFIED_FLAG, Boolean.TRUE );
+	}
+}
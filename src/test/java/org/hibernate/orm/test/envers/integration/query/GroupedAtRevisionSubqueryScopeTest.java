@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefEdEntity;
+import org.hibernate.orm.test.envers.entities.onetomany.SetRefIngEntity;
+import org.hibernate.orm.test.envers.tools.TestTools;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that only the queries of entities at a revision which are not restricted by identifier use the grouped
+ * subquery, and that finding entities and loading their relations keep the correlated subquery.
+ */
+public class GroupedAtRevisionSubqueryScopeTest extends BaseEnversJPAFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetRefEdEntity.class, SetRefIngEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AT_REVISION_SUBQUERY_MODE, "grouped" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final SetRefEdEntity ed1 = new SetRefEdEntity( 1, "data_ed_1" );
+		final SetRefEdEntity ed2 = new SetRefEdEntity( 2, "data_ed_2" );
+		em.persist( ed1 );
+		em.persist( ed2 );
+		final SetRefIngEntity ing1 = new SetRefIngEntity( 3, "data_ing_1", ed1 );
+		final SetRefIngEntity ing2 = new SetRefIngEntity( 4, "data_ing_2", ed1 );
+		em.persist( ing1 );
+		em.persist( ing2 );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( SetRefIngEntity.class, 3 ).setReference( em.find( SetRefEdEntity.class, 2 ) );
+		em.getTransaction().commit();
+	}
+
+	@Test
+	public void testFindUsesCorrelatedSubquery() {
+		final Statistics statistics = getStatistics();
+		statistics.clear();
+
+		final SetRefIngEntity ing1 = getAuditReader().find( SetRefIngEntity.class, 3, 2 );
+		assertEquals( "data_ing_1", ing1.getData() );
+		assertFalse( isGroupedSubqueryExecuted( statistics ) );
+	}
+
+	@Test
+	public void testRelationsUseCorrelatedSubquery() {
+		final SetRefEdEntity ed1 = getAuditReader().find( SetRefEdEntity.class, 1, 2 );
+		final SetRefIngEntity ing1 = getAuditReader().find( SetRefIngEntity.class, 3, 1 );
+		final Statistics statistics = getStatistics();
+		statistics.clear();
+
+		assertEquals( TestTools.makeSet( new SetRefIngEntity( 4, "data_ing_2" ) ), ed1.getReffering() );
+		assertEquals( new SetRefEdEntity( 1, "data_ed_1" ), ing1.getReference() );
+		assertFalse( isGroupedSubqueryExecuted( statistics ) );
+	}
+
+	@Test
+	public void testEntitiesAtRevisionUseGroupedSubquery() {
+		final Statistics statistics = getStatistics();
+		statistics.clear();
+
+		final List results = getAuditReader().createQuery()
+				.forEntitiesAtRevision( SetRefIngEntity.class, 2 )
+				.add( AuditEntity.property( "data" ).like( "data_ing%" ) )
+				.getResultList();
+		assertEquals(
+				TestTools.makeSet( new SetRefIngEntity( 3, "data_ing_1" ), new SetRefIngEntity( 4, "data_ing_2" ) ),
+				TestTools.makeSet( results.toArray() )
+		);
+		assertTrue( isGroupedSubqueryExecuted( statistics ) );
+	}
+
+	@Test
+	public void testEntitiesAtRevisionByIdUseCorrelatedSubquery() {
+		final Statistics statistics = getStatistics();
+		statistics.clear();
+
+		final List results = getAuditReader().createQuery()
+				.forEntitiesAtRevision( SetRefIngEntity.class, 2 )
+				.add( AuditEntity.id().eq( 4 ) )
+				.getResultList();
+		assertEquals( Arrays.asList( new SetRefIngEntity( 4, "data_ing_2" ) ), results );
+		assertFalse( isGroupedSubqueryExecuted( statistics ) );
+	}
+
+	private Statistics getStatistics() {
+		return entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+	}
+
+	private static boolean isGroupedSubqueryExecuted(Statistics statistics) {
+		for ( String query : statistics.getQueries() ) {
+			if ( query.contains( " group by " ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
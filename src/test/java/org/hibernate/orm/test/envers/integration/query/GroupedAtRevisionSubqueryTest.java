@@ -0,0 +1,20 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.Map;
+
+import org.hibernate.envers.configuration.EnversSettings;
+
+/**
+ * Runs the simple queries with the highest revision of each entity read by a subquery grouped by identifier.
+ */
+public class GroupedAtRevisionSubqueryTest extends SimpleQuery {
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AT_REVISION_SUBQUERY_MODE, "grouped" );
+	}
+}
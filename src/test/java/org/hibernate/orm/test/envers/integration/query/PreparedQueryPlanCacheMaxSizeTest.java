@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.tools.query.QueryPlanCache;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.AuditQueryParameter;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the plans of prepared audit queries are no longer kept once the maximum size is reached, while the
+ * queries of new names are still executed.
+ */
+public class PreparedQueryPlanCacheMaxSizeTest extends BaseEnversJPAFunctionalTestCase {
+	private static final AuditQueryParameter<String> STR = AuditEntity.parameter( "str", String.class );
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.QUERY_PLAN_CACHE_MAX_SIZE, "1" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		em.persist( new StrTestEntity( "a" ) );
+		em.persist( new StrTestEntity( "b" ) );
+		em.getTransaction().commit();
+	}
+
+	@Test
+	public void testPlansBeyondMaxSizeAreNotKept() {
+		final QueryPlanCache queryPlanCache = serviceRegistry().getService( EnversService.class ).getQueryPlanCache();
+
+		for ( String name : new String[] { "first", "second", "third" } ) {
+			final Object count = getAuditReader().createQuery()
+					.prepare(
+							name,
+							creator -> creator.forEntitiesAtRevision( StrTestEntity.class, 1 )
+									.addProjection( AuditEntity.id().count() )
+									.add( AuditEntity.property( "str" ).ne( STR ) )
+					)
+					.setParameter( STR, "a" )
+					.getSingleResult();
+			assertEquals( 1L, count );
+		}
+
+		assertEquals( 1, queryPlanCache.size() );
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.exception.AuditException;
+import org.hibernate.envers.internal.tools.query.QueryPlanCache;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.AuditQueryParameter;
+import org.hibernate.envers.query.PreparedAuditQuery;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrIntTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that prepared audit queries keep their plan per name and rendered query, and bind their parameters on each
+ * execution.
+ */
+public class PreparedQueryTest extends BaseEnversJPAFunctionalTestCase {
+	private static final AuditQueryParameter<Integer> NUMBER = AuditEntity.parameter( "number", Integer.class );
+	private static final AuditQueryParameter<Integer> ID = AuditEntity.parameter( "id", Integer.class );
+
+	private Integer id1;
+	private Integer id2;
+	private Integer id3;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrIntTestEntity.class };
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrIntTestEntity entity1 = new StrIntTestEntity( "a", 10 );
+		StrIntTestEntity entity2 = new StrIntTestEntity( "b", 20 );
+		StrIntTestEntity entity3 = new StrIntTestEntity( "c", 30 );
+		em.persist( entity1 );
+		em.persist( entity2 );
+		em.persist( entity3 );
+		em.getTransaction().commit();
+		id1 = entity1.getId();
+		id2 = entity2.getId();
+		id3 = entity3.getId();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrIntTestEntity.class, id1 ).setNumber( 20 );
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Test
+	public void testEntitiesAtRevision() {
+		final PreparedAuditQuery query = prepareEntitiesAtRevision( 1 );
+		assertEquals( Arrays.asList( id2 ), getIds( query.setParameter( NUMBER, 20 ).getResultList() ) );
+		assertEquals( Arrays.asList( id3 ), getIds( query.setParameter( NUMBER, 30 ).getResultList() ) );
+
+		assertEquals(
+				Arrays.asList( id1, id2 ),
+				getIds( prepareEntitiesAtRevision( 2 ).setParameter( NUMBER, 20 ).getResultList() )
+		);
+		assertEquals(
+				Arrays.asList( id2 ),
+				getIds( prepareEntitiesAtRevision( 1 ).setParameter( "number", 20 ).getResultList() )
+		);
+	}
+
+	@Test
+	public void testQueryPlanIsShared() {
+		final QueryPlanCache queryPlanCache = serviceRegistry().getService( EnversService.class ).getQueryPlanCache();
+		final int size = queryPlanCache.size();
+
+		for ( Integer id : Arrays.asList( id1, id2, id3 ) ) {
+			final List<?> revisions = getAuditReader().createQuery()
+					.prepare(
+							"revisionsOfEntity",
+							creator -> creator.forRevisionsOfEntity( StrIntTestEntity.class, true, true )
+									.add( AuditEntity.id().eq( ID ) )
+					)
+					.setParameter( ID, id )
+					.getResultList();
+			assertEquals( id.equals( id1 ) ? 2 : 1, revisions.size() );
+		}
+
+		assertEquals( size + 1, queryPlanCache.size() );
+	}
+
+	@Test
+	public void testSameNameWithDifferentShapes() {
+		final QueryPlanCache queryPlanCache = serviceRegistry().getService( EnversService.class ).getQueryPlanCache();
+		final int size = queryPlanCache.size();
+
+		final List<?> entities = getAuditReader().createQuery()
+				.prepare(
+						"sharedName",
+						creator -> creator.forEntitiesAtRevision( StrIntTestEntity.class, 2 )
+								.add( AuditEntity.property( "number" ).eq( NUMBER ) )
+				)
+				.setParameter( NUMBER, 20 )
+				.getResultList();
+		assertEquals( 2, entities.size() );
+
+		// a different definition under the same name gets its own plan
+		final List<?> revisions = getAuditReader().createQuery()
+				.prepare(
+						"sharedName",
+						creator -> creator.forRevisionsOfEntity( StrIntTestEntity.class, false, true )
+								.addProjection( AuditEntity.revisionNumber() )
+								.add( AuditEntity.id().eq( ID ) )
+				)
+				.setParameter( ID, id1 )
+				.getResultList();
+		assertEquals( Arrays.asList( 1, 2 ), revisions );
+
+		assertEquals( size + 2, queryPlanCache.size() );
+	}
+
+	@Test
+	public void testSameNameWithDifferentProperties() {
+		assertEquals(
+				Arrays.asList( id3 ),
+				getIds( prepareEntitiesAtRevision2( "sameShape", "number", 30, true ).getResultList() )
+		);
+		assertEquals(
+				Arrays.asList( id1 ),
+				getIds( prepareEntitiesAtRevision2( "sameShape", "id", id1, true ).getResultList() )
+		);
+	}
+
+	@Test
+	public void testSameNameWithDifferentOperators() {
+		final List<?> greater = getAuditReader().createQuery()
+				.prepare(
+						"sameShapeOperator",
+						creator -> creator.forEntitiesAtRevision( StrIntTestEntity.class, 2 )
+								.add( AuditEntity.property( "number" ).gt( NUMBER ) )
+				)
+				.setParameter( NUMBER, 20 )
+				.getResultList();
+		assertEquals( Arrays.asList( id3 ), getIds( greater ) );
+
+		final List<?> lower = getAuditReader().createQuery()
+				.prepare(
+						"sameShapeOperator",
+						creator -> creator.forEntitiesAtRevision( StrIntTestEntity.class, 2 )
+								.add( AuditEntity.property( "number" ).lt( NUMBER ) )
+				)
+				.setParameter( NUMBER, 30 )
+				.getResultList();
+		assertEquals( 2, lower.size() );
+	}
+
+	@Test
+	public void testSameNameWithDifferentValues() {
+		for ( String str : Arrays.asList( "a", "b", "c" ) ) {
+			final List<?> entities = getAuditReader().createQuery()
+					.prepare(
+							"sameShapeValue",
+							creator -> creator.forEntitiesAtRevision( StrIntTestEntity.class, 2 )
+									.add( AuditEntity.property( "str" ).eq( str ) )
+					)
+					.getResultList();
+			assertEquals( 1, entities.size() );
+			assertEquals( str, ( (StrIntTestEntity) entities.get( 0 ) ).getStr() );
+		}
+	}
+
+	@Test
+	public void testSameNameWithDifferentOrders() {
+		assertEquals(
+				Arrays.asList( id1, id2 ),
+				getIds( prepareEntitiesAtRevision2( "sameShapeOrder", "number", 20, true ).getResultList() )
+		);
+		assertEquals(
+				Arrays.asList( id2, id1 ),
+				getIds( prepareEntitiesAtRevision2( "sameShapeOrder", "number", 20, false ).getResultList() )
+		);
+	}
+
+	@Test(expected = AuditException.class)
+	public void testUnboundParameter() {
+		prepareEntitiesAtRevision( 1 ).getResultList();
+	}
+
+	private PreparedAuditQuery prepareEntitiesAtRevision(Number revision) {
+		return getAuditReader().createQuery().prepare(
+				"entitiesAtRevisionByNumber",
+				creator -> creator.forEntitiesAtRevision( StrIntTestEntity.class, revision )
+						.add( AuditEntity.property( "number" ).eq( NUMBER ) )
+						.addOrder( AuditEntity.id().asc() )
+		);
+	}
+
+	private PreparedAuditQuery prepareEntitiesAtRevision2(String name, String propertyName, Integer value, boolean ascending) {
+		return getAuditReader().createQuery()
+				.prepare(
+						name,
+						creator -> creator.forEntitiesAtRevision( StrIntTestEntity.class, 2 )
+								.add( AuditEntity.property( propertyName ).eq( NUMBER ) )
+								.addOrder( ascending ? AuditEntity.id().asc() : AuditEntity.id().desc() )
+				)
+				.setParameter( NUMBER, value );
+	}
+
+	private static List<Integer> getIds(List<?> entities) {
+		return entities.stream().map( e -> ( (StrIntTestEntity) e ).getId() ).collect( Collectors.toList() );
+	}
+}
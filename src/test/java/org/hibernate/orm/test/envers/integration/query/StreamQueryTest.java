@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.enhanced.SequenceIdRevisionEntity;
+import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that streamed audit query results match the results of the corresponding list queries.
+ */
+public class StreamQueryTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		StrTestEntity entity1 = new StrTestEntity( "a" );
+		StrTestEntity entity2 = new StrTestEntity( "b" );
+		em.persist( entity1 );
+		em.persist( entity2 );
+		em.getTransaction().commit();
+		id1 = entity1.getId();
+		id2 = entity2.getId();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id1 ).setStr( "c" );
+		em.getTransaction().commit();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, id2 ) );
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Test
+	public void testStreamRevisionsOfEntity() {
+		try ( Stream<?> stream = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrTestEntity.class, true, true )
+				.add( AuditEntity.id().eq( id1 ) )
+				.setFetchSize( 1 )
+				.getResultStream() ) {
+			final List<String> values = stream.map( e -> ( (StrTestEntity) e ).getStr() ).collect( Collectors.toList() );
+			assertEquals( Arrays.asList( "a", "c" ), values );
+		}
+	}
+
+	@Test
+	public void testStreamRevisionsOfEntityWithRevisionData() {
+		try ( Stream<?> stream = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrTestEntity.class, false, true )
+				.add( AuditEntity.id().eq( id2 ) )
+				.getResultStream() ) {
+			final List<RevisionType> revisionTypes = stream.map( row -> (RevisionType) ( (Object[]) row )[2] )
+					.collect( Collectors.toList() );
+			assertEquals( Arrays.asList( RevisionType.ADD, RevisionType.DEL ), revisionTypes );
+		}
+	}
+
+	@Test
+	public void testStreamRevisionInfoEvictsRevisionEntities() {
+		final AuditReader auditReader = getAuditReader();
+		try ( Stream<?> stream = auditReader.createQuery()
+				.forRevisionsOfEntity( StrTestEntity.class, true )
+				.add( AuditEntity.id().eq( id2 ) )
+				.getResultStream() ) {
+			final List<?> revisions = stream.collect( Collectors.toList() );
+			assertEquals( 2, revisions.size() );
+			for ( Object revision : revisions ) {
+				assertFalse( getEntityManager().contains( revision ) );
+			}
+			assertEquals( 1, ( (SequenceIdRevisionEntity) revisions.get( 0 ) ).getId() );
+			assertEquals( 3, ( (SequenceIdRevisionEntity) revisions.get( 1 ) ).getId() );
+		}
+	}
+
+	@Test
+	public void testStreamRevisionsOfEntityWithRevisionDataEvictsRevisionEntities() {
+		try ( Stream<?> stream = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrTestEntity.class, false, true )
+				.add( AuditEntity.id().eq( id2 ) )
+				.getResultStream() ) {
+			final List<?> rows = stream.collect( Collectors.toList() );
+			assertEquals( 2, rows.size() );
+			for ( Object row : rows ) {
+				assertFalse( getEntityManager().contains( ( (Object[]) row )[1] ) );
+			}
+		}
+	}
+
+	@Test
+	public void testStreamRevisionInfoKeepsManagedRevisionEntities() {
+		final EntityManager em = getEntityManager();
+		final SequenceIdRevisionEntity managedRevision = em.find( SequenceIdRevisionEntity.class, 1 );
+		try ( Stream<?> stream = getAuditReader().createQuery()
+				.forRevisionsOfEntity( StrTestEntity.class, true )
+				.add( AuditEntity.id().eq( id2 ) )
+				.getResultStream() ) {
+			final List<?> revisions = stream.collect( Collectors.toList() );
+			assertEquals( 2, revisions.size() );
+			assertSame( managedRevision, revisions.get( 0 ) );
+			assertTrue( em.contains( managedRevision ) );
+			assertFalse( em.contains( revisions.get( 1 ) ) );
+		}
+		finally {
+			em.clear();
+		}
+	}
+
+	@Test
+	public void testStreamEntitiesAtRevision() {
+		try ( Stream<?> stream = getAuditReader().createQuery()
+				.forEntitiesAtRevision( StrTestEntity.class, 2 )
+				.addOrder( AuditEntity.id().asc() )
+				.getResultStream() ) {
+			assertEquals(
+					Arrays.asList( new StrTestEntity( "c", id1 ), new StrTestEntity( "b", id2 ) ),
+					stream.collect( Collectors.toList() )
+			);
+		}
+	}
+
+	@Test
+	public void testStreamProjection() {
+		try ( Stream<?> stream = getAuditReader().createQuery()
+				.forEntitiesModifiedAtRevision( StrTestEntity.class, 1 )
+				.addProjection( AuditEntity.property( "str" ) )
+				.addOrder( AuditEntity.property( "str" ).asc() )
+				.getResultStream() ) {
+			assertEquals( Arrays.asList( "a", "b" ), stream.collect( Collectors.toList() ) );
+		}
+	}
+}
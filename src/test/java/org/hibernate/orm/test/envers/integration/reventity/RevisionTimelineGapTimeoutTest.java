@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.reventity;
+
+import java.util.Date;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that a revision committed by another node after its gap in the in-memory revision timeline timed out is
+ * still read into the timeline.
+ */
+public class RevisionTimelineGapTimeoutTest extends BaseEnversJPAFunctionalTestCase {
+	private static final long GAP_TIMEOUT = 100L;
+
+	private long timestamp2;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.REVISION_TIMELINE_ENABLED, "true" );
+		options.put( EnversSettings.REVISION_TIMELINE_GAP_TIMEOUT, String.valueOf( GAP_TIMEOUT ) );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity te = new StrTestEntity( "x" );
+		em.persist( te );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, te.getId() ).setStr( "y" );
+		em.getTransaction().commit();
+		em.close();
+
+		timestamp2 = getAuditReader().findRevision( DefaultRevisionEntity.class, 2 ).getTimestamp();
+	}
+
+	@Test
+	public void testRevisionCommittedAfterGapTimedOut() throws InterruptedException {
+		final AuditReader auditReader = AuditReaderFactory.get( getEntityManager() );
+
+		// loads the timeline
+		assertEquals( 2, auditReader.getRevisionNumberForDate( new Date( timestamp2 ) ) );
+
+		// the other node commits revision 4 while revision 3 is still running, and revision 3 times out
+		insertRevision( 4, timestamp2 + 2L );
+		Thread.sleep( GAP_TIMEOUT * 2 );
+		assertEquals( 4, auditReader.getRevisionNumberForDate( new Date( timestamp2 + 2L ) ) );
+		assertEquals( 2, auditReader.getRevisionNumberForDate( new Date( timestamp2 + 1L ) ) );
+
+		// revision 3 commits after all, and is read by the next refresh
+		insertRevision( 3, timestamp2 + 1L );
+		assertEquals( 4, auditReader.getRevisionNumberForDate( new Date() ) );
+		assertEquals( 3, auditReader.getRevisionNumberForDate( new Date( timestamp2 + 1L ) ) );
+	}
+
+	private void insertRevision(int revision, long timestamp) {
+		final EntityManager em = createIsolatedEntityManager();
+		em.getTransaction().begin();
+		em.createNativeQuery( "insert into REVINFO (REV, REVTSTMP) values (:revision, :timestamp)" )
+				.setParameter( "revision", revision )
+				.setParameter( "timestamp", timestamp )
+				.executeUpdate();
+		em.getTransaction().commit();
+		em.close();
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.reventity;
+
+import java.util.Date;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that revision dates and revision numbers for dates are resolved from the in-memory revision timeline.
+ */
+public class RevisionTimelineTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+	private long timestamp1;
+	private long timestamp2;
+	private long timestamp3;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.REVISION_TIMELINE_ENABLED, "true" );
+		options.put( EnversSettings.REVISION_TIMELINE_REFRESH_INTERVAL, "60000" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() throws InterruptedException {
+		timestamp1 = System.currentTimeMillis();
+
+		Thread.sleep( 100 );
+
+		// Revision 1
+		final EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		StrTestEntity te = new StrTestEntity( "x" );
+		em.persist( te );
+		id = te.getId();
+		em.getTransaction().commit();
+
+		timestamp2 = System.currentTimeMillis();
+
+		Thread.sleep( 100 );
+
+		// Revision 2
+		em.getTransaction().begin();
+		te = em.find( StrTestEntity.class, id );
+		te.setStr( "y" );
+		em.getTransaction().commit();
+
+		timestamp3 = System.currentTimeMillis();
+		em.close();
+	}
+
+	@Test
+	public void testLookupsWithoutQueries() {
+		final AuditReader auditReader = AuditReaderFactory.get( getEntityManager() );
+		final long revision1Timestamp = auditReader.findRevision( DefaultRevisionEntity.class, 1 ).getTimestamp();
+		final long revision2Timestamp = auditReader.findRevision( DefaultRevisionEntity.class, 2 ).getTimestamp();
+
+		// loads the timeline
+		auditReader.getRevisionDate( 1 );
+
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+		statistics.clear();
+
+		assertEquals( revision1Timestamp, auditReader.getRevisionDate( 1 ).getTime() );
+		assertEquals( revision2Timestamp, auditReader.getRevisionDate( 2 ).getTime() );
+		assertEquals( 1, auditReader.getRevisionNumberForDate( new Date( timestamp2 ) ) );
+		assertEquals( 1, auditReader.getRevisionNumberForDate( new Date( revision1Timestamp ) ) );
+		assertEquals( 2, auditReader.getRevisionNumberForDate( new Date( revision2Timestamp ) ) );
+		assertEquals( 2, auditReader.getRevisionNumberForDate( new Date( timestamp3 ).toInstant() ) );
+
+		assertEquals( 0, statistics.getQueryExecutionCount() );
+	}
+
+	@Test(expected = RevisionDoesNotExistException.class)
+	public void testDateBeforeFirstRevision() {
+		getAuditReader().getRevisionNumberForDate( new Date( timestamp1 ) );
+	}
+
+	@Test(expected = RevisionDoesNotExistException.class)
+	public void testUnknownRevision() {
+		getAuditReader().getRevisionDate( 42 );
+	}
+
+	@Test
+	public void testCommittedRevisionIsAdded() {
+		final AuditReader auditReader = AuditReaderFactory.get( getEntityManager() );
+
+		// loads the timeline
+		auditReader.getRevisionDate( 1 );
+
+		final EntityManager em = getEntityManager();
+		em.getTransaction().begin();
+		em.persist( new StrTestEntity( "z" ) );
+		em.getTransaction().commit();
+		em.close();
+
+		final Number revision = auditReader.getRevisionNumberForDate( new Date() );
+		final long revisionTimestamp = auditReader.findRevision( DefaultRevisionEntity.class, revision ).getTimestamp();
+
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+		statistics.clear();
+
+		assertEquals( revisionTimestamp, auditReader.getRevisionDate( revision ).getTime() );
+		assertEquals( revision, auditReader.getRevisionNumberForDate( new Date( revisionTimestamp ) ) );
+
+		assertEquals( 0, statistics.getQueryExecutionCount() );
+	}
+}
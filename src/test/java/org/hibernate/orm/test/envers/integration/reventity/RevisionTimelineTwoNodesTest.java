@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.reventity;
+
+import java.util.Date;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.DefaultRevisionEntity;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.stat.Statistics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the in-memory revision timeline does not answer lookups across revision numbers committed by another
+ * node after higher ones, until these revisions are read.
+ */
+public class RevisionTimelineTwoNodesTest extends BaseEnversJPAFunctionalTestCase {
+	private long timestamp2;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.REVISION_TIMELINE_ENABLED, "true" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity te = new StrTestEntity( "x" );
+		em.persist( te );
+		em.getTransaction().commit();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, te.getId() ).setStr( "y" );
+		em.getTransaction().commit();
+		em.close();
+
+		timestamp2 = getAuditReader().findRevision( DefaultRevisionEntity.class, 2 ).getTimestamp();
+	}
+
+	@Test
+	public void testRevisionCommittedAfterHigherRevision() {
+		final AuditReader auditReader = AuditReaderFactory.get( getEntityManager() );
+
+		// loads the timeline
+		assertEquals( 2, auditReader.getRevisionNumberForDate( new Date( timestamp2 ) ) );
+
+		// the other node commits revision 4 while revision 3 is still running
+		insertRevision( 4, timestamp2 + 2000L );
+		assertEquals( 4, auditReader.getRevisionNumberForDate( new Date( timestamp2 + 2000L ) ) );
+		assertEquals( 2, auditReader.getRevisionNumberForDate( new Date( timestamp2 + 1000L ) ) );
+
+		// revision 3 commits, after revision 4 was read
+		insertRevision( 3, timestamp2 + 1000L );
+		assertEquals( 3, auditReader.getRevisionNumberForDate( new Date( timestamp2 + 1000L ) ) );
+		assertEquals( timestamp2 + 1000L, auditReader.getRevisionDate( 3 ).getTime() );
+
+		// no revision is missing anymore
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+		statistics.clear();
+		assertEquals( 2, auditReader.getRevisionNumberForDate( new Date( timestamp2 + 500L ) ) );
+		assertEquals( 3, auditReader.getRevisionNumberForDate( new Date( timestamp2 + 1500L ) ) );
+		assertEquals( 0, statistics.getQueryExecutionCount() );
+	}
+
+	private void insertRevision(int revision, long timestamp) {
+		final EntityManager em = createIsolatedEntityManager();
+		em.getTransaction().begin();
+		em.createNativeQuery( "insert into REVINFO (REV, REVTSTMP) values (:revision, :timestamp)" )
+				.setParameter( "revision", revision )
+				.setParameter( "timestamp", timestamp )
+				.executeUpdate();
+		em.getTransaction().commit();
+		em.close();
+	}
+}
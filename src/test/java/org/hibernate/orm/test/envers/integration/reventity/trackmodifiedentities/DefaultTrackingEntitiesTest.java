@@ -4,6 +4,8 @@
  */
 package org.hibernate.orm.test.envers.integration.reventity.trackmodifiedentities;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import jakarta.persistence.EntityManager;
@@ -147,6 +149,33 @@ public class DefaultTrackingEntitiesTest extends BaseEnversJPAFunctionalTestCase
 		assert TestTools.checkCollection( result.get( RevisionType.DEL ), site, ste );
 	}
 
+	@Test
+	public void testTrackEntitiesGroupByRevisionTypeInRange() {
+		StrTestEntity ste1 = new StrTestEntity( "x", steId );
+		StrIntTestEntity site1 = new StrIntTestEntity( "y", 1, siteId );
+		StrIntTestEntity site2 = new StrIntTestEntity( "y", 2, siteId );
+		StrTestEntity ste3 = new StrTestEntity( null, steId );
+		StrIntTestEntity site3 = new StrIntTestEntity( null, null, siteId );
+
+		Map<Number, Map<RevisionType, List<Object>>> result =
+				getCrossTypeRevisionChangesReader().findEntitiesGroupByRevisionType( 1, 3 );
+		assert Arrays.asList( 1, 2, 3 ).equals( new ArrayList<>( result.keySet() ) );
+
+		assert TestTools.checkCollection( result.get( 1 ).get( RevisionType.ADD ), site1, ste1 );
+		assert TestTools.checkCollection( result.get( 1 ).get( RevisionType.MOD ) );
+		assert TestTools.checkCollection( result.get( 1 ).get( RevisionType.DEL ) );
+
+		assert TestTools.checkCollection( result.get( 2 ).get( RevisionType.ADD ) );
+		assert TestTools.checkCollection( result.get( 2 ).get( RevisionType.MOD ), site2 );
+		assert TestTools.checkCollection( result.get( 2 ).get( RevisionType.DEL ) );
+
+		assert TestTools.checkCollection( result.get( 3 ).get( RevisionType.ADD ) );
+		assert TestTools.checkCollection( result.get( 3 ).get( RevisionType.MOD ) );
+		assert TestTools.checkCollection( result.get( 3 ).get( RevisionType.DEL ), site3, ste3 );
+
+		assert getCrossTypeRevisionChangesReader().findEntitiesGroupByRevisionType( 4, 5 ).isEmpty();
+	}
+
 	@Test
 	public void testFindChangedEntitiesByRevisionTypeADD() {
 		StrTestEntity ste = new StrTestEntity( "x", steId );
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.reventity.trackmodifiedentities;
+
+import java.util.Map;
+
+import org.hibernate.envers.ModifiedEntityNames;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.mapping.Table;
+import org.hibernate.orm.test.envers.entities.reventity.trackmodifiedentities.EncodedTrackingRevisionEntity;
+
+import org.junit.Test;
+
+/**
+ * Tests proper behavior of revision entity that stores the modified entity names encoded in a single string
+ * property annotated with {@link ModifiedEntityNames}.
+ */
+public class EncodedTrackingEntitiesTest extends DefaultTrackingEntitiesTest {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return ArrayHelper.join( super.getAnnotatedClasses(), EncodedTrackingRevisionEntity.class );
+	}
+
+	@Override
+	public void addConfigOptions(Map configuration) {
+		super.addConfigOptions( configuration );
+		configuration.put( EnversSettings.TRACK_ENTITIES_CHANGED_IN_REVISION, "false" );
+	}
+
+	@Test
+	@Override
+	public void testRevEntityTableCreation() {
+		for ( Table table : metadata().collectTableMappings() ) {
+			assert !"REVCHANGES".equals( table.getName() );
+		}
+	}
+
+	@Test
+	public void testEncodedEntityTypes() {
+		final String entityTypes = getAuditReader().findRevision( EncodedTrackingRevisionEntity.class, 1 ).getEntityTypes();
+		assert entityTypes.split( "," ).length == 2;
+		assert !entityTypes.contains( "StrTestEntity" );
+	}
+}
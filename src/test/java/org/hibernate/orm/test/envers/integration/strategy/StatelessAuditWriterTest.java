@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwnedEntity;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwningEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that entity and collection audit rows inserted through the stateless audit writer are complete.
+ */
+public class StatelessAuditWriterTest extends BaseEnversJPAFunctionalTestCase {
+	private static final Integer OWNER_ID = 1;
+	private static final Integer OWNED_ID1 = 10;
+	private static final Integer OWNED_ID2 = 11;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetOwningEntity.class, SetOwnedEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.USE_STATELESS_AUDIT_WRITER, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final SetOwnedEntity owned1 = new SetOwnedEntity( OWNED_ID1, "a" );
+		final SetOwnedEntity owned2 = new SetOwnedEntity( OWNED_ID2, "b" );
+		final SetOwningEntity owner = new SetOwningEntity( OWNER_ID, "owner" );
+		owner.setReferences( new HashSet<>( Arrays.asList( owned1, owned2 ) ) );
+		em.persist( owned1 );
+		em.persist( owned2 );
+		em.persist( owner );
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( SetOwningEntity.class, OWNER_ID ).getReferences().remove( em.find( SetOwnedEntity.class, OWNED_ID1 ) );
+		em.find( SetOwnedEntity.class, OWNED_ID2 ).setData( "c" );
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 3
+		em.getTransaction().begin();
+		final SetOwningEntity removed = em.find( SetOwningEntity.class, OWNER_ID );
+		removed.getReferences().clear();
+		em.remove( removed );
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( SetOwningEntity.class, OWNER_ID ) );
+		assertEquals( Arrays.asList( 1 ), getAuditReader().getRevisions( SetOwnedEntity.class, OWNED_ID1 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( SetOwnedEntity.class, OWNED_ID2 ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( 2, getAuditReader().find( SetOwningEntity.class, OWNER_ID, 1 ).getReferences().size() );
+		assertEquals( 1, getAuditReader().find( SetOwningEntity.class, OWNER_ID, 2 ).getReferences().size() );
+		assertEquals( "c", getAuditReader().find( SetOwnedEntity.class, OWNED_ID2, 2 ).getData() );
+		assertNull( getAuditReader().find( SetOwningEntity.class, OWNER_ID, 3 ) );
+	}
+}
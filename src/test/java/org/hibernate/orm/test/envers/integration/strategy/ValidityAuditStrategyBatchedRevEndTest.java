@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that the {@link ValidityAuditStrategy} correctly maintains the revision end column when the
+ * revision end updates are executed as JDBC batches spanning more than one batch per transaction.
+ */
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 5;
+
+	private final List<Integer> ids = new ArrayList<>();
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.AUDIT_STRATEGY_VALIDITY_BATCH_REVEND_UPDATES, "true" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "2" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			final StrTestEntity entity = new StrTestEntity( "x" + i );
+			em.persist( entity );
+			ids.add( entity.getId() );
+		}
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 2 - all entities modified
+		em.getTransaction().begin();
+		for ( Integer id : ids ) {
+			em.find( StrTestEntity.class, id ).setStr( "y" + id );
+		}
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 3 - first entity removed, remaining entities modified
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, ids.get( 0 ) ) );
+		for ( Integer id : ids.subList( 1, ids.size() ) ) {
+			em.find( StrTestEntity.class, id ).setStr( "z" + id );
+		}
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		for ( Integer id : ids ) {
+			assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+		}
+	}
+
+	@Test
+	public void testHistory() {
+		for ( Integer id : ids ) {
+			assertEquals( "y" + id, getAuditReader().find( StrTestEntity.class, id, 2 ).getStr() );
+		}
+		assertNull( getAuditReader().find( StrTestEntity.class, ids.get( 0 ), 3 ) );
+		for ( Integer id : ids.subList( 1, ids.size() ) ) {
+			assertEquals( "z" + id, getAuditReader().find( StrTestEntity.class, id, 3 ).getStr() );
+		}
+	}
+
+	@Test
+	public void testSingleOpenRowPerIdentifier() {
+		final EntityManager em = getEntityManager();
+		final Number openRows = (Number) em.createNativeQuery( "SELECT COUNT(*) FROM STR_TEST_AUD WHERE REVEND IS NULL" )
+				.getSingleResult();
+		assertEquals( ENTITY_COUNT, openRows.intValue() );
+		em.close();
+	}
+}
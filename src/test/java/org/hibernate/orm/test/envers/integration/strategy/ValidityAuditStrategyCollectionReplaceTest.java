@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwnedEntity;
+import org.hibernate.orm.test.envers.entities.manytomany.SetOwningEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the {@link ValidityAuditStrategy} closes the previous middle table rows of all changed
+ * elements when a many-to-many collection is replaced, using set-based revision end updates.
+ */
+public class ValidityAuditStrategyCollectionReplaceTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ELEMENT_COUNT = 20;
+	private static final Integer OWNER_ID = 1000;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { SetOwningEntity.class, SetOwnedEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		final EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		em.persist( new SetOwningEntity( OWNER_ID, "owner" ) );
+		for ( int i = 0; i < ELEMENT_COUNT; i++ ) {
+			em.persist( new SetOwnedEntity( i, "owned" + i ) );
+		}
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 2 - first half of the elements
+		em.getTransaction().begin();
+		SetOwningEntity owner = em.find( SetOwningEntity.class, OWNER_ID );
+		owner.setReferences( findOwned( em, 0, ELEMENT_COUNT / 2 ) );
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 3 - replaced by the second half of the elements
+		em.getTransaction().begin();
+		owner = em.find( SetOwningEntity.class, OWNER_ID );
+		owner.setReferences( findOwned( em, ELEMENT_COUNT / 2, ELEMENT_COUNT ) );
+		em.getTransaction().commit();
+		em.clear();
+
+		// Revision 4 - cleared
+		em.getTransaction().begin();
+		owner = em.find( SetOwningEntity.class, OWNER_ID );
+		owner.getReferences().clear();
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3, 4 ), getAuditReader().getRevisions( SetOwningEntity.class, OWNER_ID ) );
+	}
+
+	@Test
+	public void testHistoryOfReferences() {
+		final EntityManager em = getEntityManager();
+		assertEquals( findOwned( em, 0, ELEMENT_COUNT / 2 ), getReferencesAtRevision( 2 ) );
+		assertEquals( findOwned( em, ELEMENT_COUNT / 2, ELEMENT_COUNT ), getReferencesAtRevision( 3 ) );
+		assertEquals( new HashSet<SetOwnedEntity>(), getReferencesAtRevision( 4 ) );
+		em.close();
+	}
+
+	private Set<SetOwnedEntity> getReferencesAtRevision(int revision) {
+		return new HashSet<>( getAuditReader().find( SetOwningEntity.class, OWNER_ID, revision ).getReferences() );
+	}
+
+	private Set<SetOwnedEntity> findOwned(EntityManager em, int from, int to) {
+		final Set<SetOwnedEntity> owned = new HashSet<>();
+		for ( int i = from; i < to; i++ ) {
+			owned.add( em.find( SetOwnedEntity.class, i ) );
+		}
+		return owned;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.tools;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.hibernate.envers.internal.tools.AuditDataSchema;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the slot based audit data maps behave as hash maps.
+ */
+public class AuditDataMapTest {
+	@Test
+	public void testMapOperations() {
+		final AuditDataSchema schema = new AuditDataSchema();
+		schema.addKeys( "REVTYPE", "originalId", "str" );
+
+		final Map<String, Object> data = schema.newDataMap();
+		final Map<String, Object> expected = new HashMap<>();
+		for ( Map<String, Object> map : new Map[] { data, expected } ) {
+			map.put( "str", "x" );
+			map.put( "REVTYPE", null );
+			// not registered in the schema
+			map.put( "str_MOD", true );
+			map.put( "str", "y" );
+		}
+
+		assertEquals( expected, data );
+		assertEquals( data, expected );
+		assertEquals( expected.hashCode(), data.hashCode() );
+		assertEquals( 3, data.size() );
+		assertTrue( data.containsKey( "REVTYPE" ) );
+		assertNull( data.get( "REVTYPE" ) );
+		assertFalse( data.containsKey( "originalId" ) );
+		assertEquals( 4, schema.size() );
+
+		assertEquals( "y", data.remove( "str" ) );
+		assertFalse( data.containsKey( "str" ) );
+		assertEquals( 2, data.size() );
+
+		final Iterator<Map.Entry<String, Object>> iterator = data.entrySet().iterator();
+		iterator.next().setValue( 1 );
+		iterator.next();
+		iterator.remove();
+		assertFalse( iterator.hasNext() );
+		assertEquals( Map.of( "REVTYPE", 1 ), data );
+	}
+
+	@Test
+	public void testSerializedAsHashMap() throws Exception {
+		final AuditDataSchema schema = new AuditDataSchema();
+		final Map<String, Object> data = schema.newDataMap();
+		data.put( "str", "x" );
+		data.put( "originalId", schema.newDataMap() );
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream( bytes )) {
+			output.writeObject( data );
+		}
+		try (ObjectInputStream input = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) )) {
+			final Object read = input.readObject();
+			assertEquals( HashMap.class, read.getClass() );
+			assertEquals( data, read );
+			assertEquals( HashMap.class, ( (Map<?, ?>) read ).get( "originalId" ).getClass() );
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.writebehind;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.writebehind.AuditWriteBehindJournal;
+import org.hibernate.envers.internal.synchronization.writebehind.AuditWriteBehindQueue;
+import org.hibernate.envers.internal.synchronization.writebehind.PendingRevision;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that a revision which cannot be written is given up after a bounded number of attempts, and kept aside
+ * in the journal as failed, without holding back the revisions written after it.
+ */
+public class WriteBehindFailedRevisionTest extends BaseEnversJPAFunctionalTestCase {
+	private static final long DRAIN_TIMEOUT_MILLIS = 30000L;
+
+	private Path journalDirectory;
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		try {
+			journalDirectory = Files.createTempDirectory( "envers-write-behind" );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( e );
+		}
+		options.put( EnversSettings.WRITE_BEHIND_ENABLED, "true" );
+		options.put( EnversSettings.WRITE_BEHIND_JOURNAL_DIRECTORY, journalDirectory.toString() );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() throws InterruptedException {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity entity = new StrTestEntity( "x" );
+		em.persist( entity );
+		em.getTransaction().commit();
+		em.close();
+		id = entity.getId();
+
+		awaitDrained();
+		getQueue().stop();
+
+		// Three committed revisions, the second of which references an audit entity which does not exist
+		final AuditWriteBehindJournal journal = new AuditWriteBehindJournal(
+				journalDirectory,
+				serviceRegistry().getService( ClassLoaderService.class )
+		);
+		final List<PendingRevision> committed = new ArrayList<>();
+		committed.add( createPendingRevision( StrTestEntity.class.getName(), "y" ) );
+		committed.add( createPendingRevision( "UnknownEntity", "poison" ) );
+		committed.add( createPendingRevision( StrTestEntity.class.getName(), "z" ) );
+		for ( PendingRevision pendingRevision : committed ) {
+			journal.append( pendingRevision );
+			journal.commit( pendingRevision );
+		}
+
+		getQueue().start( entityManagerFactory().unwrap( SessionFactoryImplementor.class ) );
+		awaitDrained();
+	}
+
+	@Test
+	public void testOtherRevisionsWritten() {
+		final List<String> history = new ArrayList<>();
+		for ( Number revision : getAuditReader().getRevisions( StrTestEntity.class, id ) ) {
+			history.add( getAuditReader().find( StrTestEntity.class, id, revision ).getStr() );
+		}
+		assertEquals( Arrays.asList( "x", "y", "z" ), history );
+	}
+
+	@Test
+	public void testFailedRevisionKeptAside() throws IOException {
+		assertEquals( 2, getQueue().getRecoveredCount() );
+		assertEquals( 1, getQueue().getFailedRevisionCount() );
+		try ( Stream<Path> files = Files.list( journalDirectory ) ) {
+			assertEquals(
+					Arrays.asList( ".failed" ),
+					files.map( file -> file.getFileName().toString() )
+							.map( fileName -> fileName.substring( fileName.indexOf( '.' ) ) )
+							.collect( Collectors.toList() )
+			);
+		}
+	}
+
+	private PendingRevision createPendingRevision(String entityName, String str) {
+		final Configuration configuration = serviceRegistry().getService( EnversService.class ).getConfig();
+		final Object revisionData = configuration.getRevisionInfo().getRevisionInfoGenerator().generate();
+		final PendingRevision pendingRevision = getQueue().createPendingRevision( revisionData );
+
+		final Map<String, Object> originalId = new HashMap<>();
+		originalId.put( "id", id );
+		originalId.put( configuration.getRevisionFieldName(), revisionData );
+		final Map<String, Object> data = new HashMap<>();
+		data.put( configuration.getOriginalIdPropertyName(), originalId );
+		data.put( configuration.getRevisionTypePropertyName(), RevisionType.MOD );
+		data.put( "str", str );
+		final String auditEntityName = configuration.getAuditEntityName( entityName );
+		data.put( "$type$", auditEntityName );
+		pendingRevision.addRecord( auditEntityName, data );
+		return pendingRevision;
+	}
+
+	private AuditWriteBehindQueue getQueue() {
+		return serviceRegistry().getService( EnversService.class ).getAuditProcessManager().getWriteBehindQueue();
+	}
+
+	private void awaitDrained() throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+		while ( getQueue().getQueueDepth() > 0 ) {
+			if ( System.currentTimeMillis() > deadline ) {
+				fail( "Audit write-behind queue not drained within " + DRAIN_TIMEOUT_MILLIS + " ms" );
+			}
+			Thread.sleep( 50L );
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.writebehind;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.writebehind.AuditWriteBehindJournal;
+import org.hibernate.envers.internal.synchronization.writebehind.AuditWriteBehindQueue;
+import org.hibernate.envers.internal.synchronization.writebehind.PendingRevision;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the revisions remaining in the write-behind journal after an abnormal stop are replayed once the
+ * writer starts again, the revisions which were committed before the stop being written only once, and the
+ * revisions of transactions which did not complete before the stop not being replayed.
+ */
+public class WriteBehindJournalRecoveryTest extends BaseEnversJPAFunctionalTestCase {
+	private static final long DRAIN_TIMEOUT_MILLIS = 10000L;
+
+	private Path journalDirectory;
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		try {
+			journalDirectory = Files.createTempDirectory( "envers-write-behind" );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( e );
+		}
+		options.put( EnversSettings.WRITE_BEHIND_ENABLED, "true" );
+		options.put( EnversSettings.WRITE_BEHIND_JOURNAL_DIRECTORY, journalDirectory.toString() );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() throws InterruptedException {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity entity = new StrTestEntity( "x" );
+		em.persist( entity );
+		em.getTransaction().commit();
+		em.close();
+		id = entity.getId();
+
+		awaitDrained();
+		getQueue().stop();
+
+		// The journal as left by an abnormal stop: revision 1 was committed but not removed from the journal,
+		// the next revision was committed but not written, and the last one was journaled before its transaction
+		// completed, which may not have committed
+		final AuditWriteBehindJournal journal = new AuditWriteBehindJournal(
+				journalDirectory,
+				serviceRegistry().getService( ClassLoaderService.class )
+		);
+		final PendingRevision written = createPendingRevision( RevisionType.ADD, "x" );
+		written.setRevisionId( 1 );
+		journal.append( written );
+		journal.commit( written );
+		final PendingRevision committed = createPendingRevision( RevisionType.MOD, "y" );
+		journal.append( committed );
+		journal.commit( committed );
+		journal.append( createPendingRevision( RevisionType.MOD, "not committed" ) );
+
+		// Revision 2, replayed from the journal
+		getQueue().start( entityManagerFactory().unwrap( SessionFactoryImplementor.class ) );
+		awaitDrained();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, id, 1 ).getStr() );
+		assertEquals( "y", getAuditReader().find( StrTestEntity.class, id, 2 ).getStr() );
+	}
+
+	@Test
+	public void testJournalEmptied() throws IOException {
+		assertEquals( 2, getQueue().getRecoveredCount() );
+		try ( Stream<Path> files = Files.list( journalDirectory ) ) {
+			// only the revision of the transaction which did not complete is left, aside
+			assertEquals(
+					Arrays.asList( ".unconfirmed" ),
+					files.map( file -> file.getFileName().toString() )
+							.map( fileName -> fileName.substring( fileName.indexOf( '.' ) ) )
+							.collect( Collectors.toList() )
+			);
+		}
+	}
+
+	private PendingRevision createPendingRevision(RevisionType revisionType, String str) {
+		final Configuration configuration = serviceRegistry().getService( EnversService.class ).getConfig();
+		final Object revisionData = configuration.getRevisionInfo().getRevisionInfoGenerator().generate();
+		final PendingRevision pendingRevision = getQueue().createPendingRevision( revisionData );
+
+		final Map<String, Object> originalId = new HashMap<>();
+		originalId.put( "id", id );
+		originalId.put( configuration.getRevisionFieldName(), revisionData );
+		final Map<String, Object> data = new HashMap<>();
+		data.put( configuration.getOriginalIdPropertyName(), originalId );
+		data.put( configuration.getRevisionTypePropertyName(), revisionType );
+		data.put( "str", str );
+		final String auditEntityName = configuration.getAuditEntityName( StrTestEntity.class.getName() );
+		data.put( "$type$", auditEntityName );
+		pendingRevision.addRecord( auditEntityName, data );
+		return pendingRevision;
+	}
+
+	private AuditWriteBehindQueue getQueue() {
+		return serviceRegistry().getService( EnversService.class ).getAuditProcessManager().getWriteBehindQueue();
+	}
+
+	private void awaitDrained() throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+		while ( getQueue().getQueueDepth() > 0 ) {
+			if ( System.currentTimeMillis() > deadline ) {
+				fail( "Audit write-behind queue not drained within " + DRAIN_TIMEOUT_MILLIS + " ms" );
+			}
+			Thread.sleep( 50L );
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.writebehind;
+
+import java.util.List;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.writebehind.AuditWriteBehindQueue;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that the revisions written behind the business transactions keep the order of their commits, when the
+ * commits wait for room in a full queue and once the writer has stopped.
+ */
+public class WriteBehindOrderingTest extends BaseEnversJPAFunctionalTestCase {
+	private static final long DRAIN_TIMEOUT_MILLIS = 10000L;
+	private static final int QUEUED_REVISIONS = 20;
+
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.WRITE_BEHIND_ENABLED, "true" );
+		options.put( EnversSettings.WRITE_BEHIND_QUEUE_CAPACITY, "1" );
+		options.put( EnversSettings.WRITE_BEHIND_BATCH_SIZE, "1" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() throws InterruptedException {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity entity = new StrTestEntity( "v0" );
+		em.persist( entity );
+		em.getTransaction().commit();
+		id = entity.getId();
+
+		// Revisions 2 - 20, queued faster than they are written
+		for ( int i = 1; i < QUEUED_REVISIONS; i++ ) {
+			em.getTransaction().begin();
+			em.find( StrTestEntity.class, id ).setStr( "v" + i );
+			em.getTransaction().commit();
+		}
+
+		// Revision 21, written by the committing thread after the queued revisions
+		getQueue().stop();
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id ).setStr( "v" + QUEUED_REVISIONS );
+		em.getTransaction().commit();
+		em.close();
+
+		awaitDrained();
+	}
+
+	@Test
+	public void testRevisionsFollowCommits() {
+		final List<Number> revisions = getAuditReader().getRevisions( StrTestEntity.class, id );
+		assertEquals( QUEUED_REVISIONS + 1, revisions.size() );
+		for ( int i = 0; i < revisions.size(); i++ ) {
+			assertEquals( "v" + i, getAuditReader().find( StrTestEntity.class, id, revisions.get( i ) ).getStr() );
+		}
+	}
+
+	@Test
+	public void testRevisionDatesFollowRevisionNumbers() {
+		final List<Number> revisions = getAuditReader().getRevisions( StrTestEntity.class, id );
+		for ( int i = 1; i < revisions.size(); i++ ) {
+			assertFalse(
+					getAuditReader().getRevisionDate( revisions.get( i ) )
+							.before( getAuditReader().getRevisionDate( revisions.get( i - 1 ) ) )
+			);
+		}
+	}
+
+	@Test
+	public void testStatistics() {
+		assertEquals( QUEUED_REVISIONS + 1, getQueue().getEnqueuedCount() );
+		assertEquals( QUEUED_REVISIONS, getQueue().getWrittenCount() );
+		assertEquals( 1, getQueue().getSynchronousWriteCount() );
+		assertEquals( 0, getQueue().getQueueDepth() );
+	}
+
+	private AuditWriteBehindQueue getQueue() {
+		return serviceRegistry().getService( EnversService.class ).getAuditProcessManager().getWriteBehindQueue();
+	}
+
+	private void awaitDrained() throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+		while ( getQueue().getQueueDepth() > 0 ) {
+			if ( System.currentTimeMillis() > deadline ) {
+				fail( "Audit write-behind queue not drained within " + DRAIN_TIMEOUT_MILLIS + " ms" );
+			}
+			Thread.sleep( 50L );
+		}
+	}
+}
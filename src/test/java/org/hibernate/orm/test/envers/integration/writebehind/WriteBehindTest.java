@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.integration.writebehind;
+
+import java.util.Arrays;
+import java.util.Map;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.writebehind.AuditWriteBehindStatistics;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that audit data written behind the business transactions is complete once the queue has drained,
+ * and that the audit data of rolled back transactions is discarded.
+ */
+public class WriteBehindTest extends BaseEnversJPAFunctionalTestCase {
+	private static final long DRAIN_TIMEOUT_MILLIS = 10000L;
+
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StrTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.WRITE_BEHIND_ENABLED, "true" );
+		options.put( EnversSettings.WRITE_BEHIND_BATCH_SIZE, "2" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() throws InterruptedException {
+		EntityManager em = getEntityManager();
+
+		// Revision 1
+		em.getTransaction().begin();
+		final StrTestEntity entity = new StrTestEntity( "x" );
+		em.persist( entity );
+		em.getTransaction().commit();
+		id = entity.getId();
+
+		// Revision 2
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id ).setStr( "y" );
+		em.getTransaction().commit();
+
+		// Rolled back, no revision
+		em.getTransaction().begin();
+		em.find( StrTestEntity.class, id ).setStr( "rolled back" );
+		em.flush();
+		em.getTransaction().rollback();
+		em.clear();
+
+		// Revision 3
+		em.getTransaction().begin();
+		em.remove( em.find( StrTestEntity.class, id ) );
+		em.getTransaction().commit();
+		em.close();
+
+		awaitDrained();
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StrTestEntity.class, id ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( "x", getAuditReader().find( StrTestEntity.class, id, 1 ).getStr() );
+		assertEquals( "y", getAuditReader().find( StrTestEntity.class, id, 2 ).getStr() );
+		assertNull( getAuditReader().find( StrTestEntity.class, id, 3 ) );
+	}
+
+	@Test
+	public void testStatistics() {
+		final AuditWriteBehindStatistics statistics = getStatistics();
+		assertEquals( 3, statistics.getEnqueuedCount() );
+		assertEquals( 3, statistics.getWrittenCount() + statistics.getSynchronousWriteCount() );
+		assertEquals( 0, statistics.getQueueDepth() );
+		assertEquals( 0L, statistics.getLag() );
+	}
+
+	private AuditWriteBehindStatistics getStatistics() {
+		return serviceRegistry().getService( EnversService.class ).getAuditProcessManager().getWriteBehindQueue();
+	}
+
+	private void awaitDrained() throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MILLIS;
+		while ( getStatistics().getQueueDepth() > 0 ) {
+			if ( System.currentTimeMillis() > deadline ) {
+				fail( "Audit write-behind queue not drained within " + DRAIN_TIMEOUT_MILLIS + " ms" );
+			}
+			Thread.sleep( 50L );
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: LGPL-2.1-or-later
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.orm.test.envers.performance;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+
+import org.jboss.logging.Logger;
+import org.junit.Ignore;
+
+/**
+ * Measures the time and the bytes allocated by the committing thread for a single large transaction,
+ * which includes scheduling and running the eviction of all audit rows from the session level cache.
+ */
+@Ignore
+public class EvictAuditDataOneTransactionPerformance extends AbstractPerformanceTest {
+	private static final Logger log = Logger.getLogger( EvictAuditDataOneTransactionPerformance.class );
+
+	private final static int NUMBER_INSERTS = 100000;
+
+	private final com.sun.management.ThreadMXBean threadMXBean =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] {StrTestEntity.class};
+	}
+
+	protected void doTest() {
+		EntityManager entityManager = getEntityManager();
+		entityManager.getTransaction().begin();
+		for ( int i = 0; i < NUMBER_INSERTS; i++ ) {
+			entityManager.persist( new StrTestEntity( "x" + i ) );
+		}
+		entityManager.flush();
+
+		final long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+		start();
+		entityManager.getTransaction().commit();
+		stop();
+		final long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+		log.infof( "Allocated on commit: %d KiB", allocated / 1024 );
+	}
+
+	public static void main(String[] args) throws IOException {
+		EvictAuditDataOneTransactionPerformance evictAuditDataOneTransactionPerformance =
+				new EvictAuditDataOneTransactionPerformance();
+		evictAuditDataOneTransactionPerformance.test( 3 );
+	}
+}